@@ -0,0 +1,346 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMHの結果ファイル（{@code -rf json}）の読込
+ *
+ * <p>
+ * ベンチマークごとに、主指標（スコア・誤差・単位）と、GCプロファイラの
+ * 1操作あたりの割り当てバイト数（{@code gc.alloc.rate.norm}）を取り出します。
+ * 外部ライブラリに依存しないよう、JMHが出力する範囲のJSONを読む最小限の解析処理を持ちます。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+final class BenchmarkResults {
+
+    /** GCプロファイラの1操作あたりの割り当てバイト数の指標名（JMHの版により先頭に「·」が付く） */
+    private static final String ALLOC_NORM_SUFFIX = "gc.alloc.rate.norm";
+
+    /**
+     * 1つのベンチマークの結果
+     */
+    static final class Entry {
+
+        /** ベンチマーク名・パラメータ・モードから成る比較用のキー */
+        final String key;
+
+        /** モード（thrpt・avgt・sample・ss） */
+        final String mode;
+
+        final double score;
+        final double scoreError;
+        final String unit;
+
+        /** 1操作あたりの割り当てバイト数（GCプロファイラを使用していない場合はNaN） */
+        final double allocPerOp;
+
+        Entry(String key, String mode, double score, double scoreError, String unit, double allocPerOp) {
+            this.key = key;
+            this.mode = mode;
+            this.score = score;
+            this.scoreError = scoreError;
+            this.unit = unit;
+            this.allocPerOp = allocPerOp;
+        }
+
+        /**
+         * スコアが大きいほど良いモード（スループット）か
+         */
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    /** キーの順の結果 */
+    private final Map<String, Entry> entries;
+
+    /** 計測したJDKの版（結果が空の場合はnull） */
+    private final String jdkVersion;
+
+    private BenchmarkResults(Map<String, Entry> entries, String jdkVersion) {
+        this.entries = entries;
+        this.jdkVersion = jdkVersion;
+    }
+
+    /**
+     * 結果ファイルを読み込む
+     *
+     * @param file JMHのJSON形式の結果ファイル
+     * @return 読み込んだ結果
+     * @throws IOException              読込に失敗した場合
+     * @throws IllegalArgumentException JMHの結果ファイルの形式でない場合
+     */
+    static BenchmarkResults read(Path file) throws IOException {
+        Object root = new Parser(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).parseDocument();
+        if (!(root instanceof List)) {
+            throw new IllegalArgumentException("JMHの結果ファイルの形式ではありません: " + file);
+        }
+        Map<String, Entry> entries = new TreeMap<>();
+        String jdkVersion = null;
+        for (Object element : (List<?>) root) {
+            Map<?, ?> run = (Map<?, ?>) element;
+            Map<?, ?> primary = (Map<?, ?>) run.get("primaryMetric");
+            String mode = (String) run.get("mode");
+            StringBuilder key = new StringBuilder(shortName((String) run.get("benchmark")));
+            Object params = run.get("params");
+            if (params instanceof Map && !((Map<?, ?>) params).isEmpty()) {
+                key.append(new TreeMap<>((Map<?, ?>) params));
+            }
+            key.append(" [").append(mode).append(']');
+
+            double alloc = Double.NaN;
+            Object secondary = run.get("secondaryMetrics");
+            if (secondary instanceof Map) {
+                for (Map.Entry<?, ?> metric : ((Map<?, ?>) secondary).entrySet()) {
+                    if (((String) metric.getKey()).endsWith(ALLOC_NORM_SUFFIX)) {
+                        alloc = number(((Map<?, ?>) metric.getValue()).get("score"));
+                    }
+                }
+            }
+            entries.put(key.toString(), new Entry(key.toString(), mode, number(primary.get("score")),
+                    number(primary.get("scoreError")), (String) primary.get("scoreUnit"), alloc));
+            jdkVersion = (String) run.get("jdkVersion");
+        }
+        return new BenchmarkResults(Collections.unmodifiableMap(entries), jdkVersion);
+    }
+
+    /**
+     * キーの順の結果を取得
+     *
+     * @return キーと結果の読み取り専用のマップ
+     */
+    Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * 計測したJDKの版を取得
+     *
+     * @return JDKの版（不明な場合はnull）
+     */
+    String getJdkVersion() {
+        return jdkVersion;
+    }
+
+    /**
+     * パッケージ名を除いたベンチマーク名
+     */
+    private static String shortName(String benchmark) {
+        String prefix = BenchmarkResults.class.getPackage().getName() + ".";
+        return benchmark.startsWith(prefix) ? benchmark.substring(prefix.length()) : benchmark;
+    }
+
+    /**
+     * 数値を取得（JMHはNaN・無限大を文字列で出力する）
+     */
+    private static double number(Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof String) {
+            return Double.parseDouble((String) value);
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * JSONの解析処理
+     * オブジェクトはLinkedHashMap、配列はArrayList、数値はDoubleとして返す
+     */
+    private static final class Parser {
+
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Object parseDocument() {
+            Object value = parseValue();
+            skipWhitespace();
+            if (position != text.length()) {
+                throw error("余分な文字があります");
+            }
+            return value;
+        }
+
+        private Object parseValue() {
+            skipWhitespace();
+            if (position >= text.length()) {
+                throw error("値がありません");
+            }
+            char c = text.charAt(position);
+            switch (c) {
+                case '{':
+                    return parseObject();
+                case '[':
+                    return parseArray();
+                case '"':
+                    return parseString();
+                case 't':
+                    expect("true");
+                    return Boolean.TRUE;
+                case 'f':
+                    expect("false");
+                    return Boolean.FALSE;
+                case 'n':
+                    expect("null");
+                    return null;
+                default:
+                    return parseNumber();
+            }
+        }
+
+        private Map<String, Object> parseObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            position++;
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') {
+                    throw error("キーがありません");
+                }
+                String key = parseString();
+                skipWhitespace();
+                expect(":");
+                object.put(key, parseValue());
+                skipWhitespace();
+                char c = next();
+                if (c == '}') {
+                    return object;
+                }
+                if (c != ',') {
+                    throw error("','または'}'がありません");
+                }
+            }
+        }
+
+        private List<Object> parseArray() {
+            List<Object> array = new ArrayList<>();
+            position++;
+            skipWhitespace();
+            if (peek() == ']') {
+                position++;
+                return array;
+            }
+            while (true) {
+                array.add(parseValue());
+                skipWhitespace();
+                char c = next();
+                if (c == ']') {
+                    return array;
+                }
+                if (c != ',') {
+                    throw error("','または']'がありません");
+                }
+            }
+        }
+
+        private String parseString() {
+            StringBuilder value = new StringBuilder();
+            position++;
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(next(), 16);
+                            if (digit < 0) {
+                                throw error("不正なエスケープです");
+                            }
+                            code = code * 16 + digit;
+                        }
+                        value.append((char) code);
+                        break;
+                    default:
+                        value.append(escaped);
+                }
+            }
+        }
+
+        private Double parseNumber() {
+            int start = position;
+            while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+                position++;
+            }
+            if (start == position) {
+                throw error("不正な文字です");
+            }
+            try {
+                return Double.valueOf(text.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw error("不正な数値です");
+            }
+        }
+
+        private void expect(String token) {
+            if (!text.startsWith(token, position)) {
+                throw error("'" + token + "'がありません");
+            }
+            position += token.length();
+        }
+
+        private char peek() {
+            return position < text.length() ? text.charAt(position) : '\0';
+        }
+
+        private char next() {
+            if (position >= text.length()) {
+                throw error("JSONが途中で終わっています");
+            }
+            return text.charAt(position++);
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("JSONの解析に失敗しました（" + position + "文字目）: " + message);
+        }
+    }
+}
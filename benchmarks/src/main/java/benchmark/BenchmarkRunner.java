@@ -0,0 +1,94 @@
+package benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+/**
+ * ベンチマークの起動クラス（benchmarks.jarのメインクラス）
+ *
+ * <p>
+ * JMHのコマンドライン引数をそのまま受け付け、次の既定値を補います。
+ * リリースごとのスループットとアロケーションの推移を同じ形式で比較できるようにするためです。
+ * </p>
+ * <ul>
+ * <li>プロファイラの指定がない場合は {@code -prof gc}（1操作あたりの割り当てバイト数・GC回数）</li>
+ * <li>結果ファイルの指定がない場合は {@code -rf json -rff jmh-result.json}</li>
+ * </ul>
+ *
+ * 実行方法：
+ * mvn -B package -pl benchmarks -am
+ * java -jar benchmarks/target/benchmarks.jar [JMHの引数]
+ *
+ * 例：
+ * java -jar benchmarks/target/benchmarks.jar EngineerBuilderBenchmark -f 1
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class BenchmarkRunner {
+
+    /** 既定の結果ファイル */
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        CommandLineOptions commandLine;
+        try {
+            commandLine = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("引数が不正です: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            // 一覧・ヘルプの表示はJMH本来の起動処理に任せる
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        new Runner(withDefaults(commandLine).build()).run();
+    }
+
+    /**
+     * コマンドライン引数に既定値（GCプロファイラ・JSON形式の結果ファイル）を補った設定を作成
+     *
+     * @param commandLine JMHのコマンドライン引数
+     * @return 設定（呼び出し側で追加の設定ができる）
+     */
+    static ChainedOptionsBuilder withDefaults(CommandLineOptions commandLine) {
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!hasGcProfiler(commandLine)) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result(DEFAULT_RESULT_FILE);
+        }
+        return options;
+    }
+
+    /**
+     * GCプロファイラが指定されているか判定
+     * 他のプロファイラだけが指定されている場合もGCプロファイラを追加する
+     */
+    private static boolean hasGcProfiler(CommandLineOptions commandLine) {
+        for (ProfilerConfig profiler : commandLine.getProfilers()) {
+            if ("gc".equals(profiler.getKlass()) || GCProfiler.class.getName().equals(profiler.getKlass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+package benchmark;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.EngineerBuilder;
+import model.EngineerDTO;
+
+/**
+ * EngineerBuilderの構築・検証のベンチマーク
+ *
+ * <ul>
+ * <li>chainedFull: 全項目を連鎖して設定し{@code build()}する（画面からの登録相当）</li>
+ * <li>chainedRequired: 必須項目だけを設定し{@code build()}する（CSV取込の最小行相当）</li>
+ * <li>validateOnly: 設定済みのビルダーで{@code build()}の必須項目検証だけを繰り返す</li>
+ * <li>validateMissingField: 必須項目の欠落で{@code build()}が例外となる経路</li>
+ * <li>rejectSkillOutOfRange: 範囲外の評価値で設定時に例外となる経路</li>
+ * </ul>
+ *
+ * 入力値は事前に生成して保持し、文字列・日付の生成を計測に含めません。
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EngineerBuilderBenchmark {
+
+    private String id;
+    private String name;
+    private String nameKana;
+    private LocalDate birthDate;
+    private LocalDate joinDate;
+    private List<String> languages;
+    private String careerHistory;
+    private String trainingHistory;
+    private String note;
+    private LocalDate registeredDate;
+
+    /** 必須項目を設定済みのビルダー */
+    private EngineerBuilder prepared;
+
+    /** 氏名だけを設定していないビルダー */
+    private EngineerBuilder missingName;
+
+    @Setup
+    public void setUp() {
+        id = "ID00001";
+        name = "山田太郎";
+        nameKana = "ヤマダタロウ";
+        birthDate = LocalDate.of(1990, 1, 15);
+        joinDate = LocalDate.of(2015, 4, 1);
+        languages = Arrays.asList("Java", "Python", "JavaScript");
+        careerHistory = "大手SIer5年,ベンチャー3年";
+        trainingHistory = "Java研修,AWS研修";
+        note = "特になし";
+        registeredDate = LocalDate.of(2026, 10, 19);
+
+        prepared = required(new EngineerBuilder());
+        missingName = required(new EngineerBuilder()).setName(null);
+    }
+
+    @Benchmark
+    public EngineerDTO chainedFull() {
+        return new EngineerBuilder()
+                .setId(id)
+                .setName(name)
+                .setNameKana(nameKana)
+                .setBirthDate(birthDate)
+                .setJoinDate(joinDate)
+                .setCareer(8)
+                .setProgrammingLanguages(languages)
+                .setCareerHistory(careerHistory)
+                .setTrainingHistory(trainingHistory)
+                .setTechnicalSkill(4.5)
+                .setLearningAttitude(4.0)
+                .setCommunicationSkill(3.5)
+                .setLeadership(3.0)
+                .setNote(note)
+                .setRegisteredDate(registeredDate)
+                .build();
+    }
+
+    @Benchmark
+    public EngineerDTO chainedRequired() {
+        return required(new EngineerBuilder()).build();
+    }
+
+    @Benchmark
+    public EngineerDTO validateOnly() {
+        return prepared.build();
+    }
+
+    @Benchmark
+    public Object validateMissingField() {
+        try {
+            return missingName.build();
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object rejectSkillOutOfRange() {
+        try {
+            return prepared.setTechnicalSkill(5.5);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private EngineerBuilder required(EngineerBuilder builder) {
+        return builder
+                .setId(id)
+                .setName(name)
+                .setNameKana(nameKana)
+                .setBirthDate(birthDate)
+                .setJoinDate(joinDate)
+                .setCareer(8)
+                .setProgrammingLanguages(languages);
+    }
+}
@@ -0,0 +1,105 @@
+package benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.EngineerBuilder;
+import model.EngineerDTO;
+
+/**
+ * EngineerDTOの{@code equals}・{@code hashCode}・{@code toString}のベンチマーク
+ *
+ * <ul>
+ * <li>equalsSame: 全項目が等しい別インスタンスとの比較（全項目を比較する最悪の経路）</li>
+ * <li>equalsDifferentNote: 最後に比較する備考だけが異なる場合</li>
+ * <li>equalsDifferentId: 最初に比較する文字列項目（社員ID）が異なる場合</li>
+ * <li>hashCodeFull: {@code Objects.hash}による可変長引数配列と数値のボクシングを含む</li>
+ * <li>toStringFull: ログ出力で使用する文字列表現</li>
+ * </ul>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EngineerDTOBenchmark {
+
+    private EngineerDTO engineer;
+    private EngineerDTO same;
+    private EngineerDTO differentNote;
+    private EngineerDTO differentId;
+
+    @Setup
+    public void setUp() {
+        engineer = create("ID00001", "特になし");
+        same = create("ID00001", "特になし");
+        differentNote = create("ID00001", "部門リーダー");
+        differentId = create("ID00002", "特になし");
+    }
+
+    @Benchmark
+    public boolean equalsSame() {
+        return engineer.equals(same);
+    }
+
+    @Benchmark
+    public boolean equalsDifferentNote() {
+        return engineer.equals(differentNote);
+    }
+
+    @Benchmark
+    public boolean equalsDifferentId() {
+        return engineer.equals(differentId);
+    }
+
+    @Benchmark
+    public int hashCodeFull() {
+        return engineer.hashCode();
+    }
+
+    @Benchmark
+    public String toStringFull() {
+        return engineer.toString();
+    }
+
+    /**
+     * 全項目を設定したエンジニアを作成
+     * 比較対象と文字列・リストを共有しないよう、毎回新しいインスタンスを使用する
+     */
+    private static EngineerDTO create(String id, String note) {
+        return new EngineerBuilder()
+                .setId(new String(id))
+                .setName(new String("山田太郎"))
+                .setNameKana(new String("ヤマダタロウ"))
+                .setBirthDate(LocalDate.of(1990, 1, 15))
+                .setJoinDate(LocalDate.of(2015, 4, 1))
+                .setCareer(8)
+                .setProgrammingLanguages(new ArrayList<>(Arrays.asList("Java", "Python", "JavaScript")))
+                .setCareerHistory(new String("大手SIer5年,ベンチャー3年"))
+                .setTrainingHistory(new String("Java研修,AWS研修"))
+                .setTechnicalSkill(4.5)
+                .setLearningAttitude(4.0)
+                .setCommunicationSkill(3.5)
+                .setLeadership(3.0)
+                .setNote(new String(note))
+                .build();
+    }
+}
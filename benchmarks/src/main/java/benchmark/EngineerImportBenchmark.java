@@ -0,0 +1,107 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.EngineerBatchResult;
+import model.EngineerDTO;
+import model.EngineerRepository;
+import model.EngineerSnapshotFile;
+import test.RosterGenerator;
+import util.LogHandler;
+
+/**
+ * エンジニア情報の一括取込のベンチマーク
+ *
+ * <ul>
+ * <li>addAll: 空のリポジトリへの{@code addAll}（CSV取込・初回読込相当、リポジトリの作成を含む）</li>
+ * <li>upsertAll: 全件が登録済みのリポジトリへの{@code upsertAll}（再取込による一括更新相当）</li>
+ * <li>readSnapshot: スナップショットファイルの読込（起動時の復元相当）</li>
+ * </ul>
+ *
+ * 取込データはRosterGeneratorで固定のシードから事前に生成し、生成を計測に含めません。
+ * スコアは1回の取込（batchSize件）あたりの値です。
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EngineerImportBenchmark {
+
+    /** 取込データのシード */
+    private static final long SEED = 47L;
+
+    /** 1回の取込件数 */
+    @Param({ "1000" })
+    public int batchSize;
+
+    private List<EngineerDTO> batch;
+    private EngineerRepository loaded;
+    private Path directory;
+    private Path snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("import-benchmark");
+        // 一括取込は1件のログを出力するため、ログを一時ディレクトリに書き込む
+        LogHandler.getInstance().initialize(directory.resolve("logs").toString());
+
+        RosterGenerator generator = new RosterGenerator(SEED);
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(generator.generate(i));
+        }
+        loaded = new EngineerRepository();
+        loaded.addAll(batch);
+        snapshot = directory.resolve("snapshot.bin");
+        EngineerSnapshotFile.write(snapshot, 0, batch);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        LogHandler.getInstance().cleanup();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public EngineerBatchResult addAll() throws IOException {
+        return new EngineerRepository().addAll(batch);
+    }
+
+    @Benchmark
+    public EngineerBatchResult upsertAll() throws IOException {
+        return loaded.upsertAll(batch);
+    }
+
+    @Benchmark
+    public EngineerSnapshotFile.Contents readSnapshot() throws IOException {
+        return EngineerSnapshotFile.read(snapshot);
+    }
+}
@@ -0,0 +1,166 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import util.LogHandler;
+import util.MessageEnum;
+
+/**
+ * LogHandlerのスループットと遅延のベンチマーク
+ *
+ * <p>
+ * 現在のLogHandlerは、すべての出力メソッドがLogHandlerのモニタで同期し、
+ * 同期的なjava.util.logging.FileHandlerでファイルに書き込みます。
+ * ここでの計測結果を基準とし、新しい出力方式はこの基準に対する改善を示す必要があります。
+ * </p>
+ *
+ * <ul>
+ * <li>logMessageEnum: {@code log(MessageEnum, Object...)}（書式化とログレベルの判定を含む）</li>
+ * <li>logLevel: {@code log(Level, String)}</li>
+ * <li>logError: {@code logError(String, Throwable)}（スタックトレースの書式化を含む）</li>
+ * <li>fileHandlerBaseline: LogHandlerを経由せず、同じ書式のFileHandlerに直接書き込む基準値</li>
+ * </ul>
+ *
+ * <p>
+ * 比較の条件をそろえるため、計測中はLogHandlerのロガーも親ロガー（ルートロガーの
+ * ConsoleHandler）への転送を止め、どちらの経路もFileHandler1つだけに書き込みます。
+ * </p>
+ *
+ * <p>
+ * スレッド数ごとに{@link Threads1}・{@link Threads4}・{@link Threads16}・{@link Threads64}の
+ * 4つのベンチマークとして実行され、スループット（ops/µs）と遅延の分布（µs/op）（SampleTimeの
+ * p50・p90・p99・p99.9など）を出力します。ログは一時ディレクトリに書き込み、終了時に削除します。
+ * </p>
+ *
+ * 実行例：
+ * java -jar benchmarks/target/benchmarks.jar LogHandlerBenchmark
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class LogHandlerBenchmark {
+
+    /** 基準値の書式（LogHandlerと同じ） */
+    private static final String LOG_FORMAT = "[%1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS] [%4$s] %5$s%6$s%n";
+
+    /**
+     * 出力先の状態（全スレッドで共有）
+     */
+    @State(Scope.Benchmark)
+    public static class Logs {
+
+        Path directory;
+        Logger handlerLogger;
+        boolean useParentHandlers;
+        Logger baseline;
+        FileHandler baselineHandler;
+        Exception error;
+
+        @Setup
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("log-benchmark");
+            LogHandler.getInstance().initialize(directory.resolve("handler").toString());
+            // 基準値と同じくファイルにのみ書き込む（コンソールへの出力を計測に含めない）
+            handlerLogger = Logger.getLogger(LogHandler.class.getName());
+            useParentHandlers = handlerLogger.getUseParentHandlers();
+            handlerLogger.setUseParentHandlers(false);
+
+            baseline = Logger.getLogger(LogHandlerBenchmark.class.getName());
+            baseline.setUseParentHandlers(false);
+            baseline.setLevel(Level.ALL);
+            baselineHandler = new FileHandler(directory.resolve("baseline.log").toString(),
+                    10 * 1024 * 1024, 1, true);
+            baselineHandler.setFormatter(new Formatter() {
+                @Override
+                public String format(LogRecord record) {
+                    return String.format(LOG_FORMAT, record.getMillis(), record.getSourceClassName(),
+                            record.getSourceMethodName(), record.getLevel().getName(), record.getMessage(), "");
+                }
+            });
+            baseline.addHandler(baselineHandler);
+
+            // 業務処理から投げられた例外と同程度の深さのスタックトレースを持つ
+            error = new IllegalStateException("ベンチマーク用の例外");
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            handlerLogger.setUseParentHandlers(useParentHandlers);
+            LogHandler.getInstance().cleanup();
+            baseline.removeHandler(baselineHandler);
+            baselineHandler.close();
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public void logMessageEnum(Logs logs) {
+        LogHandler.getInstance().log(MessageEnum.LOG_INFO_ENGINEER_ADDED, "ID00001", "山田太郎");
+    }
+
+    @Benchmark
+    public void logLevel(Logs logs) {
+        LogHandler.getInstance().log(Level.INFO, "エンジニア情報を更新しました");
+    }
+
+    @Benchmark
+    public void logError(Logs logs) {
+        LogHandler.getInstance().logError("エンジニア情報の保存に失敗しました", logs.error);
+    }
+
+    @Benchmark
+    public void fileHandlerBaseline(Logs logs) {
+        logs.baseline.log(Level.INFO, "エンジニア情報を更新しました");
+    }
+
+    /** 1スレッド */
+    @Threads(1)
+    public static class Threads1 extends LogHandlerBenchmark {
+    }
+
+    /** 4スレッド */
+    @Threads(4)
+    public static class Threads4 extends LogHandlerBenchmark {
+    }
+
+    /** 16スレッド */
+    @Threads(16)
+    public static class Threads16 extends LogHandlerBenchmark {
+    }
+
+    /** 64スレッド */
+    @Threads(64)
+    public static class Threads64 extends LogHandlerBenchmark {
+    }
+}
@@ -0,0 +1,388 @@
+package benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+/**
+ * ベンチマークの性能回帰を検出するゲート
+ *
+ * <p>
+ * ベンチマークを実行し（または既存の結果ファイルを読み込み）、コミットごとに保存した基準値と比較します。
+ * 対象のベンチマーク（既定はビルダー・ログ出力・一括取込）のいずれかで、スループットの低下
+ * （時間計測のモードでは処理時間の増加）または1操作あたりの割り当てバイト数の増加が閾値を超えた場合、
+ * 終了コード1で終了します。
+ * </p>
+ *
+ * <p>
+ * 基準値はJMHの結果ファイルをそのまま{@code <基準値の保存先>/<コミットID>.json}として保存します。
+ * 比較する基準値を指定しない場合は、現在のコミットから履歴を遡り、基準値が保存されている
+ * 最も新しいコミットと比較します。スコアの変化が閾値を超えても、両者の誤差（99.9%信頼区間）の
+ * 合計以内であれば計測のばらつきとみなし、警告だけを出力します。
+ * </p>
+ *
+ * 実行方法：
+ * java -cp benchmarks/target/benchmarks.jar benchmark.RegressionGate [オプション] [-- JMHの引数]
+ *
+ * オプション：
+ * <ul>
+ * <li>{@code --results <ファイル>}: ベンチマークを実行せず、既存の結果ファイルと比較する</li>
+ * <li>{@code --save}: 回帰がない場合、今回の結果を現在のコミットの基準値として保存する</li>
+ * <li>{@code --baseline <コミット>}: 比較する基準値のコミット</li>
+ * <li>{@code --commit <コミット>}: 今回の結果のコミット（既定は{@code git rev-parse HEAD}）</li>
+ * <li>{@code --baseline-dir <ディレクトリ>}: 基準値の保存先（既定は{@code benchmarks/baselines}）</li>
+ * <li>{@code --gate <正規表現>}: 判定の対象とするベンチマーク名</li>
+ * <li>{@code --max-throughput-drop <%>}: 許容するスループットの低下率（既定は10）</li>
+ * <li>{@code --max-alloc-increase <%>}: 許容する割り当てバイト数の増加率（既定は10）</li>
+ * </ul>
+ * <p>
+ * {@code --baseline}・{@code --commit}には短縮形のハッシュ・ブランチ名・タグも指定でき、
+ * {@code git rev-parse --verify}で完全なハッシュに変換してから保存・検索します。
+ * </p>
+ *
+ * 例：
+ * java -cp benchmarks/target/benchmarks.jar benchmark.RegressionGate --save -- -f 1 -wi 2 -i 3
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class RegressionGate {
+
+    /** 既定の判定対象（ビルダー・ログ出力・一括取込） */
+    public static final String DEFAULT_GATE = "EngineerBuilderBenchmark|LogHandlerBenchmark|EngineerImportBenchmark";
+
+    /** 既定の基準値の保存先 */
+    public static final String DEFAULT_BASELINE_DIR = "benchmarks/baselines";
+
+    /** 既定の許容する低下率・増加率（%） */
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    /** 割り当てバイト数の増加として扱わない差（バイト/操作）。割り当てのないベンチマークの計測誤差を除く */
+    private static final double ALLOC_SLACK_BYTES = 16.0;
+
+    /** 基準値を探す履歴の深さ */
+    private static final int HISTORY_DEPTH = 200;
+
+    /** 省略のないコミットのハッシュ（gitを実行できない場合に指定を受け付ける形式） */
+    private static final Pattern FULL_HASH = Pattern.compile("[0-9a-fA-F]{40}");
+
+    /** 終了コード（回帰あり） */
+    private static final int EXIT_REGRESSION = 1;
+
+    /** 終了コード（引数・入出力の誤り） */
+    private static final int EXIT_ERROR = 2;
+
+    private Path results;
+    private boolean save;
+    private String baselineCommit;
+    private String commit;
+    private Path baselineDir = Paths.get(DEFAULT_BASELINE_DIR);
+    private Pattern gate = Pattern.compile(DEFAULT_GATE);
+    private double maxThroughputDrop = DEFAULT_THRESHOLD_PERCENT / 100.0;
+    private double maxAllocIncrease = DEFAULT_THRESHOLD_PERCENT / 100.0;
+    private String[] jmhArgs = new String[0];
+
+    private RegressionGate() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            System.exit(parse(args).run());
+        } catch (IllegalArgumentException | IllegalStateException | IOException | RunnerException e) {
+            System.err.println("性能回帰の判定に失敗しました: " + e.getMessage());
+            System.exit(EXIT_ERROR);
+        }
+    }
+
+    /**
+     * 引数を解析
+     *
+     * @throws IllegalArgumentException 引数が不正な場合
+     */
+    private static RegressionGate parse(String[] args) {
+        RegressionGate gate = new RegressionGate();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("--".equals(arg)) {
+                gate.jmhArgs = Arrays.copyOfRange(args, i + 1, args.length);
+                break;
+            }
+            if ("--save".equals(arg)) {
+                gate.save = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("オプションの値がありません: " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--results":
+                    gate.results = Paths.get(value);
+                    break;
+                case "--baseline":
+                    gate.baselineCommit = value;
+                    break;
+                case "--commit":
+                    gate.commit = value;
+                    break;
+                case "--baseline-dir":
+                    gate.baselineDir = Paths.get(value);
+                    break;
+                case "--gate":
+                    gate.gate = Pattern.compile(value);
+                    break;
+                case "--max-throughput-drop":
+                    gate.maxThroughputDrop = percent(arg, value);
+                    break;
+                case "--max-alloc-increase":
+                    gate.maxAllocIncrease = percent(arg, value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("不明なオプションです: " + arg);
+            }
+        }
+        return gate;
+    }
+
+    /**
+     * 判定を実行
+     *
+     * @return 終了コード
+     */
+    private int run() throws IOException, RunnerException {
+        // 基準値のファイル名と履歴の比較に使うため、短縮形・ブランチ名・タグは完全なハッシュに揃える
+        if (commit == null) {
+            commit = git("rev-parse", "HEAD").trim();
+            if (!git("status", "--porcelain", "--untracked-files=no").trim().isEmpty()) {
+                System.out.println("警告: 未コミットの変更があります。結果はコミット " + commit + " の値として扱います");
+            }
+        } else {
+            commit = resolveCommit(commit);
+        }
+        if (baselineCommit != null) {
+            baselineCommit = resolveCommit(baselineCommit);
+        }
+        Path currentFile = results != null ? results : runBenchmarks();
+        BenchmarkResults current = BenchmarkResults.read(currentFile);
+
+        Path baselineFile = findBaseline();
+        int regressions = 0;
+        if (baselineFile == null) {
+            System.out.println("比較する基準値がありません（保存先: " + baselineDir + "）");
+        } else {
+            BenchmarkResults baseline = BenchmarkResults.read(baselineFile);
+            System.out.println("基準値: " + baselineFile + "（JDK " + baseline.getJdkVersion() + "）");
+            if (baseline.getJdkVersion() != null && !baseline.getJdkVersion().equals(current.getJdkVersion())) {
+                System.out.println("警告: 基準値と今回のJDKの版が異なります（今回: JDK " + current.getJdkVersion() + "）");
+            }
+            regressions = compare(baseline, current);
+        }
+
+        if (save) {
+            if (regressions > 0) {
+                System.out.println("回帰があるため、基準値を保存しません");
+            } else {
+                Files.createDirectories(baselineDir);
+                Path target = baselineDir.resolve(commit + ".json");
+                Files.copy(currentFile, target, StandardCopyOption.REPLACE_EXISTING);
+                System.out.println("基準値を保存しました: " + target);
+            }
+        }
+        return regressions > 0 ? EXIT_REGRESSION : 0;
+    }
+
+    /**
+     * JMHの引数に既定値を補ってベンチマークを実行し、結果ファイルを返す
+     * 実行するベンチマークの指定がない場合は、判定の対象だけを実行する
+     */
+    private Path runBenchmarks() throws RunnerException {
+        CommandLineOptions commandLine;
+        try {
+            commandLine = new CommandLineOptions(jmhArgs);
+        } catch (CommandLineOptionException e) {
+            throw new IllegalArgumentException("JMHの引数が不正です: " + e.getMessage(), e);
+        }
+        ChainedOptionsBuilder options = BenchmarkRunner.withDefaults(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(gate.pattern());
+        }
+        new Runner(options.build()).run();
+        return Paths.get(commandLine.getResult().orElse(BenchmarkRunner.DEFAULT_RESULT_FILE));
+    }
+
+    /**
+     * 比較する基準値のファイルを探す
+     *
+     * @return 基準値のファイル（見つからない場合はnull）
+     * @throws IllegalArgumentException 指定したコミットの基準値がない場合
+     */
+    private Path findBaseline() throws IOException {
+        if (baselineCommit != null) {
+            Path file = baselineDir.resolve(baselineCommit + ".json");
+            if (!Files.exists(file)) {
+                throw new IllegalArgumentException("コミット " + baselineCommit + " の基準値がありません: " + file);
+            }
+            return file;
+        }
+        if (!Files.isDirectory(baselineDir)) {
+            return null;
+        }
+        // 現在のコミット自身の基準値は除き、履歴を遡って最初に見つかった基準値を使用する
+        for (String ancestor : git("rev-list", "--max-count=" + HISTORY_DEPTH, commit).split("\\s+")) {
+            Path file = baselineDir.resolve(ancestor + ".json");
+            if (!ancestor.isEmpty() && !ancestor.equals(commit) && Files.exists(file)) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 基準値と今回の結果を比較し、表を出力する
+     *
+     * @return 回帰と判定した項目の数
+     */
+    private int compare(BenchmarkResults baseline, BenchmarkResults current) {
+        int regressions = 0;
+        System.out.println(String.format("%-60s %-8s %14s %14s %9s  %s", "ベンチマーク", "指標", "基準値", "今回", "変化", "判定"));
+        for (Map.Entry<String, BenchmarkResults.Entry> entry : current.getEntries().entrySet()) {
+            BenchmarkResults.Entry now = entry.getValue();
+            if (!gate.matcher(entry.getKey()).find()) {
+                continue;
+            }
+            BenchmarkResults.Entry before = baseline.getEntries().get(entry.getKey());
+            if (before == null) {
+                System.out.println(String.format("%-60s %-8s %14s %14.3f %9s  %s", entry.getKey(), "score", "-",
+                        now.score, "-", "新規"));
+                continue;
+            }
+
+            // スループットは低下、時間計測のモードは増加を悪化とする
+            double worse = now.higherIsBetter() ? (before.score - now.score) / before.score
+                    : (now.score - before.score) / before.score;
+            String verdict = "OK";
+            if (worse > maxThroughputDrop) {
+                double noise = before.scoreError + now.scoreError;
+                if (!Double.isNaN(noise) && Math.abs(now.score - before.score) <= noise) {
+                    verdict = "警告（誤差の範囲内）";
+                } else {
+                    verdict = "回帰";
+                    regressions++;
+                }
+            }
+            System.out.println(String.format("%-60s %-8s %14.3f %14.3f %+8.1f%%  %s", entry.getKey(), now.unit,
+                    before.score, now.score, (now.score / before.score - 1) * 100, verdict));
+
+            if (!Double.isNaN(before.allocPerOp) && !Double.isNaN(now.allocPerOp)) {
+                double increase = now.allocPerOp - before.allocPerOp;
+                boolean regressed = increase > ALLOC_SLACK_BYTES && increase > before.allocPerOp * maxAllocIncrease;
+                if (regressed) {
+                    regressions++;
+                }
+                System.out.println(String.format("%-60s %-8s %14.1f %14.1f %+8.1f%%  %s", "", "B/op",
+                        before.allocPerOp, now.allocPerOp,
+                        before.allocPerOp == 0 ? 0.0 : (now.allocPerOp / before.allocPerOp - 1) * 100,
+                        regressed ? "回帰" : "OK"));
+            }
+        }
+        for (String key : baseline.getEntries().keySet()) {
+            if (gate.matcher(key).find() && !current.getEntries().containsKey(key)) {
+                System.out.println(String.format("%-60s %s", key, "今回の結果なし（比較対象外）"));
+            }
+        }
+        System.out.println(regressions == 0 ? "判定: 回帰はありません"
+                : "判定: " + regressions + "件の回帰があります（許容: スループット低下 "
+                        + Math.round(maxThroughputDrop * 100) + "%, 割り当て増加 " + Math.round(maxAllocIncrease * 100) + "%）");
+        return regressions;
+    }
+
+    /**
+     * コミットの指定を完全なハッシュに変換
+     * gitを実行できない場合は、省略のないハッシュの指定だけを受け付ける
+     *
+     * @param revision コミットの指定（ハッシュ・短縮形・ブランチ名・タグなど）
+     * @return 小文字40桁のコミットのハッシュ
+     * @throws IllegalArgumentException コミットが見つからない場合
+     */
+    private static String resolveCommit(String revision) throws IOException {
+        if (revision.isEmpty() || revision.startsWith("-")) {
+            throw new IllegalArgumentException("コミットの指定が不正です: " + revision);
+        }
+        try {
+            return git("rev-parse", "--verify", "--quiet", revision + "^{commit}").trim();
+        } catch (IllegalStateException e) {
+            if (!(e.getCause() instanceof IOException)) {
+                throw e.getCause() == null ? new IllegalArgumentException("コミットが見つかりません: " + revision, e) : e;
+            }
+            if (!FULL_HASH.matcher(revision).matches()) {
+                throw new IllegalArgumentException("gitを実行できないため、コミットは40桁のハッシュで指定してください: " + revision, e);
+            }
+            return revision.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * gitコマンドを実行し、標準出力を返す
+     *
+     * @throws IllegalStateException gitを実行できない、または失敗した場合
+     */
+    private static String git(String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        Process process;
+        try {
+            process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        } catch (IOException e) {
+            throw new IllegalStateException("gitを実行できません。--commitでコミットを指定してください", e);
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream in = process.getInputStream()) {
+            in.transferTo(output);
+        }
+        try {
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("gitコマンドが失敗しました: " + String.join(" ", command) + ": "
+                        + output.toString(StandardCharsets.UTF_8).trim());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("gitコマンドの実行中に割り込まれました", e);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 百分率の引数を割合に変換
+     */
+    private static double percent(String option, String value) {
+        double percent;
+        try {
+            percent = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + "には数値を指定してください: " + value);
+        }
+        if (!(percent >= 0)) {
+            throw new IllegalArgumentException(option + "には0以上の値を指定してください: " + value);
+        }
+        return percent / 100.0;
+    }
+}
@@ -0,0 +1,172 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.EngineerDTO;
+import model.EngineerRepository;
+import test.RosterGenerator;
+import util.LogHandler;
+
+/**
+ * EngineerRepositoryの読み取り・更新スループットのスレッド数に対するスケーラビリティのベンチマーク
+ *
+ * <ul>
+ * <li>get: 全スレッドが社員IDで取得（ロックを取得しない読み取り）</li>
+ * <li>update: 全スレッドが更新（ストライプごとの更新ロックとログ出力を含む）</li>
+ * <li>mixed: 読み取りと更新を{@code readPercent}の比率で混在</li>
+ * </ul>
+ *
+ * <p>
+ * スレッド数ごとに{@link Threads1}〜{@link Threads32}の6つのベンチマークとして実行され、
+ * 全スレッドの合計のスループット（ops/µs）を出力します。対象の社員IDは登録済みの
+ * {@code rosterSize}件から一様に選びます。更新時のログはファイルにのみ書き込み
+ * （コンソールには出力しない）、終了時に一時ディレクトリごと削除します。
+ * </p>
+ *
+ * 実行例：
+ * java -jar benchmarks/target/benchmarks.jar RepositoryScalingBenchmark
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class RepositoryScalingBenchmark {
+
+    /** 登録データのシード */
+    private static final long SEED = 29L;
+
+    /**
+     * 計測対象のリポジトリ（全スレッドで共有）
+     */
+    @State(Scope.Benchmark)
+    public static class Roster {
+
+        @Param({ "10000" })
+        public int rosterSize;
+
+        EngineerRepository repository;
+        String[] ids;
+        EngineerDTO[] updates;
+        Path directory;
+        Logger logger;
+        boolean useParentHandlers;
+
+        @Setup
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("repository-benchmark");
+            LogHandler.getInstance().initialize(directory.resolve("logs").toString());
+            // コンソールへの出力を計測に含めない
+            logger = Logger.getLogger(LogHandler.class.getName());
+            useParentHandlers = logger.getUseParentHandlers();
+            logger.setUseParentHandlers(false);
+
+            RosterGenerator generator = new RosterGenerator(SEED);
+            repository = new EngineerRepository();
+            ids = new String[rosterSize];
+            updates = new EngineerDTO[rosterSize];
+            for (int i = 0; i < rosterSize; i++) {
+                EngineerDTO engineer = generator.generate(i);
+                repository.add(engineer);
+                ids[i] = engineer.getId();
+                updates[i] = generator.generate(i);
+                updates[i].setNote("更新");
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            logger.setUseParentHandlers(useParentHandlers);
+            LogHandler.getInstance().cleanup();
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * 読み取りと更新の比率（スレッドごと）
+     */
+    @State(Scope.Thread)
+    public static class Mix {
+
+        @Param({ "90" })
+        public int readPercent;
+    }
+
+    @Benchmark
+    public EngineerDTO get(Roster roster) {
+        return roster.repository.get(roster.ids[ThreadLocalRandom.current().nextInt(roster.rosterSize)]);
+    }
+
+    @Benchmark
+    public void update(Roster roster) throws IOException {
+        roster.repository.update(roster.updates[ThreadLocalRandom.current().nextInt(roster.rosterSize)]);
+    }
+
+    @Benchmark
+    public EngineerDTO mixed(Roster roster, Mix mix) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(roster.rosterSize);
+        if (random.nextInt(100) < mix.readPercent) {
+            return roster.repository.get(roster.ids[index]);
+        }
+        roster.repository.update(roster.updates[index]);
+        return null;
+    }
+
+    /** 1スレッド */
+    @Threads(1)
+    public static class Threads1 extends RepositoryScalingBenchmark {
+    }
+
+    /** 2スレッド */
+    @Threads(2)
+    public static class Threads2 extends RepositoryScalingBenchmark {
+    }
+
+    /** 4スレッド */
+    @Threads(4)
+    public static class Threads4 extends RepositoryScalingBenchmark {
+    }
+
+    /** 8スレッド */
+    @Threads(8)
+    public static class Threads8 extends RepositoryScalingBenchmark {
+    }
+
+    /** 16スレッド */
+    @Threads(16)
+    public static class Threads16 extends RepositoryScalingBenchmark {
+    }
+
+    /** 32スレッド */
+    @Threads(32)
+    public static class Threads32 extends RepositoryScalingBenchmark {
+    }
+}
@@ -0,0 +1,210 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * BenchmarkResults.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * mvn -B -q -pl benchmarks -am test-compile
+ * java -cp core/target/classes:benchmarks/target/classes:benchmarks/target/test-classes benchmark.TestBenchmarkResults
+ *
+ * テストケース:
+ * 1: 正常系 - JMHの結果ファイルからスコア・誤差・単位・割り当てバイト数・JDKの版を読み込むこと
+ * 2: 正常系 - 文字列のエスケープ・指数表記・文字列のNaN・空の結果の読込
+ * 3: 異常系 - 形式の誤りを位置とともにIllegalArgumentExceptionで報告すること
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestBenchmarkResults {
+
+    /** JMH 1.37の出力と同じ構造の結果（パラメータ・GCプロファイラ・生データを含む） */
+    private static final String JMH_RESULTS = "[\n"
+            + "    {\n"
+            + "        \"jmhVersion\" : \"1.37\",\n"
+            + "        \"benchmark\" : \"benchmark.EngineerImportBenchmark.importAll\",\n"
+            + "        \"mode\" : \"thrpt\",\n"
+            + "        \"threads\" : 1,\n"
+            + "        \"jdkVersion\" : \"17.0.9\",\n"
+            + "        \"params\" : {\n"
+            + "            \"rows\" : \"10000\",\n"
+            + "            \"invalidRate\" : \"0.05\"\n"
+            + "        },\n"
+            + "        \"primaryMetric\" : {\n"
+            + "            \"score\" : 1234.5,\n"
+            + "            \"scoreError\" : 12.25,\n"
+            + "            \"scoreConfidence\" : [ 1222.25, 1246.75 ],\n"
+            + "            \"scoreUnit\" : \"ops/s\",\n"
+            + "            \"rawData\" : [ [ 1230.0, 1239.0 ] ]\n"
+            + "        },\n"
+            + "        \"secondaryMetrics\" : {\n"
+            + "            \"·gc.alloc.rate\" : { \"score\" : 512.0, \"scoreUnit\" : \"MB/sec\" },\n"
+            + "            \"·gc.alloc.rate.norm\" : { \"score\" : 4096.5, \"scoreUnit\" : \"B/op\" },\n"
+            + "            \"·gc.count\" : { \"score\" : 3.0, \"scoreUnit\" : \"counts\" }\n"
+            + "        }\n"
+            + "    },\n"
+            + "    {\n"
+            + "        \"benchmark\" : \"benchmark.LogHandlerBenchmark.Threads4.logError\",\n"
+            + "        \"mode\" : \"sample\",\n"
+            + "        \"jdkVersion\" : \"17.0.10\",\n"
+            + "        \"params\" : { },\n"
+            + "        \"primaryMetric\" : {\n"
+            + "            \"score\" : 2.5E-1,\n"
+            + "            \"scoreError\" : \"NaN\",\n"
+            + "            \"scoreUnit\" : \"us/op\"\n"
+            + "        },\n"
+            + "        \"secondaryMetrics\" : {\n"
+            + "            \"gc.alloc.rate.norm\" : { \"score\" : 0.0, \"scoreUnit\" : \"B/op\" }\n"
+            + "        }\n"
+            + "    }\n"
+            + "]\n";
+
+    public static void main(String[] args) {
+        try {
+            testJmhResults();
+            testScalars();
+            testMalformed();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * JMHの結果ファイルの読込のテスト
+     */
+    private static void testJmhResults() {
+        Path dir = null;
+        try {
+            dir = Files.createTempDirectory("benchmark-results-test");
+            BenchmarkResults results = BenchmarkResults.read(write(dir, JMH_RESULTS));
+            Map<String, BenchmarkResults.Entry> entries = results.getEntries();
+            check(entries.size() == 2, "2件のベンチマークを読み込むこと: " + entries.keySet());
+
+            // パラメータは名前の順に並べ、パッケージ名を除いたベンチマーク名とモードでキーを作る
+            BenchmarkResults.Entry load = entries.get("EngineerImportBenchmark.importAll{invalidRate=0.05, rows=10000} [thrpt]");
+            check(load != null, "パラメータとモードを含むキーで取得できること: " + entries.keySet());
+            check(load.score == 1234.5 && load.scoreError == 12.25 && "ops/s".equals(load.unit),
+                    "主指標のスコア・誤差・単位を読み込むこと");
+            check(load.allocPerOp == 4096.5, "割り当てバイト数はgc.alloc.rate.normの値であること: " + load.allocPerOp);
+            check(load.higherIsBetter(), "スループットはスコアが大きいほど良いこと");
+
+            BenchmarkResults.Entry log = entries.get("LogHandlerBenchmark.Threads4.logError [sample]");
+            check(log != null, "空のパラメータはキーに含めないこと: " + entries.keySet());
+            check(log.score == 0.25 && Double.isNaN(log.scoreError), "指数表記と文字列のNaNを読み込むこと");
+            check(log.allocPerOp == 0.0 && !log.higherIsBetter(), "接頭辞のない指標名と時間計測のモードを扱えること");
+            check("17.0.10".equals(results.getJdkVersion()), "JDKの版を読み込むこと: " + results.getJdkVersion());
+
+            System.out.println("テスト成功: JMHの結果ファイルから" + entries.size() + "件の結果を読み込みました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 文字列・数値の読込のテスト
+     */
+    private static void testScalars() {
+        Path dir = null;
+        try {
+            dir = Files.createTempDirectory("benchmark-results-test");
+            String escaped = "[{\"benchmark\":\"benchmark.A\\u0042\\\"C\\\\\\/\\t\",\"mode\":\"avgt\",\"jdkVersion\":null,"
+                    + "\"primaryMetric\":{\"score\":-1.5e+2,\"scoreError\":\"Infinity\",\"scoreUnit\":\"ns/op\"},"
+                    + "\"flags\":[true,false,null,[],{}]}]";
+            BenchmarkResults results = BenchmarkResults.read(write(dir, escaped));
+            BenchmarkResults.Entry entry = results.getEntries().get("AB\"C\\/\t [avgt]");
+            check(entry != null, "エスケープした文字列を復元すること: " + results.getEntries().keySet());
+            check(entry.score == -150.0 && entry.scoreError == Double.POSITIVE_INFINITY,
+                    "符号付きの指数表記と文字列の無限大を読み込むこと");
+            check(Double.isNaN(entry.allocPerOp), "GCプロファイラがない場合の割り当てバイト数はNaNであること");
+            check(results.getJdkVersion() == null, "nullのJDKの版を読み込むこと");
+
+            BenchmarkResults empty = BenchmarkResults.read(write(dir, " [ ] \n"));
+            check(empty.getEntries().isEmpty() && empty.getJdkVersion() == null, "空の結果を読み込むこと");
+
+            System.out.println("テスト成功: エスケープ・指数表記・特殊な数値・空の結果を読み込みました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 形式の誤りのテスト
+     */
+    private static void testMalformed() {
+        Path dir = null;
+        try {
+            dir = Files.createTempDirectory("benchmark-results-test");
+            String[][] cases = {
+                    { "{}", "JMHの結果ファイルの形式ではありません" },
+                    { "[] []", "余分な文字があります" },
+                    { "[{\"a\" 1}]", "':'がありません" },
+                    { "[{1:2}]", "キーがありません" },
+                    { "[1 2]", "','または']'がありません" },
+                    { "[{\"a\":1 \"b\":2}]", "','または'}'がありません" },
+                    { "[\"abc", "JSONが途中で終わっています" },
+                    { "[\"\\u12\"]", "不正なエスケープです" },
+                    { "[\"\\u12", "JSONが途中で終わっています" },
+                    { "[1.2.3]", "不正な数値です" },
+                    { "[tru]", "'true'がありません" },
+                    { "[@]", "不正な文字です" },
+                    { "", "値がありません" },
+            };
+            for (String[] c : cases) {
+                try {
+                    BenchmarkResults.read(write(dir, c[0]));
+                    check(false, "形式の誤りが検出されること: " + c[0]);
+                } catch (IllegalArgumentException expected) {
+                    check(expected.getMessage().contains(c[1]), c[0] + "の誤りが報告されること: " + expected.getMessage());
+                }
+            }
+
+            System.out.println("テスト成功: " + cases.length + "種類の形式の誤りを検出しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 結果ファイルを作成
+     */
+    private static Path write(Path dir, String json) throws IOException {
+        return Files.write(Files.createTempFile(dir, "result", ".json"), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 条件を検証し、満たさない場合は例外を投げる
+     */
+    private static void check(boolean condition, String description) {
+        if (!condition) {
+            throw new IllegalStateException("検証失敗: " + description);
+        }
+    }
+
+    /**
+     * 一時ディレクトリを削除
+     */
+    private static void deleteQuietly(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("一時ディレクトリの削除に失敗しました: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 追加・更新・削除に合わせて差分で更新する集計ビュー
+ *
+ * <p>
+ * グループごとに項目の件数と合計を保持し、平均を含めて定数時間で取得できます。
+ * {@link EngineerRepository#addIndex(EngineerIndex)}で登録すると既存の内容で初期化され、
+ * 以降は変更前後のエンジニア情報から、変更前のグループの値を差し引き、
+ * 変更後のグループに値を加えるだけで更新します。
+ * 1件の変更にかかる処理は、登録したビューの数に比例し、全体の件数には依存しません。
+ * </p>
+ *
+ * <p>
+ * 値を持たないエンジニア（評価項目が未評価、日付が未設定）は、そのビューの集計に含みません。
+ * 件数と合計は1つの不変オブジェクトとしてまとめて差し替えるため、
+ * 更新中に読み取っても件数と合計の組み合わせが食い違うことはありません。
+ * </p>
+ *
+ * <pre>
+ * AggregateView&lt;String&gt; javaSkill = AggregateView.byLanguage(EngineerField.TECHNICAL_SKILL);
+ * repository.addIndex(javaSkill);
+ * double average = javaSkill.getAverage("java");
+ * </pre>
+ *
+ * @param <K> グループの型
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class AggregateView<K> implements EngineerIndex {
+
+    /** 集計する項目 */
+    private final EngineerField field;
+
+    /** エンジニア情報から所属するグループを求める関数 */
+    private final Function<? super EngineerDTO, ? extends Collection<? extends K>> grouping;
+
+    /** グループ → 集計値 */
+    private final ConcurrentHashMap<K, Cell> cells = new ConcurrentHashMap<>();
+
+    /**
+     * グループごとの件数と合計（不変）
+     */
+    private static final class Cell {
+
+        final long count;
+        final long sum;
+
+        Cell(long count, long sum) {
+            this.count = count;
+            this.sum = sum;
+        }
+    }
+
+    /**
+     * 集計ビューを生成
+     *
+     * @param field    集計する項目
+     * @param grouping エンジニア情報から所属するグループを求める関数（複数のグループに属してもよい）
+     */
+    public AggregateView(EngineerField field, Function<? super EngineerDTO, ? extends Collection<? extends K>> grouping) {
+        if (field == null || grouping == null) {
+            throw new IllegalArgumentException("集計する項目とグループを指定してください");
+        }
+        this.field = field;
+        this.grouping = grouping;
+    }
+
+    /**
+     * 言語ごとに集計するビューを生成
+     * グループは正規化した言語名（小文字）
+     *
+     * @param field 集計する項目
+     * @return 集計ビュー
+     */
+    public static AggregateView<String> byLanguage(EngineerField field) {
+        return new AggregateView<>(field, LanguageIndex::languagesOf);
+    }
+
+    /**
+     * 入社年ごとに集計するビューを生成
+     * 入社年月が未設定のエンジニアは含まない
+     *
+     * @param field 集計する項目
+     * @return 集計ビュー
+     */
+    public static AggregateView<Integer> byJoinYear(EngineerField field) {
+        return new AggregateView<>(field, engineer -> engineer.getJoinDate() == null
+                ? Collections.<Integer>emptyList()
+                : Collections.singletonList(engineer.getJoinDate().getYear()));
+    }
+
+    /**
+     * 全件を1つのグループ（{@link Boolean#TRUE}）として集計するビューを生成
+     *
+     * @param field 集計する項目
+     * @return 集計ビュー
+     */
+    public static AggregateView<Boolean> total(EngineerField field) {
+        return new AggregateView<>(field, engineer -> Collections.singletonList(Boolean.TRUE));
+    }
+
+    @Override
+    public void onChange(int key, EngineerDTO before, EngineerDTO after) {
+        Map<K, long[]> delta = new HashMap<>();
+        accumulate(delta, before, -1);
+        accumulate(delta, after, 1);
+        for (Map.Entry<K, long[]> entry : delta.entrySet()) {
+            apply(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+        }
+    }
+
+    /**
+     * 集計する項目を取得
+     *
+     * @return 項目
+     */
+    public EngineerField getField() {
+        return field;
+    }
+
+    /**
+     * グループの件数を取得
+     *
+     * @param group グループ
+     * @return 件数（グループが存在しない場合は0）
+     */
+    public long getCount(K group) {
+        Cell cell = cells.get(group);
+        return cell == null ? 0 : cell.count;
+    }
+
+    /**
+     * グループの合計を取得
+     *
+     * @param group グループ
+     * @return 項目の単位での合計（グループが存在しない場合は0）
+     */
+    public double getSum(K group) {
+        Cell cell = cells.get(group);
+        return cell == null ? 0 : field.toValue(cell.sum);
+    }
+
+    /**
+     * グループの平均を取得
+     *
+     * @param group グループ
+     * @return 項目の単位での平均（グループが存在しない場合は{@link Double#NaN}）
+     */
+    public double getAverage(K group) {
+        Cell cell = cells.get(group);
+        return cell == null ? Double.NaN : field.toValue((double) cell.sum / cell.count);
+    }
+
+    /**
+     * すべてのグループの平均を取得
+     *
+     * @return グループ → 平均（グループが比較可能な場合は昇順、それ以外は順不同）
+     */
+    public Map<K, Double> averages() {
+        Map<K, Double> result = new HashMap<>();
+        cells.forEach((group, cell) -> result.put(group, field.toValue((double) cell.sum / cell.count)));
+        return isSortable(result) ? new TreeMap<>(result) : result;
+    }
+
+    /**
+     * 件数が1以上のグループの数を取得
+     *
+     * @return グループの数
+     */
+    public int groupCount() {
+        return cells.size();
+    }
+
+    /**
+     * エンジニア情報の値を、所属するグループの差分（件数・合計）に加える
+     */
+    private void accumulate(Map<K, long[]> delta, EngineerDTO engineer, int sign) {
+        if (engineer == null) {
+            return;
+        }
+        int value = field.keyOf(engineer);
+        if (!field.hasValue(value)) {
+            return;
+        }
+        for (K group : grouping.apply(engineer)) {
+            long[] cell = delta.computeIfAbsent(Objects.requireNonNull(group, "グループがnullです"), g -> new long[2]);
+            cell[0] += sign;
+            cell[1] += (long) sign * value;
+        }
+    }
+
+    /**
+     * グループの集計値を差し替える（件数が0になったグループは削除）
+     */
+    private void apply(K group, long countDelta, long sumDelta) {
+        if (countDelta == 0 && sumDelta == 0) {
+            return;
+        }
+        cells.compute(group, (g, cell) -> {
+            long count = (cell == null ? 0 : cell.count) + countDelta;
+            long sum = (cell == null ? 0 : cell.sum) + sumDelta;
+            return count == 0 ? null : new Cell(count, sum);
+        });
+    }
+
+    private static boolean isSortable(Map<?, ?> map) {
+        for (Object group : map.keySet()) {
+            if (!(group instanceof Comparable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
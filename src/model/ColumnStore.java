@@ -0,0 +1,324 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import util.IntObjectHashMap;
+
+/**
+ * エンジニア情報の数値項目と扱える言語を列ごとの配列で保持する列指向ストア
+ *
+ * <p>
+ * {@link EngineerField}の各項目を並び順キーのint配列として保持し、扱える言語は
+ * 言語ごとに1ビットを割り当てたlong配列（64言語ごとに1列）で保持します。
+ * 検索・集計は配列を順に走査するだけで済むため、行ごとに{@link EngineerDTO}を
+ * 参照するよりもキャッシュ効率が高く、JITによるループ最適化も効きやすくなります。
+ * </p>
+ *
+ * <p>
+ * {@link EngineerRepository#addIndex(EngineerIndex)}で登録すると、追加・更新・削除に
+ * 合わせて該当行のみを書き換えます。削除した行は空き行として再利用します。
+ * 列の読み取りは{@link #read(Function)}の中で行い、読み取り中の書き換えは待機します。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class ColumnStore implements EngineerIndex {
+
+    /** 空き行を表す社員IDの数値 */
+    private static final int FREE_ROW = -1;
+
+    /** 初期の行数 */
+    private static final int INITIAL_ROWS = 64;
+
+    /** 項目の数 */
+    private static final int FIELD_COUNT = EngineerField.values().length;
+
+    /** 行 → 社員IDの数値（空き行はFREE_ROW） */
+    private int[] keys = new int[INITIAL_ROWS];
+
+    /** 項目（序数） → 行 → 並び順キー */
+    private final int[][] fields = new int[FIELD_COUNT][INITIAL_ROWS];
+
+    /** 言語の列（64言語ごと） → 行 → 言語のビット */
+    private final List<long[]> languageWords = new ArrayList<>();
+
+    /** 正規化した言語名 → 言語番号 */
+    private final Map<String, Integer> languageIds = new HashMap<>();
+
+    /** 言語番号 → 正規化した言語名 */
+    private final List<String> languageNames = new ArrayList<>();
+
+    /** 社員IDの数値 → 行 */
+    private final IntObjectHashMap<Integer> rowsByKey = new IntObjectHashMap<>();
+
+    /** 空き行の番号 */
+    private int[] freeRows = new int[16];
+
+    /** 空き行の数 */
+    private int freeCount;
+
+    /** 使用したことのある行数（走査範囲） */
+    private int rowCount;
+
+    /** 列の書き換えと読み取りを調停するロック */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 読み取り中の列への参照
+     * {@link ColumnStore#read(Function)}の処理内でのみ有効で、配列は変更しないこと
+     */
+    public final class Columns {
+
+        private Columns() {
+        }
+
+        /**
+         * 走査する行数を取得
+         * 空き行を含むため、各行は{@link #isLive(int)}で確認する
+         *
+         * @return 行数
+         */
+        public int rows() {
+            return rowCount;
+        }
+
+        /**
+         * 行が使用中か判定
+         *
+         * @param row 行
+         * @return 使用中の場合true
+         */
+        public boolean isLive(int row) {
+            return keys[row] != FREE_ROW;
+        }
+
+        /**
+         * 行の社員IDの数値を取得
+         *
+         * @param row 行
+         * @return 社員IDの数値（空き行の場合は-1）
+         */
+        public int key(int row) {
+            return keys[row];
+        }
+
+        /**
+         * 社員IDの数値の列を取得（空き行は-1）
+         *
+         * @return 列の配列（変更不可）
+         */
+        public int[] keyColumn() {
+            return keys;
+        }
+
+        /**
+         * 項目の列を取得
+         *
+         * @param field 項目
+         * @return 並び順キーの配列（変更不可。値が未設定の行は{@link Integer#MIN_VALUE}）
+         */
+        public int[] column(EngineerField field) {
+            return fields[field.ordinal()];
+        }
+
+        /**
+         * 言語番号を取得
+         *
+         * @param language 言語名
+         * @return 言語番号（未登録の場合は-1）
+         */
+        public int languageId(String language) {
+            Integer id = languageIds.get(LanguageIndex.normalize(language));
+            return id == null ? -1 : id;
+        }
+
+        /**
+         * 登録されている言語の数を取得
+         *
+         * @return 言語の数
+         */
+        public int languageCount() {
+            return languageNames.size();
+        }
+
+        /**
+         * 言語番号に対応する言語名（正規化後）を取得
+         *
+         * @param languageId 言語番号
+         * @return 言語名
+         */
+        public String languageName(int languageId) {
+            return languageNames.get(languageId);
+        }
+
+        /**
+         * 言語番号を含む言語の列を取得
+         * 行の値のビット（languageId % 64）が立っている場合、その言語を扱える
+         *
+         * @param languageId 言語番号
+         * @return 言語のビットの配列（変更不可）
+         */
+        public long[] languageColumn(int languageId) {
+            return languageWords.get(languageId >>> 6);
+        }
+
+        /**
+         * 行が言語を扱えるか判定
+         *
+         * @param row        行
+         * @param languageId 言語番号
+         * @return 扱える場合true
+         */
+        public boolean hasLanguage(int row, int languageId) {
+            return languageId >= 0 && (languageColumn(languageId)[row] & (1L << languageId)) != 0;
+        }
+    }
+
+    /** 列への参照（読み取りロック保持中のみ有効） */
+    private final Columns columns = new Columns();
+
+    @Override
+    public void onChange(int key, EngineerDTO before, EngineerDTO after) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = rowsByKey.get(key);
+            if (after == null) {
+                if (existing != null) {
+                    release(key, existing);
+                }
+                return;
+            }
+            int row = existing != null ? existing : allocate(key);
+            for (EngineerField field : EngineerField.values()) {
+                fields[field.ordinal()][row] = field.keyOf(after);
+            }
+            for (long[] words : languageWords) {
+                words[row] = 0L;
+            }
+            for (String language : LanguageIndex.languagesOf(after)) {
+                int id = languageIdFor(language);
+                languageWords.get(id >>> 6)[row] |= 1L << id;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 読み取りロックを保持したまま列を参照する処理を実行
+     *
+     * @param <R>    処理結果の型
+     * @param reader 列を参照する処理
+     * @return 処理結果
+     */
+    public <R> R read(Function<Columns, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(columns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 使用中の行数を取得
+     *
+     * @return 行数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowsByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 登録されている言語名（正規化後）を取得
+     *
+     * @return 言語名の一覧（言語番号順）
+     */
+    public List<String> languages() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(languageNames);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 行を割り当てる（書き込みロック保持中に呼び出す）
+     */
+    private int allocate(int key) {
+        int row;
+        if (freeCount > 0) {
+            row = freeRows[--freeCount];
+        } else {
+            if (rowCount == keys.length) {
+                grow(keys.length * 2);
+            }
+            row = rowCount++;
+        }
+        keys[row] = key;
+        rowsByKey.put(key, row);
+        return row;
+    }
+
+    /**
+     * 行を空き行に戻す（書き込みロック保持中に呼び出す）
+     */
+    private void release(int key, int row) {
+        rowsByKey.remove(key);
+        keys[row] = FREE_ROW;
+        for (int[] column : fields) {
+            column[row] = EngineerField.NO_KEY;
+        }
+        for (long[] words : languageWords) {
+            words[row] = 0L;
+        }
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+    }
+
+    /**
+     * 言語番号を取得し、未登録の場合は割り当てる（書き込みロック保持中に呼び出す）
+     */
+    private int languageIdFor(String language) {
+        Integer id = languageIds.get(language);
+        if (id != null) {
+            return id;
+        }
+        int newId = languageNames.size();
+        languageIds.put(language, newId);
+        languageNames.add(language);
+        if ((newId >>> 6) == languageWords.size()) {
+            languageWords.add(new long[keys.length]);
+        }
+        return newId;
+    }
+
+    /**
+     * すべての列を拡張（書き込みロック保持中に呼び出す）
+     */
+    private void grow(int newRows) {
+        keys = Arrays.copyOf(keys, newRows);
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            fields[i] = Arrays.copyOf(fields[i], newRows);
+        }
+        for (int i = 0; i < languageWords.size(); i++) {
+            languageWords.set(i, Arrays.copyOf(languageWords.get(i), newRows));
+        }
+    }
+}
@@ -0,0 +1,844 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import util.IntBitmap;
+
+/**
+ * エンジニア検索の条件
+ *
+ * <p>
+ * 静的メソッドで条件を作成し、{@link #and(Criterion...)}・{@link #or(Criterion...)}・
+ * {@link #not(Criterion)}で組み合わせます。各条件は次の3通りの評価方法を持ち、
+ * {@link QueryEngine}が件数の見積もりに基づいて選択します。
+ * <ul>
+ * <li>索引 - 副索引から候補の社員IDを取得する（索引がない条件は使用できない）</li>
+ * <li>列走査 - {@link ColumnStore}の配列を走査して候補の行を絞り込む</li>
+ * <li>照合 - エンジニア情報1件ごとに条件を判定する（すべての条件で使用でき、最終確認に使用する）</li>
+ * </ul>
+ * 索引と列走査は候補を多めに返す場合がありますが、最終的に照合で確認します。
+ * 候補の取りこぼしは、{@link QueryEngine}が索引とスナップショットの一致を確認して防ぎます。
+ * </p>
+ *
+ * <pre>
+ * Criterion criterion = Criterion.and(
+ *         Criterion.languagesAll("Kotlin", "SQL"),
+ *         Criterion.atLeast(EngineerField.TECHNICAL_SKILL, EngineerField.skillKey(4.0)),
+ *         Criterion.not(Criterion.textContains("研修中")));
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public abstract class Criterion {
+
+    /** 索引を使用できない場合の見積もり件数 */
+    static final long NO_INDEX = Long.MAX_VALUE;
+
+    Criterion() {
+    }
+
+    /**
+     * エンジニア情報が条件を満たすか判定
+     *
+     * @param engineer エンジニア情報
+     * @return 条件を満たす場合true
+     */
+    public abstract boolean test(EngineerDTO engineer);
+
+    /**
+     * 索引で取得する候補件数を見積もる
+     *
+     * @return 見積もり件数（索引を使用できない場合は{@link #NO_INDEX}）
+     */
+    abstract long estimate(QueryEngine engine);
+
+    /**
+     * 索引から候補の社員IDを取得
+     *
+     * @return 社員IDの数値の集合（条件を満たすものをすべて含む）。索引を使用できない場合はnull
+     */
+    abstract IntBitmap lookup(QueryEngine engine);
+
+    /**
+     * 列を走査して候補の行を取得
+     *
+     * @return 行のビット集合（条件を満たす行をすべて含む）。列で評価できない場合はnull
+     */
+    abstract long[] scan(ColumnStore.Columns columns);
+
+    /**
+     * 列走査の結果が条件と完全に一致するか
+     *
+     * @return 一致する場合true（照合が不要）
+     */
+    abstract boolean columnExact();
+
+    /**
+     * 検索計画の表示用に、使用する索引を説明
+     */
+    String indexPath(QueryEngine engine) {
+        return toString();
+    }
+
+    // ------------------------------------------------------------------
+    // 条件の作成
+    // ------------------------------------------------------------------
+
+    /**
+     * 社員IDが一致する条件
+     *
+     * @param id 社員ID
+     * @return 条件
+     * @throws IllegalArgumentException 社員IDの形式が不正な場合
+     */
+    public static Criterion idEquals(String id) {
+        return new IdCriterion(EngineerRepository.toKey(id));
+    }
+
+    /**
+     * 指定した言語をすべて扱える条件
+     *
+     * @param languages 言語名
+     * @return 条件
+     */
+    public static Criterion languagesAll(String... languages) {
+        return new LanguageCriterion(Arrays.asList(languages), true);
+    }
+
+    /**
+     * 指定した言語のいずれかを扱える条件
+     *
+     * @param languages 言語名
+     * @return 条件
+     */
+    public static Criterion languagesAny(String... languages) {
+        return new LanguageCriterion(Arrays.asList(languages), false);
+    }
+
+    /**
+     * 項目の並び順キーが範囲内である条件
+     *
+     * @param field 項目
+     * @param low   下限のキー（この値を含む）
+     * @param high  上限のキー（この値を含む）
+     * @return 条件
+     */
+    public static Criterion between(EngineerField field, int low, int high) {
+        return new RangeCriterion(field, low, high);
+    }
+
+    /**
+     * 項目の並び順キーが下限以上である条件
+     *
+     * @param field 項目
+     * @param low   下限のキー（この値を含む）
+     * @return 条件
+     */
+    public static Criterion atLeast(EngineerField field, int low) {
+        return new RangeCriterion(field, low, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 項目の並び順キーが上限以下である条件（値が未設定のものは含まない）
+     *
+     * @param field 項目
+     * @param high  上限のキー（この値を含む）
+     * @return 条件
+     */
+    public static Criterion atMost(EngineerField field, int high) {
+        return new RangeCriterion(field, EngineerField.NO_KEY + 1, high);
+    }
+
+    /**
+     * 経歴・研修の受講歴・備考のいずれかが文字列を含む条件
+     *
+     * @param phrase 検索文字列
+     * @return 条件
+     */
+    public static Criterion textContains(String phrase) {
+        return new TextCriterion(phrase);
+    }
+
+    /**
+     * フリガナまたは氏名が前方一致する条件
+     *
+     * @param prefix 検索文字列
+     * @return 条件
+     */
+    public static Criterion kanaPrefix(String prefix) {
+        return new KanaPrefixCriterion(prefix);
+    }
+
+    /**
+     * 任意の項目に対する条件
+     * 索引・列走査を使用できないため、他の条件で絞り込んだ候補に対して照合する
+     *
+     * @param description 検索計画に表示する説明
+     * @param predicate   判定処理
+     * @return 条件
+     */
+    public static Criterion matching(String description, Predicate<? super EngineerDTO> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("判定処理がnullです");
+        }
+        return new PredicateCriterion(description, predicate);
+    }
+
+    /**
+     * すべての条件を満たす条件
+     *
+     * @param criteria 条件
+     * @return 条件
+     */
+    public static Criterion and(Criterion... criteria) {
+        return new AndCriterion(requireChildren(criteria));
+    }
+
+    /**
+     * いずれかの条件を満たす条件
+     *
+     * @param criteria 条件
+     * @return 条件
+     */
+    public static Criterion or(Criterion... criteria) {
+        return new OrCriterion(requireChildren(criteria));
+    }
+
+    /**
+     * 条件を満たさない条件
+     *
+     * @param criterion 条件
+     * @return 条件
+     */
+    public static Criterion not(Criterion criterion) {
+        return new NotCriterion(requireChildren(criterion).get(0));
+    }
+
+    private static List<Criterion> requireChildren(Criterion... criteria) {
+        if (criteria == null || criteria.length == 0) {
+            throw new IllegalArgumentException("条件が指定されていません");
+        }
+        for (Criterion criterion : criteria) {
+            if (criterion == null) {
+                throw new IllegalArgumentException("条件がnullです");
+            }
+        }
+        return Arrays.asList(criteria.clone());
+    }
+
+    // ------------------------------------------------------------------
+    // 行のビット集合の操作
+    // ------------------------------------------------------------------
+
+    static long[] newSelection(ColumnStore.Columns columns) {
+        return new long[(columns.rows() + 63) >>> 6];
+    }
+
+    static long[] liveRows(ColumnStore.Columns columns) {
+        long[] selection = newSelection(columns);
+        int[] keys = columns.keyColumn();
+        for (int row = 0, rows = columns.rows(); row < rows; row++) {
+            if (keys[row] >= 0) {
+                selection[row >>> 6] |= 1L << row;
+            }
+        }
+        return selection;
+    }
+
+    // ------------------------------------------------------------------
+    // 条件の実装
+    // ------------------------------------------------------------------
+
+    /**
+     * 社員IDの一致（主索引）
+     */
+    private static final class IdCriterion extends Criterion {
+        private final int key;
+
+        IdCriterion(int key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            return EngineerRepository.toKey(engineer.getId()) == key;
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            return 1;
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            return IntBitmap.of(key);
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            long[] selection = newSelection(columns);
+            int[] keys = columns.keyColumn();
+            for (int row = 0, rows = columns.rows(); row < rows; row++) {
+                if (keys[row] == key) {
+                    selection[row >>> 6] |= 1L << row;
+                }
+            }
+            return selection;
+        }
+
+        @Override
+        boolean columnExact() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "id=" + key;
+        }
+    }
+
+    /**
+     * 扱える言語（言語索引）
+     */
+    private static final class LanguageCriterion extends Criterion {
+        private final Set<String> languages;
+        private final boolean matchAll;
+
+        LanguageCriterion(Collection<String> languages, boolean matchAll) {
+            this.languages = LanguageIndex.normalizeAll(languages);
+            this.matchAll = matchAll;
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            Set<String> known = LanguageIndex.languagesOf(engineer);
+            if (matchAll) {
+                return !languages.isEmpty() && known.containsAll(languages);
+            }
+            for (String language : languages) {
+                if (known.contains(language)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            LanguageIndex index = engine.languageIndex();
+            if (index == null) {
+                return NO_INDEX;
+            }
+            long result = matchAll ? Long.MAX_VALUE - 1 : 0;
+            for (String language : languages) {
+                int count = index.count(language);
+                result = matchAll ? Math.min(result, count) : result + count;
+            }
+            return languages.isEmpty() ? 0 : result;
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            LanguageIndex index = engine.languageIndex();
+            if (index == null) {
+                return null;
+            }
+            return matchAll ? index.matchAll(languages) : index.matchAny(languages);
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            long[] selection = newSelection(columns);
+            if (languages.isEmpty()) {
+                return selection;
+            }
+            int[] ids = new int[languages.size()];
+            int n = 0;
+            for (String language : languages) {
+                int id = columns.languageId(language);
+                if (id < 0 && matchAll) {
+                    return selection;
+                }
+                if (id >= 0) {
+                    ids[n++] = id;
+                }
+            }
+            int[] keys = columns.keyColumn();
+            for (int row = 0, rows = columns.rows(); row < rows; row++) {
+                if (keys[row] < 0) {
+                    continue;
+                }
+                boolean matched = matchAll;
+                for (int i = 0; i < n; i++) {
+                    boolean has = (columns.languageColumn(ids[i])[row] & (1L << ids[i])) != 0;
+                    if (matchAll ? !has : has) {
+                        matched = !matchAll;
+                        break;
+                    }
+                }
+                if (matched) {
+                    selection[row >>> 6] |= 1L << row;
+                }
+            }
+            return selection;
+        }
+
+        @Override
+        boolean columnExact() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "language" + (matchAll ? "All" : "Any") + languages;
+        }
+    }
+
+    /**
+     * 項目の範囲（範囲索引）
+     */
+    private static final class RangeCriterion extends Criterion {
+        private final EngineerField field;
+        private final int low;
+        private final int high;
+
+        RangeCriterion(EngineerField field, int low, int high) {
+            if (field == null) {
+                throw new IllegalArgumentException("項目がnullです");
+            }
+            this.field = field;
+            this.low = Math.max(low, EngineerField.NO_KEY + 1);
+            this.high = high;
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            return field.inRange(engineer, low, high);
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            RangeIndex index = engine.rangeIndex(field);
+            return index == null ? NO_INDEX : index.count(low, high);
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            RangeIndex index = engine.rangeIndex(field);
+            return index == null ? null : index.between(low, high);
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            long[] selection = newSelection(columns);
+            int[] keys = columns.keyColumn();
+            int[] values = columns.column(field);
+            for (int row = 0, rows = columns.rows(); row < rows; row++) {
+                int value = values[row];
+                if (keys[row] >= 0 && value >= low && value <= high) {
+                    selection[row >>> 6] |= 1L << row;
+                }
+            }
+            return selection;
+        }
+
+        @Override
+        boolean columnExact() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return field + "[" + (low == EngineerField.NO_KEY + 1 ? "" : low) + ".."
+                    + (high == Integer.MAX_VALUE ? "" : high) + "]";
+        }
+    }
+
+    /**
+     * 経歴・研修の受講歴・備考の部分一致（全文索引）
+     */
+    private static final class TextCriterion extends Criterion {
+        private final String phrase;
+
+        TextCriterion(String phrase) {
+            this.phrase = TextIndex.normalize(phrase);
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            return TextIndex.contains(engineer, phrase);
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            TextIndex index = engine.textIndex();
+            return index == null ? NO_INDEX : index.estimate(phrase);
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            TextIndex index = engine.textIndex();
+            return index == null ? null : index.candidates(phrase);
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            return null;
+        }
+
+        @Override
+        boolean columnExact() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "text~\"" + phrase + "\"";
+        }
+    }
+
+    /**
+     * フリガナ・氏名の前方一致（フリガナ索引）
+     */
+    private static final class KanaPrefixCriterion extends Criterion {
+
+        /** 見積もりで数える件数の上限 */
+        private static final int ESTIMATE_LIMIT = 1024;
+
+        private final String prefix;
+
+        KanaPrefixCriterion(String prefix) {
+            this.prefix = KanaPrefixIndex.normalize(prefix);
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            return !prefix.isEmpty() && (KanaPrefixIndex.normalize(engineer.getNameKana()).startsWith(prefix)
+                    || KanaPrefixIndex.normalize(engineer.getName()).startsWith(prefix));
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            KanaPrefixIndex index = engine.kanaPrefixIndex();
+            if (index == null) {
+                return NO_INDEX;
+            }
+            int count = index.prefixKeys(prefix, ESTIMATE_LIMIT).length;
+            // 上限に達した場合は件数が多いとみなし、全件と同等に扱う
+            return count < ESTIMATE_LIMIT ? count : engine.size();
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            KanaPrefixIndex index = engine.kanaPrefixIndex();
+            return index == null ? null : IntBitmap.of(index.prefixKeys(prefix, Integer.MAX_VALUE));
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            return null;
+        }
+
+        @Override
+        boolean columnExact() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "kana^\"" + prefix + "\"";
+        }
+    }
+
+    /**
+     * 任意の判定処理
+     */
+    private static final class PredicateCriterion extends Criterion {
+        private final String description;
+        private final Predicate<? super EngineerDTO> predicate;
+
+        PredicateCriterion(String description, Predicate<? super EngineerDTO> predicate) {
+            this.description = description == null ? "predicate" : description;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            return predicate.test(engineer);
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            return NO_INDEX;
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            return null;
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            return null;
+        }
+
+        @Override
+        boolean columnExact() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * 論理積
+     * 索引は最も件数の少ない条件のみを使用し、残りは照合で確認する
+     */
+    private static final class AndCriterion extends Criterion {
+        private final List<Criterion> children;
+
+        AndCriterion(List<Criterion> children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            for (Criterion child : children) {
+                if (!child.test(engineer)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            long min = NO_INDEX;
+            for (Criterion child : children) {
+                min = Math.min(min, child.estimate(engine));
+            }
+            return min;
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            Criterion best = mostSelective(engine);
+            return best == null ? null : best.lookup(engine);
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            long[] result = null;
+            for (Criterion child : children) {
+                long[] selection = child.scan(columns);
+                if (selection == null) {
+                    continue;
+                }
+                if (result == null) {
+                    result = selection;
+                } else {
+                    for (int i = 0; i < result.length; i++) {
+                        result[i] &= selection[i];
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        boolean columnExact() {
+            for (Criterion child : children) {
+                if (!child.columnExact()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        String indexPath(QueryEngine engine) {
+            Criterion best = mostSelective(engine);
+            return best == null ? toString() : best.indexPath(engine);
+        }
+
+        private Criterion mostSelective(QueryEngine engine) {
+            Criterion best = null;
+            long bestEstimate = NO_INDEX;
+            for (Criterion child : children) {
+                long estimate = child.estimate(engine);
+                if (estimate < bestEstimate) {
+                    best = child;
+                    bestEstimate = estimate;
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public String toString() {
+            return join(" AND ");
+        }
+
+        private String join(String separator) {
+            StringBuilder builder = new StringBuilder("(");
+            for (int i = 0; i < children.size(); i++) {
+                builder.append(i == 0 ? "" : separator).append(children.get(i));
+            }
+            return builder.append(')').toString();
+        }
+    }
+
+    /**
+     * 論理和
+     * すべての条件で索引を使用できる場合のみ、索引の和集合を使用する
+     */
+    private static final class OrCriterion extends Criterion {
+        private final List<Criterion> children;
+
+        OrCriterion(List<Criterion> children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            for (Criterion child : children) {
+                if (child.test(engineer)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            long total = 0;
+            for (Criterion child : children) {
+                long estimate = child.estimate(engine);
+                if (estimate == NO_INDEX) {
+                    return NO_INDEX;
+                }
+                total += estimate;
+            }
+            return total;
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            IntBitmap result = new IntBitmap();
+            for (Criterion child : children) {
+                IntBitmap keys = child.lookup(engine);
+                if (keys == null) {
+                    return null;
+                }
+                result.addAll(keys);
+            }
+            return result;
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            long[] result = null;
+            for (Criterion child : children) {
+                long[] selection = child.scan(columns);
+                if (selection == null) {
+                    return null;
+                }
+                if (result == null) {
+                    result = selection;
+                } else {
+                    for (int i = 0; i < result.length; i++) {
+                        result[i] |= selection[i];
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        boolean columnExact() {
+            for (Criterion child : children) {
+                if (!child.columnExact()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        String indexPath(QueryEngine engine) {
+            StringBuilder builder = new StringBuilder("(");
+            for (int i = 0; i < children.size(); i++) {
+                builder.append(i == 0 ? "" : " OR ").append(children.get(i).indexPath(engine));
+            }
+            return builder.append(')').toString();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("(");
+            for (int i = 0; i < children.size(); i++) {
+                builder.append(i == 0 ? "" : " OR ").append(children.get(i));
+            }
+            return builder.append(')').toString();
+        }
+    }
+
+    /**
+     * 否定
+     * 索引は使用せず、条件が列で完全に評価できる場合のみ列走査で求める
+     */
+    private static final class NotCriterion extends Criterion {
+        private final Criterion child;
+
+        NotCriterion(Criterion child) {
+            this.child = child;
+        }
+
+        @Override
+        public boolean test(EngineerDTO engineer) {
+            return !child.test(engineer);
+        }
+
+        @Override
+        long estimate(QueryEngine engine) {
+            return NO_INDEX;
+        }
+
+        @Override
+        IntBitmap lookup(QueryEngine engine) {
+            return null;
+        }
+
+        @Override
+        long[] scan(ColumnStore.Columns columns) {
+            if (!child.columnExact()) {
+                return null;
+            }
+            long[] excluded = child.scan(columns);
+            long[] result = liveRows(columns);
+            for (int i = 0; i < result.length; i++) {
+                result[i] &= ~excluded[i];
+            }
+            return result;
+        }
+
+        @Override
+        boolean columnExact() {
+            return child.columnExact();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + child;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * エンジニア情報の一括登録（{@link EngineerRepository#addAll(java.util.Collection)}・
+ * {@link EngineerRepository#upsertAll(java.util.Collection)}）の結果
+ *
+ * <p>
+ * 登録できなかった行は、入力の位置・社員ID・理由を{@link RowError}として保持します。
+ * エラーとなった行があっても、それ以外の行は登録されます。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class EngineerBatchResult {
+
+    /**
+     * 登録できなかった行
+     */
+    public static final class RowError {
+
+        private final int index;
+        private final String id;
+        private final String message;
+
+        RowError(int index, String id, String message) {
+            this.index = index;
+            this.id = id;
+            this.message = message;
+        }
+
+        /**
+         * 入力上の位置を取得
+         *
+         * @return 0から始まる位置
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * 社員IDを取得
+         *
+         * @return 社員ID（エンジニア情報がnullの場合はnull）
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * 登録できなかった理由を取得
+         *
+         * @return 理由
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return (index + 1) + "件目（ID=" + id + "）: " + message;
+        }
+    }
+
+    /** 追加した件数 */
+    private final int added;
+
+    /** 更新した件数 */
+    private final int updated;
+
+    /** 登録できなかった行（入力順） */
+    private final List<RowError> errors;
+
+    EngineerBatchResult(int added, int updated, List<RowError> errors) {
+        this.added = added;
+        this.updated = updated;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * 追加した件数を取得
+     *
+     * @return 件数
+     */
+    public int getAddedCount() {
+        return added;
+    }
+
+    /**
+     * 更新した件数を取得
+     *
+     * @return 件数
+     */
+    public int getUpdatedCount() {
+        return updated;
+    }
+
+    /**
+     * 登録できなかった行を取得
+     *
+     * @return 変更不可の一覧（入力順）
+     */
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * 登録できなかった行があるか判定
+     *
+     * @return ある場合true
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "EngineerBatchResult{added=" + added + ", updated=" + updated + ", errors=" + errors.size() + "}";
+    }
+}
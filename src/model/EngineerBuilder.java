@@ -3,6 +3,10 @@ package model;
 import java.time.LocalDate;
 import java.util.List;
 
+import jdk.jfr.Event;
+import util.FlightEvents;
+import util.OperationMetrics;
+
 /**
  * EngineerDTOオブジェクトを生成するビルダークラス
  * Builderパターンを使用してEngineerDTOの段階的な構築を可能にする
@@ -54,8 +58,21 @@ public class EngineerBuilder {
      * @throws IllegalStateException 必須フィールドが設定されていない場合
      */
     public EngineerDTO build() {
-        validateRequiredFields();
-        return engineer;
+        // 呼び出し側が値を設定している時間は含めない
+        long started = OperationMetrics.start();
+        Event buildEvent = FlightEvents.beginBuild();
+        long validating = OperationMetrics.start();
+        boolean valid = false;
+        try {
+            validateRequiredFields();
+            valid = true;
+            return engineer;
+        } finally {
+            // 検証に失敗した構築も記録する
+            OperationMetrics.stop(OperationMetrics.Operation.VALIDATE, validating);
+            OperationMetrics.stop(OperationMetrics.Operation.BUILD, started);
+            FlightEvents.commitBuild(buildEvent, engineer.getId(), valid);
+        }
     }
 
     /**
@@ -190,14 +207,17 @@ public class EngineerBuilder {
     /**
      * 技術力を設定
      * 
-     * @param skill 技術力（1.0-5.0の評価、任意）
+     * @param skill 技術力（1.0-5.0、0.1刻みの評価、任意）
      * @return このビルダーインスタンス
-     * @throws IllegalArgumentException 値が範囲外の場合
+     * @throws IllegalArgumentException 値が範囲外・NaN・0.1刻みでない場合
      */
     public EngineerBuilder setTechnicalSkill(double skill) {
-        if (skill < 1.0 || skill > 5.0) {
+        if (Double.isNaN(skill) || skill < 1.0 || skill > 5.0) {
             throw new IllegalArgumentException("技術力は1.0から5.0の範囲で設定してください");
         }
+        if (!isTenth(skill)) {
+            throw new IllegalArgumentException("技術力は0.1刻みで設定してください");
+        }
         engineer.setTechnicalSkill(skill);
         return this;
     }
@@ -205,14 +225,17 @@ public class EngineerBuilder {
     /**
      * 受講態度を設定
      * 
-     * @param attitude 受講態度（1.0-5.0の評価、任意）
+     * @param attitude 受講態度（1.0-5.0、0.1刻みの評価、任意）
      * @return このビルダーインスタンス
-     * @throws IllegalArgumentException 値が範囲外の場合
+     * @throws IllegalArgumentException 値が範囲外・NaN・0.1刻みでない場合
      */
     public EngineerBuilder setLearningAttitude(double attitude) {
-        if (attitude < 1.0 || attitude > 5.0) {
+        if (Double.isNaN(attitude) || attitude < 1.0 || attitude > 5.0) {
             throw new IllegalArgumentException("受講態度は1.0から5.0の範囲で設定してください");
         }
+        if (!isTenth(attitude)) {
+            throw new IllegalArgumentException("受講態度は0.1刻みで設定してください");
+        }
         engineer.setLearningAttitude(attitude);
         return this;
     }
@@ -220,14 +243,17 @@ public class EngineerBuilder {
     /**
      * コミュニケーション能力を設定
      * 
-     * @param skill コミュニケーション能力（1.0-5.0の評価、任意）
+     * @param skill コミュニケーション能力（1.0-5.0、0.1刻みの評価、任意）
      * @return このビルダーインスタンス
-     * @throws IllegalArgumentException 値が範囲外の場合
+     * @throws IllegalArgumentException 値が範囲外・NaN・0.1刻みでない場合
      */
     public EngineerBuilder setCommunicationSkill(double skill) {
-        if (skill < 1.0 || skill > 5.0) {
+        if (Double.isNaN(skill) || skill < 1.0 || skill > 5.0) {
             throw new IllegalArgumentException("コミュニケーション能力は1.0から5.0の範囲で設定してください");
         }
+        if (!isTenth(skill)) {
+            throw new IllegalArgumentException("コミュニケーション能力は0.1刻みで設定してください");
+        }
         engineer.setCommunicationSkill(skill);
         return this;
     }
@@ -235,14 +261,17 @@ public class EngineerBuilder {
     /**
      * リーダーシップを設定
      * 
-     * @param leadership リーダーシップ（1.0-5.0の評価、任意）
+     * @param leadership リーダーシップ（1.0-5.0、0.1刻みの評価、任意）
      * @return このビルダーインスタンス
-     * @throws IllegalArgumentException 値が範囲外の場合
+     * @throws IllegalArgumentException 値が範囲外・NaN・0.1刻みでない場合
      */
     public EngineerBuilder setLeadership(double leadership) {
-        if (leadership < 1.0 || leadership > 5.0) {
+        if (Double.isNaN(leadership) || leadership < 1.0 || leadership > 5.0) {
             throw new IllegalArgumentException("リーダーシップは1.0から5.0の範囲で設定してください");
         }
+        if (!isTenth(leadership)) {
+            throw new IllegalArgumentException("リーダーシップは0.1刻みで設定してください");
+        }
         engineer.setLeadership(leadership);
         return this;
     }
@@ -269,4 +298,14 @@ public class EngineerBuilder {
         engineer.setRegisteredDate(date);
         return this;
     }
+
+    /**
+     * 評価値が0.1刻みか判定
+     * 範囲検索の並び順キー（{@link EngineerField#skillKey(double)}）は評価値を10倍した整数のため、
+     * 刻みから外れた値は丸められて検索結果が不正確になる
+     */
+    private static boolean isTenth(double skill) {
+        double scaled = skill * 10;
+        return scaled == Math.rint(scaled);
+    }
 }
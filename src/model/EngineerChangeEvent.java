@@ -0,0 +1,99 @@
+package model;
+
+/**
+ * エンジニア情報の追加・更新・削除を表す変更通知
+ * {@link EngineerChangeFeed}が購読者に配信する不変のオブジェクト
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class EngineerChangeEvent {
+
+    /**
+     * 変更の種類
+     */
+    public enum Type {
+
+        /** 追加 */
+        ADDED,
+
+        /** 更新 */
+        UPDATED,
+
+        /** 削除 */
+        DELETED
+    }
+
+    /** 通知番号 */
+    private final long sequence;
+
+    /** 変更の種類 */
+    private final Type type;
+
+    /** 変更前のエンジニア情報（追加の場合はnull） */
+    private final EngineerDTO before;
+
+    /** 変更後のエンジニア情報（削除の場合はnull） */
+    private final EngineerDTO after;
+
+    EngineerChangeEvent(long sequence, EngineerDTO before, EngineerDTO after) {
+        this.sequence = sequence;
+        this.type = before == null ? Type.ADDED : after == null ? Type.DELETED : Type.UPDATED;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * 通知番号を取得
+     * 通知ごとに一意で、同じ社員IDへの変更では反映順に増加する
+     *
+     * @return 通知番号
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 変更の種類を取得
+     *
+     * @return 変更の種類
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 変更された社員IDを取得
+     *
+     * @return 社員ID
+     */
+    public String getId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    /**
+     * 変更前のエンジニア情報を取得
+     * 購読者ごとの複製ではないため、変更しないこと
+     *
+     * @return 変更前のエンジニア情報（追加の場合はnull）
+     */
+    public EngineerDTO getBefore() {
+        return before;
+    }
+
+    /**
+     * 変更後のエンジニア情報を取得
+     * 購読者ごとの複製ではないため、変更しないこと
+     *
+     * @return 変更後のエンジニア情報（削除の場合はnull）
+     */
+    public EngineerDTO getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return "EngineerChangeEvent{sequence=" + sequence + ", type=" + type + ", id=" + getId() + "}";
+    }
+}
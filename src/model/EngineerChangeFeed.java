@@ -0,0 +1,214 @@
+package model;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import util.LogHandler;
+import util.MessageEnum;
+
+/**
+ * エンジニア情報の追加・更新・削除を購読者に配信する変更通知の発行元
+ *
+ * <p>
+ * {@link EngineerRepository#addIndex(EngineerIndex)}で登録すると、変更が反映されるたびに
+ * 変更前後のエンジニア情報を持つ{@link EngineerChangeEvent}を、{@link Flow.Publisher}として
+ * 購読者に配信します。索引・キャッシュ・出力処理などは、全件を定期的に比較する代わりに、
+ * 通知を受けて差分だけを処理できます。登録前の既存データは通知しません。
+ * </p>
+ *
+ * <p>
+ * 購読者ごとに上限のある受信バッファを持ち、購読者が{@link Flow.Subscription#request(long)}で
+ * 要求した件数だけ配信します（背圧制御）。変更の通知は更新ロックの保持中にロックを取得しない
+ * キューへ積むだけで、発行元への受け渡しは更新ロックの解放後（{@link #afterRelease()}）に行います。
+ * 受け渡しは1スレッドずつ反映順に行い、通知番号もこの順に採番します。
+ * バッファが満杯の場合、変更を反映した処理は更新ロックを保持せずに最大待機時間まで空きを待ち、
+ * それでも空かない場合はその購読者への通知を破棄します。破棄した件数は
+ * {@value #DROP_LOG_INTERVAL_SECONDS}秒に1回まで、まとめて警告ログに出力します。
+ * </p>
+ *
+ * <pre>
+ * EngineerChangeFeed feed = new EngineerChangeFeed();
+ * repository.addIndex(feed);
+ * feed.subscribe(new Flow.Subscriber&lt;EngineerChangeEvent&gt;() { ... });
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class EngineerChangeFeed implements EngineerIndex, Flow.Publisher<EngineerChangeEvent>, AutoCloseable {
+
+    /** 既定の受信バッファの件数 */
+    public static final int DEFAULT_BUFFER_CAPACITY = Flow.defaultBufferSize();
+
+    /** 既定の最大待機時間（ミリ秒） */
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 1_000;
+
+    /** 破棄した通知の警告ログを出力する最短の間隔（秒） */
+    static final long DROP_LOG_INTERVAL_SECONDS = 10;
+
+    /** 配信を行う発行元 */
+    private final SubmissionPublisher<EngineerChangeEvent> publisher;
+
+    /** バッファが満杯の場合の最大待機時間（ミリ秒） */
+    private final long maxWaitMillis;
+
+    /** 通知番号の採番 */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** 破棄した通知の件数（購読者ごとに数える） */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** 更新ロックの保持中に受け取り、発行元へ未受け渡しの変更 */
+    private final Queue<EngineerDTO[]> pending = new ConcurrentLinkedQueue<>();
+
+    /** 発行元への受け渡しを1スレッドずつ反映順に行うためのロック */
+    private final ReentrantLock handOff = new ReentrantLock();
+
+    /** 警告ログに出力済みの破棄件数（handOffで保護） */
+    private long reportedDrops;
+
+    /** 破棄した通知の警告ログを最後に出力した時刻（System.nanoTime()、handOffで保護） */
+    private long lastDropLogNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(DROP_LOG_INTERVAL_SECONDS);
+
+    /**
+     * 共通プールで配信し、既定の受信バッファと最大待機時間を使用する発行元を生成
+     */
+    public EngineerChangeFeed() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY, DEFAULT_MAX_WAIT_MILLIS);
+    }
+
+    /**
+     * 配信に使用するスレッド・受信バッファ・最大待機時間を指定して発行元を生成
+     *
+     * @param executor       購読者への配信に使用するスレッド
+     * @param bufferCapacity 購読者ごとの受信バッファの件数（2のべき乗に切り上げられる）
+     * @param maxWaitMillis  バッファが満杯の場合の最大待機時間（ミリ秒、0の場合は待機しない）
+     * @throws IllegalArgumentException バッファの件数が1未満、または待機時間が負の場合
+     */
+    public EngineerChangeFeed(Executor executor, int bufferCapacity, long maxWaitMillis) {
+        if (executor == null || bufferCapacity < 1 || maxWaitMillis < 0) {
+            throw new IllegalArgumentException("配信スレッド・受信バッファ・最大待機時間の指定が不正です");
+        }
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super EngineerChangeEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * 変更をキューに積む（更新ロックの保持中に呼び出されるため、待機も複製もしない）
+     */
+    @Override
+    public void onChange(int key, EngineerDTO before, EngineerDTO after) {
+        if (publisher.isClosed() || !publisher.hasSubscribers()) {
+            return;
+        }
+        pending.add(new EngineerDTO[] { before, after });
+    }
+
+    /**
+     * キューに積んだ変更を、反映順に通知として発行元へ受け渡す
+     * 他のスレッドが受け渡し中の場合は、その完了を待ってから残りを受け渡す
+     */
+    @Override
+    public void afterRelease() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        handOff.lock();
+        try {
+            EngineerDTO[] change;
+            while ((change = pending.poll()) != null) {
+                publish(change[0], change[1]);
+            }
+            reportDrops(false);
+        } finally {
+            handOff.unlock();
+        }
+    }
+
+    /**
+     * 1件の変更を発行元へ受け渡す（handOffの保持中に呼び出す）
+     * 登録されたエンジニア情報は変更されないため、複製はここで作成する
+     */
+    private void publish(EngineerDTO before, EngineerDTO after) {
+        if (publisher.isClosed()) {
+            return;
+        }
+        EngineerChangeEvent event = new EngineerChangeEvent(sequence.incrementAndGet(),
+                before == null ? null : EngineerRepository.copyOf(before),
+                after == null ? null : EngineerRepository.copyOf(after));
+        try {
+            publisher.offer(event, maxWaitMillis, TimeUnit.MILLISECONDS, (subscriber, item) -> {
+                dropped.incrementAndGet();
+                return false;
+            });
+        } catch (IllegalStateException e) {
+            // 配信中に閉じられた場合は通知しない
+        }
+    }
+
+    /**
+     * 前回の出力以降に破棄した通知の件数を警告ログに出力（handOffの保持中に呼び出す）
+     *
+     * @param force 出力の間隔によらず出力する場合true
+     */
+    private void reportDrops(boolean force) {
+        long total = dropped.get();
+        long now = System.nanoTime();
+        if (total == reportedDrops
+                || !force && now - lastDropLogNanos < TimeUnit.SECONDS.toNanos(DROP_LOG_INTERVAL_SECONDS)) {
+            return;
+        }
+        LogHandler.getInstance().log(MessageEnum.LOG_WARN_CHANGE_EVENT_DROPPED, total - reportedDrops, total);
+        reportedDrops = total;
+        lastDropLogNanos = now;
+    }
+
+    /**
+     * 破棄した通知の件数を取得
+     * 複数の購読者への通知を破棄した場合は、購読者ごとに数える
+     *
+     * @return 件数
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * 購読者の数を取得
+     *
+     * @return 購読者の数
+     */
+    public int getSubscriberCount() {
+        return publisher.getNumberOfSubscribers();
+    }
+
+    /**
+     * 配信を終了し、購読者に完了を通知する
+     * 受け渡し済みの通知は配信し、未出力の破棄件数は警告ログに出力する
+     * 以降の変更は通知しない（リポジトリへの変更は通常どおり行える）
+     */
+    @Override
+    public void close() {
+        handOff.lock();
+        try {
+            publisher.close();
+            pending.clear();
+            reportDrops(true);
+        } finally {
+            handOff.unlock();
+        }
+    }
+}
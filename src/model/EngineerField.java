@@ -0,0 +1,142 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+/**
+ * 範囲検索の対象となるエンジニア情報の項目
+ *
+ * <p>
+ * 各項目の値を、大小関係を保ったままint型の並び順キーに変換します。
+ * <ul>
+ * <li>評価項目（技術力など） - 10倍して四捨五入した値（1.0〜5.0は10〜50）</li>
+ * <li>エンジニア歴 - 年数そのまま</li>
+ * <li>日付（入社年月・生年月日） - 1970-01-01からの日数</li>
+ * </ul>
+ * 評価項目が未評価（1.0未満、既定の0.0）の場合と日付が未設定の場合はキーを持たず、
+ * 範囲検索の結果にも範囲索引にも含まれません。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public enum EngineerField {
+
+    /** 技術力 */
+    TECHNICAL_SKILL(engineer -> skillKey(engineer.getTechnicalSkill())),
+
+    /** 受講態度 */
+    LEARNING_ATTITUDE(engineer -> skillKey(engineer.getLearningAttitude())),
+
+    /** コミュニケーション能力 */
+    COMMUNICATION_SKILL(engineer -> skillKey(engineer.getCommunicationSkill())),
+
+    /** リーダーシップ */
+    LEADERSHIP(engineer -> skillKey(engineer.getLeadership())),
+
+    /** エンジニア歴 */
+    CAREER(EngineerDTO::getCareer),
+
+    /** 入社年月 */
+    JOIN_DATE(engineer -> dateKey(engineer.getJoinDate())),
+
+    /** 生年月日 */
+    BIRTH_DATE(engineer -> dateKey(engineer.getBirthDate()));
+
+    /** 値が未設定であることを表すキー */
+    static final int NO_KEY = Integer.MIN_VALUE;
+
+    /** エンジニア情報から並び順キーを取り出す関数 */
+    private final ToIntFunction<EngineerDTO> extractor;
+
+    EngineerField(ToIntFunction<EngineerDTO> extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * エンジニア情報の並び順キーを取得
+     *
+     * @param engineer エンジニア情報
+     * @return 並び順キー（値が未設定の場合は{@link #NO_KEY}）
+     */
+    int keyOf(EngineerDTO engineer) {
+        int key = extractor.applyAsInt(engineer);
+        return isSkill() && key < skillKey(1.0) ? NO_KEY : key;
+    }
+
+    /**
+     * 並び順キーが値を持つか判定
+     *
+     * @param key {@link #keyOf(EngineerDTO)}で取得した並び順キー
+     * @return 値を持つ場合true
+     */
+    boolean hasValue(int key) {
+        return key != NO_KEY;
+    }
+
+    /**
+     * 並び順キー（平均などの小数を含む）を項目の値の単位に戻す
+     * 評価項目は1/10、それ以外はそのまま
+     *
+     * @param key 並び順キー
+     * @return 項目の値
+     */
+    double toValue(double key) {
+        return isSkill() ? key / 10.0 : key;
+    }
+
+    /**
+     * 評価項目（技術力・受講態度・コミュニケーション能力・リーダーシップ）か判定
+     *
+     * @return 評価項目の場合true
+     */
+    public boolean isSkill() {
+        return this == TECHNICAL_SKILL || this == LEARNING_ATTITUDE || this == COMMUNICATION_SKILL
+                || this == LEADERSHIP;
+    }
+
+    /**
+     * エンジニア情報の値が範囲内か判定
+     *
+     * @param engineer エンジニア情報
+     * @param low      下限のキー（この値を含む）
+     * @param high     上限のキー（この値を含む）
+     * @return 範囲内の場合true（値が未設定の場合はfalse）
+     */
+    public boolean inRange(EngineerDTO engineer, int low, int high) {
+        int key = keyOf(engineer);
+        return key != NO_KEY && key >= low && key <= high;
+    }
+
+    /**
+     * 項目の昇順に並べる比較関数を取得
+     * 値が未設定のエンジニアは先頭に並ぶ
+     *
+     * @return 比較関数
+     */
+    public Comparator<EngineerDTO> comparator() {
+        return Comparator.comparingInt(this::keyOf);
+    }
+
+    /**
+     * 評価値を並び順キーに変換
+     *
+     * @param skill 評価値（例：4.0）
+     * @return 並び順キー（例：40）
+     */
+    public static int skillKey(double skill) {
+        return (int) Math.round(skill * 10);
+    }
+
+    /**
+     * 日付を並び順キーに変換
+     *
+     * @param date 日付
+     * @return 並び順キー（nullの場合は{@link #NO_KEY}）
+     */
+    public static int dateKey(LocalDate date) {
+        return date == null ? NO_KEY : (int) date.toEpochDay();
+    }
+}
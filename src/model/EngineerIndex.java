@@ -0,0 +1,41 @@
+package model;
+
+/**
+ * エンジニア情報の副索引が実装するインターフェース
+ *
+ * <p>
+ * {@link EngineerRepository#addIndex(EngineerIndex)}で登録すると、追加・更新・削除が
+ * リポジトリに反映されるたびに{@link #onChange(int, EngineerDTO, EngineerDTO)}が呼び出されます。
+ * 呼び出しは対象の社員IDの更新ロックを保持したまま行われるため、同じ社員IDへの変更は
+ * 反映順に通知されます。異なる社員IDへの変更は並行して通知されるため、
+ * 実装は自身のデータ構造をスレッドセーフに保つ必要があります。
+ * </p>
+ *
+ * <p>
+ * 通知は短時間で完了させ、リポジトリへの操作を行わないでください。
+ * 待機を伴う処理は、{@link #afterRelease()}で更新ロックの解放後に行います。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public interface EngineerIndex {
+
+    /**
+     * エンジニア情報の変更を索引に反映
+     *
+     * @param key    社員IDの数値（{@link EngineerRepository#toKey(String)}）
+     * @param before 変更前のエンジニア情報（追加の場合はnull）
+     * @param after  変更後のエンジニア情報（削除の場合はnull）
+     */
+    void onChange(int key, EngineerDTO before, EngineerDTO after);
+
+    /**
+     * 変更を反映した処理が更新ロックを解放した後に呼び出される
+     * {@link #onChange(int, EngineerDTO, EngineerDTO)}で受け取った変更を、ロックを保持せずに処理する場合に実装する
+     * 異なるスレッドから同時に呼び出される場合がある（既定では何もしない）
+     */
+    default void afterRelease() {
+    }
+}
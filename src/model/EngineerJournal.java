@@ -0,0 +1,1032 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import util.LogHandler;
+import util.MessageEnum;
+
+/**
+ * エンジニア情報の追加・更新・削除を記録する追記専用ジャーナル（先行書き込みログ）
+ *
+ * <p>
+ * 保存のたびに全件ファイルを書き直す代わりに、操作1件をジャーナル末尾へ追記します。
+ * 複数スレッドからの追記要求は専用の書き込みスレッドがまとめて書き込み、
+ * 1回の{@code fsync}で同時に永続化します（グループコミット）。
+ * </p>
+ *
+ * <p>
+ * 起動時は{@link #open()}で直近のスナップショットを読み込み、その後のジャーナルを
+ * 順に再生して最新状態を復元します。各レコードは対象エンジニアの最終状態を
+ * 保持するため、再生は何度適用しても同じ結果になります。
+ * </p>
+ *
+ * <p>
+ * レコード形式：
+ * <ul>
+ * <li>本体長（int）とCRC32（int）</li>
+ * <li>ジャーナル番号（long）と操作種別（byte）</li>
+ * <li>本体 - 追加・更新は{@link EngineerRecordCodec}形式、削除は社員IDのUTF-8</li>
+ * </ul>
+ * 一括操作（{@link #appendBatch(List, List)}）は、件数（int）に続けて各操作の種別（byte）・
+ * 本体長（int）・本体を並べた1レコードとして記録し、再生時はすべてを適用するか、
+ * 書きかけの場合はすべてを切り捨てます。1レコードの上限を超える場合は、最後の1件以外を
+ * 継続レコード（{@link Operation#BATCH_PART}）として連続して記録し、最後の一括レコードまで
+ * 揃った場合にのみまとめて適用します。
+ * 末尾の書きかけレコードと、最後まで揃っていない継続レコードは再生時に検出して切り捨てます。
+ * </p>
+ *
+ * <p>
+ * グループコミットの書き込みに失敗した場合は、書きかけの部分を切り捨てて追記を続けます。
+ * 切り捨てにも失敗した場合は、以降に追記したレコードが再生時に書きかけのレコードより後ろとして
+ * 失われるため、ジャーナルを失敗状態にします。失敗状態では書き込み待ちと以降の追記をすべて
+ * 元の{@link IOException}で失敗させ、{@link #close()}して開き直すまで追記を受け付けません。
+ * </p>
+ *
+ * <p>
+ * スナップショット保存後は{@link #discardThrough(long)}で反映済みのレコードを
+ * 取り除き、ジャーナルの肥大化と再生時間の増加を防ぎます（{@link JournalCompactor}参照）。
+ * 書き込みスレッドは書き込み中のファイルを退避セグメント（{@code engineers.journal.<最終ジャーナル番号>}）へ
+ * 名前を変更して新しいファイルに切り替えるだけで、退避セグメントの削除は呼び出し元のスレッドで行います。
+ * 再生時は退避セグメントをジャーナル番号の順に読み込んでから、書き込み中のファイルを読み込みます。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class EngineerJournal implements Closeable {
+
+    /** ジャーナルファイル名 */
+    public static final String JOURNAL_FILE_NAME = "engineers.journal";
+
+    /** スナップショットファイル名 */
+    public static final String SNAPSHOT_FILE_NAME = "engineers.snapshot";
+
+    /** レコードヘッダーのバイト数（本体長 + CRC + ジャーナル番号 + 操作種別） */
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 1;
+
+    /** 1レコード本体の最大バイト数 */
+    private static final int MAX_PAYLOAD_BYTES = 1024 * 1024;
+
+    /** 1回のグループコミットでまとめる最大レコード数 */
+    private static final int MAX_BATCH_RECORDS = 1024;
+
+    /** ディレクトリを開いて同期できないOS（Windows）か */
+    private static final boolean WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    /**
+     * ジャーナルに記録する操作種別
+     */
+    public enum Operation {
+        /** エンジニア情報の追加 */
+        ADD((byte) 1),
+        /** エンジニア情報の更新 */
+        UPDATE((byte) 2),
+        /** エンジニア情報の削除 */
+        DELETE((byte) 3),
+        /** 複数の操作をまとめたレコード（{@link EngineerJournal#appendBatch(List, List)}で使用） */
+        BATCH((byte) 4),
+        /** 後続の一括レコードとまとめて適用する、分割した一括操作の前半（{@link #BATCH}と同じ形式） */
+        BATCH_PART((byte) 5);
+
+        private final byte code;
+
+        Operation(byte code) {
+            this.code = code;
+        }
+
+        static Operation fromCode(byte code) throws IOException {
+            for (Operation operation : values()) {
+                if (operation.code == code) {
+                    return operation;
+                }
+            }
+            throw new IOException("不明な操作種別です: " + code);
+        }
+    }
+
+    /**
+     * 書き込み待ちのレコード
+     * frameがnullの場合は、sequence以前のレコードを取り除く切り詰め要求を表す
+     */
+    private static final class PendingRecord {
+        private final long sequence;
+        private final byte[] frame;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        PendingRecord(long sequence, byte[] frame) {
+            this.sequence = sequence;
+            this.frame = frame;
+        }
+
+        boolean isDiscardRequest() {
+            return frame == null;
+        }
+    }
+
+    /**
+     * ジャーナル走査時に完全なレコードを受け取るコールバック
+     */
+    private interface FrameVisitor {
+        /**
+         * @param sequence  ジャーナル番号
+         * @param operation 操作種別
+         * @param body      ジャーナル番号・操作種別・本体を連結したバイト列
+         */
+        void visit(long sequence, Operation operation, byte[] body) throws IOException;
+    }
+
+    /**
+     * ジャーナル走査の結果
+     */
+    private static final class ScanResult {
+        private long validBytes;
+        private String tornReason;
+    }
+
+    /** 書き込みスレッドへの終了通知 */
+    private static final PendingRecord SHUTDOWN = new PendingRecord(-1L, new byte[0]);
+
+    /** データディレクトリ */
+    private final Path dataDirectory;
+
+    /** 書き込み待ちキュー */
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+
+    /** ジャーナル番号の採番とキュー投入を直列化するためのロック */
+    private final Object sequenceLock = new Object();
+
+    /** 最後に採番したジャーナル番号 */
+    private long lastSequence;
+
+    /** 書き込み先チャネル（オープン後は書き込みスレッドのみが操作する） */
+    private FileChannel channel;
+
+    /** グループコミットを行う書き込みスレッド */
+    private Thread writerThread;
+
+    /** 書き込み中のファイルに最後に永続化したジャーナル番号（オープン後は書き込みスレッドのみが操作する） */
+    private long lastWritten;
+
+    /** 退避セグメントの読み込みと削除を直列化するためのロック */
+    private final Object segmentLock = new Object();
+
+    /** オープン状態（追記を受け付けている間true） */
+    private volatile boolean open;
+
+    /** ジャーナルを失敗状態にした書き込みの例外（正常な間はnull） */
+    private volatile IOException failure;
+
+    /**
+     * コンストラクタ
+     *
+     * @param dataDirectory ジャーナルとスナップショットを格納するディレクトリ
+     * @throws IllegalArgumentException ディレクトリがnullの場合
+     */
+    public EngineerJournal(Path dataDirectory) {
+        if (dataDirectory == null) {
+            throw new IllegalArgumentException("データディレクトリが指定されていません");
+        }
+        this.dataDirectory = dataDirectory;
+    }
+
+    /**
+     * ジャーナルを開き、スナップショットとジャーナルから最新状態を復元
+     * 復元後は追記可能な状態になる
+     *
+     * @return 正規の表記の社員ID（{@link EngineerRepository#canonicalId(String)}）をキーとした
+     *         復元済みのエンジニア一覧（登録順）
+     * @throws IOException           ファイルの読み込みやオープンに失敗した場合
+     * @throws IllegalStateException すでにオープンされている場合（失敗状態でクローズしていない場合を含む）
+     */
+    public synchronized Map<String, EngineerDTO> open() throws IOException {
+        synchronized (sequenceLock) {
+            if (writerThread != null) {
+                throw new IllegalStateException(failure != null
+                        ? "書き込みに失敗したジャーナルです。クローズしてから開き直してください"
+                        : "ジャーナルはすでにオープンされています");
+            }
+        }
+
+        if (!Files.exists(dataDirectory)) {
+            Files.createDirectories(dataDirectory);
+            LogHandler.getInstance().log(MessageEnum.LOG_INFO_DIRECTORY_CREATED, dataDirectory.toString());
+        }
+
+        EngineerSnapshotFile.Contents snapshot = EngineerSnapshotFile.read(getSnapshotFile());
+        Map<String, EngineerDTO> roster = new LinkedHashMap<>();
+        for (EngineerDTO engineer : snapshot.getEngineers()) {
+            roster.put(rosterKey(engineer.getId()), engineer);
+        }
+
+        long[] maxSequence = { snapshot.getLastSequence() };
+        long replayed = 0L;
+        synchronized (segmentLock) {
+            for (Path segment : retiredSegments()) {
+                long segmentSequence = segmentSequence(segment);
+                maxSequence[0] = Math.max(maxSequence[0], segmentSequence);
+                if (segmentSequence <= snapshot.getLastSequence()) {
+                    // スナップショットに反映済み（削除前に停止した場合）
+                    continue;
+                }
+                try (FileChannel source = FileChannel.open(segment, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+                    replayed += replay(source, roster, snapshot.getLastSequence(), maxSequence);
+                }
+            }
+        }
+
+        boolean created = !Files.exists(getJournalFile());
+        channel = FileChannel.open(getJournalFile(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (created) {
+                syncDirectory(dataDirectory);
+            }
+            replayed += replay(channel, roster, snapshot.getLastSequence(), maxSequence);
+            channel.position(channel.size());
+            LogHandler.getInstance().log(MessageEnum.LOG_INFO_JOURNAL_REPLAYED, replayed, roster.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        Thread writer = new Thread(this::writeLoop, "engineer-journal-writer");
+        writer.setDaemon(true);
+        synchronized (sequenceLock) {
+            lastSequence = maxSequence[0];
+            lastWritten = maxSequence[0];
+            failure = null;
+            open = true;
+            writerThread = writer;
+        }
+        writer.start();
+        return roster;
+    }
+
+    /**
+     * 操作をジャーナルに追記し、永続化されるまで待機
+     *
+     * @param operation 操作種別
+     * @param engineer  操作対象のエンジニア情報（削除の場合は社員IDのみ使用）
+     * @return 採番されたジャーナル番号
+     * @throws IOException           書き込みに失敗した場合、またはジャーナルが失敗状態の場合
+     * @throws IllegalStateException ジャーナルがオープンされていない場合
+     */
+    public long append(Operation operation, EngineerDTO engineer) throws IOException {
+        return await(submit(operation, engineer));
+    }
+
+    /**
+     * 操作をジャーナルの書き込み待ちキューに投入
+     * 戻り値のFutureは、同じグループコミットのレコードとともに永続化された時点で完了する
+     *
+     * @param operation 操作種別
+     * @param engineer  操作対象のエンジニア情報（削除の場合は社員IDのみ使用）
+     * @return 永続化の完了時にジャーナル番号で完了するFuture（失敗状態の場合は、失敗状態にした例外で完了済み）
+     * @throws IllegalStateException    ジャーナルがオープンされていない場合
+     * @throws IllegalArgumentException 引数がnullの場合
+     */
+    public CompletableFuture<Long> submit(Operation operation, EngineerDTO engineer) {
+        if (!isSingle(operation) || engineer == null || engineer.getId() == null) {
+            throw new IllegalArgumentException("操作種別と社員IDは必須です");
+        }
+        byte[] payload = payloadOf(operation, engineer);
+        if (payload.length > MAX_PAYLOAD_BYTES) {
+            throw new IllegalArgumentException("ジャーナルレコードが大きすぎます: " + payload.length + "バイト");
+        }
+
+        synchronized (sequenceLock) {
+            if (failure != null) {
+                return CompletableFuture.failedFuture(failure);
+            }
+            if (!open) {
+                throw new IllegalStateException("ジャーナルがオープンされていません");
+            }
+            long sequence = ++lastSequence;
+            PendingRecord record = new PendingRecord(sequence, frame(sequence, operation, payload));
+            queue.add(record);
+            return record.future;
+        }
+    }
+
+    /**
+     * 複数の操作をまとめてジャーナルに追記し、永続化されるまで待機
+     *
+     * <p>
+     * 操作は一括レコードとしてまとめ、1回のグループコミットで永続化します。
+     * 1レコードの上限（1MB）を超える場合は、連続したジャーナル番号の継続レコードと最後の一括レコードに
+     * 分割します。分割したレコードは1件の書き込み待ちとして連続して書き込むため、書き込みに失敗した場合は
+     * すべて切り捨てられ、再生時も最後の一括レコードまで揃った場合にのみ適用されます。
+     * </p>
+     *
+     * @param operations 操作種別（{@link Operation#ADD}・{@link Operation#UPDATE}・{@link Operation#DELETE}）
+     * @param engineers  操作対象のエンジニア情報（operationsと同じ順序・件数）
+     * @return 最後に採番されたジャーナル番号（操作が0件の場合は{@link #getLastSequence()}）
+     * @throws IOException              書き込みに失敗した場合、またはジャーナルが失敗状態の場合
+     * @throws IllegalArgumentException 件数が一致しない場合、または操作・社員IDがnullの場合
+     * @throws IllegalStateException    ジャーナルがオープンされていない場合
+     */
+    public long appendBatch(List<Operation> operations, List<EngineerDTO> engineers) throws IOException {
+        if (operations == null || engineers == null || operations.size() != engineers.size()) {
+            throw new IllegalArgumentException("操作種別とエンジニア情報の件数が一致しません");
+        }
+        if (operations.isEmpty()) {
+            return getLastSequence();
+        }
+
+        // 上限を超えない単位で一括レコードの本体を組み立てる
+        List<byte[]> payloads = new ArrayList<>();
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(chunk);
+        int count = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            EngineerDTO engineer = engineers.get(i);
+            if (!isSingle(operation) || engineer == null || engineer.getId() == null) {
+                throw new IllegalArgumentException("操作種別と社員IDは必須です");
+            }
+            byte[] payload = payloadOf(operation, engineer);
+            int entryBytes = 1 + 4 + payload.length;
+            if (4 + entryBytes > MAX_PAYLOAD_BYTES) {
+                throw new IllegalArgumentException("ジャーナルレコードが大きすぎます: " + payload.length + "バイト");
+            }
+            if (4 + chunk.size() + entryBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(batchPayload(count, chunk.toByteArray()));
+                chunk.reset();
+                count = 0;
+            }
+            out.writeByte(operation.code);
+            out.writeInt(payload.length);
+            out.write(payload);
+            count++;
+        }
+        payloads.add(batchPayload(count, chunk.toByteArray()));
+
+        PendingRecord record;
+        synchronized (sequenceLock) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (!open) {
+                throw new IllegalStateException("ジャーナルがオープンされていません");
+            }
+            // 分割したレコードを連結して1件の書き込み待ちとし、同じ書き込み・同期・切り捨ての単位にする
+            ByteArrayOutputStream frames = new ByteArrayOutputStream();
+            for (int i = 0; i < payloads.size(); i++) {
+                Operation operation = i < payloads.size() - 1 ? Operation.BATCH_PART : Operation.BATCH;
+                frames.writeBytes(frame(++lastSequence, operation, payloads.get(i)));
+            }
+            record = new PendingRecord(lastSequence, frames.toByteArray());
+            queue.add(record);
+        }
+        return await(record.future);
+    }
+
+    /**
+     * 最後に採番したジャーナル番号を取得
+     *
+     * @return ジャーナル番号
+     */
+    public long getLastSequence() {
+        synchronized (sequenceLock) {
+            return lastSequence;
+        }
+    }
+
+    /**
+     * 指定したジャーナル番号以前のレコードをジャーナルから取り除く
+     * スナップショットの保存が完了した後に呼び出す
+     *
+     * <p>
+     * 書き込みスレッドは、書き込み中のファイルを退避セグメントへ名前を変更して新しいファイルに
+     * 切り替えるだけのため、ジャーナルの大きさによらず追記を待たせません。その後、呼び出し元のスレッドで
+     * 指定番号以前のレコードのみを含む退避セグメントを削除します。指定番号より新しいレコードを含む
+     * 退避セグメント（スナップショットの作成中に追記された場合）は残し、次回の切り詰めで削除します。
+     * </p>
+     *
+     * @param snapshotSequence スナップショットに反映済みの最終ジャーナル番号
+     * @throws IOException           切り詰めに失敗した場合、またはジャーナルが失敗状態の場合
+     * @throws IllegalStateException ジャーナルがオープンされていない場合
+     */
+    public void discardThrough(long snapshotSequence) throws IOException {
+        PendingRecord request = new PendingRecord(snapshotSequence, null);
+        synchronized (sequenceLock) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (!open) {
+                throw new IllegalStateException("ジャーナルがオープンされていません");
+            }
+            queue.add(request);
+        }
+        await(request.future);
+        deleteRetiredSegments(snapshotSequence);
+    }
+
+    /**
+     * 指定したジャーナル番号以前のレコードのみを含む退避セグメントを削除
+     * 削除が永続化される前に停止しても、再生時に反映済みのセグメントは読み飛ばされる
+     *
+     * @param snapshotSequence スナップショットに反映済みの最終ジャーナル番号
+     * @throws IOException 削除に失敗した場合
+     */
+    private void deleteRetiredSegments(long snapshotSequence) throws IOException {
+        synchronized (segmentLock) {
+            for (Path segment : retiredSegments()) {
+                if (segmentSequence(segment) <= snapshotSequence) {
+                    Files.deleteIfExists(segment);
+                }
+            }
+        }
+    }
+
+    /**
+     * 退避セグメントをジャーナル番号の順に取得
+     *
+     * @return 退避セグメントのパス
+     * @throws IOException ディレクトリの読み込みに失敗した場合
+     */
+    private List<Path> retiredSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dataDirectory)) {
+            files.filter(file -> segmentSequence(file) >= 0).forEach(segments::add);
+        }
+        segments.sort(Comparator.comparingLong(EngineerJournal::segmentSequence));
+        return segments;
+    }
+
+    /**
+     * 退避セグメントの最終ジャーナル番号を取得
+     *
+     * @param file ファイルのパス
+     * @return ファイル名の最終ジャーナル番号（退避セグメントでない場合は-1）
+     */
+    private static long segmentSequence(Path file) {
+        String name = file.getFileName().toString();
+        String prefix = JOURNAL_FILE_NAME + ".";
+        if (!name.startsWith(prefix) || name.length() == prefix.length()) {
+            return -1L;
+        }
+        for (int i = prefix.length(); i < name.length(); i++) {
+            if (name.charAt(i) < '0' || name.charAt(i) > '9') {
+                return -1L;
+            }
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * ジャーナルのサイズを取得
+     *
+     * @return 書き込み中のファイルと退避セグメントの合計バイト数
+     * @throws IOException サイズの取得に失敗した場合
+     */
+    public long getJournalSize() throws IOException {
+        long size = Files.size(getJournalFile());
+        synchronized (segmentLock) {
+            for (Path segment : retiredSegments()) {
+                size += Files.size(segment);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 書き込み中のジャーナルファイルのパスを取得
+     *
+     * @return ジャーナルファイルのパス
+     */
+    public Path getJournalFile() {
+        return dataDirectory.resolve(JOURNAL_FILE_NAME);
+    }
+
+    /**
+     * スナップショットファイルのパスを取得
+     *
+     * @return スナップショットファイルのパス
+     */
+    public Path getSnapshotFile() {
+        return dataDirectory.resolve(SNAPSHOT_FILE_NAME);
+    }
+
+    /**
+     * ジャーナルを閉じる
+     * 書き込み待ちのレコードをすべて永続化してから終了する（失敗状態の場合は、書き込みスレッドの終了を待つ）
+     *
+     * @throws IOException チャネルのクローズに失敗した場合
+     */
+    @Override
+    public void close() throws IOException {
+        Thread writer;
+        synchronized (sequenceLock) {
+            writer = writerThread;
+            if (writer == null) {
+                return;
+            }
+            writerThread = null;
+            if (open) {
+                open = false;
+                queue.add(SHUTDOWN);
+            }
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("ジャーナルのクローズ待機中に割り込まれました");
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * 永続化の完了を待機
+     *
+     * @param future 待機対象のFuture
+     * @return ジャーナル番号
+     * @throws IOException 書き込みに失敗した場合、または待機中に割り込まれた場合
+     */
+    static long await(CompletableFuture<Long> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("ジャーナルの書き込み待機中に割り込まれました");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("ジャーナルの書き込みに失敗しました", cause);
+        }
+    }
+
+    /**
+     * 1件の操作を表す操作種別か
+     */
+    private static boolean isSingle(Operation operation) {
+        return operation == Operation.ADD || operation == Operation.UPDATE || operation == Operation.DELETE;
+    }
+
+    /**
+     * 操作の本体を作成
+     */
+    private static byte[] payloadOf(Operation operation, EngineerDTO engineer) {
+        return operation == Operation.DELETE
+                ? engineer.getId().getBytes(StandardCharsets.UTF_8)
+                : EngineerRecordCodec.encode(engineer);
+    }
+
+    /**
+     * 一括レコードの本体（件数と各操作）を作成
+     */
+    private static byte[] batchPayload(int count, byte[] entries) {
+        return ByteBuffer.allocate(4 + entries.length).putInt(count).put(entries).array();
+    }
+
+    /**
+     * レコードのバイト列を組み立てる
+     */
+    private static byte[] frame(long sequence, Operation operation, byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt(0); // CRCは後で埋める
+        buffer.putLong(sequence);
+        buffer.put(operation.code);
+        buffer.put(payload);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 8, HEADER_BYTES - 8 + payload.length);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * ジャーナルを先頭から再生
+     * 末尾に不完全なレコード、または最後の一括レコードが揃っていない継続レコードがある場合は、
+     * その位置でファイルを切り詰める
+     *
+     * @param source           再生するファイルのチャネル
+     * @param roster           再生先のエンジニア一覧
+     * @param snapshotSequence スナップショットに反映済みの最終ジャーナル番号
+     * @param maxSequence      これまでに読み込んだ最大のジャーナル番号（読み込んだレコードで更新する）
+     * @return 適用したレコード数
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static long replay(FileChannel source, Map<String, EngineerDTO> roster, long snapshotSequence,
+            long[] maxSequence) throws IOException {
+        long[] applied = { 0L };
+        // 最後の一括レコードを待っている継続レコードと、先頭の継続レコードの位置
+        List<byte[]> parts = new ArrayList<>();
+        long[] scanned = { 0L };
+        long[] partsStart = { 0L };
+
+        ScanResult result = scan(source, (sequence, operation, body) -> {
+            long start = scanned[0];
+            scanned[0] += 8 + body.length;
+            if (operation == Operation.BATCH_PART) {
+                if (parts.isEmpty()) {
+                    partsStart[0] = start;
+                }
+                parts.add(body);
+                return;
+            }
+            if (!parts.isEmpty() && operation != Operation.BATCH) {
+                throw new IOException("分割した一括レコードの途中に別のレコードがあります: " + sequence);
+            }
+            parts.add(body);
+            for (byte[] part : parts) {
+                ByteBuffer record = ByteBuffer.wrap(part);
+                long partSequence = record.getLong();
+                Operation partOperation = Operation.fromCode(record.get());
+                maxSequence[0] = Math.max(maxSequence[0], partSequence);
+                if (partSequence <= snapshotSequence) {
+                    // スナップショットに反映済み
+                    continue;
+                }
+                apply(roster, partOperation, Arrays.copyOfRange(part, HEADER_BYTES - 8, part.length));
+                applied[0]++;
+            }
+            parts.clear();
+        });
+
+        if (!parts.isEmpty()) {
+            // 最後の一括レコードが揃っていない分割は適用せず、先頭の継続レコードから切り捨てる
+            result.validBytes = partsStart[0];
+            if (result.tornReason == null) {
+                result.tornReason = "分割した一括レコードが途中で終わっています";
+            }
+        }
+        if (result.tornReason != null) {
+            LogHandler.getInstance().log(MessageEnum.LOG_WARN_JOURNAL_TRUNCATED,
+                    result.tornReason + " (位置=" + result.validBytes + ")");
+            source.truncate(result.validBytes);
+            source.force(true);
+        }
+        return applied[0];
+    }
+
+    /**
+     * ジャーナルを先頭から走査し、完全なレコードをコールバックに渡す
+     * 不完全なレコードを検出した時点で走査を終了する
+     *
+     * @param source  走査対象のチャネル
+     * @param visitor レコードを受け取るコールバック
+     * @return 完全なレコードのバイト数と、不完全なレコードを検出した場合の理由
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static ScanResult scan(FileChannel source, FrameVisitor visitor) throws IOException {
+        ScanResult result = new ScanResult();
+        source.position(0L);
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(source), 64 * 1024));
+        CRC32 crc = new CRC32();
+
+        while (true) {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) {
+                break;
+            }
+            if (length < 0 || length > MAX_PAYLOAD_BYTES) {
+                result.tornReason = "本体長が不正です: " + length;
+                break;
+            }
+
+            byte[] body = new byte[HEADER_BYTES - 8 + length];
+            int storedCrc;
+            try {
+                storedCrc = in.readInt();
+                in.readFully(body);
+            } catch (EOFException e) {
+                result.tornReason = "レコードが途中で終わっています";
+                break;
+            }
+
+            crc.reset();
+            crc.update(body);
+            if ((int) crc.getValue() != storedCrc) {
+                result.tornReason = "チェックサムが一致しません";
+                break;
+            }
+
+            ByteBuffer record = ByteBuffer.wrap(body);
+            long sequence = record.getLong();
+            Operation operation = Operation.fromCode(record.get());
+            result.validBytes += HEADER_BYTES + length;
+            visitor.visit(sequence, operation, body);
+        }
+        return result;
+    }
+
+    /**
+     * 復元するエンジニア一覧のキーを取得
+     * 以前の版で異なる表記のまま記録された追加・更新・削除も、同じ社員IDとして適用する
+     *
+     * @param id 記録された社員ID
+     * @return 正規の表記の社員ID
+     * @throws IOException 社員IDの形式が不正な場合
+     */
+    private static String rosterKey(String id) throws IOException {
+        try {
+            return EngineerRepository.canonicalId(id);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("社員IDの形式が不正なレコードがあります: " + id, e);
+        }
+    }
+
+    /**
+     * 1レコードをエンジニア一覧に適用
+     */
+    private static void apply(Map<String, EngineerDTO> roster, Operation operation, byte[] payload)
+            throws IOException {
+        switch (operation) {
+            case ADD:
+            case UPDATE:
+                EngineerDTO engineer = EngineerRecordCodec.decode(payload);
+                roster.put(rosterKey(engineer.getId()), engineer);
+                break;
+            case DELETE:
+                roster.remove(rosterKey(new String(payload, StandardCharsets.UTF_8)));
+                break;
+            case BATCH:
+            case BATCH_PART:
+                ByteBuffer entries = ByteBuffer.wrap(payload);
+                int count = entries.getInt();
+                for (int i = 0; i < count; i++) {
+                    Operation entryOperation = Operation.fromCode(entries.get());
+                    byte[] entryPayload = new byte[entries.getInt()];
+                    entries.get(entryPayload);
+                    apply(roster, entryOperation, entryPayload);
+                }
+                break;
+            default:
+                throw new IOException("不明な操作種別です: " + operation);
+        }
+    }
+
+    /**
+     * 書き込みスレッドの処理
+     * キューに溜まったレコードをまとめて書き込み、1回の同期で永続化する
+     */
+    private void writeLoop() {
+        List<PendingRecord> batch = new ArrayList<>(MAX_BATCH_RECORDS);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                // 割り込みでは終了せず、close()による終了通知を待つ
+                continue;
+            }
+            queue.drainTo(batch, MAX_BATCH_RECORDS - 1);
+
+            if (batch.remove(SHUTDOWN)) {
+                // 終了通知以降に投入されるレコードはないため、残りを書き込んで終了する
+                queue.drainTo(batch);
+                running = false;
+            }
+            processBatch(batch);
+            batch.clear();
+            if (failure != null) {
+                // 失敗状態では以降の追記を受け付けないため終了する（書き込み待ちはfail()で失敗させ済み）
+                running = false;
+            }
+        }
+    }
+
+    /**
+     * キューから取り出した要素を投入順に処理
+     * 切り詰め要求の前後でレコードの書き込みを分割する
+     */
+    private void processBatch(List<PendingRecord> batch) {
+        int from = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRecord entry = batch.get(i);
+            if (!entry.isDiscardRequest()) {
+                continue;
+            }
+            if (i > from) {
+                writeBatch(batch.subList(from, i));
+            }
+            rotate(entry);
+            from = i + 1;
+        }
+        if (from < batch.size()) {
+            writeBatch(batch.subList(from, batch.size()));
+        }
+    }
+
+    /**
+     * 切り詰め要求を処理
+     * 書き込み中のファイルを退避セグメントへ名前を変更し、新しいファイルへ切り替える
+     * 退避セグメントの削除は{@link #discardThrough(long)}の呼び出し元で行う
+     *
+     * @param request 切り詰め要求
+     */
+    private void rotate(PendingRecord request) {
+        if (failure != null) {
+            request.future.completeExceptionally(failure);
+            return;
+        }
+        Path journalFile = getJournalFile();
+        try {
+            if (channel.size() == 0) {
+                // 前回の切り替え以降に追記がない
+                request.future.complete(request.sequence);
+                return;
+            }
+            channel.close();
+            Files.move(journalFile, journalFile.resolveSibling(JOURNAL_FILE_NAME + "." + lastWritten),
+                    StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(journalFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            // 名前の変更と作成を永続化してから完了とする
+            syncDirectory(dataDirectory);
+            request.future.complete(request.sequence);
+        } catch (IOException e) {
+            logFailure(MessageEnum.LOG_ERROR_FILE_ACCESS, e, journalFile.toString());
+            if (!reopenAfterFailure(journalFile, e)) {
+                fail(e);
+            }
+            request.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 切り替えに失敗した場合に、追記を継続できるようチャネルを開き直す
+     * 名前の変更前に失敗した場合は元のファイルを、変更後に失敗した場合は新しいファイルを開く
+     *
+     * @param journalFile 書き込み中のジャーナルファイル
+     * @param cause       切り替えの失敗（開き直しの失敗を抑制された例外として追加する）
+     * @return 追記を続けられる場合true
+     */
+    private boolean reopenAfterFailure(Path journalFile, IOException cause) {
+        try {
+            if (!channel.isOpen()) {
+                channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+            }
+            channel.position(channel.size());
+            return true;
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            logFailure(MessageEnum.LOG_ERROR_FILE_ACCESS, e, journalFile.toString());
+            return false;
+        }
+    }
+
+    /**
+     * ディレクトリを同期し、ファイルの作成・名前の変更を永続化する
+     * Windowsではディレクトリを開いて同期できないため何もしない
+     *
+     * @param directory 同期するディレクトリ
+     * @throws IOException 同期に失敗した場合
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        if (WINDOWS) {
+            return;
+        }
+        try (FileChannel dir = FileChannel.open(directory.toAbsolutePath(), StandardOpenOption.READ)) {
+            dir.force(true);
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * レコードの一括書き込みと同期
+     */
+    private void writeBatch(List<PendingRecord> batch) {
+        if (failure != null) {
+            for (PendingRecord record : batch) {
+                record.future.completeExceptionally(failure);
+            }
+            return;
+        }
+        int totalBytes = 0;
+        for (PendingRecord record : batch) {
+            totalBytes += record.frame.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(totalBytes);
+        for (PendingRecord record : batch) {
+            buffer.put(record.frame);
+        }
+        buffer.flip();
+
+        long startPosition = -1L;
+        try {
+            startPosition = channel.position();
+            writeFully(channel, buffer);
+            channel.force(false);
+        } catch (IOException e) {
+            logFailure(MessageEnum.LOG_ERROR_DATA_SAVE, e, getJournalFile().toString());
+            // 失敗を通知する前に失敗状態にし、通知を受けた呼び出し元の次の追記を確実に拒否する
+            if (!discardPartialWrite(startPosition, e)) {
+                fail(e);
+            }
+            for (PendingRecord record : batch) {
+                record.future.completeExceptionally(e);
+            }
+            return;
+        }
+
+        // キューへの投入順はジャーナル番号の順
+        lastWritten = batch.get(batch.size() - 1).sequence;
+        for (PendingRecord record : batch) {
+            record.future.complete(record.sequence);
+        }
+    }
+
+    /**
+     * 書き込みに失敗したバッチの断片を切り捨てる
+     * 後続のレコードが不完全なレコードの後ろに追記されるのを防ぐ
+     *
+     * @param startPosition バッチ書き込み開始位置（不明な場合は負の値）
+     * @param cause         書き込みの失敗（切り捨ての失敗を抑制された例外として追加する）
+     * @return 切り捨てて追記を続けられる場合true
+     */
+    private boolean discardPartialWrite(long startPosition, IOException cause) {
+        if (startPosition < 0) {
+            return false;
+        }
+        try {
+            channel.truncate(startPosition);
+            channel.position(startPosition);
+            return true;
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            logFailure(MessageEnum.LOG_ERROR_FILE_ACCESS, e, getJournalFile() + " (切り捨て位置 " + startPosition + ")");
+            return false;
+        }
+    }
+
+    /**
+     * ジャーナルを失敗状態にする
+     * 不完全なレコードの後ろに追記すると、再生時にそのレコードで走査が止まり失われるため、
+     * 書き込み待ちのレコードと以降の追記をすべて失敗させる
+     *
+     * @param cause 失敗状態にした書き込みの例外
+     */
+    private void fail(IOException cause) {
+        synchronized (sequenceLock) {
+            failure = cause;
+            open = false;
+        }
+        // 以降はキューに投入されないため、残っている要素をすべて失敗させる
+        List<PendingRecord> rejected = new ArrayList<>();
+        queue.drainTo(rejected);
+        for (PendingRecord record : rejected) {
+            record.future.completeExceptionally(cause);
+        }
+        logFailure(MessageEnum.LOG_ERROR_JOURNAL_FAILED, cause, getJournalFile().toString());
+    }
+
+    /**
+     * 書き込みスレッドでの失敗をログに記録
+     * LogHandlerの初期化前（ツールやテストからの利用）は記録せず、書き込みスレッドを止めない
+     */
+    private void logFailure(MessageEnum message, IOException e, String detail) {
+        if (LogHandler.getInstance().isInitialized()) {
+            LogHandler.getInstance().logError(message, e, detail + " (" + e.getMessage() + ")");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package model;
+
+import java.util.Comparator;
+
+/**
+ * エンジニア検索の内容（条件・並び順・件数）を表すクラス
+ * {@link EngineerBuilder}と同様に、設定メソッドをつなげて組み立てる
+ *
+ * <pre>
+ * EngineerQuery query = new EngineerQuery()
+ *         .setCriterion(Criterion.languagesAll("Kotlin", "SQL"))
+ *         .setOrder(EngineerField.TECHNICAL_SKILL, true)
+ *         .setOffset(0)
+ *         .setLimit(20);
+ * List&lt;EngineerDTO&gt; page = engine.execute(query);
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class EngineerQuery {
+
+    /** 検索条件（nullの場合は全件） */
+    private Criterion criterion;
+
+    /** 並び順（nullの場合は社員IDの数値の昇順） */
+    private Comparator<? super EngineerDTO> order;
+
+    /** 読み飛ばす件数 */
+    private int offset;
+
+    /** 最大件数（0以下の場合は制限なし） */
+    private int limit;
+
+    /**
+     * 検索条件を設定
+     *
+     * @param criterion 検索条件（nullの場合は全件）
+     * @return このオブジェクト
+     */
+    public EngineerQuery setCriterion(Criterion criterion) {
+        this.criterion = criterion;
+        return this;
+    }
+
+    /**
+     * 並び順を設定
+     *
+     * @param order 比較関数（nullの場合は社員IDの数値の昇順）
+     * @return このオブジェクト
+     */
+    public EngineerQuery setOrder(Comparator<? super EngineerDTO> order) {
+        this.order = order;
+        return this;
+    }
+
+    /**
+     * 項目で並び順を設定
+     *
+     * @param field      項目
+     * @param descending 降順の場合true
+     * @return このオブジェクト
+     */
+    public EngineerQuery setOrder(EngineerField field, boolean descending) {
+        Comparator<EngineerDTO> comparator = field.comparator();
+        this.order = descending ? comparator.reversed() : comparator;
+        return this;
+    }
+
+    /**
+     * 読み飛ばす件数を設定
+     *
+     * @param offset 読み飛ばす件数（0以上）
+     * @return このオブジェクト
+     * @throws IllegalArgumentException 負の値の場合
+     */
+    public EngineerQuery setOffset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("読み飛ばす件数は0以上で指定してください: " + offset);
+        }
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * 最大件数を設定
+     *
+     * @param limit 最大件数（0以下の場合は制限なし）
+     * @return このオブジェクト
+     */
+    public EngineerQuery setLimit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * 検索条件を取得
+     *
+     * @return 検索条件（nullの場合は全件）
+     */
+    public Criterion getCriterion() {
+        return criterion;
+    }
+
+    /**
+     * 並び順を取得
+     *
+     * @return 比較関数（nullの場合は社員IDの数値の昇順）
+     */
+    public Comparator<? super EngineerDTO> getOrder() {
+        return order;
+    }
+
+    /**
+     * 読み飛ばす件数を取得
+     *
+     * @return 読み飛ばす件数
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * 最大件数を取得
+     *
+     * @return 最大件数（0以下の場合は制限なし）
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
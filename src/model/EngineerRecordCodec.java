@@ -0,0 +1,204 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EngineerDTOをバイナリ形式で読み書きするコーデッククラス
+ * ジャーナルやスナップショットファイルのレコード本体として使用
+ *
+ * <p>
+ * レコード形式（すべてビッグエンディアン）：
+ * <ul>
+ * <li>文字列 - int長さ（nullは-1）+ UTF-8バイト列</li>
+ * <li>日付 - long エポック日（nullは{@link Long#MIN_VALUE}）</li>
+ * <li>言語リスト - int件数（nullは-1）+ 文字列の並び</li>
+ * <li>評価値 - double</li>
+ * </ul>
+ * バリデーションは行わず、保存された値をそのまま復元します。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class EngineerRecordCodec {
+
+    /** nullを表す長さ */
+    private static final int NULL_LENGTH = -1;
+
+    /** nullを表すエポック日 */
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    /** 1文字列あたりの最大バイト数（破損データによる巨大確保を防ぐ） */
+    private static final int MAX_STRING_BYTES = 64 * 1024;
+
+    /** 言語リストの最大件数 */
+    private static final int MAX_LANGUAGES = 1024;
+
+    /**
+     * プライベートコンストラクタ
+     * ユーティリティクラスのためインスタンス化を防ぐ
+     */
+    private EngineerRecordCodec() {
+    }
+
+    /**
+     * EngineerDTOをバイト配列にエンコード
+     *
+     * @param engineer エンコード対象
+     * @return エンコード済みバイト配列
+     */
+    public static byte[] encode(EngineerDTO engineer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(out, engineer);
+        } catch (IOException e) {
+            // ByteArrayOutputStreamはIOExceptionを投げない
+            throw new IllegalStateException("エンジニア情報のエンコードに失敗しました", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * バイト配列からEngineerDTOをデコード
+     *
+     * @param data エンコード済みバイト配列
+     * @return 復元されたEngineerDTO
+     * @throws IOException データが不正な場合
+     */
+    public static EngineerDTO decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * EngineerDTOを出力先に書き込む
+     *
+     * @param out      出力先
+     * @param engineer 書き込むエンジニア情報
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public static void write(DataOutput out, EngineerDTO engineer) throws IOException {
+        writeString(out, engineer.getId());
+        writeString(out, engineer.getName());
+        writeString(out, engineer.getNameKana());
+        writeDate(out, engineer.getBirthDate());
+        writeDate(out, engineer.getJoinDate());
+        out.writeInt(engineer.getCareer());
+
+        List<String> languages = engineer.getProgrammingLanguages();
+        if (languages == null) {
+            out.writeInt(NULL_LENGTH);
+        } else {
+            out.writeInt(languages.size());
+            for (String language : languages) {
+                writeString(out, language);
+            }
+        }
+
+        writeString(out, engineer.getCareerHistory());
+        writeString(out, engineer.getTrainingHistory());
+        out.writeDouble(engineer.getTechnicalSkill());
+        out.writeDouble(engineer.getLearningAttitude());
+        out.writeDouble(engineer.getCommunicationSkill());
+        out.writeDouble(engineer.getLeadership());
+        writeString(out, engineer.getNote());
+        writeDate(out, engineer.getRegisteredDate());
+    }
+
+    /**
+     * 入力元からEngineerDTOを読み込む
+     *
+     * @param in 入力元
+     * @return 復元されたEngineerDTO
+     * @throws IOException 読み込みに失敗した場合、またはデータが不正な場合
+     */
+    public static EngineerDTO read(DataInput in) throws IOException {
+        EngineerDTO engineer = new EngineerDTO();
+        engineer.setId(readString(in));
+        engineer.setName(readString(in));
+        engineer.setNameKana(readString(in));
+        engineer.setBirthDate(readDate(in));
+        engineer.setJoinDate(readDate(in));
+        engineer.setCareer(in.readInt());
+
+        int languageCount = in.readInt();
+        if (languageCount != NULL_LENGTH) {
+            if (languageCount < 0 || languageCount > MAX_LANGUAGES) {
+                throw new IOException("言語リストの件数が不正です: " + languageCount);
+            }
+            List<String> languages = new ArrayList<>(languageCount);
+            for (int i = 0; i < languageCount; i++) {
+                languages.add(readString(in));
+            }
+            engineer.setProgrammingLanguages(languages);
+        }
+
+        engineer.setCareerHistory(readString(in));
+        engineer.setTrainingHistory(readString(in));
+        engineer.setTechnicalSkill(in.readDouble());
+        engineer.setLearningAttitude(in.readDouble());
+        engineer.setCommunicationSkill(in.readDouble());
+        engineer.setLeadership(in.readDouble());
+        engineer.setNote(readString(in));
+        engineer.setRegisteredDate(readDate(in));
+        return engineer;
+    }
+
+    /**
+     * 文字列を長さ付きUTF-8で書き込む
+     *
+     * @param out   出力先
+     * @param value 文字列（null可）
+     * @throws IOException 書き込みに失敗した場合
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * 長さ付きUTF-8の文字列を読み込む
+     *
+     * @param in 入力元
+     * @return 文字列（null可）
+     * @throws IOException 読み込みに失敗した場合、または長さが不正な場合
+     */
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("文字列長が不正です: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        out.writeLong(date == null ? NULL_DATE : date.toEpochDay());
+    }
+
+    private static LocalDate readDate(DataInput in) throws IOException {
+        long epochDay = in.readLong();
+        return epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -0,0 +1,660 @@
+package model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jdk.jfr.Event;
+import util.FlightEvents;
+import util.IntObjectHashMap;
+import util.LogHandler;
+import util.MessageEnum;
+import util.OperationMetrics;
+import util.PersistentIntMap;
+
+/**
+ * エンジニア情報を保持・管理するリポジトリクラス
+ *
+ * <p>
+ * 社員IDの数値部分をint型のキーとした主索引で管理するため、
+ * 取得・重複チェックは登録件数に関係なく高速に行えます。
+ * 社員IDは「ID」接頭辞の有無を問わず5桁の数字部分で識別します（例：「ID00001」と「00001」は同一）。
+ * 格納時に社員IDを正規の表記（「ID」+ 5桁の数字、{@link #canonicalId(String)}）に揃えるため、
+ * 取得したエンジニア情報とジャーナルのレコードは、登録時の表記によらず同じ社員IDになります。
+ * </p>
+ *
+ * <p>
+ * 主索引は不変の{@link EngineerSnapshot}として保持し、追加・更新・削除のたびに
+ * バージョン番号を1つ進めた新しいスナップショットに置き換えます。
+ * 内部の{@link PersistentIntMap}は変更のない部分を新旧で共有するため、
+ * 置き換えで複製されるのは変更経路のノードのみです。
+ * 読み取りは現在のスナップショットを参照するだけで、ロックを取得しません。
+ * {@link #snapshot()}で取得したスナップショットは、その後の更新の影響を受けません。
+ * </p>
+ *
+ * <p>
+ * 複数スレッドから同時に使用できます。追加・更新・削除は社員IDごとに
+ * {@value #STRIPE_COUNT}個のストライプへ分割した更新ロックで直列化し、
+ * 重複チェックからジャーナルの永続化、スナップショットの置き換えまでを保持します。
+ * 異なるストライプへの更新は並行して実行され、ジャーナルのグループコミットで
+ * まとめて永続化されます。スナップショットの置き換えは比較交換で行います。
+ * </p>
+ *
+ * <p>
+ * {@link #addIndex(EngineerIndex)}で登録した副索引には、更新ロックを保持したまま
+ * 変更を通知し、解放後に{@link EngineerIndex#afterRelease()}を呼び出します。
+ * 通知はスナップショットの置き換えの後に行うため、副索引はスナップショットより遅れて更新されます。{@link QueryEngine}は、副索引とスナップショットが
+ * 一致する時点を確認してから副索引を参照します。
+ * </p>
+ *
+ * <p>
+ * ジャーナルを指定した場合は、追加・更新・削除をジャーナルに永続化してから
+ * 索引に反映します（先行書き込み）。{@link #open()}でスナップショットとジャーナルから
+ * 状態を復元します。
+ * </p>
+ *
+ * <p>
+ * 格納時にエンジニア情報を複製するため、登録後に呼び出し元のDTOを変更しても
+ * 索引の内容は変わりません。取得したDTOは読み取り専用として扱ってください。
+ * </p>
+ *
+ * <p>
+ * 使用例：
+ * </p>
+ *
+ * <pre>
+ * EngineerRepository repository = new EngineerRepository(new EngineerJournal(Paths.get("data")));
+ * repository.open();
+ * repository.add(engineer);
+ * EngineerDTO found = repository.get("ID00001");
+ * EngineerSnapshot view = repository.snapshot();
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class EngineerRepository implements JournalCompactor.CheckpointSource {
+
+    /** 社員IDの接頭辞 */
+    private static final String ID_PREFIX = "ID";
+
+    /** 社員IDの数字部分の桁数 */
+    private static final int ID_DIGITS = 5;
+
+    /** ストライプ数（2の累乗） */
+    static final int STRIPE_COUNT = 64;
+
+    /** 追加・更新・削除を直列化するストライプごとのロック */
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+    /** 現在のスナップショット */
+    private final AtomicReference<EngineerSnapshot> current = new AtomicReference<>(EngineerSnapshot.EMPTY);
+
+    /** 永続化先のジャーナル（メモリ上のみで管理する場合はnull） */
+    private final EngineerJournal journal;
+
+    /** 変更を通知する副索引 */
+    private final List<EngineerIndex> indexes = new CopyOnWriteArrayList<>();
+
+    /** スナップショットを置き換えてから副索引への通知を終えるまでの間にある更新の数 */
+    private final AtomicInteger indexing = new AtomicInteger();
+
+    /**
+     * メモリ上のみで管理するリポジトリを生成
+     */
+    public EngineerRepository() {
+        this(null);
+    }
+
+    /**
+     * ジャーナルに永続化するリポジトリを生成
+     * 使用前に{@link #open()}を呼び出す必要がある
+     *
+     * @param journal 永続化先のジャーナル（nullの場合はメモリ上のみで管理）
+     */
+    public EngineerRepository(EngineerJournal journal) {
+        this.journal = journal;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * スナップショットとジャーナルから状態を復元し、リポジトリを使用可能にする
+     * ジャーナルを指定していない場合は何もしない。他の操作より前に呼び出すこと
+     *
+     * @throws IOException 復元に失敗した場合
+     */
+    public void open() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        Map<String, EngineerDTO> recovered = journal.open();
+        for (EngineerDTO engineer : recovered.values()) {
+            apply(toKey(engineer.getId()), copyOf(engineer));
+        }
+        LogHandler.getInstance().log(MessageEnum.LOG_INFO_DATA_LOADED, size());
+    }
+
+    /**
+     * エンジニア情報を追加
+     *
+     * @param engineer 追加するエンジニア情報
+     * @throws IOException              ジャーナルへの書き込みに失敗した場合
+     * @throws IllegalArgumentException 社員IDの形式が不正な場合
+     * @throws IllegalStateException    社員IDがすでに登録されている場合
+     */
+    public void add(EngineerDTO engineer) throws IOException {
+        int key = toKey(requireEngineer(engineer).getId());
+        ReentrantLock stripe = stripeFor(key);
+        EngineerDTO stored = copyOf(engineer);
+
+        stripe.lock();
+        try {
+            if (current.get().get(key) != null) {
+                LogHandler.getInstance().log(MessageEnum.LOG_WARN_DUPLICATE_ID, engineer.getId());
+                throw new IllegalStateException(
+                        MessageEnum.DIALOG_ERROR_DUPLICATE_ID.getMessage() + ": " + engineer.getId());
+            }
+            if (journal != null) {
+                journal.append(EngineerJournal.Operation.ADD, stored);
+            }
+            apply(key, stored);
+        } finally {
+            stripe.unlock();
+            afterRelease();
+        }
+        LogHandler.getInstance().log(MessageEnum.LOG_INFO_ENGINEER_ADDED, stored.getId(), stored.getName());
+    }
+
+    /**
+     * エンジニア情報を更新
+     *
+     * @param engineer 更新後のエンジニア情報
+     * @throws IOException              ジャーナルへの書き込みに失敗した場合
+     * @throws IllegalArgumentException 社員IDの形式が不正な場合
+     * @throws IllegalStateException    社員IDが登録されていない場合
+     */
+    public void update(EngineerDTO engineer) throws IOException {
+        int key = toKey(requireEngineer(engineer).getId());
+        ReentrantLock stripe = stripeFor(key);
+        EngineerDTO stored = copyOf(engineer);
+
+        stripe.lock();
+        try {
+            if (current.get().get(key) == null) {
+                throw new IllegalStateException("登録されていない社員IDです: " + engineer.getId());
+            }
+            if (journal != null) {
+                journal.append(EngineerJournal.Operation.UPDATE, stored);
+            }
+            apply(key, stored);
+        } finally {
+            stripe.unlock();
+            afterRelease();
+        }
+        LogHandler.getInstance().log(MessageEnum.LOG_INFO_ENGINEER_UPDATED, stored.getId(), stored.getName());
+    }
+
+    /**
+     * エンジニア情報を削除
+     *
+     * @param id 削除する社員ID
+     * @return 削除されたエンジニア情報
+     * @throws IOException              ジャーナルへの書き込みに失敗した場合
+     * @throws IllegalArgumentException 社員IDの形式が不正な場合
+     * @throws IllegalStateException    社員IDが登録されていない場合
+     */
+    public EngineerDTO delete(String id) throws IOException {
+        int key = toKey(id);
+        ReentrantLock stripe = stripeFor(key);
+        EngineerDTO removed;
+
+        stripe.lock();
+        try {
+            removed = current.get().get(key);
+            if (removed == null) {
+                throw new IllegalStateException("登録されていない社員IDです: " + id);
+            }
+            if (journal != null) {
+                journal.append(EngineerJournal.Operation.DELETE, removed);
+            }
+            apply(key, null);
+        } finally {
+            stripe.unlock();
+            afterRelease();
+        }
+        LogHandler.getInstance().log(MessageEnum.LOG_INFO_ENGINEER_DELETED, removed.getId());
+        return removed;
+    }
+
+    /**
+     * 複数のエンジニア情報を一括で追加
+     *
+     * <p>
+     * 社員IDの形式・入力内の重複・登録済みかをまとめて検証し、問題のない行だけを
+     * 1つの一括レコードとしてジャーナルに永続化してから、1回のスナップショットの置き換えで反映します。
+     * 対象のストライプの更新ロックはストライプの番号順に取得し、反映が終わるまで保持します。
+     * ログは件数をまとめて1件だけ出力します。
+     * </p>
+     *
+     * @param engineers 追加するエンジニア情報
+     * @return 追加件数と、登録できなかった行（形式不正・入力内の重複・登録済み）
+     * @throws IOException              ジャーナルへの書き込みに失敗した場合（この場合はいずれの行も反映しない）
+     * @throws IllegalArgumentException 引数がnullの場合
+     */
+    public EngineerBatchResult addAll(Collection<? extends EngineerDTO> engineers) throws IOException {
+        return applyBatch(engineers, false);
+    }
+
+    /**
+     * 複数のエンジニア情報を一括で追加または更新
+     * 登録済みの社員IDは更新、それ以外は追加する。処理の流れは{@link #addAll(Collection)}と同じ
+     *
+     * @param engineers 追加・更新するエンジニア情報
+     * @return 追加・更新件数と、登録できなかった行（形式不正・入力内の重複）
+     * @throws IOException              ジャーナルへの書き込みに失敗した場合（この場合はいずれの行も反映しない）
+     * @throws IllegalArgumentException 引数がnullの場合
+     */
+    public EngineerBatchResult upsertAll(Collection<? extends EngineerDTO> engineers) throws IOException {
+        return applyBatch(engineers, true);
+    }
+
+    /**
+     * 社員IDでエンジニア情報を取得
+     * ロックを取得せず、直前に反映済みの内容を返す
+     *
+     * @param id 社員ID
+     * @return エンジニア情報（存在しない場合はnull）
+     * @throws IllegalArgumentException 社員IDの形式が不正な場合
+     */
+    public EngineerDTO get(String id) {
+        return current.get().get(toKey(id));
+    }
+
+    /**
+     * 社員IDが登録済みか判定
+     * 入力検証での重複チェックに使用する
+     *
+     * @param id 社員ID
+     * @return 登録済みの場合true
+     * @throws IllegalArgumentException 社員IDの形式が不正な場合
+     */
+    public boolean exists(String id) {
+        return get(id) != null;
+    }
+
+    /**
+     * 登録件数を取得
+     *
+     * @return 登録件数
+     */
+    public int size() {
+        return current.get().size();
+    }
+
+    /**
+     * すべてのエンジニア情報を取得
+     * 呼び出し時点のスナップショットから作成するため、更新の途中状態は含まれない
+     *
+     * @return 変更不可のエンジニア一覧（順序は不定）
+     */
+    public List<EngineerDTO> findAll() {
+        return current.get().findAll();
+    }
+
+    /**
+     * 現在の内容を不変のスナップショットとして取得
+     * 参照を取得するだけのため、件数に関係なく即座に完了し、更新を妨げない
+     *
+     * @return 現在のスナップショット
+     */
+    public EngineerSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * スナップショットが現在のもので、その時点までの変更がすべて副索引に通知済みか判定
+     *
+     * <p>
+     * 副索引を参照する前と後の両方で真となった場合、その間にスナップショットの置き換えも
+     * 副索引への通知も行われていないため、参照した副索引の内容はスナップショットと一致します。
+     * 偽の場合は、参照した副索引がスナップショットの内容を含まないおそれがあります。
+     * </p>
+     *
+     * @param snapshot {@link #snapshot()}で取得したスナップショット
+     * @return 一致する場合true
+     */
+    boolean isIndexed(EngineerSnapshot snapshot) {
+        return indexing.get() == 0 && current.get() == snapshot;
+    }
+
+    /**
+     * 副索引を登録し、現在の内容をすべて反映する
+     * 反映中は全ストライプの更新ロックを保持するため、反映漏れや二重反映は発生しない
+     *
+     * @param index 登録する副索引
+     */
+    public void addIndex(EngineerIndex index) {
+        if (index == null) {
+            throw new IllegalArgumentException("索引がnullです");
+        }
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+        try {
+            current.get().forEach(engineer -> index.onChange(toKey(engineer.getId()), null, engineer));
+            indexes.add(index);
+        } finally {
+            for (int i = STRIPE_COUNT - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+            index.afterRelease();
+        }
+    }
+
+    /**
+     * ジャーナル集約用に、現在の一覧と反映済みのジャーナル番号を取得
+     *
+     * <p>
+     * 先にジャーナル番号を取得し、その後すべてのストライプの更新ロックを順に
+     * 取得・解放してからスナップショットを取得します。取得した番号以前のレコードは、
+     * 更新ロックの解放前にスナップショットへ反映済みのため、必ず一覧に含まれます。
+     * それ以降のレコードが一部含まれる場合もありますが、ジャーナルの再生は冪等なため、
+     * 復元結果は変わりません。一覧の複製はロックの外で行います。
+     * </p>
+     *
+     * @return スナップショットとして保存する内容
+     */
+    @Override
+    public EngineerSnapshotFile.Contents checkpoint() {
+        long sequence = journal == null ? 0L : journal.getLastSequence();
+        for (ReentrantLock stripe : stripes) {
+            // 番号取得時点で反映中だった更新の完了を待つ
+            stripe.lock();
+            stripe.unlock();
+        }
+        return new EngineerSnapshotFile.Contents(sequence, current.get().findAll());
+    }
+
+    /**
+     * 変更を反映した新しいスナップショットに置き換え、副索引に通知する（更新ロック保持中に呼び出す）
+     * 異なるストライプの更新と競合した場合は、最新のスナップショットに対して再試行する
+     *
+     * @param key      社員IDの数値
+     * @param engineer 格納するエンジニア情報（nullの場合は削除）
+     */
+    private void apply(int key, EngineerDTO engineer) {
+        // 更新ロックの保持中は副索引が追加されないため、通知の有無は置き換えの前に決まる
+        boolean notify = !indexes.isEmpty();
+        if (notify) {
+            indexing.incrementAndGet();
+        }
+        try {
+            EngineerSnapshot previous;
+            EngineerSnapshot next;
+            do {
+                previous = current.get();
+                next = engineer == null ? previous.without(key) : previous.with(key, engineer);
+            } while (!current.compareAndSet(previous, next));
+
+            if (notify) {
+                EngineerDTO before = previous.get(key);
+                for (EngineerIndex index : indexes) {
+                    index.onChange(key, before, engineer);
+                }
+            }
+        } finally {
+            if (notify) {
+                indexing.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 一括登録の処理
+     */
+    private EngineerBatchResult applyBatch(Collection<? extends EngineerDTO> engineers, boolean upsert)
+            throws IOException {
+        if (engineers == null) {
+            throw new IllegalArgumentException("エンジニア情報の一覧がnullです");
+        }
+        Event chunkEvent = FlightEvents.beginImportChunk();
+        List<EngineerBatchResult.RowError> errors = new ArrayList<>();
+        int[] keys = new int[engineers.size()];
+        int[] rows = new int[engineers.size()];
+        EngineerDTO[] stored = new EngineerDTO[engineers.size()];
+        IntObjectHashMap<Integer> seen = new IntObjectHashMap<>(engineers.size());
+        boolean[] lockedStripes = new boolean[STRIPE_COUNT];
+
+        // ロックを取得せずに形式と入力内の重複を検証する
+        int candidates = 0;
+        int row = 0;
+        for (EngineerDTO engineer : engineers) {
+            long rowStart = OperationMetrics.start();
+            String id = engineer == null ? null : engineer.getId();
+            try {
+                int key = toKey(requireEngineer(engineer).getId());
+                Integer first = seen.get(key);
+                if (first != null) {
+                    throw new IllegalArgumentException("一覧内で社員IDが重複しています（" + (first + 1) + "件目）");
+                }
+                seen.put(key, row);
+                keys[candidates] = key;
+                rows[candidates] = row;
+                stored[candidates] = copyOf(engineer);
+                lockedStripes[stripeIndex(key)] = true;
+                candidates++;
+            } catch (IllegalArgumentException e) {
+                errors.add(new EngineerBatchResult.RowError(row, id, e.getMessage()));
+            }
+            OperationMetrics.stop(OperationMetrics.Operation.IMPORT_ROW, rowStart);
+            row++;
+        }
+
+        int added = 0;
+        int updated = 0;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            if (lockedStripes[i]) {
+                stripes[i].lock();
+            }
+        }
+        try {
+            // 対象のストライプをすべてロックしているため、対象の社員IDの登録状況は変わらない
+            EngineerSnapshot base = current.get();
+            List<EngineerJournal.Operation> operations = new ArrayList<>(candidates);
+            int accepted = 0;
+            for (int i = 0; i < candidates; i++) {
+                boolean exists = base.get(keys[i]) != null;
+                if (exists && !upsert) {
+                    errors.add(new EngineerBatchResult.RowError(rows[i], stored[i].getId(),
+                            MessageEnum.DIALOG_ERROR_DUPLICATE_ID.getMessage()));
+                    continue;
+                }
+                operations.add(exists ? EngineerJournal.Operation.UPDATE : EngineerJournal.Operation.ADD);
+                keys[accepted] = keys[i];
+                stored[accepted] = stored[i];
+                accepted++;
+            }
+            if (accepted > 0) {
+                if (journal != null) {
+                    journal.appendBatch(operations, Arrays.asList(stored).subList(0, accepted));
+                }
+                applyAll(keys, stored, accepted);
+            }
+            for (EngineerJournal.Operation operation : operations) {
+                if (operation == EngineerJournal.Operation.ADD) {
+                    added++;
+                } else {
+                    updated++;
+                }
+            }
+        } finally {
+            for (int i = STRIPE_COUNT - 1; i >= 0; i--) {
+                if (lockedStripes[i]) {
+                    stripes[i].unlock();
+                }
+            }
+            afterRelease();
+        }
+
+        errors.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        LogHandler.getInstance().log(MessageEnum.LOG_INFO_ENGINEERS_BATCH_APPLIED, added, updated, errors.size());
+        FlightEvents.commitImportChunk(chunkEvent, upsert, row, added, updated, errors.size());
+        return new EngineerBatchResult(added, updated, errors);
+    }
+
+    /**
+     * 複数のエンジニア情報を1回のスナップショットの置き換えで反映し、副索引に通知
+     * 対象のストライプの更新ロックを保持した状態で呼び出す
+     */
+    private void applyAll(int[] keys, EngineerDTO[] engineers, int count) {
+        boolean notify = !indexes.isEmpty();
+        if (notify) {
+            indexing.incrementAndGet();
+        }
+        try {
+            EngineerSnapshot previous;
+            EngineerSnapshot next;
+            do {
+                previous = current.get();
+                next = previous.withAll(keys, engineers, count);
+            } while (!current.compareAndSet(previous, next));
+
+            if (notify) {
+                for (int i = 0; i < count; i++) {
+                    EngineerDTO before = previous.get(keys[i]);
+                    for (EngineerIndex index : indexes) {
+                        index.onChange(keys[i], before, engineers[i]);
+                    }
+                }
+            }
+        } finally {
+            if (notify) {
+                indexing.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 更新ロックの解放後に副索引へ通知する
+     */
+    private void afterRelease() {
+        for (EngineerIndex index : indexes) {
+            index.afterRelease();
+        }
+    }
+
+    /**
+     * キーに対応するストライプを取得
+     */
+    private ReentrantLock stripeFor(int key) {
+        return stripes[stripeIndex(key)];
+    }
+
+    /**
+     * キーに対応するストライプの番号を取得
+     */
+    private static int stripeIndex(int key) {
+        int h = key * 0x85EBCA6B;
+        return (h ^ (h >>> 15)) & (STRIPE_COUNT - 1);
+    }
+
+    /**
+     * 社員IDを主索引のキーに変換
+     * 「ID」接頭辞（大文字・小文字を問わない）を除いた5桁の数字部分を数値として扱う
+     *
+     * @param id 社員ID（例：「ID00001」または「00001」）
+     * @return 主索引のキー
+     * @throws IllegalArgumentException 社員IDがnull、または数字部分が5桁の数字でない場合
+     */
+    public static int toKey(String id) {
+        if (id == null) {
+            throw new IllegalArgumentException(MessageEnum.VALIDATION_ERROR_EMPLOYEE_ID.getMessage());
+        }
+        String digits = id.trim();
+        if (digits.regionMatches(true, 0, ID_PREFIX, 0, ID_PREFIX.length())) {
+            digits = digits.substring(ID_PREFIX.length());
+        }
+        if (digits.length() != ID_DIGITS) {
+            throw new IllegalArgumentException(MessageEnum.VALIDATION_ERROR_EMPLOYEE_ID.getMessage() + ": " + id);
+        }
+
+        int key = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            char c = digits.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException(MessageEnum.VALIDATION_ERROR_EMPLOYEE_ID.getMessage() + ": " + id);
+            }
+            key = key * 10 + (c - '0');
+        }
+        return key;
+    }
+
+    /**
+     * 社員IDを正規の表記（「ID」+ 5桁の数字）に変換
+     * ジャーナルと主索引で同じ社員IDを異なる表記で扱わないよう、格納前に使用する
+     *
+     * @param id 社員ID（例：「id00001」または「00001」）
+     * @return 正規の表記の社員ID（例：「ID00001」）
+     * @throws IllegalArgumentException 社員IDがnull、または数字部分が5桁の数字でない場合
+     */
+    public static String canonicalId(String id) {
+        int key = toKey(id);
+        if (id.length() == ID_PREFIX.length() + ID_DIGITS && id.startsWith(ID_PREFIX)) {
+            return id;
+        }
+        String digits = Integer.toString(key);
+        StringBuilder canonical = new StringBuilder(ID_PREFIX.length() + ID_DIGITS).append(ID_PREFIX);
+        for (int i = digits.length(); i < ID_DIGITS; i++) {
+            canonical.append('0');
+        }
+        return canonical.append(digits).toString();
+    }
+
+    /**
+     * エンジニア情報と社員IDがnullでないことを確認
+     */
+    private static EngineerDTO requireEngineer(EngineerDTO engineer) {
+        if (engineer == null) {
+            throw new IllegalArgumentException("エンジニア情報がnullです");
+        }
+        return engineer;
+    }
+
+    /**
+     * 格納用にエンジニア情報を複製
+     * 社員IDは正規の表記に揃え、言語リストは変更不可のリストとして複製する
+     */
+    static EngineerDTO copyOf(EngineerDTO source) {
+        EngineerDTO copy = new EngineerDTO();
+        copy.setId(canonicalId(source.getId()));
+        copy.setName(source.getName());
+        copy.setNameKana(source.getNameKana());
+        copy.setBirthDate(source.getBirthDate());
+        copy.setJoinDate(source.getJoinDate());
+        copy.setCareer(source.getCareer());
+        if (source.getProgrammingLanguages() != null) {
+            copy.setProgrammingLanguages(
+                    Collections.unmodifiableList(new ArrayList<>(source.getProgrammingLanguages())));
+        }
+        copy.setCareerHistory(source.getCareerHistory());
+        copy.setTrainingHistory(source.getTrainingHistory());
+        copy.setTechnicalSkill(source.getTechnicalSkill());
+        copy.setLearningAttitude(source.getLearningAttitude());
+        copy.setCommunicationSkill(source.getCommunicationSkill());
+        copy.setLeadership(source.getLeadership());
+        copy.setNote(source.getNote());
+        copy.setRegisteredDate(source.getRegisteredDate());
+        return copy;
+    }
+}
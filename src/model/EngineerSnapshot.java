@@ -0,0 +1,181 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import util.IntBitmap;
+import util.PersistentIntMap;
+
+/**
+ * ある時点のエンジニア一覧を表す不変のスナップショット
+ *
+ * <p>
+ * {@link EngineerRepository#snapshot()}で取得します。内部は{@link PersistentIntMap}で
+ * 構造を共有しているため、取得は参照をコピーするだけで完了し、一覧の複製は発生しません。
+ * 取得後にリポジトリが更新されてもスナップショットの内容は変わらず、
+ * 更新の途中状態が見えることもありません。
+ * </p>
+ *
+ * <p>
+ * CSV出力や集計など、一覧全体を長時間走査する処理で使用します。
+ * 走査中も他スレッドの追加・更新・削除は待機しません。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class EngineerSnapshot {
+
+    /** 空のスナップショット */
+    static final EngineerSnapshot EMPTY = new EngineerSnapshot(0L, PersistentIntMap.empty());
+
+    /** バージョン番号（リポジトリへの反映ごとに1ずつ増加） */
+    private final long version;
+
+    /** 社員IDの数値 → エンジニア情報 */
+    private final PersistentIntMap<EngineerDTO> engineers;
+
+    private EngineerSnapshot(long version, PersistentIntMap<EngineerDTO> engineers) {
+        this.version = version;
+        this.engineers = engineers;
+    }
+
+    /**
+     * エンジニア情報を格納した次のバージョンを作成
+     *
+     * @param key      社員IDの数値
+     * @param engineer 格納するエンジニア情報
+     * @return 次のバージョンのスナップショット
+     */
+    EngineerSnapshot with(int key, EngineerDTO engineer) {
+        return new EngineerSnapshot(version + 1, engineers.put(key, engineer));
+    }
+
+    /**
+     * 複数のエンジニア情報をまとめて格納した次のバージョンを作成
+     * 途中の状態は作成せず、バージョン番号は1つだけ進める
+     *
+     * @param keys      社員IDの数値
+     * @param engineers 格納するエンジニア情報（keysと同じ順序）
+     * @param count     格納する件数（各配列の先頭から）
+     * @return 次のバージョンのスナップショット
+     */
+    EngineerSnapshot withAll(int[] keys, EngineerDTO[] engineers, int count) {
+        PersistentIntMap<EngineerDTO> next = this.engineers;
+        for (int i = 0; i < count; i++) {
+            next = next.put(keys[i], engineers[i]);
+        }
+        return new EngineerSnapshot(version + 1, next);
+    }
+
+    /**
+     * エンジニア情報を削除した次のバージョンを作成
+     *
+     * @param key 社員IDの数値
+     * @return 次のバージョンのスナップショット
+     */
+    EngineerSnapshot without(int key) {
+        return new EngineerSnapshot(version + 1, engineers.remove(key));
+    }
+
+    /**
+     * キーでエンジニア情報を取得
+     *
+     * @param key 社員IDの数値
+     * @return エンジニア情報（存在しない場合はnull）
+     */
+    EngineerDTO get(int key) {
+        return engineers.get(key);
+    }
+
+    /**
+     * バージョン番号を取得
+     * 番号が等しいスナップショットは同じ内容を持つ
+     *
+     * @return バージョン番号
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 社員IDでエンジニア情報を取得
+     *
+     * @param id 社員ID
+     * @return エンジニア情報（存在しない場合はnull）
+     * @throws IllegalArgumentException 社員IDの形式が不正な場合
+     */
+    public EngineerDTO get(String id) {
+        return engineers.get(EngineerRepository.toKey(id));
+    }
+
+    /**
+     * 社員IDが含まれるか判定
+     *
+     * @param id 社員ID
+     * @return 含まれる場合true
+     * @throws IllegalArgumentException 社員IDの形式が不正な場合
+     */
+    public boolean exists(String id) {
+        return get(id) != null;
+    }
+
+    /**
+     * 件数を取得
+     *
+     * @return 件数
+     */
+    public int size() {
+        return engineers.size();
+    }
+
+    /**
+     * すべてのエンジニア情報に処理を適用
+     * 一覧を複製せずに走査する
+     *
+     * @param action エンジニア情報を受け取る処理
+     */
+    public void forEach(Consumer<? super EngineerDTO> action) {
+        engineers.forEach((key, engineer) -> action.accept(engineer));
+    }
+
+    /**
+     * すべてのエンジニア情報を取得
+     *
+     * @return 変更不可のエンジニア一覧（順序は不定）
+     */
+    public List<EngineerDTO> findAll() {
+        List<EngineerDTO> list = new ArrayList<>(engineers.size());
+        engineers.forEach((key, engineer) -> list.add(engineer));
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 副索引が返した社員IDの集合をエンジニア情報に変換
+     *
+     * <p>
+     * 副索引はリポジトリへの反映と前後して更新されるため、スナップショットの時点とは
+     * 一致しない場合があります。変換時に条件を再確認し、スナップショットの内容で
+     * 条件を満たすものだけを返します。余分な候補は除外できますが、副索引が返さなかった
+     * 社員IDは補えないため、取りこぼしを防ぐには{@link QueryEngine}を使用します。
+     * </p>
+     *
+     * @param keys      社員IDの数値の集合
+     * @param condition 検索条件（nullの場合は再確認しない）
+     * @return 変更不可のエンジニア一覧（社員IDの数値の昇順）
+     */
+    public List<EngineerDTO> resolve(IntBitmap keys, Predicate<? super EngineerDTO> condition) {
+        List<EngineerDTO> list = new ArrayList<>(keys.cardinality());
+        keys.forEach(key -> {
+            EngineerDTO engineer = engineers.get(key);
+            if (engineer != null && (condition == null || condition.test(engineer))) {
+                list.add(engineer);
+            }
+        });
+        return Collections.unmodifiableList(list);
+    }
+}
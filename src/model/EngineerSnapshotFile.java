@@ -0,0 +1,220 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import jdk.jfr.Event;
+import util.FlightEvents;
+import util.OperationMetrics;
+
+/**
+ * エンジニア一覧のスナップショットファイルを読み書きするクラス
+ * ジャーナル再生の起点となる全件データを保持
+ *
+ * <p>
+ * ファイル形式：
+ * <ul>
+ * <li>マジックナンバー（int）とフォーマットバージョン（int）</li>
+ * <li>スナップショットに反映済みの最終ジャーナル番号（long）</li>
+ * <li>件数（int）と{@link EngineerRecordCodec}形式のレコード</li>
+ * <li>ヘッダーからレコード末尾までのCRC32（long）</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 書き込みは一時ファイルに出力して同期した後、リネームで置き換えるため、
+ * 途中でプロセスが停止しても以前のスナップショットが壊れることはありません。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class EngineerSnapshotFile {
+
+    /** マジックナンバー（"ENGS"） */
+    private static final int MAGIC = 0x454E4753;
+
+    /** フォーマットバージョン */
+    private static final int FORMAT_VERSION = 1;
+
+    /** 一時ファイルの拡張子 */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * スナップショットの内容
+     * 最終ジャーナル番号とエンジニア一覧の組
+     */
+    public static final class Contents {
+        private final long lastSequence;
+        private final List<EngineerDTO> engineers;
+
+        /**
+         * コンストラクタ
+         *
+         * @param lastSequence スナップショットに反映済みの最終ジャーナル番号
+         * @param engineers    エンジニア一覧
+         */
+        public Contents(long lastSequence, List<EngineerDTO> engineers) {
+            this.lastSequence = lastSequence;
+            this.engineers = Collections.unmodifiableList(engineers);
+        }
+
+        /**
+         * スナップショットに反映済みの最終ジャーナル番号を取得
+         *
+         * @return 最終ジャーナル番号（空の場合は0）
+         */
+        public long getLastSequence() {
+            return lastSequence;
+        }
+
+        /**
+         * エンジニア一覧を取得
+         *
+         * @return 変更不可のエンジニア一覧
+         */
+        public List<EngineerDTO> getEngineers() {
+            return engineers;
+        }
+    }
+
+    /**
+     * プライベートコンストラクタ
+     * ユーティリティクラスのためインスタンス化を防ぐ
+     */
+    private EngineerSnapshotFile() {
+    }
+
+    /**
+     * スナップショットファイルを読み込む
+     * ファイルが存在しない場合は空の内容を返す
+     *
+     * @param file スナップショットファイルのパス
+     * @return スナップショットの内容
+     * @throws IOException 読み込みに失敗した場合、またはファイルが破損している場合
+     */
+    public static Contents read(Path file) throws IOException {
+        InputStream raw;
+        try {
+            raw = Files.newInputStream(file);
+        } catch (NoSuchFileException e) {
+            return new Contents(0L, new ArrayList<>());
+        }
+
+        CRC32 crc = new CRC32();
+        try (BufferedInputStream buffered = new BufferedInputStream(raw, 64 * 1024)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(buffered, crc));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("スナップショットファイルの形式が不正です: " + file);
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("未対応のスナップショットバージョンです: " + version);
+            }
+            long lastSequence = in.readLong();
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("スナップショットの件数が不正です: " + count);
+            }
+
+            List<EngineerDTO> engineers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                engineers.add(EngineerRecordCodec.read(in));
+            }
+
+            long expected = crc.getValue();
+            // チェックサム自体はCRCの対象外のため、CRC計算を経由せずに読み込む
+            long actual = new DataInputStream(buffered).readLong();
+            if (expected != actual) {
+                throw new IOException("スナップショットファイルのチェックサムが一致しません: " + file);
+            }
+            return new Contents(lastSequence, engineers);
+        }
+    }
+
+    /**
+     * スナップショットファイルを書き込む
+     * 一時ファイルへの書き込みと同期が完了してから、元ファイルをアトミックに置き換え、ディレクトリを同期する
+     *
+     * @param file         スナップショットファイルのパス
+     * @param lastSequence スナップショットに反映済みの最終ジャーナル番号
+     * @param engineers    保存するエンジニア一覧
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public static void write(Path file, long lastSequence, Collection<EngineerDTO> engineers) throws IOException {
+        write(file, lastSequence, engineers.size(), engineers.iterator());
+    }
+
+    /**
+     * 件数を指定し、エンジニア情報を順に受け取りながらスナップショットファイルを書き込む
+     * 全件をメモリに保持せずに大量のデータを出力する場合に使用する
+     *
+     * @param file         スナップショットファイルのパス
+     * @param lastSequence スナップショットに反映済みの最終ジャーナル番号
+     * @param count        保存する件数
+     * @param engineers    保存するエンジニア情報（count件を順に返すこと）
+     * @throws IOException              書き込みに失敗した場合
+     * @throws IllegalArgumentException 件数が負の場合、またはエンジニア情報がcount件に満たない場合
+     */
+    public static void write(Path file, long lastSequence, int count, Iterator<? extends EngineerDTO> engineers)
+            throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("スナップショットの件数が不正です: " + count);
+        }
+        Event saveEvent = FlightEvents.beginSnapshotSave();
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        long bytes;
+
+        try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile())) {
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(fileOut, 64 * 1024), crc));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(lastSequence);
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                if (!engineers.hasNext()) {
+                    throw new IllegalArgumentException("エンジニア情報が" + count + "件に満たないです: " + i + "件");
+                }
+                long rowStart = OperationMetrics.start();
+                EngineerRecordCodec.write(out, engineers.next());
+                OperationMetrics.stop(OperationMetrics.Operation.EXPORT_ROW, rowStart);
+            }
+            out.flush();
+
+            // チェックサム自体はCRCの対象外とする
+            DataOutputStream trailer = new DataOutputStream(fileOut);
+            trailer.writeLong(crc.getValue());
+            trailer.flush();
+            bytes = (out.size() & 0xFFFFFFFFL) + trailer.size();
+            fileOut.getFD().sync();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // ジャーナルを切り詰める前に、置き換え（名前の変更）を永続化する
+        EngineerJournal.syncDirectory(file.toAbsolutePath().getParent());
+        FlightEvents.commitSnapshotSave(saveEvent, file.toString(), count, bytes, lastSequence);
+    }
+}
@@ -0,0 +1,198 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import util.LogHandler;
+import util.MessageEnum;
+
+/**
+ * ジャーナルを定期的にスナップショットへ集約するバックグラウンド処理クラス
+ *
+ * <p>
+ * 一定間隔で現在のエンジニア一覧をスナップショットとして保存し、
+ * 反映済みのレコードをジャーナルから取り除きます。これにより、ジャーナルの
+ * サイズと起動時の再生時間は、おおむね1間隔分の更新量に抑えられます。
+ * </p>
+ *
+ * <p>
+ * 集約処理は専用スレッドで行い、エンジニアの追加・更新処理を待たせません。
+ * スナップショットの書き込みは一時ファイルとリネームで行います。ジャーナルの
+ * 切り詰めでは、書き込みスレッドは書き込み中のファイルを退避セグメントへ切り替えるだけで、
+ * 反映済みの退避セグメントの削除はこの集約スレッドで行います。
+ * スナップショット保存後・切り詰め前に停止した場合も、再生時に反映済みの
+ * レコードは読み飛ばされるため整合性は保たれます。
+ * </p>
+ *
+ * <p>
+ * 使用例：
+ * </p>
+ *
+ * <pre>
+ * JournalCompactor compactor = new JournalCompactor(journal, repository, Duration.ofMinutes(5));
+ * compactor.start();
+ * // ...
+ * compactor.close();
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class JournalCompactor implements Closeable {
+
+    /** 既定の集約間隔 */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(5);
+
+    /**
+     * スナップショットの取得元
+     * 返却するエンジニア一覧は、返却するジャーナル番号以前のレコードをすべて反映している必要がある
+     */
+    @FunctionalInterface
+    public interface CheckpointSource {
+        /**
+         * 現在のエンジニア一覧とジャーナル番号を取得
+         *
+         * @return スナップショットとして保存する内容
+         */
+        EngineerSnapshotFile.Contents checkpoint();
+    }
+
+    /** 対象のジャーナル */
+    private final EngineerJournal journal;
+
+    /** スナップショットの取得元 */
+    private final CheckpointSource source;
+
+    /** 集約間隔 */
+    private final Duration interval;
+
+    /** 集約処理を行うスレッド */
+    private final ScheduledExecutorService executor;
+
+    /** 最後にスナップショットへ反映したジャーナル番号（集約スレッドのみが更新） */
+    private volatile long lastCompactedSequence = -1L;
+
+    /**
+     * コンストラクタ
+     *
+     * @param journal  対象のジャーナル（オープン済み）
+     * @param source   スナップショットの取得元
+     * @param interval 集約間隔
+     * @throws IllegalArgumentException 引数がnull、または間隔が正でない場合
+     */
+    public JournalCompactor(EngineerJournal journal, CheckpointSource source, Duration interval) {
+        if (journal == null || source == null || interval == null) {
+            throw new IllegalArgumentException("ジャーナル、取得元、集約間隔は必須です");
+        }
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("集約間隔は正の値を指定してください: " + interval);
+        }
+        this.journal = journal;
+        this.source = source;
+        this.interval = interval;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "engineer-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 定期的な集約を開始
+     */
+    public void start() {
+        long millis = interval.toMillis();
+        executor.scheduleWithFixedDelay(this::compactQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 集約を直ちに実行し、完了まで待機
+     * 定期実行と同じスレッドで実行されるため、定期実行と重複することはない
+     *
+     * @return スナップショットを保存した場合true、前回から更新がなかった場合false
+     * @throws IOException スナップショットの保存またはジャーナルの切り詰めに失敗した場合
+     */
+    public boolean compactNow() throws IOException {
+        Future<Boolean> result = executor.submit(this::compact);
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("ジャーナル集約の待機中に割り込まれました", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("ジャーナルの集約に失敗しました", cause);
+        }
+    }
+
+    /**
+     * 集約間隔を取得
+     *
+     * @return 集約間隔
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * 集約処理を停止
+     * 実行中の集約がある場合は完了を待つ
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 定期実行用の集約処理
+     * 例外はログに記録し、次回の実行を継続する
+     */
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (Exception e) {
+            LogHandler.getInstance().log(MessageEnum.LOG_ERROR_DATA_SAVE,
+                    journal.getSnapshotFile() + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * スナップショットの保存とジャーナルの切り詰め
+     *
+     * @return スナップショットを保存した場合true
+     * @throws IOException 保存または切り詰めに失敗した場合
+     */
+    private boolean compact() throws IOException {
+        if (journal.getLastSequence() == lastCompactedSequence) {
+            return false;
+        }
+
+        EngineerSnapshotFile.Contents checkpoint = source.checkpoint();
+        EngineerSnapshotFile.write(journal.getSnapshotFile(), checkpoint.getLastSequence(),
+                checkpoint.getEngineers());
+        journal.discardThrough(checkpoint.getLastSequence());
+        lastCompactedSequence = checkpoint.getLastSequence();
+
+        LogHandler.getInstance().log(MessageEnum.LOG_INFO_SNAPSHOT_SAVED,
+                checkpoint.getEngineers().size(), checkpoint.getLastSequence());
+        return true;
+    }
+}
@@ -0,0 +1,241 @@
+package model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * フリガナと氏名の前方一致検索（入力補完）に使用する索引
+ *
+ * <p>
+ * フリガナと氏名を正規化した文字列と社員IDの組を、文字列の昇順に並べて保持します。
+ * 前方一致検索は先頭に一致する位置まで二分探索で移動し、そこから必要な件数だけ
+ * 読み進めるため、登録件数が数十万件でも検索時間はほぼ一定です。
+ * </p>
+ *
+ * <p>
+ * 正規化では次の表記の違いを同一視します。
+ * <ul>
+ * <li>半角カタカナと全角カタカナ（NFKC正規化。「ﾔﾏﾀﾞ」→「ヤマダ」）</li>
+ * <li>ひらがなとカタカナ（ひらがなはカタカナに変換）</li>
+ * <li>英字の大文字と小文字、全角と半角</li>
+ * <li>空白（取り除く）</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 内部は{@link ConcurrentSkipListSet}で管理するため、検索はロックを取得せず、
+ * 索引の更新と並行して実行できます。検索結果は{@link EngineerSnapshot}で再確認します。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class KanaPrefixIndex implements EngineerIndex {
+
+    /** ひらがなとカタカナの文字コードの差 */
+    private static final int KANA_OFFSET = 'ァ' - 'ぁ';
+
+    /**
+     * 正規化した文字列と社員IDの組
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final String term;
+        private final int key;
+
+        Entry(String term, int key) {
+            this.term = term;
+            this.key = key;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = term.compareTo(other.term);
+            return result != 0 ? result : Integer.compare(key, other.key);
+        }
+    }
+
+    /** 正規化した文字列の昇順に並べた組 */
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>();
+
+    @Override
+    public void onChange(int key, EngineerDTO before, EngineerDTO after) {
+        Set<String> removed = termsOf(before);
+        Set<String> added = termsOf(after);
+        for (String term : removed) {
+            if (!added.contains(term)) {
+                entries.remove(new Entry(term, key));
+            }
+        }
+        for (String term : added) {
+            if (!removed.contains(term)) {
+                entries.add(new Entry(term, key));
+            }
+        }
+    }
+
+    /**
+     * 前方一致する社員IDを最大件数まで取得
+     * フリガナと氏名の両方に一致する場合も1件として数える
+     *
+     * @param prefix 検索文字列（正規化前）
+     * @param limit  最大件数
+     * @return 社員IDの数値（一致した文字列の昇順）
+     */
+    public int[] prefixKeys(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+
+        int[] keys = new int[Math.min(limit, 16)];
+        int count = 0;
+        for (PrimitiveIterator.OfInt it = distinctKeys(normalized); it.hasNext() && count < limit;) {
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, (int) Math.min((long) count * 2, limit));
+            }
+            keys[count++] = it.nextInt();
+        }
+        return count == keys.length ? keys : Arrays.copyOf(keys, count);
+    }
+
+    /**
+     * フリガナまたは氏名が前方一致するエンジニアを最大件数まで取得
+     *
+     * @param snapshot 検索対象のスナップショット
+     * @param prefix   検索文字列（正規化前）
+     * @param limit    最大件数
+     * @return 変更不可のエンジニア一覧（一致した文字列の昇順）
+     */
+    public List<EngineerDTO> findByPrefix(EngineerSnapshot snapshot, String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<EngineerDTO> result = new ArrayList<>();
+        // 索引とスナップショットの差で除外された分は、最大件数に達するか一致する組がなくなるまで読み進めて補う
+        for (PrimitiveIterator.OfInt it = distinctKeys(normalized); it.hasNext() && result.size() < limit;) {
+            EngineerDTO engineer = snapshot.get(it.nextInt());
+            if (engineer != null && matches(engineer, normalized)) {
+                result.add(engineer);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 前方一致する社員IDを、一致した文字列の昇順に重複を除いて順に取り出す
+     * 必要な件数を読んだ時点で打ち切れるよう、索引は取り出すたびに読み進める
+     *
+     * @param normalized 正規化した検索文字列（空でないこと）
+     * @return 社員IDの数値の反復子
+     */
+    private PrimitiveIterator.OfInt distinctKeys(String normalized) {
+        Iterator<Entry> cursor = entries.tailSet(new Entry(normalized, Integer.MIN_VALUE), true).iterator();
+        return new PrimitiveIterator.OfInt() {
+            private final Set<Integer> seen = new HashSet<>();
+            private int next;
+            private boolean ready;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && !exhausted) {
+                    Entry entry = cursor.hasNext() ? cursor.next() : null;
+                    // 昇順のため、前方一致しない組が現れた以降はすべて一致しない
+                    if (entry == null || !entry.term.startsWith(normalized)) {
+                        exhausted = true;
+                    } else if (seen.add(entry.key)) {
+                        next = entry.key;
+                        ready = true;
+                    }
+                }
+                return ready;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                return next;
+            }
+        };
+    }
+
+    /**
+     * 登録されている組の件数を取得
+     *
+     * @return 件数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 入力補完の照合用に文字列を正規化
+     *
+     * @param text 文字列
+     * @return 正規化した文字列（nullの場合は空文字列）
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder builder = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isWhitespace(c) || c == '　') {
+                continue;
+            }
+            if (c >= 'ぁ' && c <= 'ゖ') {
+                c = (char) (c + KANA_OFFSET);
+            }
+            builder.append(c);
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * エンジニア情報のフリガナまたは氏名が前方一致するか判定
+     */
+    private static boolean matches(EngineerDTO engineer, String normalizedPrefix) {
+        for (String term : termsOf(engineer)) {
+            if (term.startsWith(normalizedPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * エンジニア情報から索引に登録する文字列を取得
+     */
+    private static Set<String> termsOf(EngineerDTO engineer) {
+        Set<String> terms = new HashSet<>(2);
+        if (engineer != null) {
+            String kana = normalize(engineer.getNameKana());
+            if (!kana.isEmpty()) {
+                terms.add(kana);
+            }
+            String name = normalize(engineer.getName());
+            if (!name.isEmpty()) {
+                terms.add(name);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,235 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import util.IntBitmap;
+
+/**
+ * 扱える言語からエンジニアを検索する転置索引
+ *
+ * <p>
+ * 言語ごとに、その言語を扱える社員IDの集合を{@link IntBitmap}で保持します。
+ * 複数言語の検索は、すべて扱える場合はビットマップの積集合、いずれかを扱える場合は
+ * 和集合で求めるため、エンジニア一覧の全件走査は発生しません。
+ * 言語名は前後の空白を除き、大文字・小文字を区別せずに照合します（例：「kotlin」と「Kotlin」は同一）。
+ * </p>
+ *
+ * <p>
+ * {@link EngineerRepository#addIndex(EngineerIndex)}で登録すると、追加・更新・削除に
+ * 合わせて差分のみを更新します。検索結果は{@link EngineerSnapshot#resolve}で
+ * 再確認するため、索引の更新中に検索しても、スナップショットに含まれない組み合わせは返しません。
+ * </p>
+ *
+ * <p>
+ * 使用例：
+ * </p>
+ *
+ * <pre>
+ * LanguageIndex languages = new LanguageIndex();
+ * repository.addIndex(languages);
+ * List&lt;EngineerDTO&gt; found = languages.findWithAll(repository.snapshot(), Arrays.asList("Kotlin", "SQL"));
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class LanguageIndex implements EngineerIndex {
+
+    /** 正規化した言語名 → 社員IDの数値の集合 */
+    private final Map<String, IntBitmap> postings = new HashMap<>();
+
+    /** 索引の更新と検索を調停するロック */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void onChange(int key, EngineerDTO before, EngineerDTO after) {
+        Set<String> removed = languagesOf(before);
+        Set<String> added = languagesOf(after);
+        Set<String> unchanged = new HashSet<>(removed);
+        unchanged.retainAll(added);
+        removed.removeAll(unchanged);
+        added.removeAll(unchanged);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (String language : removed) {
+                IntBitmap bitmap = postings.get(language);
+                if (bitmap != null) {
+                    bitmap.remove(key);
+                    if (bitmap.isEmpty()) {
+                        postings.remove(language);
+                    }
+                }
+            }
+            for (String language : added) {
+                postings.computeIfAbsent(language, k -> new IntBitmap()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 指定した言語をすべて扱える社員IDの集合を取得
+     * 件数の少ない言語から順に積集合を求める
+     *
+     * @param languages 言語名
+     * @return 社員IDの数値の集合（言語を指定しない場合は空）
+     */
+    public IntBitmap matchAll(Collection<String> languages) {
+        Set<String> normalized = normalizeAll(languages);
+        if (normalized.isEmpty()) {
+            return new IntBitmap();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<IntBitmap> bitmaps = new ArrayList<>(normalized.size());
+            for (String language : normalized) {
+                IntBitmap bitmap = postings.get(language);
+                if (bitmap == null) {
+                    return new IntBitmap();
+                }
+                bitmaps.add(bitmap);
+            }
+            bitmaps.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+
+            IntBitmap result = bitmaps.get(0).copy();
+            for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+                result = result.and(bitmaps.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 指定した言語のいずれかを扱える社員IDの集合を取得
+     *
+     * @param languages 言語名
+     * @return 社員IDの数値の集合（言語を指定しない場合は空）
+     */
+    public IntBitmap matchAny(Collection<String> languages) {
+        Set<String> normalized = normalizeAll(languages);
+
+        lock.readLock().lock();
+        try {
+            IntBitmap result = new IntBitmap();
+            for (String language : normalized) {
+                IntBitmap bitmap = postings.get(language);
+                if (bitmap != null) {
+                    result.addAll(bitmap);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 指定した言語をすべて扱えるエンジニアを取得
+     *
+     * @param snapshot  検索対象のスナップショット
+     * @param languages 言語名
+     * @return 変更不可のエンジニア一覧（社員IDの数値の昇順）
+     */
+    public List<EngineerDTO> findWithAll(EngineerSnapshot snapshot, Collection<String> languages) {
+        Set<String> normalized = normalizeAll(languages);
+        return snapshot.resolve(matchAll(normalized), engineer -> languagesOf(engineer).containsAll(normalized));
+    }
+
+    /**
+     * 指定した言語のいずれかを扱えるエンジニアを取得
+     *
+     * @param snapshot  検索対象のスナップショット
+     * @param languages 言語名
+     * @return 変更不可のエンジニア一覧（社員IDの数値の昇順）
+     */
+    public List<EngineerDTO> findWithAny(EngineerSnapshot snapshot, Collection<String> languages) {
+        Set<String> normalized = normalizeAll(languages);
+        return snapshot.resolve(matchAny(normalized),
+                engineer -> !Collections.disjoint(languagesOf(engineer), normalized));
+    }
+
+    /**
+     * 言語を扱えるエンジニアの件数を取得
+     *
+     * @param language 言語名
+     * @return 件数
+     */
+    public int count(String language) {
+        String normalized = normalize(language);
+        lock.readLock().lock();
+        try {
+            IntBitmap bitmap = normalized == null ? null : postings.get(normalized);
+            return bitmap == null ? 0 : bitmap.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 索引に登録されている言語名（正規化後）を取得
+     *
+     * @return 変更不可の言語名の集合
+     */
+    public Set<String> languages() {
+        lock.readLock().lock();
+        try {
+            return Collections.unmodifiableSet(new HashSet<>(postings.keySet()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * エンジニアが扱える言語名を正規化して取得
+     */
+    static Set<String> languagesOf(EngineerDTO engineer) {
+        if (engineer == null || engineer.getProgrammingLanguages() == null) {
+            return new HashSet<>();
+        }
+        return normalizeAll(engineer.getProgrammingLanguages());
+    }
+
+    static Set<String> normalizeAll(Collection<String> languages) {
+        Set<String> normalized = new HashSet<>();
+        if (languages != null) {
+            for (String language : languages) {
+                String value = normalize(language);
+                if (value != null) {
+                    normalized.add(value);
+                }
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * 言語名を照合用に正規化
+     *
+     * @return 正規化した言語名（空の場合はnull）
+     */
+    static String normalize(String language) {
+        if (language == null) {
+            return null;
+        }
+        String trimmed = language.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+}
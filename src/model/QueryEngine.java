@@ -0,0 +1,259 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import util.IntBitmap;
+
+/**
+ * エンジニア検索を実行するクエリエンジン
+ *
+ * <p>
+ * {@link EngineerQuery}の条件ごとに、登録されている副索引から候補件数を見積もり、
+ * 最も件数の少ない索引を使用します。候補が全件の1/{@value #INDEX_SELECTIVITY}を超える場合や、
+ * 使用できる索引がない場合は、{@link ColumnStore}の配列を走査して候補を絞り込みます。
+ * どちらの場合も、最後にスナップショット上のエンジニア情報で条件を照合します。
+ * </p>
+ *
+ * <p>
+ * 副索引と列指向ストアはスナップショットの置き換えの後に更新されるため、その間に参照すると
+ * スナップショットにある行を候補から取りこぼします。検索では参照の前後で
+ * 副索引がスナップショットに追いついていることを確認し、途中で更新された場合は
+ * 新しいスナップショットでやり直します。{@value #INDEXED_READ_ATTEMPTS}回続けて
+ * 更新と重なった場合は、副索引を使用せずにスナップショットの全件を照合します。
+ * このため、検索結果は常にいずれかの時点のスナップショットと一致します。
+ * </p>
+ *
+ * <p>
+ * 使用例：
+ * </p>
+ *
+ * <pre>
+ * QueryEngine engine = new QueryEngine(repository);
+ * engine.addIndex(new LanguageIndex());
+ * engine.addIndex(new RangeIndex(EngineerField.TECHNICAL_SKILL));
+ *
+ * List&lt;EngineerDTO&gt; found = engine.execute(new EngineerQuery()
+ *         .setCriterion(Criterion.and(
+ *                 Criterion.languagesAll("Kotlin", "SQL"),
+ *                 Criterion.atLeast(EngineerField.TECHNICAL_SKILL, EngineerField.skillKey(4.0))))
+ *         .setLimit(20));
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class QueryEngine {
+
+    /**
+     * 索引を使用する候補件数の割合の逆数
+     * 候補1件あたりのランダムアクセスは、列走査の1行よりおおよそこの倍率だけ高コストとみなす
+     */
+    static final int INDEX_SELECTIVITY = 4;
+
+    /** 副索引とスナップショットが一致する時点での候補の取得を試みる回数 */
+    static final int INDEXED_READ_ATTEMPTS = 4;
+
+    /** 検索対象のリポジトリ */
+    private final EngineerRepository repository;
+
+    /** 列指向ストア（常に登録） */
+    private final ColumnStore columnStore = new ColumnStore();
+
+    /** 言語索引（未登録の場合はnull） */
+    private volatile LanguageIndex languageIndex;
+
+    /** 全文索引（未登録の場合はnull） */
+    private volatile TextIndex textIndex;
+
+    /** フリガナ索引（未登録の場合はnull） */
+    private volatile KanaPrefixIndex kanaPrefixIndex;
+
+    /** 項目 → 範囲索引 */
+    private final Map<EngineerField, RangeIndex> rangeIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * リポジトリを指定してクエリエンジンを生成
+     * 列指向ストアをリポジトリに登録する
+     *
+     * @param repository 検索対象のリポジトリ
+     */
+    public QueryEngine(EngineerRepository repository) {
+        if (repository == null) {
+            throw new IllegalArgumentException("リポジトリがnullです");
+        }
+        this.repository = repository;
+        repository.addIndex(columnStore);
+    }
+
+    /**
+     * 副索引をリポジトリに登録し、検索計画で使用できるようにする
+     * 同じ種類（範囲索引は同じ項目）の索引を再度登録した場合は、後から登録したものを使用する
+     *
+     * @param index 副索引（{@link LanguageIndex}・{@link RangeIndex}・{@link TextIndex}・{@link KanaPrefixIndex}）
+     * @return このオブジェクト
+     * @throws IllegalArgumentException 検索計画で使用できない種類の索引の場合
+     */
+    public QueryEngine addIndex(EngineerIndex index) {
+        if (!(index instanceof LanguageIndex || index instanceof RangeIndex || index instanceof TextIndex
+                || index instanceof KanaPrefixIndex)) {
+            throw new IllegalArgumentException("検索計画で使用できない索引です: " + index);
+        }
+        repository.addIndex(index);
+        if (index instanceof LanguageIndex) {
+            languageIndex = (LanguageIndex) index;
+        } else if (index instanceof RangeIndex) {
+            rangeIndexes.put(((RangeIndex) index).getField(), (RangeIndex) index);
+        } else if (index instanceof TextIndex) {
+            textIndex = (TextIndex) index;
+        } else {
+            kanaPrefixIndex = (KanaPrefixIndex) index;
+        }
+        return this;
+    }
+
+    /**
+     * 検索を実行
+     *
+     * @param query 検索内容
+     * @return 変更不可のエンジニア一覧
+     */
+    public List<EngineerDTO> execute(EngineerQuery query) {
+        Criterion criterion = query.getCriterion();
+        EngineerSnapshot snapshot = null;
+        IntBitmap candidates = null;
+        for (int attempt = 0; attempt < INDEXED_READ_ATTEMPTS && candidates == null; attempt++) {
+            if (attempt > 0) {
+                // 副索引へ通知中の更新に実行を譲る
+                Thread.yield();
+            }
+            snapshot = repository.snapshot();
+            if (!repository.isIndexed(snapshot)) {
+                continue;
+            }
+            IntBitmap keys = useIndex(criterion, snapshot.size())
+                    ? criterion.lookup(this)
+                    : scanColumns(criterion);
+            if (repository.isIndexed(snapshot)) {
+                candidates = keys;
+            }
+        }
+        if (candidates == null) {
+            candidates = allKeys(snapshot);
+        }
+        List<EngineerDTO> matches = snapshot.resolve(candidates, criterion == null ? null : criterion::test);
+
+        if (query.getOrder() != null) {
+            matches = new ArrayList<>(matches);
+            matches.sort(query.getOrder());
+        }
+        int from = Math.min(query.getOffset(), matches.size());
+        int to = query.getLimit() > 0 ? (int) Math.min((long) from + query.getLimit(), matches.size())
+                : matches.size();
+        return Collections.unmodifiableList(new ArrayList<>(matches.subList(from, to)));
+    }
+
+    /**
+     * 検索計画を説明する文字列を取得
+     * 索引を使用する場合は「INDEX」、列走査の場合は「SCAN」で始まる
+     *
+     * @param query 検索内容
+     * @return 検索計画の説明
+     */
+    public String explain(EngineerQuery query) {
+        Criterion criterion = query.getCriterion();
+        if (useIndex(criterion, repository.size())) {
+            return "INDEX " + criterion.indexPath(this) + " estimate=" + criterion.estimate(this);
+        }
+        if (criterion == null) {
+            return "SCAN columns";
+        }
+        return "SCAN columns " + criterion + (criterion.columnExact() ? "" : " then verify");
+    }
+
+    /**
+     * 列指向ストアを取得
+     * 集計など、列を直接走査する処理で使用する
+     *
+     * @return 列指向ストア
+     */
+    public ColumnStore getColumnStore() {
+        return columnStore;
+    }
+
+    /**
+     * 検索対象のリポジトリを取得
+     *
+     * @return リポジトリ
+     */
+    public EngineerRepository getRepository() {
+        return repository;
+    }
+
+    LanguageIndex languageIndex() {
+        return languageIndex;
+    }
+
+    RangeIndex rangeIndex(EngineerField field) {
+        return rangeIndexes.get(field);
+    }
+
+    TextIndex textIndex() {
+        return textIndex;
+    }
+
+    KanaPrefixIndex kanaPrefixIndex() {
+        return kanaPrefixIndex;
+    }
+
+    int size() {
+        return repository.size();
+    }
+
+    /**
+     * 索引を使用するか判定
+     */
+    private boolean useIndex(Criterion criterion, int size) {
+        if (criterion == null) {
+            return false;
+        }
+        long estimate = criterion.estimate(this);
+        return estimate != Criterion.NO_INDEX && estimate * INDEX_SELECTIVITY <= size;
+    }
+
+    /**
+     * スナップショットのすべての社員IDを取得
+     * 副索引がスナップショットに追いつかない場合の候補とする
+     */
+    private static IntBitmap allKeys(EngineerSnapshot snapshot) {
+        IntBitmap keys = new IntBitmap();
+        snapshot.forEach(engineer -> keys.add(EngineerRepository.toKey(engineer.getId())));
+        return keys;
+    }
+
+    /**
+     * 列を走査して候補の社員IDを取得
+     */
+    private IntBitmap scanColumns(Criterion criterion) {
+        return columnStore.read(columns -> {
+            long[] selection = criterion == null ? null : criterion.scan(columns);
+            if (selection == null) {
+                selection = Criterion.liveRows(columns);
+            }
+            IntBitmap keys = new IntBitmap();
+            int[] keyColumn = columns.keyColumn();
+            for (int word = 0; word < selection.length; word++) {
+                long bits = selection[word];
+                while (bits != 0) {
+                    keys.add(keyColumn[(word << 6) | Long.numberOfTrailingZeros(bits)]);
+                    bits &= bits - 1;
+                }
+            }
+            return keys;
+        });
+    }
+}
@@ -0,0 +1,211 @@
+package model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import util.IntBitmap;
+
+/**
+ * エンジニア情報の1項目を対象とする範囲索引
+ *
+ * <p>
+ * 項目の並び順キー（{@link EngineerField}）ごとに、その値を持つ社員IDの集合を
+ * {@link IntBitmap}で保持し、キーの昇順に並べて管理します。範囲検索は該当するキーの
+ * ビットマップの和集合で求めるため、全件走査は発生しません。評価項目は値の種類が
+ * 少ない（1.0〜5.0の41通り）ため、ビットマップは少数で済みます。
+ * </p>
+ *
+ * <p>
+ * 複数条件の検索は、各索引の結果をビットマップの積集合で組み合わせ、
+ * {@link EngineerSnapshot#resolve}で条件を再確認してエンジニア情報に変換します。
+ * </p>
+ *
+ * <pre>
+ * RangeIndex skill = new RangeIndex(EngineerField.TECHNICAL_SKILL);
+ * RangeIndex joined = new RangeIndex(EngineerField.JOIN_DATE);
+ * repository.addIndex(skill);
+ * repository.addIndex(joined);
+ *
+ * int before2020 = EngineerField.dateKey(LocalDate.of(2020, 1, 1)) - 1;
+ * IntBitmap keys = skill.atLeast(EngineerField.skillKey(4.0)).and(joined.atMost(before2020));
+ * List&lt;EngineerDTO&gt; found = repository.snapshot().resolve(keys,
+ *         e -&gt; skill.matches(e, EngineerField.skillKey(4.0), Integer.MAX_VALUE)
+ *                 &amp;&amp; joined.matches(e, Integer.MIN_VALUE + 1, before2020));
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class RangeIndex implements EngineerIndex {
+
+    /** 対象の項目 */
+    private final EngineerField field;
+
+    /** 並び順キー → 社員IDの数値の集合 */
+    private final NavigableMap<Integer, IntBitmap> buckets = new TreeMap<>();
+
+    /** 索引の更新と検索を調停するロック */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 項目を指定して範囲索引を生成
+     *
+     * @param field 対象の項目
+     */
+    public RangeIndex(EngineerField field) {
+        if (field == null) {
+            throw new IllegalArgumentException("項目がnullです");
+        }
+        this.field = field;
+    }
+
+    /**
+     * 対象の項目を取得
+     *
+     * @return 対象の項目
+     */
+    public EngineerField getField() {
+        return field;
+    }
+
+    @Override
+    public void onChange(int key, EngineerDTO before, EngineerDTO after) {
+        int oldKey = before == null ? EngineerField.NO_KEY : field.keyOf(before);
+        int newKey = after == null ? EngineerField.NO_KEY : field.keyOf(after);
+        if (oldKey == newKey) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (oldKey != EngineerField.NO_KEY) {
+                IntBitmap bitmap = buckets.get(oldKey);
+                if (bitmap != null) {
+                    bitmap.remove(key);
+                    if (bitmap.isEmpty()) {
+                        buckets.remove(oldKey);
+                    }
+                }
+            }
+            if (newKey != EngineerField.NO_KEY) {
+                buckets.computeIfAbsent(newKey, k -> new IntBitmap()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 並び順キーが範囲内の社員IDの集合を取得
+     *
+     * @param low  下限のキー（この値を含む）
+     * @param high 上限のキー（この値を含む）
+     * @return 社員IDの数値の集合（low &gt; highの場合は空）
+     */
+    public IntBitmap between(int low, int high) {
+        IntBitmap result = new IntBitmap();
+        if (low > high) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            for (IntBitmap bitmap : buckets.subMap(low, true, high, true).values()) {
+                result.addAll(bitmap);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 並び順キーが範囲内の件数を取得
+     * ビットマップを作成しないため、検索計画での件数見積もりに使用する
+     *
+     * @param low  下限のキー（この値を含む）
+     * @param high 上限のキー（この値を含む）
+     * @return 件数
+     */
+    public int count(int low, int high) {
+        if (low > high) {
+            return 0;
+        }
+        lock.readLock().lock();
+        try {
+            int total = 0;
+            for (IntBitmap bitmap : buckets.subMap(low, true, high, true).values()) {
+                total += bitmap.cardinality();
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 並び順キーが下限以上の社員IDの集合を取得
+     *
+     * @param low 下限のキー（この値を含む）
+     * @return 社員IDの数値の集合
+     */
+    public IntBitmap atLeast(int low) {
+        return between(low, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 並び順キーが上限以下の社員IDの集合を取得
+     *
+     * @param high 上限のキー（この値を含む）
+     * @return 社員IDの数値の集合
+     */
+    public IntBitmap atMost(int high) {
+        return between(Integer.MIN_VALUE + 1, high);
+    }
+
+    /**
+     * 並び順キーが範囲内のエンジニアを取得
+     *
+     * @param snapshot 検索対象のスナップショット
+     * @param low      下限のキー（この値を含む）
+     * @param high     上限のキー（この値を含む）
+     * @return 変更不可のエンジニア一覧（社員IDの数値の昇順）
+     */
+    public List<EngineerDTO> findBetween(EngineerSnapshot snapshot, int low, int high) {
+        return snapshot.resolve(between(low, high), engineer -> matches(engineer, low, high));
+    }
+
+    /**
+     * エンジニア情報が範囲条件を満たすか判定
+     * {@link EngineerSnapshot#resolve}での再確認に使用する
+     *
+     * @param engineer エンジニア情報
+     * @param low      下限のキー（この値を含む）
+     * @param high     上限のキー（この値を含む）
+     * @return 条件を満たす場合true
+     */
+    public boolean matches(EngineerDTO engineer, int low, int high) {
+        return field.inRange(engineer, low, high);
+    }
+
+    /**
+     * 並び順キーごとの件数を取得
+     *
+     * @return キーの昇順に並んだ件数
+     */
+    public NavigableMap<Integer, Integer> histogram() {
+        lock.readLock().lock();
+        try {
+            NavigableMap<Integer, Integer> histogram = new TreeMap<>();
+            for (Map.Entry<Integer, IntBitmap> entry : buckets.entrySet()) {
+                histogram.put(entry.getKey(), entry.getValue().cardinality());
+            }
+            return histogram;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
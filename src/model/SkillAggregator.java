@@ -0,0 +1,306 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import util.IntObjectHashMap;
+
+/**
+ * 評価項目の統計を集計するクラス
+ *
+ * <p>
+ * {@link ColumnStore}の列（並び順キーのint配列・言語のビット列）を1回だけ走査し、
+ * 4つの評価項目の件数・合計・最小・最大・平均・分布をグループごとに求めます。
+ * 行ごとに{@link EngineerDTO}を参照しないため、オブジェクトの生成やポインタの参照が発生しません。
+ * 行の範囲を分割してフォーク/ジョインで並列に集計し、部分結果を結合します。
+ * </p>
+ *
+ * <pre>
+ * SkillAggregator aggregator = new SkillAggregator(engine.getColumnStore());
+ * Map&lt;String, SkillStatistics&gt; byLanguage = aggregator.byLanguage();
+ * double javaAverage = byLanguage.get("java").getAverage(EngineerField.TECHNICAL_SKILL);
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class SkillAggregator {
+
+    /** 1タスクで集計する最大行数（これを超える範囲は分割する） */
+    static final int SPLIT_THRESHOLD = 8_192;
+
+    /** 既定のエンジニア歴の区間幅（年） */
+    public static final int DEFAULT_CAREER_BAND = 5;
+
+    /** 集計対象の列指向ストア */
+    private final ColumnStore store;
+
+    /** 集計に使用するスレッドプール */
+    private final ForkJoinPool pool;
+
+    /**
+     * 共通プールで集計するオブジェクトを生成
+     *
+     * @param store 列指向ストア
+     */
+    public SkillAggregator(ColumnStore store) {
+        this(store, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * スレッドプールを指定して集計するオブジェクトを生成
+     *
+     * @param store 列指向ストア
+     * @param pool  スレッドプール
+     */
+    public SkillAggregator(ColumnStore store, ForkJoinPool pool) {
+        if (store == null || pool == null) {
+            throw new IllegalArgumentException("列指向ストアとスレッドプールを指定してください");
+        }
+        this.store = store;
+        this.pool = pool;
+    }
+
+    /**
+     * 全エンジニアの統計を集計
+     *
+     * @return 統計
+     */
+    public SkillStatistics summarize() {
+        IntObjectHashMap<Accumulator> groups = store.read(columns -> aggregate(columns, (row, out) -> {
+            out[0] = 0;
+            return 1;
+        }));
+        Accumulator all = groups.get(0);
+        return (all == null ? new Accumulator() : all).toStatistics();
+    }
+
+    /**
+     * 言語ごとの統計を集計
+     * 複数の言語を扱えるエンジニアは、それぞれの言語のグループに含まれる
+     *
+     * @return 言語名（正規化後） → 統計（言語名の昇順）
+     */
+    public Map<String, SkillStatistics> byLanguage() {
+        return store.read(columns -> {
+            int wordColumns = (columns.languageCount() + 63) >>> 6;
+            IntObjectHashMap<Accumulator> groups = aggregate(columns, (row, out) -> {
+                int n = 0;
+                for (int w = 0; w < wordColumns; w++) {
+                    long bits = columns.languageColumn(w << 6)[row];
+                    while (bits != 0) {
+                        out[n++] = (w << 6) | Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                    }
+                }
+                return n;
+            });
+            Map<String, SkillStatistics> result = new TreeMap<>();
+            groups.forEach((id, accumulator) -> result.put(columns.languageName(id), accumulator.toStatistics()));
+            return result;
+        });
+    }
+
+    /**
+     * 入社年ごとの統計を集計
+     * 入社年月が未設定のエンジニアは含まない
+     *
+     * @return 入社年 → 統計（年の昇順）
+     */
+    public Map<Integer, SkillStatistics> byJoinYear() {
+        return store.read(columns -> {
+            int[] joinDates = columns.column(EngineerField.JOIN_DATE);
+            return toMap(aggregate(columns, (row, out) -> {
+                if (joinDates[row] == EngineerField.NO_KEY) {
+                    return 0;
+                }
+                out[0] = LocalDate.ofEpochDay(joinDates[row]).getYear();
+                return 1;
+            }));
+        });
+    }
+
+    /**
+     * 既定の区間幅（{@value #DEFAULT_CAREER_BAND}年）でエンジニア歴ごとの統計を集計
+     *
+     * @return 区間の下限（年） → 統計（昇順）
+     */
+    public Map<Integer, SkillStatistics> byCareerBand() {
+        return byCareerBand(DEFAULT_CAREER_BAND);
+    }
+
+    /**
+     * エンジニア歴の区間ごとの統計を集計
+     * 区間幅5の場合、0〜4年は0、5〜9年は5のグループとなる
+     *
+     * @param width 区間幅（年）
+     * @return 区間の下限（年） → 統計（昇順）
+     * @throws IllegalArgumentException 区間幅が1未満の場合
+     */
+    public Map<Integer, SkillStatistics> byCareerBand(int width) {
+        if (width < 1) {
+            throw new IllegalArgumentException("区間幅は1以上で指定してください: " + width);
+        }
+        return store.read(columns -> {
+            int[] careers = columns.column(EngineerField.CAREER);
+            return toMap(aggregate(columns, (row, out) -> {
+                out[0] = Math.floorDiv(careers[row], width) * width;
+                return 1;
+            }));
+        });
+    }
+
+    /**
+     * 行が属するグループを求める関数
+     */
+    @FunctionalInterface
+    private interface RowGroups {
+
+        /**
+         * 行が属するグループの番号を書き込む
+         *
+         * @param row 行
+         * @param out 書き込み先（言語の数以上の長さ）
+         * @return グループの数（0の場合は集計しない）
+         */
+        int groupsOf(int row, int[] out);
+    }
+
+    /**
+     * 読み取りロック保持中に、フォーク/ジョインで列を集計
+     */
+    private IntObjectHashMap<Accumulator> aggregate(ColumnStore.Columns columns, RowGroups grouping) {
+        return pool.invoke(new AggregateTask(columns, grouping, 0, columns.rows()));
+    }
+
+    private static Map<Integer, SkillStatistics> toMap(IntObjectHashMap<Accumulator> groups) {
+        Map<Integer, SkillStatistics> result = new TreeMap<>();
+        groups.forEach((group, accumulator) -> result.put(group, accumulator.toStatistics()));
+        return result;
+    }
+
+    /**
+     * 行の範囲を集計するタスク
+     */
+    private static final class AggregateTask extends RecursiveTask<IntObjectHashMap<Accumulator>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ColumnStore.Columns columns;
+        private final transient RowGroups grouping;
+        private final int from;
+        private final int to;
+
+        AggregateTask(ColumnStore.Columns columns, RowGroups grouping, int from, int to) {
+            this.columns = columns;
+            this.grouping = grouping;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IntObjectHashMap<Accumulator> compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                return aggregateRange();
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(columns, grouping, from, middle);
+            left.fork();
+            IntObjectHashMap<Accumulator> right = new AggregateTask(columns, grouping, middle, to).compute();
+            IntObjectHashMap<Accumulator> result = left.join();
+            right.forEach((group, accumulator) -> {
+                Accumulator existing = result.get(group);
+                if (existing == null) {
+                    result.put(group, accumulator);
+                } else {
+                    existing.merge(accumulator);
+                }
+            });
+            return result;
+        }
+
+        private IntObjectHashMap<Accumulator> aggregateRange() {
+            IntObjectHashMap<Accumulator> groups = new IntObjectHashMap<>();
+            int[] keys = columns.keyColumn();
+            int[] technical = columns.column(EngineerField.TECHNICAL_SKILL);
+            int[] attitude = columns.column(EngineerField.LEARNING_ATTITUDE);
+            int[] communication = columns.column(EngineerField.COMMUNICATION_SKILL);
+            int[] leadership = columns.column(EngineerField.LEADERSHIP);
+            int[] out = new int[Math.max(1, columns.languageCount())];
+
+            for (int row = from; row < to; row++) {
+                if (keys[row] < 0) {
+                    continue;
+                }
+                int n = grouping.groupsOf(row, out);
+                for (int i = 0; i < n; i++) {
+                    Accumulator accumulator = groups.get(out[i]);
+                    if (accumulator == null) {
+                        accumulator = new Accumulator();
+                        groups.put(out[i], accumulator);
+                    }
+                    accumulator.add(technical[row], attitude[row], communication[row], leadership[row]);
+                }
+            }
+            return groups;
+        }
+    }
+
+    /**
+     * 1グループ分の集計途中の値
+     */
+    private static final class Accumulator {
+
+        private long engineers;
+        private final long[] counts = new long[SkillStatistics.SKILLS.length];
+        private final long[] sums = new long[SkillStatistics.SKILLS.length];
+        private final int[] mins = { Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE };
+        private final int[] maxes = { Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE };
+        private final long[][] histograms = new long[SkillStatistics.SKILLS.length][SkillStatistics.HISTOGRAM_BUCKETS];
+
+        void add(int technical, int attitude, int communication, int leadership) {
+            engineers++;
+            addSkill(0, technical);
+            addSkill(1, attitude);
+            addSkill(2, communication);
+            addSkill(3, leadership);
+        }
+
+        private void addSkill(int i, int key) {
+            // 未評価（EngineerField.NO_KEY）や範囲外の値は集計しない
+            if (key < SkillStatistics.MIN_KEY || key > SkillStatistics.MAX_KEY) {
+                return;
+            }
+            counts[i]++;
+            sums[i] += key;
+            if (key < mins[i]) {
+                mins[i] = key;
+            }
+            if (key > maxes[i]) {
+                maxes[i] = key;
+            }
+            histograms[i][key - SkillStatistics.MIN_KEY]++;
+        }
+
+        void merge(Accumulator other) {
+            engineers += other.engineers;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+                sums[i] += other.sums[i];
+                mins[i] = Math.min(mins[i], other.mins[i]);
+                maxes[i] = Math.max(maxes[i], other.maxes[i]);
+                for (int b = 0; b < SkillStatistics.HISTOGRAM_BUCKETS; b++) {
+                    histograms[i][b] += other.histograms[i][b];
+                }
+            }
+        }
+
+        SkillStatistics toStatistics() {
+            return new SkillStatistics(engineers, counts, sums, mins, maxes, histograms);
+        }
+    }
+}
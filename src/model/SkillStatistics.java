@@ -0,0 +1,180 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * 1つの集計グループにおける4つの評価項目（技術力・受講態度・コミュニケーション能力・リーダーシップ）の統計
+ *
+ * <p>
+ * {@link SkillAggregator}が作成する不変のオブジェクトです。評価値は並び順キー
+ * （{@link EngineerField#skillKey(double)}、0.1刻み）のまま集計し、取得時に評価値へ戻します。
+ * 評価が未設定（1.0未満）のエンジニアは、その項目の件数・合計・最小・最大・分布に含みません。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class SkillStatistics {
+
+    /** 集計対象の評価項目 */
+    static final EngineerField[] SKILLS = { EngineerField.TECHNICAL_SKILL, EngineerField.LEARNING_ATTITUDE,
+            EngineerField.COMMUNICATION_SKILL, EngineerField.LEADERSHIP };
+
+    /** 分布の最小キー（評価1.0） */
+    static final int MIN_KEY = 10;
+
+    /** 分布の最大キー（評価5.0） */
+    static final int MAX_KEY = 50;
+
+    /** 分布の区間数（0.1刻み） */
+    public static final int HISTOGRAM_BUCKETS = MAX_KEY - MIN_KEY + 1;
+
+    /** グループのエンジニア数 */
+    private final long engineers;
+
+    /** 項目 → 評価済みの件数 */
+    private final long[] counts;
+
+    /** 項目 → キーの合計 */
+    private final long[] sums;
+
+    /** 項目 → キーの最小値 */
+    private final int[] mins;
+
+    /** 項目 → キーの最大値 */
+    private final int[] maxes;
+
+    /** 項目 → 区間 → 件数 */
+    private final long[][] histograms;
+
+    SkillStatistics(long engineers, long[] counts, long[] sums, int[] mins, int[] maxes, long[][] histograms) {
+        this.engineers = engineers;
+        this.counts = counts;
+        this.sums = sums;
+        this.mins = mins;
+        this.maxes = maxes;
+        this.histograms = histograms;
+    }
+
+    /**
+     * グループのエンジニア数を取得
+     *
+     * @return エンジニア数
+     */
+    public long getEngineerCount() {
+        return engineers;
+    }
+
+    /**
+     * 評価済みのエンジニア数を取得
+     *
+     * @param skill 評価項目
+     * @return 件数
+     * @throws IllegalArgumentException 評価項目でない場合
+     */
+    public long getCount(EngineerField skill) {
+        return counts[indexOf(skill)];
+    }
+
+    /**
+     * 評価値の合計を取得
+     *
+     * @param skill 評価項目
+     * @return 合計（0.1刻みで丸めた評価値の合計）
+     * @throws IllegalArgumentException 評価項目でない場合
+     */
+    public double getSum(EngineerField skill) {
+        return sums[indexOf(skill)] / 10.0;
+    }
+
+    /**
+     * 評価値の平均を取得
+     *
+     * @param skill 評価項目
+     * @return 平均（評価済みのエンジニアがいない場合は{@link Double#NaN}）
+     * @throws IllegalArgumentException 評価項目でない場合
+     */
+    public double getAverage(EngineerField skill) {
+        int i = indexOf(skill);
+        return counts[i] == 0 ? Double.NaN : sums[i] / (counts[i] * 10.0);
+    }
+
+    /**
+     * 評価値の最小値を取得
+     *
+     * @param skill 評価項目
+     * @return 最小値（評価済みのエンジニアがいない場合は{@link Double#NaN}）
+     * @throws IllegalArgumentException 評価項目でない場合
+     */
+    public double getMin(EngineerField skill) {
+        int i = indexOf(skill);
+        return counts[i] == 0 ? Double.NaN : mins[i] / 10.0;
+    }
+
+    /**
+     * 評価値の最大値を取得
+     *
+     * @param skill 評価項目
+     * @return 最大値（評価済みのエンジニアがいない場合は{@link Double#NaN}）
+     * @throws IllegalArgumentException 評価項目でない場合
+     */
+    public double getMax(EngineerField skill) {
+        int i = indexOf(skill);
+        return counts[i] == 0 ? Double.NaN : maxes[i] / 10.0;
+    }
+
+    /**
+     * 評価値の分布を取得
+     * 要素iは評価値 1.0 + i × 0.1 の件数
+     *
+     * @param skill 評価項目
+     * @return 区間ごとの件数（長さ{@link #HISTOGRAM_BUCKETS}の配列のコピー）
+     * @throws IllegalArgumentException 評価項目でない場合
+     */
+    public long[] getHistogram(EngineerField skill) {
+        return Arrays.copyOf(histograms[indexOf(skill)], HISTOGRAM_BUCKETS);
+    }
+
+    /**
+     * 評価値の件数を取得
+     *
+     * @param skill 評価項目
+     * @param value 評価値（0.1刻みに丸める）
+     * @return 件数（範囲外の評価値は0）
+     * @throws IllegalArgumentException 評価項目でない場合
+     */
+    public long getFrequency(EngineerField skill, double value) {
+        int key = EngineerField.skillKey(value);
+        long[] histogram = histograms[indexOf(skill)];
+        return key < MIN_KEY || key > MAX_KEY ? 0 : histogram[key - MIN_KEY];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("SkillStatistics{engineers=").append(engineers);
+        for (int i = 0; i < SKILLS.length; i++) {
+            builder.append(", ").append(SKILLS[i]).append("=")
+                    .append(counts[i] == 0 ? "-" : String.format("%.2f", getAverage(SKILLS[i])));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 評価項目の配列上の位置を取得
+     */
+    static int indexOf(EngineerField skill) {
+        switch (skill) {
+            case TECHNICAL_SKILL:
+                return 0;
+            case LEARNING_ATTITUDE:
+                return 1;
+            case COMMUNICATION_SKILL:
+                return 2;
+            case LEADERSHIP:
+                return 3;
+            default:
+                throw new IllegalArgumentException("評価項目ではありません: " + skill);
+        }
+    }
+}
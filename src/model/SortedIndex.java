@@ -0,0 +1,278 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 一覧画面のページ送り（キーセット方式）に使用する並び順の索引
+ *
+ * <p>
+ * 並び順の値と社員IDの組を昇順に保持します。ページは「前のページの最後の行」を表す
+ * {@link Cursor}の直後から読み進めて取得するため、何ページ目であっても
+ * 処理時間はページの件数に比例します（先頭から読み飛ばす方式では、N ページ目の取得に
+ * N × ページ件数の処理が必要です）。社員IDを第2キーとするため、並び順の値が同じ
+ * エンジニアが複数いても、ページ間で重複や欠落は発生しません。
+ * </p>
+ *
+ * <p>
+ * 内部は{@link java.util.concurrent.ConcurrentSkipListSet}で管理するため、ページ送りはロックを取得せず、
+ * 索引の更新と並行して実行できます。各行は{@link EngineerSnapshot}で再確認し、
+ * スナップショットに存在しない行や並び順の値が変わった行は読み飛ばします。
+ * </p>
+ *
+ * <pre>
+ * SortedIndex byJoinDate = new SortedIndex(SortedIndex.Order.JOIN_DATE);
+ * repository.addIndex(byJoinDate);
+ *
+ * SortedIndex.Page page = byJoinDate.page(repository.snapshot(), null, 20, false);
+ * while (page.getNext() != null) {
+ *     page = byJoinDate.page(repository.snapshot(), page.getNext(), 20, false);
+ * }
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class SortedIndex implements EngineerIndex {
+
+    /**
+     * 一覧の並び順
+     */
+    public enum Order {
+
+        /** 社員ID順 */
+        ID,
+
+        /** 氏名順（フリガナの50音順。フリガナが未設定の場合は氏名） */
+        NAME,
+
+        /** 入社年月順（未設定は先頭） */
+        JOIN_DATE;
+
+        /**
+         * エンジニア情報の並び順の位置を取得
+         */
+        Cursor positionOf(int key, EngineerDTO engineer) {
+            switch (this) {
+                case NAME: {
+                    String kana = KanaPrefixIndex.normalize(engineer.getNameKana());
+                    return new Cursor(this, 0, kana.isEmpty() ? KanaPrefixIndex.normalize(engineer.getName()) : kana,
+                            key);
+                }
+                case JOIN_DATE:
+                    return new Cursor(this, EngineerField.dateKey(engineer.getJoinDate()), "", key);
+                default:
+                    return new Cursor(this, 0, "", key);
+            }
+        }
+    }
+
+    /**
+     * 一覧上の位置（並び順の値と社員ID）
+     * ページ取得時に指定すると、この位置の直後（降順の場合は直前）から取得する
+     */
+    public static final class Cursor implements Comparable<Cursor> {
+
+        private final Order order;
+        private final long number;
+        private final String text;
+        private final int key;
+
+        Cursor(Order order, long number, String text, int key) {
+            this.order = order;
+            this.number = number;
+            this.text = text;
+            this.key = key;
+        }
+
+        /**
+         * 画面間で受け渡す文字列に変換
+         *
+         * @return 位置を表す文字列
+         */
+        public String toToken() {
+            return order + ":" + key + ":" + number + ":" + text;
+        }
+
+        /**
+         * {@link #toToken()}で変換した文字列から位置を復元
+         *
+         * @param token 位置を表す文字列
+         * @return 位置
+         * @throws IllegalArgumentException 形式が不正な場合
+         */
+        public static Cursor fromToken(String token) {
+            String[] parts = token == null ? new String[0] : token.split(":", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("ページ位置の形式が不正です: " + token);
+            }
+            try {
+                return new Cursor(Order.valueOf(parts[0]), Long.parseLong(parts[2]), parts[3],
+                        Integer.parseInt(parts[1]));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("ページ位置の形式が不正です: " + token, e);
+            }
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int result = Long.compare(number, other.number);
+            if (result == 0) {
+                result = text.compareTo(other.text);
+            }
+            return result != 0 ? result : Integer.compare(key, other.key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Cursor)) {
+                return false;
+            }
+            Cursor that = (Cursor) o;
+            return order == that.order && number == that.number && key == that.key && text.equals(that.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(order, number, text, key);
+        }
+
+        @Override
+        public String toString() {
+            return toToken();
+        }
+    }
+
+    /**
+     * 1ページ分の一覧
+     */
+    public static final class Page {
+
+        private final List<EngineerDTO> engineers;
+        private final Cursor next;
+
+        Page(List<EngineerDTO> engineers, Cursor next) {
+            this.engineers = Collections.unmodifiableList(engineers);
+            this.next = next;
+        }
+
+        /**
+         * ページのエンジニア一覧を取得
+         *
+         * @return 変更不可のエンジニア一覧
+         */
+        public List<EngineerDTO> getEngineers() {
+            return engineers;
+        }
+
+        /**
+         * 次のページの取得に指定する位置を取得
+         *
+         * @return 位置（最後のページの場合はnull）
+         */
+        public Cursor getNext() {
+            return next;
+        }
+    }
+
+    /** 並び順 */
+    private final Order order;
+
+    /** 並び順の位置の昇順に並べた組 */
+    private final NavigableSet<Cursor> entries = new ConcurrentSkipListSet<>();
+
+    /**
+     * 並び順を指定して索引を生成
+     *
+     * @param order 並び順
+     */
+    public SortedIndex(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("並び順がnullです");
+        }
+        this.order = order;
+    }
+
+    @Override
+    public void onChange(int key, EngineerDTO before, EngineerDTO after) {
+        Cursor removed = before == null ? null : order.positionOf(key, before);
+        Cursor added = after == null ? null : order.positionOf(key, after);
+        if (Objects.equals(removed, added)) {
+            return;
+        }
+        if (removed != null) {
+            entries.remove(removed);
+        }
+        if (added != null) {
+            entries.add(added);
+        }
+    }
+
+    /**
+     * 並び順を取得
+     *
+     * @return 並び順
+     */
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * ページを取得
+     *
+     * @param snapshot   照合に使用するスナップショット
+     * @param after      前のページの{@link Page#getNext()}（nullの場合は先頭のページ）
+     * @param size       ページの件数
+     * @param descending 降順の場合true
+     * @return ページ
+     * @throws IllegalArgumentException ページの件数が1未満の場合、または別の並び順の位置を指定した場合
+     */
+    public Page page(EngineerSnapshot snapshot, Cursor after, int size, boolean descending) {
+        if (size < 1) {
+            throw new IllegalArgumentException("ページの件数は1以上で指定してください: " + size);
+        }
+        if (after != null && after.order != order) {
+            throw new IllegalArgumentException("並び順が異なるページ位置です: " + after);
+        }
+        NavigableSet<Cursor> view = descending ? entries.descendingSet() : entries;
+        if (after != null) {
+            view = view.tailSet(after, false);
+        }
+
+        List<EngineerDTO> engineers = new ArrayList<>(size);
+        Cursor last = null;
+        Iterator<Cursor> iterator = view.iterator();
+        while (iterator.hasNext()) {
+            Cursor position = iterator.next();
+            EngineerDTO engineer = snapshot.get(position.key);
+            // 索引の更新前後の行は、スナップショットと一致するもののみ返す
+            if (engineer == null || !position.equals(order.positionOf(position.key, engineer))) {
+                continue;
+            }
+            if (engineers.size() == size) {
+                return new Page(engineers, last);
+            }
+            engineers.add(engineer);
+            last = position;
+        }
+        return new Page(engineers, null);
+    }
+
+    /**
+     * 索引の件数を取得
+     *
+     * @return 件数
+     */
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,251 @@
+package model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import util.IntBitmap;
+import util.IntObjectHashMap;
+
+/**
+ * 経歴・研修の受講歴・備考を部分一致で検索する全文索引
+ *
+ * <p>
+ * 各項目の文字列を連続する2文字（バイグラム）に分割し、バイグラムごとに
+ * それを含む社員IDの集合を{@link IntBitmap}で保持します。検索文字列のバイグラムを
+ * すべて含む社員IDを積集合で絞り込み、最後に元の文字列に検索文字列が含まれるかを
+ * 確認する（フレーズ照合）ため、全件の文字列を走査せずに正確な部分一致結果を得られます。
+ * 1文字の検索には、1文字ごとの索引を使用します。
+ * </p>
+ *
+ * <p>
+ * 文字列はNFKC正規化と英字の小文字化を行ってから索引に登録するため、
+ * 全角・半角や大文字・小文字の違いは区別しません（例：「ＡＷＳ」と「aws」は同一）。
+ * バイグラムは項目ごとに作成し、項目の境界をまたぐ組み合わせは登録しません。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class TextIndex implements EngineerIndex {
+
+    /** バイグラム（上位16ビットが1文字目、下位16ビットが2文字目） → 社員IDの数値の集合 */
+    private final IntObjectHashMap<IntBitmap> bigrams = new IntObjectHashMap<>();
+
+    /** 1文字 → 社員IDの数値の集合 */
+    private final IntObjectHashMap<IntBitmap> unigrams = new IntObjectHashMap<>();
+
+    /** 索引の更新と検索を調停するロック */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void onChange(int key, EngineerDTO before, EngineerDTO after) {
+        List<String> oldTexts = textsOf(before);
+        List<String> newTexts = textsOf(after);
+        if (oldTexts.equals(newTexts)) {
+            return;
+        }
+
+        Set<Integer> oldBigrams = new HashSet<>();
+        Set<Integer> oldUnigrams = new HashSet<>();
+        collectGrams(oldTexts, oldBigrams, oldUnigrams);
+        Set<Integer> newBigrams = new HashSet<>();
+        Set<Integer> newUnigrams = new HashSet<>();
+        collectGrams(newTexts, newBigrams, newUnigrams);
+
+        lock.writeLock().lock();
+        try {
+            apply(bigrams, key, oldBigrams, newBigrams);
+            apply(unigrams, key, oldUnigrams, newUnigrams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 検索文字列のバイグラムをすべて含む社員IDの集合を取得
+     * フレーズ照合前の候補のため、検索文字列を含まないものが混ざる場合がある
+     *
+     * @param phrase 検索文字列（正規化前）
+     * @return 社員IDの数値の集合（検索文字列が空の場合は空）
+     */
+    public IntBitmap candidates(String phrase) {
+        String normalized = normalize(phrase);
+        if (normalized.isEmpty()) {
+            return new IntBitmap();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (normalized.length() == 1) {
+                IntBitmap bitmap = unigrams.get(normalized.charAt(0));
+                return bitmap == null ? new IntBitmap() : bitmap.copy();
+            }
+
+            List<IntBitmap> postings = new ArrayList<>();
+            for (int i = 0; i + 1 < normalized.length(); i++) {
+                IntBitmap bitmap = bigrams.get(bigram(normalized, i));
+                if (bitmap == null) {
+                    return new IntBitmap();
+                }
+                postings.add(bitmap);
+            }
+            // 件数の少ないバイグラムから積集合を求め、途中結果を小さく保つ
+            postings.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+            IntBitmap result = postings.get(0).copy();
+            for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+                result = result.and(postings.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 候補件数の上限を見積もる
+     * 検索文字列のバイグラムのうち、最も件数の少ないものの件数を返す
+     *
+     * @param phrase 検索文字列（正規化前）
+     * @return 候補件数の上限
+     */
+    public int estimate(String phrase) {
+        String normalized = normalize(phrase);
+        if (normalized.isEmpty()) {
+            return 0;
+        }
+        lock.readLock().lock();
+        try {
+            if (normalized.length() == 1) {
+                IntBitmap bitmap = unigrams.get(normalized.charAt(0));
+                return bitmap == null ? 0 : bitmap.cardinality();
+            }
+            int min = Integer.MAX_VALUE;
+            for (int i = 0; i + 1 < normalized.length(); i++) {
+                IntBitmap bitmap = bigrams.get(bigram(normalized, i));
+                min = Math.min(min, bitmap == null ? 0 : bitmap.cardinality());
+            }
+            return min;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 経歴・研修の受講歴・備考のいずれかに検索文字列を含むエンジニアを取得
+     *
+     * @param snapshot 検索対象のスナップショット
+     * @param phrase   検索文字列（正規化前）
+     * @return 変更不可のエンジニア一覧（社員IDの数値の昇順）
+     */
+    public List<EngineerDTO> find(EngineerSnapshot snapshot, String phrase) {
+        String normalized = normalize(phrase);
+        return snapshot.resolve(candidates(phrase), engineer -> contains(engineer, normalized));
+    }
+
+    /**
+     * エンジニア情報の経歴・研修の受講歴・備考のいずれかが検索文字列を含むか判定
+     *
+     * @param engineer         エンジニア情報
+     * @param normalizedPhrase 正規化済みの検索文字列
+     * @return 含む場合true
+     */
+    static boolean contains(EngineerDTO engineer, String normalizedPhrase) {
+        if (normalizedPhrase.isEmpty()) {
+            return false;
+        }
+        for (String text : textsOf(engineer)) {
+            if (text.contains(normalizedPhrase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 検索用に文字列を正規化
+     *
+     * @param text 文字列
+     * @return 正規化した文字列（nullの場合は空文字列）
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 社員IDをグラムの差分に合わせて索引に登録・削除（書き込みロック保持中に呼び出す）
+     */
+    private static void apply(IntObjectHashMap<IntBitmap> postings, int key, Set<Integer> before,
+            Set<Integer> after) {
+        for (int gram : before) {
+            if (!after.contains(gram)) {
+                IntBitmap bitmap = postings.get(gram);
+                if (bitmap != null) {
+                    bitmap.remove(key);
+                    if (bitmap.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+        for (int gram : after) {
+            if (!before.contains(gram)) {
+                IntBitmap bitmap = postings.get(gram);
+                if (bitmap == null) {
+                    bitmap = new IntBitmap();
+                    postings.put(gram, bitmap);
+                }
+                bitmap.add(key);
+            }
+        }
+    }
+
+    /**
+     * 項目ごとの文字列からバイグラムと1文字のグラムを集める
+     */
+    private static void collectGrams(List<String> texts, Set<Integer> bigramsOut, Set<Integer> unigramsOut) {
+        for (String text : texts) {
+            for (int i = 0; i < text.length(); i++) {
+                unigramsOut.add((int) text.charAt(i));
+                if (i + 1 < text.length()) {
+                    bigramsOut.add(bigram(text, i));
+                }
+            }
+        }
+    }
+
+    /**
+     * 指定位置から始まるバイグラムのキー
+     */
+    private static int bigram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    /**
+     * エンジニア情報から索引に登録する正規化済みの文字列を取得
+     */
+    private static List<String> textsOf(EngineerDTO engineer) {
+        List<String> texts = new ArrayList<>(3);
+        if (engineer != null) {
+            addIfPresent(texts, engineer.getCareerHistory());
+            addIfPresent(texts, engineer.getTrainingHistory());
+            addIfPresent(texts, engineer.getNote());
+        }
+        return texts;
+    }
+
+    private static void addIfPresent(List<String> texts, String text) {
+        String normalized = normalize(text);
+        if (!normalized.isEmpty()) {
+            texts.add(normalized);
+        }
+    }
+}
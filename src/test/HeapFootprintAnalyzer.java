@@ -0,0 +1,259 @@
+package test;
+
+import model.ColumnStore;
+import model.EngineerDTO;
+import model.EngineerRecordCodec;
+import model.EngineerRepository;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * エンジニア情報1件あたりのヒープ使用量を項目ごと・保持形式ごとに計測するクラス
+ *
+ * <p>
+ * RosterGeneratorで生成した一覧を{@link ObjectSizer}で計測し、次の2つを出力します。
+ * </p>
+ * <ul>
+ * <li>項目ごとの内訳：EngineerDTO本体（ヘッダ・数値項目・参照）と、各項目から参照される
+ * オブジェクトの大きさ。1件だけを保持した場合（単独）と、一覧全体で共有されるオブジェクト
+ * （同じ言語名の文字列など）を1回だけ数えた場合（一覧全体）の1件あたりの値</li>
+ * <li>保持形式ごとの比較：EngineerDTOの配列、EngineerRecordCodecで1件ずつバイト配列に
+ * 詰め込んだ形式、ColumnStoreの列指向形式、全件を1つのダイレクトバッファ（ヒープ外）に
+ * 詰め込みオフセットだけをヒープに置く形式</li>
+ * </ul>
+ *
+ * <p>
+ * 計測値の妥当性を確認するため、EngineerDTOの配列についてはGC後のヒープ使用量の増分も出力します。
+ * </p>
+ *
+ * 実行方法：
+ * java --add-opens java.base/java.lang=ALL-UNNAMED --add-opens java.base/java.util=ALL-UNNAMED \
+ * --add-opens java.base/java.util.concurrent.locks=ALL-UNNAMED --add-opens java.base/java.nio=ALL-UNNAMED \
+ * test.HeapFootprintAnalyzer [件数] [シード]
+ *
+ * 例：
+ * java （上記の--add-opens） test.HeapFootprintAnalyzer 99999 48
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class HeapFootprintAnalyzer {
+
+    /** 既定の件数 */
+    private static final int DEFAULT_COUNT = RosterGenerator.UNIQUE_IDS;
+
+    /** 既定のシード */
+    private static final long DEFAULT_SEED = 48L;
+
+    /**
+     * 1項目の使用量
+     */
+    static final class FieldFootprint {
+
+        final String name;
+
+        /** 1件だけを保持した場合のバイト数（1件あたり） */
+        final double isolatedBytes;
+
+        /** 一覧全体で共有されるオブジェクトを1回だけ数えた場合のバイト数（1件あたり） */
+        final double sharedBytes;
+
+        FieldFootprint(String name, double isolatedBytes, double sharedBytes) {
+            this.name = name;
+            this.isolatedBytes = isolatedBytes;
+            this.sharedBytes = sharedBytes;
+        }
+    }
+
+    /**
+     * 1つの保持形式の使用量
+     */
+    static final class Representation {
+
+        final String name;
+        final long heapBytes;
+        final long offHeapBytes;
+        final String contents;
+
+        Representation(String name, long heapBytes, long offHeapBytes, String contents) {
+            this.name = name;
+            this.heapBytes = heapBytes;
+            this.offHeapBytes = offHeapBytes;
+            this.contents = contents;
+        }
+
+        long totalBytes() {
+            return heapBytes + offHeapBytes;
+        }
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+        if (count < 1 || count > RosterGenerator.UNIQUE_IDS) {
+            throw new IllegalArgumentException("件数は1〜" + RosterGenerator.UNIQUE_IDS + "で指定してください: " + count);
+        }
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+
+        long before = usedHeapAfterGc();
+        EngineerDTO[] engineers = generate(count, seed);
+        long measuredHeap = usedHeapAfterGc() - before;
+
+        System.out.println("=====================================================");
+        System.out.printf("ヒープ使用量の分析: %,d件（シード %d）%n", count, seed);
+        System.out.printf("JVM: %s, 参照 %dバイト, ヘッダ %dバイト, アライメント %dバイト%n",
+                System.getProperty("java.vm.version"), ObjectSizer.REFERENCE_BYTES, ObjectSizer.OBJECT_HEADER_BYTES,
+                ObjectSizer.OBJECT_ALIGNMENT);
+        System.out.println("=====================================================");
+
+        System.out.println("項目ごとの内訳（バイト/件）:");
+        System.out.printf("%-28s %10s %14s %8s%n", "項目", "単独", "一覧全体", "割合");
+        List<FieldFootprint> fields = fieldFootprints(engineers);
+        double isolatedTotal = 0;
+        double sharedTotal = 0;
+        for (FieldFootprint field : fields) {
+            isolatedTotal += field.isolatedBytes;
+            sharedTotal += field.sharedBytes;
+        }
+        for (FieldFootprint field : fields) {
+            System.out.printf("%-28s %10.1f %14.1f %7.1f%%%n", field.name, field.isolatedBytes, field.sharedBytes,
+                    field.sharedBytes / sharedTotal * 100);
+        }
+        System.out.printf("%-28s %10.1f %14.1f %7.1f%%%n", "合計", isolatedTotal, sharedTotal, 100.0);
+        System.out.println();
+
+        System.out.println("保持形式ごとの比較:");
+        System.out.printf("%-36s %12s %12s %10s %8s  %s%n", "形式", "ヒープ(B/件)", "ヒープ外(B/件)", "合計(MB)", "対DTO",
+                "保持する内容");
+        List<Representation> representations = representations(engineers);
+        double plain = representations.get(0).totalBytes();
+        for (Representation representation : representations) {
+            System.out.printf("%-36s %12.1f %12.1f %10.1f %7.2fx  %s%n", representation.name,
+                    representation.heapBytes / (double) count, representation.offHeapBytes / (double) count,
+                    representation.totalBytes() / 1048576.0, representation.totalBytes() / plain,
+                    representation.contents);
+        }
+        System.out.println();
+        System.out.printf("参考: EngineerDTOの配列のGC後のヒープ増分 %.1fバイト/件（計測値 %.1fバイト/件）%n",
+                measuredHeap / (double) count, plain / count);
+        System.out.println("=====================================================");
+    }
+
+    /**
+     * 一覧を生成
+     */
+    static EngineerDTO[] generate(int count, long seed) {
+        RosterGenerator generator = new RosterGenerator(seed);
+        EngineerDTO[] engineers = new EngineerDTO[count];
+        for (int i = 0; i < count; i++) {
+            engineers[i] = generator.generate(i);
+        }
+        return engineers;
+    }
+
+    /**
+     * 項目ごとの1件あたりの使用量を計測
+     * EngineerDTO本体を先に数え、以降は宣言順に各項目の参照先のうち未計数のものを数える
+     *
+     * @param engineers 一覧
+     * @return EngineerDTO本体、各項目の順の使用量
+     */
+    static List<FieldFootprint> fieldFootprints(EngineerDTO[] engineers) {
+        List<Field> references = new ArrayList<>();
+        for (Field field : EngineerDTO.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                field.setAccessible(true);
+                references.add(field);
+            }
+        }
+        long[] isolated = new long[references.size() + 1];
+        long[] shared = new long[references.size() + 1];
+        ObjectSizer roster = new ObjectSizer();
+
+        for (EngineerDTO engineer : engineers) {
+            isolated[0] += ObjectSizer.shallowSizeOf(engineer);
+            shared[0] += ObjectSizer.shallowSizeOf(engineer);
+            ObjectSizer single = new ObjectSizer();
+            for (int i = 0; i < references.size(); i++) {
+                Object value = valueOf(references.get(i), engineer);
+                isolated[i + 1] += single.add(value);
+                shared[i + 1] += roster.add(value);
+            }
+        }
+
+        int count = engineers.length;
+        List<FieldFootprint> footprints = new ArrayList<>();
+        footprints.add(new FieldFootprint("EngineerDTO本体", isolated[0] / (double) count, shared[0] / (double) count));
+        for (int i = 0; i < references.size(); i++) {
+            footprints.add(new FieldFootprint(references.get(i).getName(), isolated[i + 1] / (double) count,
+                    shared[i + 1] / (double) count));
+        }
+        return footprints;
+    }
+
+    /**
+     * 保持形式ごとの使用量を計測
+     *
+     * @param engineers 一覧
+     * @return EngineerDTOの配列、詰め込み、列指向、ヒープ外の順の使用量
+     */
+    static List<Representation> representations(EngineerDTO[] engineers) {
+        List<Representation> representations = new ArrayList<>();
+        representations.add(new Representation("EngineerDTOの配列", ObjectSizer.deepSizeOf(engineers), 0,
+                "全項目"));
+
+        byte[][] packed = new byte[engineers.length][];
+        long encodedBytes = 0;
+        for (int i = 0; i < engineers.length; i++) {
+            packed[i] = EngineerRecordCodec.encode(engineers[i]);
+            encodedBytes += packed[i].length;
+        }
+        representations.add(new Representation("詰め込み（1件ごとのbyte[]）", ObjectSizer.deepSizeOf(packed), 0,
+                "全項目（参照時に復号）"));
+
+        ColumnStore columns = new ColumnStore();
+        for (EngineerDTO engineer : engineers) {
+            columns.onChange(EngineerRepository.toKey(engineer.getId()), null, engineer);
+        }
+        representations.add(new Representation("列指向（ColumnStore）", ObjectSizer.deepSizeOf(columns), 0,
+                "数値項目・言語のみ（文字列項目なし）"));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) encodedBytes);
+        int[] offsets = new int[engineers.length + 1];
+        for (int i = 0; i < packed.length; i++) {
+            offsets[i] = buffer.position();
+            buffer.put(packed[i]);
+        }
+        offsets[packed.length] = buffer.position();
+        ObjectSizer offHeap = new ObjectSizer();
+        offHeap.add(offsets);
+        offHeap.add(buffer);
+        representations.add(new Representation("ヒープ外（ダイレクトバッファ）", offHeap.getTotalBytes(), buffer.capacity(),
+                "全項目（参照時に復号）"));
+        return representations;
+    }
+
+    private static Object valueOf(Field field, EngineerDTO engineer) {
+        try {
+            return field.get(engineer);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("項目を読み取れません: " + field.getName(), e);
+        }
+    }
+
+    /**
+     * GC後のヒープ使用量
+     */
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,311 @@
+package test;
+
+import model.EngineerBuilder;
+import model.EngineerDTO;
+import model.EngineerJournal;
+import model.EngineerRepository;
+import util.LatencyHistogram;
+import util.LogHandler;
+import util.MessageEnum;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 複数の担当者による同時登録を模擬する負荷試験ドライバ
+ *
+ * <p>
+ * 担当者ごとのスレッドが、{@link RosterGenerator}の行を入力として
+ * {@link EngineerBuilder}でエンジニア情報を構築・検証し、{@link EngineerRepository}に登録します
+ * （登録時のログ出力と、保存先を指定した場合はジャーナルへの永続化を含む）。
+ * 検証で拒否された行はエラーログを出力して次の行へ進みます。
+ * 入力の生成は計測に含めず、1操作（構築・検証・登録）と段階ごとの処理時間を
+ * {@link LatencyHistogram}に記録します。
+ * </p>
+ *
+ * <p>
+ * 計測時間が経過するか、全担当者の操作数の合計が指定件数（社員IDは5桁のため、
+ * 最大で{@value RosterGenerator#UNIQUE_IDS}件）に達すると終了し、
+ * スループットと処理時間の分布（p50・p90・p99・p99.9）を出力します。
+ * 結果ファイルを指定した場合は、ビルド間で比較できるようJSON形式でも書き込みます。
+ * </p>
+ *
+ * 実行方法：
+ * java test.LoadDriver [担当者数] [計測秒数] [最大操作数(0は社員IDの数まで)] [不正データの比率] [結果ファイル] [保存先ディレクトリ]
+ *
+ * 例：
+ * java test.LoadDriver 16 30 0 0.01 load-result.json data
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class LoadDriver {
+
+    /** 処理時間の出力単位（マイクロ秒） */
+    private static final double MICROS = 1_000.0;
+
+    /** 入力の生成に使用するシード */
+    private static final long SEED = 45L;
+
+    /**
+     * 負荷試験の結果
+     */
+    static final class Result {
+
+        final int operators;
+        final double seconds;
+        final long registered;
+        final long rejected;
+        final LatencyHistogram operation;
+        final LatencyHistogram build;
+        final LatencyHistogram register;
+
+        Result(int operators, double seconds, long registered, long rejected, LatencyHistogram operation,
+                LatencyHistogram build, LatencyHistogram register) {
+            this.operators = operators;
+            this.seconds = seconds;
+            this.registered = registered;
+            this.rejected = rejected;
+            this.operation = operation;
+            this.build = build;
+            this.register = register;
+        }
+
+        /**
+         * 1秒あたりの操作数を取得
+         */
+        double throughput() {
+            return (registered + rejected) / seconds;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int operators = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long maxOperations = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        double invalidRate = args.length > 3 ? Double.parseDouble(args[3]) : 0.0;
+        Path resultFile = args.length > 4 ? Paths.get(args[4]) : null;
+        Path dataDirectory = args.length > 5 ? Paths.get(args[5]) : null;
+
+        // ログハンドラの初期化（登録時のログ出力も計測に含める）
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+            return;
+        }
+
+        try {
+            EngineerJournal journal = dataDirectory == null ? null : new EngineerJournal(dataDirectory);
+            try {
+                EngineerRepository repository = journal == null ? new EngineerRepository()
+                        : new EngineerRepository(journal);
+                repository.open();
+
+                System.out.println("=====================================================");
+                System.out.printf("登録負荷試験: 担当者%d人, %d秒, 最大%s件, 不正データ%.1f%%, %s%n", operators, seconds,
+                        maxOperations == 0 ? "社員IDの数まで" : String.valueOf(maxOperations), invalidRate * 100,
+                        journal == null ? "メモリのみ" : "ジャーナル " + dataDirectory);
+                System.out.println("=====================================================");
+
+                Result result = run(repository, new RosterGenerator(SEED, invalidRate), operators,
+                        seconds * 1_000_000_000L, maxOperations);
+                print(result);
+                if (resultFile != null) {
+                    writeJson(resultFile, result, maxOperations, invalidRate, journal != null);
+                    System.out.println("結果を書き込みました: " + resultFile);
+                }
+            } finally {
+                if (journal != null) {
+                    journal.close();
+                }
+            }
+        } finally {
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * 担当者ごとのスレッドで登録を繰り返す
+     * 行番号は全担当者で共有して採番するため、社員IDは重複しない
+     *
+     * @param repository    登録先
+     * @param generator     入力の生成元
+     * @param operators     担当者数
+     * @param durationNanos 計測時間（ナノ秒）
+     * @param maxOperations 最大操作数（0は社員IDの数まで）
+     * @return 結果
+     */
+    static Result run(EngineerRepository repository, RosterGenerator generator, int operators, long durationNanos,
+            long maxOperations) throws InterruptedException {
+        if (operators < 1) {
+            throw new IllegalArgumentException("担当者数は1以上で指定してください: " + operators);
+        }
+        LatencyHistogram operation = new LatencyHistogram();
+        LatencyHistogram build = new LatencyHistogram();
+        LatencyHistogram register = new LatencyHistogram();
+        AtomicLong nextRow = new AtomicLong();
+        LongAdder registered = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        // 社員IDの数を超えると以降の行はすべて重複で拒否されるため、社員IDの数までとする
+        long limit = maxOperations == 0 ? RosterGenerator.UNIQUE_IDS
+                : Math.min(maxOperations, RosterGenerator.UNIQUE_IDS);
+
+        long[] deadline = new long[1];
+        for (int i = 0; i < operators; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    long row = nextRow.getAndIncrement();
+                    if (row >= limit) {
+                        break;
+                    }
+                    // 入力の生成は計測に含めない
+                    EngineerDTO input = generator.generate(row);
+
+                    long begin = System.nanoTime();
+                    try {
+                        EngineerDTO engineer = buildFrom(input);
+                        long built = System.nanoTime();
+                        build.record(built - begin);
+                        repository.add(engineer);
+                        register.recordSince(built);
+                        registered.increment();
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        LogHandler.getInstance().log(MessageEnum.LOG_ERROR_VALIDATION_FAILED,
+                                input.getId() + " " + e.getMessage());
+                        rejected.increment();
+                    } catch (IOException e) {
+                        LogHandler.getInstance().logError(MessageEnum.LOG_ERROR_IO_EXCEPTION, e, input.getId());
+                        rejected.increment();
+                    }
+                    operation.recordSince(begin);
+                }
+            }, "operator-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+
+        long begin = System.nanoTime();
+        deadline[0] = begin + durationNanos;
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        return new Result(operators, seconds, registered.sum(), rejected.sum(), operation, build, register);
+    }
+
+    /**
+     * 画面からの入力と同様に、ビルダーで項目を設定して構築・検証する
+     * 未評価（0.0）の評価値は設定しない
+     */
+    private static EngineerDTO buildFrom(EngineerDTO input) {
+        EngineerBuilder builder = new EngineerBuilder()
+                .setId(input.getId())
+                .setName(input.getName())
+                .setNameKana(input.getNameKana())
+                .setBirthDate(input.getBirthDate())
+                .setJoinDate(input.getJoinDate())
+                .setCareer(input.getCareer())
+                .setProgrammingLanguages(input.getProgrammingLanguages())
+                .setCareerHistory(input.getCareerHistory())
+                .setTrainingHistory(input.getTrainingHistory())
+                .setNote(input.getNote())
+                .setRegisteredDate(input.getRegisteredDate());
+        if (input.getTechnicalSkill() != 0.0) {
+            builder.setTechnicalSkill(input.getTechnicalSkill());
+        }
+        if (input.getLearningAttitude() != 0.0) {
+            builder.setLearningAttitude(input.getLearningAttitude());
+        }
+        if (input.getCommunicationSkill() != 0.0) {
+            builder.setCommunicationSkill(input.getCommunicationSkill());
+        }
+        if (input.getLeadership() != 0.0) {
+            builder.setLeadership(input.getLeadership());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 結果を標準出力に表示
+     */
+    private static void print(Result result) {
+        System.out.printf("操作数: %d（登録 %d, 拒否 %d）, %.2f秒, %.0f ops/s%n", result.registered + result.rejected,
+                result.registered, result.rejected, result.seconds, result.throughput());
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s%n", "段階(µs)", "件数", "p50", "p90", "p99", "p99.9",
+                "最大");
+        printRow("操作全体", result.operation);
+        printRow("構築・検証", result.build);
+        printRow("登録", result.register);
+        System.out.println();
+        System.out.println("操作全体の処理時間の分布（µs）:");
+        result.operation.outputPercentileDistribution(System.out, MICROS);
+    }
+
+    private static void printRow(String name, LatencyHistogram histogram) {
+        System.out.printf("%-10s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n", name, histogram.getCount(),
+                histogram.getValueAtPercentile(50.0) / MICROS, histogram.getValueAtPercentile(90.0) / MICROS,
+                histogram.getValueAtPercentile(99.0) / MICROS, histogram.getValueAtPercentile(99.9) / MICROS,
+                histogram.getMax() / MICROS);
+    }
+
+    /**
+     * 結果をJSON形式で書き込む
+     * 処理時間はナノ秒で出力する
+     */
+    static void writeJson(Path file, Result result, long maxOperations, double invalidRate, boolean journaled)
+            throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\n");
+            out.write("  \"tool\": \"LoadDriver\",\n");
+            out.write("  \"timestamp\": \"" + Instant.now() + "\",\n");
+            out.write("  \"javaVersion\": \"" + System.getProperty("java.version") + "\",\n");
+            out.write("  \"availableProcessors\": " + Runtime.getRuntime().availableProcessors() + ",\n");
+            out.write("  \"operators\": " + result.operators + ",\n");
+            out.write("  \"maxOperations\": " + maxOperations + ",\n");
+            out.write("  \"invalidRate\": " + invalidRate + ",\n");
+            out.write("  \"journaled\": " + journaled + ",\n");
+            out.write(String.format(Locale.ROOT, "  \"seconds\": %.3f,%n", result.seconds));
+            out.write("  \"registered\": " + result.registered + ",\n");
+            out.write("  \"rejected\": " + result.rejected + ",\n");
+            out.write(String.format(Locale.ROOT, "  \"throughputOpsPerSecond\": %.1f,%n", result.throughput()));
+            out.write("  \"latencyNanos\": {\n");
+            writeHistogram(out, "operation", result.operation, true);
+            writeHistogram(out, "build", result.build, true);
+            writeHistogram(out, "register", result.register, false);
+            out.write("  }\n");
+            out.write("}\n");
+        }
+    }
+
+    private static void writeHistogram(Writer out, String name, LatencyHistogram histogram, boolean more)
+            throws IOException {
+        out.write(String.format(Locale.ROOT,
+                "    \"%s\": {\"count\": %d, \"min\": %d, \"mean\": %.1f, \"p50\": %d, \"p90\": %d, \"p99\": %d, "
+                        + "\"p999\": %d, \"max\": %d}%s%n",
+                name, histogram.getCount(), histogram.getMin(), histogram.getMean(),
+                histogram.getValueAtPercentile(50.0), histogram.getValueAtPercentile(90.0),
+                histogram.getValueAtPercentile(99.0), histogram.getValueAtPercentile(99.9), histogram.getMax(),
+                more ? "," : ""));
+    }
+}
@@ -0,0 +1,336 @@
+package test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+/**
+ * オブジェクトグラフのヒープ使用量を計測するクラス
+ *
+ * <p>
+ * 実行中のJVMの設定（圧縮参照・圧縮クラスポインタ・アライメント）を取得し、HotSpot（JDK 15以降）の
+ * フィールド配置の規則に従ってクラスごとのフィールドの位置を求めることで、オブジェクトごとの大きさ
+ * （ヘッダ・フィールド・アライメントの詰め物を含む）を計算します。フィールドは大きい順に、
+ * スーパークラスの空き領域も含めて収まる最も小さい空き領域へ配置されます（{@code @Contended}による
+ * 詰め物は考慮しません）。参照をたどって到達したオブジェクトを1回ずつ数えるため、同じインスタンスを
+ * 共有している場合や循環参照がある場合も重複して数えません。複数のルートを順に{@link #add(Object)}すると、
+ * それまでに数えたオブジェクトは除いた増分を返すため、項目ごとの内訳に使用できます。
+ * </p>
+ *
+ * <p>
+ * 参照はリフレクションで読み取るため、JDKのクラス（{@link String}・{@link java.util.ArrayList}など）の
+ * 内部をたどるには、そのパッケージを開く必要があります。
+ * </p>
+ *
+ * <pre>
+ * java --add-opens java.base/java.lang=ALL-UNNAMED --add-opens java.base/java.util=ALL-UNNAMED \
+ * --add-opens java.base/java.util.concurrent.locks=ALL-UNNAMED --add-opens java.base/java.nio=ALL-UNNAMED ...
+ * </pre>
+ *
+ * <p>
+ * クラス、参照オブジェクト（{@link Reference}）、スレッド、クラスローダーは、
+ * 計測対象のデータではなくJVM全体で共有されるため、たどりません。また、リフレクションから隠された
+ * フィールドを持つJDKの一部のクラス（{@link java.lang.reflect.Method}など）は、その分だけ小さく計算されます。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public final class ObjectSizer {
+
+    /** 参照の大きさ（圧縮参照の場合は4） */
+    static final int REFERENCE_BYTES = Boolean.parseBoolean(vmOption("UseCompressedOops", "true")) ? 4 : 8;
+
+    /** オブジェクトのアライメント */
+    static final int OBJECT_ALIGNMENT = Integer.parseInt(vmOption("ObjectAlignmentInBytes", "8"));
+
+    /** オブジェクトのヘッダの大きさ（圧縮クラスポインタの場合は12） */
+    static final int OBJECT_HEADER_BYTES = Boolean.parseBoolean(vmOption("UseCompressedClassPointers", "true")) ? 12
+            : 16;
+
+    /** 配列の要素の先頭位置（ヘッダと要素数の後、8バイト境界） */
+    private static final int ARRAY_BASE_BYTES = (OBJECT_HEADER_BYTES + 4 + 7) / 8 * 8;
+
+    /** クラスごとの配置（インスタンスの大きさと参照フィールド） */
+    private static final Map<Class<?>, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+    /** 数えたオブジェクト */
+    private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+
+    /** 数えたバイト数 */
+    private long totalBytes;
+
+    /**
+     * インスタンス内の連続した領域（フィールドまたは空き）
+     */
+    private static final class Block {
+
+        final int offset;
+        final int size;
+        final boolean empty;
+
+        Block(int offset, int size, boolean empty) {
+            this.offset = offset;
+            this.size = size;
+            this.empty = empty;
+        }
+
+        /**
+         * アライメントを合わせて指定の大きさが収まるか
+         */
+        boolean fits(int bytes, int alignment) {
+            return empty && (long) size >= (long) bytes + padding(alignment);
+        }
+
+        int padding(int alignment) {
+            return (alignment - offset % alignment) % alignment;
+        }
+    }
+
+    /**
+     * クラスのインスタンスの配置
+     */
+    private static final class Layout {
+
+        final long instanceBytes;
+        final Field[] references;
+
+        /** オフセット順の領域（先頭はヘッダ、末尾は最後のフィールドの後の空き領域） */
+        final List<Block> blocks;
+
+        /** 参照フィールドを読み取れない場合の理由（読み取れる場合はnull） */
+        final String inaccessible;
+
+        Layout(List<Block> blocks, Field[] references, String inaccessible) {
+            this.blocks = blocks;
+            this.references = references;
+            this.inaccessible = inaccessible;
+            this.instanceBytes = align(blocks.get(blocks.size() - 1).offset);
+        }
+    }
+
+    /**
+     * ルートから到達できるオブジェクトのうち、まだ数えていないものを数える
+     *
+     * @param root ルート（nullの場合は0）
+     * @return 今回数えたバイト数
+     * @throws IllegalStateException 参照フィールドを読み取れないクラスに到達した場合
+     */
+    public long add(Object root) {
+        long added = 0;
+        Deque<Object> pending = new ArrayDeque<>();
+        push(pending, root);
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            Class<?> type = object.getClass();
+            added += shallowSizeOf(object);
+            if (type.isArray()) {
+                if (!type.getComponentType().isPrimitive()) {
+                    for (Object element : (Object[]) object) {
+                        push(pending, element);
+                    }
+                }
+            } else {
+                Layout layout = layoutOf(type);
+                if (layout.inaccessible != null) {
+                    throw new IllegalStateException(layout.inaccessible);
+                }
+                for (Field field : layout.references) {
+                    try {
+                        push(pending, field.get(object));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException("フィールドを読み取れません: " + field, e);
+                    }
+                }
+            }
+        }
+        totalBytes += added;
+        return added;
+    }
+
+    /**
+     * これまでに数えたバイト数を取得
+     *
+     * @return バイト数
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * これまでに数えたオブジェクトの数を取得
+     *
+     * @return オブジェクトの数
+     */
+    public int getObjectCount() {
+        return visited.size();
+    }
+
+    /**
+     * ルートから到達できるオブジェクトの合計の大きさを取得
+     *
+     * @param root ルート
+     * @return バイト数
+     */
+    public static long deepSizeOf(Object root) {
+        return new ObjectSizer().add(root);
+    }
+
+    /**
+     * オブジェクト自身の大きさ（参照先を含まない）を取得
+     *
+     * @param object オブジェクト
+     * @return バイト数
+     */
+    public static long shallowSizeOf(Object object) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            long length = Array.getLength(object);
+            return align(ARRAY_BASE_BYTES + length * sizeOf(type.getComponentType()));
+        }
+        return layoutOf(type).instanceBytes;
+    }
+
+    /**
+     * 未計数で、たどる対象のオブジェクトを追加
+     */
+    private void push(Deque<Object> pending, Object object) {
+        if (object == null || object instanceof Class || object instanceof Reference || object instanceof Thread
+                || object instanceof ClassLoader) {
+            return;
+        }
+        if (visited.put(object, Boolean.TRUE) == null) {
+            pending.push(object);
+        }
+    }
+
+    /**
+     * クラスの配置を取得
+     * スーパークラスの配置を引き継ぎ、宣言したフィールドを大きい順に、参照は最後に配置する
+     */
+    private static Layout layoutOf(Class<?> type) {
+        Layout layout = LAYOUTS.get(type);
+        if (layout != null) {
+            return layout;
+        }
+        List<Block> blocks = new ArrayList<>();
+        List<Field> references = new ArrayList<>();
+        String inaccessible = null;
+        Class<?> superclass = type.getSuperclass();
+        if (superclass == null) {
+            blocks.add(new Block(0, OBJECT_HEADER_BYTES, false));
+            blocks.add(new Block(OBJECT_HEADER_BYTES, Integer.MAX_VALUE, true));
+        } else {
+            Layout inherited = layoutOf(superclass);
+            blocks.addAll(inherited.blocks);
+            Collections.addAll(references, inherited.references);
+            inaccessible = inherited.inaccessible;
+        }
+
+        List<Field> primitives = new ArrayList<>();
+        List<Field> declaredReferences = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            (field.getType().isPrimitive() ? primitives : declaredReferences).add(field);
+        }
+        primitives.sort(Comparator.comparingInt((Field field) -> sizeOf(field.getType())).reversed());
+        for (Field field : primitives) {
+            place(blocks, sizeOf(field.getType()));
+        }
+        for (Field field : declaredReferences) {
+            place(blocks, REFERENCE_BYTES);
+            try {
+                field.setAccessible(true);
+                references.add(field);
+            } catch (RuntimeException e) {
+                // モジュールが開かれていない（InaccessibleObjectException）
+                if (inaccessible == null) {
+                    inaccessible = type.getName() + "のフィールドを読み取れません。実行時に--add-opens "
+                            + type.getModule().getName() + "/" + type.getPackageName() + "=ALL-UNNAMEDを指定してください";
+                }
+            }
+        }
+
+        layout = new Layout(Collections.unmodifiableList(blocks), references.toArray(new Field[0]), inaccessible);
+        LAYOUTS.put(type, layout);
+        return layout;
+    }
+
+    /**
+     * フィールドを配置する
+     * 末尾以外の空き領域のうち収まる最も小さいもの、なければ末尾に、大きさの境界に合わせて配置する
+     */
+    private static void place(List<Block> blocks, int bytes) {
+        int last = blocks.size() - 1;
+        int candidate = last;
+        for (int i = last - 1; i > 0; i--) {
+            Block block = blocks.get(i);
+            if (block.fits(bytes, bytes) && (candidate == last || block.size < blocks.get(candidate).size)) {
+                candidate = i;
+            }
+        }
+        Block slot = blocks.get(candidate);
+        int padding = slot.padding(bytes);
+        List<Block> replacement = new ArrayList<>(3);
+        if (padding > 0) {
+            replacement.add(new Block(slot.offset, padding, true));
+        }
+        replacement.add(new Block(slot.offset + padding, bytes, false));
+        int rest = candidate == last ? Integer.MAX_VALUE : slot.size - padding - bytes;
+        if (rest > 0) {
+            replacement.add(new Block(slot.offset + padding + bytes, rest, true));
+        }
+        blocks.remove(candidate);
+        blocks.addAll(candidate, replacement);
+    }
+
+    /**
+     * フィールド・配列の要素の型の大きさ
+     */
+    private static int sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+    }
+
+    /**
+     * 実行中のJVMの設定値（取得できない場合はHotSpotの64ビットの既定値）
+     */
+    private static String vmOption(String name, String defaultValue) {
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return hotSpot.getVMOption(name).getValue();
+        } catch (RuntimeException e) {
+            return defaultValue;
+        }
+    }
+}
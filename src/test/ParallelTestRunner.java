@@ -0,0 +1,267 @@
+package test;
+
+import util.LogHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * TestCoreSystemのテストケースを並行して実行するバッチ処理クラス
+ * TestCaseBatchRunnerと同じ標準テストケースとカスタムテストを、ケースごとに別スレッドで実行します
+ *
+ * <p>
+ * ログハンドラの初期化とクリーンアップは全体で1回だけ行い、各ケースは
+ * {@link TestCoreSystem#runCase(String[])}で実行します。実行中の標準出力・標準エラー出力と
+ * LogHandlerへのログは、実行しているスレッドごとにケースの記録へ振り分けるため、
+ * 並行して実行しても出力が混ざりません。すべてのケースの終了後、ケースの順に出力とログを表示し、
+ * ケースごとの処理時間と、逐次実行した場合の合計時間との比較を出力します。
+ * </p>
+ *
+ * <p>
+ * 仮想スレッドを使用できるJava 21以降では、ケースごとに仮想スレッドを割り当てます。
+ * それより前のJavaでは、CPU数のスレッドプールで実行します。
+ * </p>
+ *
+ * 実行方法：
+ * java test.ParallelTestRunner
+ *
+ * 「テスト失敗」または「予期せぬ成功」を出力したケースがある場合、終了コード1で終了します。
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class ParallelTestRunner {
+
+    /** 失敗と判定する出力 */
+    private static final String[] FAILURE_MARKERS = { "テスト失敗", "予期せぬ成功", "テスト実行中にエラーが発生しました" };
+
+    /** 実行中のケースの記録（スレッドごと） */
+    private static final ThreadLocal<CaseResult> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 1ケースの実行結果
+     */
+    private static final class CaseResult {
+
+        final String name;
+        final String[] args;
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final List<String> logs = Collections.synchronizedList(new ArrayList<>());
+        long elapsedNanos;
+        boolean failed;
+
+        CaseResult(String name, String[] args) {
+            this.name = name;
+            this.args = args;
+        }
+    }
+
+    /**
+     * 書き込みを実行中のケースの記録へ振り分ける出力先
+     * ケースを実行していないスレッドからの書き込みは元の出力先へ渡す
+     */
+    private static final class RoutingOutputStream extends OutputStream {
+
+        private final PrintStream fallback;
+
+        RoutingOutputStream(PrintStream fallback) {
+            this.fallback = fallback;
+        }
+
+        @Override
+        public void write(int b) {
+            CaseResult current = CURRENT.get();
+            if (current != null) {
+                synchronized (current.output) {
+                    current.output.write(b);
+                }
+            } else {
+                fallback.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            CaseResult current = CURRENT.get();
+            if (current != null) {
+                synchronized (current.output) {
+                    current.output.write(b, off, len);
+                }
+            } else {
+                fallback.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (CURRENT.get() == null) {
+                fallback.flush();
+            }
+        }
+    }
+
+    /**
+     * LogHandlerへのログを実行中のケースの記録へ振り分けるハンドラ
+     */
+    private static final class CaptureHandler extends Handler {
+
+        @Override
+        public void publish(LogRecord record) {
+            CaseResult current = CURRENT.get();
+            if (current != null) {
+                current.logs.add("[" + record.getLevel().getName() + "] " + record.getMessage()
+                        + (record.getThrown() == null ? "" : " (" + record.getThrown() + ")"));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<CaseResult> cases = new ArrayList<>();
+        for (String testCase : TestCaseBatchRunner.TEST_CASES) {
+            cases.add(new CaseResult("テストケース " + testCase, new String[] { testCase }));
+        }
+        for (String[] custom : TestCaseBatchRunner.CUSTOM_TESTS) {
+            cases.add(new CaseResult("カスタムテスト " + custom[2] + "（ID: " + custom[1] + "）", custom));
+        }
+
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        Logger logger = Logger.getLogger(LogHandler.class.getName());
+        Handler capture = new CaptureHandler();
+        long wallNanos;
+        int failures = 0;
+
+        // ログハンドラの初期化（全ケースで共有する）
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+            return;
+        }
+
+        try {
+            // 実行中はコンソールへのログ出力を止め、ケースごとの記録だけに出力する
+            logger.setUseParentHandlers(false);
+            logger.addHandler(capture);
+            System.setOut(routing(originalOut));
+            System.setErr(routing(originalErr));
+
+            long start = System.nanoTime();
+            ExecutorService executor = newExecutor();
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (CaseResult result : cases) {
+                    futures.add(executor.submit(() -> run(result)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            wallNanos = System.nanoTime() - start;
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+            logger.removeHandler(capture);
+            logger.setUseParentHandlers(true);
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+
+        Charset charset = Charset.defaultCharset();
+        for (CaseResult result : cases) {
+            System.out.println("-----------------------------------------------------");
+            System.out.println(result.name + (result.failed ? " [失敗]" : " [成功]"));
+            System.out.println("-----------------------------------------------------");
+            System.out.print(new String(result.output.toByteArray(), charset));
+            for (String log : result.logs) {
+                System.out.println("  ログ: " + log);
+            }
+            System.out.println();
+        }
+
+        long totalNanos = 0;
+        System.out.println("=====================================================");
+        System.out.println("テストケース並行実行 処理時間");
+        System.out.println("=====================================================");
+        System.out.printf("%-40s %10s %6s%n", "ケース", "時間(ms)", "結果");
+        for (CaseResult result : cases) {
+            System.out.printf("%-40s %10.2f %6s%n", result.name, result.elapsedNanos / 1e6, result.failed ? "失敗" : "成功");
+            totalNanos += result.elapsedNanos;
+            if (result.failed) {
+                failures++;
+            }
+        }
+        System.out.println("-----------------------------------------------------");
+        System.out.printf("ケース数: %d, 失敗: %d%n", cases.size(), failures);
+        System.out.printf("各ケースの合計: %.2fms, 実行時間: %.2fms（%.1f倍）%n", totalNanos / 1e6, wallNanos / 1e6,
+                totalNanos / (double) Math.max(1, wallNanos));
+        System.out.println("=====================================================");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 1ケースを実行し、出力・ログ・処理時間を記録する
+     */
+    private static void run(CaseResult result) {
+        CURRENT.set(result);
+        long start = System.nanoTime();
+        try {
+            TestCoreSystem.runCase(result.args);
+        } catch (RuntimeException e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e);
+        } finally {
+            result.elapsedNanos = System.nanoTime() - start;
+            System.out.flush();
+            System.err.flush();
+            CURRENT.remove();
+        }
+        String output = new String(result.output.toByteArray(), Charset.defaultCharset());
+        for (String marker : FAILURE_MARKERS) {
+            result.failed |= output.contains(marker);
+        }
+    }
+
+    /**
+     * 振り分けを行う出力ストリームを作成
+     */
+    private static PrintStream routing(PrintStream fallback) throws UnsupportedEncodingException {
+        return new PrintStream(new RoutingOutputStream(fallback), true, Charset.defaultCharset().name());
+    }
+
+    /**
+     * ケースを実行するスレッドを作成
+     * Java 21以降は仮想スレッド、それより前はCPU数のスレッドプールを使用する
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+}
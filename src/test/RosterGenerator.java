@@ -0,0 +1,527 @@
+package test;
+
+import model.EngineerBuilder;
+import model.EngineerDTO;
+import model.EngineerSnapshotFile;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * 負荷試験・長時間試験用のエンジニア一覧を生成するクラス
+ *
+ * <p>
+ * シードと行番号だけから各行を決定的に生成するため、同じシードであれば何度実行しても
+ * 同じ一覧になり、任意の行だけを再生成することもできます。氏名・フリガナは実在する頻度の
+ * 偏りに近い姓と名の組み合わせ、扱える言語は採用率に応じた組み合わせ、評価値は
+ * エンジニア歴に応じた分布で生成します。社員IDは行番号から採番するため、
+ * {@value #UNIQUE_IDS}件までは重複しません（社員IDは5桁のため、それ以降は先頭から繰り返します）。
+ * </p>
+ *
+ * <p>
+ * 不正データの比率を指定すると、その比率の行に{@link Defect}のいずれか1つの不備を加えます。
+ * 不備の有無と種類は有効な項目の値とは別の乱数で決めるため、比率を変えても
+ * 不備のない行の内容は変わりません。
+ * </p>
+ *
+ * <p>
+ * 出力はCSV（{@link #writeCsv(Path, long)}）とスナップショットファイル形式
+ * （{@link #writeSnapshot(Path, int)}）に対応し、どちらも1行ずつ生成して書き込むため、
+ * 1,000万件でも一覧全体をメモリに保持しません。
+ * </p>
+ *
+ * 実行方法：
+ * java test.RosterGenerator [件数] [出力ファイル(.csv または .bin)] [シード] [不正データの比率]
+ *
+ * 例：
+ * java test.RosterGenerator 1000000 roster.csv 42 0.01
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public final class RosterGenerator {
+
+    /** 年齢・入社年月・エンジニア歴の基準日（実行日によらず同じ一覧を生成するため固定） */
+    public static final LocalDate REFERENCE_DATE = LocalDate.of(2026, 4, 1);
+
+    /** 重複しない社員IDの数（ID00001〜ID99999） */
+    public static final int UNIQUE_IDS = 99_999;
+
+    /** CSVの見出し行 */
+    public static final String CSV_HEADER = "社員ID,氏名,フリガナ,生年月日,入社年月,エンジニア歴,扱える言語,経歴,研修の受講歴,"
+            + "技術力,受講態度,コミュニケーション能力,リーダーシップ,備考,登録日";
+
+    /**
+     * 不正データの種類
+     */
+    public enum Defect {
+
+        /** 社員IDが空（{@link EngineerBuilder#build()}で拒否） */
+        MISSING_ID,
+
+        /** 社員IDの数字部分が不正（リポジトリへの登録で拒否） */
+        INVALID_ID,
+
+        /** 氏名が空（{@link EngineerBuilder#build()}で拒否） */
+        MISSING_NAME,
+
+        /** フリガナが空（{@link EngineerBuilder#build()}で拒否） */
+        MISSING_NAME_KANA,
+
+        /** 生年月日が未設定（{@link EngineerBuilder#build()}で拒否） */
+        MISSING_BIRTH_DATE,
+
+        /** 入社年月が未設定（{@link EngineerBuilder#build()}で拒否） */
+        MISSING_JOIN_DATE,
+
+        /** エンジニア歴が負（{@link EngineerBuilder#build()}で拒否） */
+        NEGATIVE_CAREER,
+
+        /** 扱える言語がない（{@link EngineerBuilder#build()}で拒否） */
+        NO_LANGUAGE,
+
+        /** 技術力が1.0〜5.0の範囲外（{@link EngineerBuilder#setTechnicalSkill(double)}で拒否） */
+        SKILL_OUT_OF_RANGE
+    }
+
+    /** 姓と読み（おおよそ多い順） */
+    private static final String[][] SURNAMES = {
+            { "佐藤", "サトウ" }, { "鈴木", "スズキ" }, { "高橋", "タカハシ" }, { "田中", "タナカ" },
+            { "伊藤", "イトウ" }, { "渡辺", "ワタナベ" }, { "山本", "ヤマモト" }, { "中村", "ナカムラ" },
+            { "小林", "コバヤシ" }, { "加藤", "カトウ" }, { "吉田", "ヨシダ" }, { "山田", "ヤマダ" },
+            { "佐々木", "ササキ" }, { "山口", "ヤマグチ" }, { "松本", "マツモト" }, { "井上", "イノウエ" },
+            { "木村", "キムラ" }, { "林", "ハヤシ" }, { "斎藤", "サイトウ" }, { "清水", "シミズ" },
+            { "山崎", "ヤマザキ" }, { "森", "モリ" }, { "池田", "イケダ" }, { "橋本", "ハシモト" },
+            { "阿部", "アベ" }, { "石川", "イシカワ" }, { "山下", "ヤマシタ" }, { "中島", "ナカジマ" },
+            { "石井", "イシイ" }, { "小川", "オガワ" }, { "前田", "マエダ" }, { "岡田", "オカダ" },
+            { "長谷川", "ハセガワ" }, { "藤田", "フジタ" }, { "後藤", "ゴトウ" }, { "近藤", "コンドウ" },
+            { "村上", "ムラカミ" }, { "遠藤", "エンドウ" }, { "青木", "アオキ" }, { "坂本", "サカモト" },
+            { "中野", "ナカノ" }, { "藤井", "フジイ" }
+    };
+
+    /** 名と読み */
+    private static final String[][] GIVEN_NAMES = {
+            { "太郎", "タロウ" }, { "一郎", "イチロウ" }, { "健太", "ケンタ" }, { "翔太", "ショウタ" },
+            { "大輔", "ダイスケ" }, { "拓也", "タクヤ" }, { "直樹", "ナオキ" }, { "誠", "マコト" },
+            { "蓮", "レン" }, { "大翔", "ヒロト" }, { "悠真", "ユウマ" }, { "陽翔", "ハルト" },
+            { "湊", "ミナト" }, { "和也", "カズヤ" }, { "剛", "ツヨシ" }, { "浩二", "コウジ" },
+            { "健一", "ケンイチ" }, { "亮", "リョウ" }, { "隆", "タカシ" }, { "修", "オサム" },
+            { "花子", "ハナコ" }, { "陽子", "ヨウコ" }, { "恵子", "ケイコ" }, { "美咲", "ミサキ" },
+            { "愛", "アイ" }, { "由美", "ユミ" }, { "真由美", "マユミ" }, { "彩", "アヤ" },
+            { "結衣", "ユイ" }, { "陽菜", "ヒナ" }, { "葵", "アオイ" }, { "さくら", "サクラ" },
+            { "凛", "リン" }, { "美優", "ミユ" }, { "優子", "ユウコ" }, { "明美", "アケミ" },
+            { "直美", "ナオミ" }, { "智子", "トモコ" }, { "舞", "マイ" }, { "芽依", "メイ" }
+    };
+
+    /** 言語と採用率 */
+    private static final String[] LANGUAGES = { "Java", "Python", "JavaScript", "SQL", "TypeScript", "C#", "PHP",
+            "C++", "Go", "C", "Kotlin", "Ruby", "Swift", "Rust" };
+    private static final double[] LANGUAGE_RATES = { 0.55, 0.45, 0.40, 0.35, 0.25, 0.15, 0.10,
+            0.10, 0.10, 0.08, 0.08, 0.06, 0.05, 0.04 };
+
+    /** 経歴の勤務先 */
+    private static final String[] COMPANIES = { "大手SIer", "独立系SIer", "メーカー系SIer", "ベンチャー", "Web系企業",
+            "金融系システム子会社", "通信キャリア" };
+
+    /** 研修の受講歴 */
+    private static final String[] TRAININGS = { "新人研修", "Java研修", "AWS研修", "セキュリティ研修",
+            "プロジェクトマネジメント研修", "基本情報技術者", "応用情報技術者", "AWS認定ソリューションアーキテクト" };
+
+    /** 備考 */
+    private static final String[] NOTES = { "特になし", "部門リーダー", "メンター担当", "海外案件希望", "時短勤務",
+            "コミュニケーション能力が高い", "顧客折衝の経験あり" };
+
+    /** 乱数の系列を分けるための定数 */
+    private static final long DEFECT_SALT = 0x5DEECE66DL;
+
+    /** シード */
+    private final long seed;
+
+    /** 不正データの比率 */
+    private final double invalidRate;
+
+    /**
+     * 不正データを含まない一覧を生成するインスタンスを作成
+     *
+     * @param seed シード
+     */
+    public RosterGenerator(long seed) {
+        this(seed, 0.0);
+    }
+
+    /**
+     * 不正データの比率を指定してインスタンスを作成
+     *
+     * @param seed        シード
+     * @param invalidRate 不正データの比率（0.0〜1.0）
+     * @throws IllegalArgumentException 比率が範囲外の場合
+     */
+    public RosterGenerator(long seed, double invalidRate) {
+        if (!(invalidRate >= 0.0 && invalidRate <= 1.0)) {
+            throw new IllegalArgumentException("不正データの比率は0.0から1.0の範囲で指定してください: " + invalidRate);
+        }
+        this.seed = seed;
+        this.invalidRate = invalidRate;
+    }
+
+    /**
+     * 行番号に対応する社員IDを取得
+     *
+     * @param index 0から始まる行番号
+     * @return 社員ID（例：行番号0は「ID00001」、行番号99999は再び「ID00001」）
+     */
+    public static String idOf(long index) {
+        String digits = Long.toString(index % UNIQUE_IDS + 1);
+        StringBuilder id = new StringBuilder(7).append("ID");
+        for (int i = digits.length(); i < 5; i++) {
+            id.append('0');
+        }
+        return id.append(digits).toString();
+    }
+
+    /**
+     * 行番号の不備の種類を取得
+     *
+     * @param index 0から始まる行番号
+     * @return 不備の種類（不備のない行はnull）
+     */
+    public Defect defectOf(long index) {
+        if (invalidRate == 0.0) {
+            return null;
+        }
+        SplittableRandom random = new SplittableRandom(mix(seed ^ DEFECT_SALT, index));
+        if (random.nextDouble() >= invalidRate) {
+            return null;
+        }
+        Defect[] defects = Defect.values();
+        return defects[random.nextInt(defects.length)];
+    }
+
+    /**
+     * 行番号に対応するエンジニア情報を生成
+     * 呼び出すたびに新しいインスタンスを返す
+     *
+     * @param index 0から始まる行番号
+     * @return エンジニア情報（不備のある行は不備を含む）
+     */
+    public EngineerDTO generate(long index) {
+        SplittableRandom random = new SplittableRandom(mix(seed, index));
+        String[] surname = SURNAMES[(int) (SURNAMES.length * square(random.nextDouble()))];
+        String[] givenName = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+
+        // 年齢は22〜64歳、若手が多い分布
+        int age = 22 + (int) (43 * square(random.nextDouble()));
+        LocalDate birthDate = REFERENCE_DATE.minusYears(age).minusDays(random.nextInt(365));
+        int joinYear = birthDate.getYear() + 22 + random.nextInt(REFERENCE_DATE.getYear() - birthDate.getYear() - 21);
+        if (joinYear > REFERENCE_DATE.getYear()) {
+            joinYear = REFERENCE_DATE.getYear();
+        }
+        // 6割は4月入社
+        LocalDate joinDate = random.nextDouble() < 0.6 ? LocalDate.of(joinYear, 4, 1)
+                : LocalDate.of(joinYear, 1 + random.nextInt(12), 1);
+        if (joinDate.isAfter(REFERENCE_DATE)) {
+            joinDate = REFERENCE_DATE;
+        }
+        int years = REFERENCE_DATE.getYear() - joinYear;
+        int priorYears = Math.min(15, random.nextInt(joinYear - birthDate.getYear() - 21));
+        int career = years + priorYears;
+
+        EngineerBuilder builder = new EngineerBuilder()
+                .setId(idOf(index))
+                .setName(surname[0] + givenName[0])
+                .setNameKana(surname[1] + givenName[1])
+                .setBirthDate(birthDate)
+                .setJoinDate(joinDate)
+                .setCareer(career)
+                .setProgrammingLanguages(languages(random))
+                .setCareerHistory(careerHistory(random, years, priorYears))
+                .setTrainingHistory(trainingHistory(random))
+                .setRegisteredDate(joinDate);
+
+        // 入社1年未満の半数は未評価
+        if (years > 0 || random.nextBoolean()) {
+            double experience = Math.min(career, 20) / 20.0;
+            builder.setTechnicalSkill(skill(random, 2.5 + 1.5 * experience))
+                    .setLearningAttitude(skill(random, 3.5))
+                    .setCommunicationSkill(skill(random, 3.2))
+                    .setLeadership(skill(random, 2.0 + 2.0 * experience));
+        }
+        if (random.nextInt(4) == 0) {
+            builder.setNote(NOTES[random.nextInt(NOTES.length)]);
+        }
+        EngineerDTO engineer = builder.build();
+
+        Defect defect = defectOf(index);
+        if (defect != null) {
+            applyDefect(engineer, defect);
+        }
+        return engineer;
+    }
+
+    /**
+     * 指定範囲の行を順に生成するイテレータを取得
+     *
+     * @param from  開始行番号
+     * @param count 件数
+     * @return イテレータ
+     */
+    public Iterator<EngineerDTO> iterator(long from, long count) {
+        if (from < 0 || count < 0) {
+            throw new IllegalArgumentException("行番号と件数は0以上で指定してください");
+        }
+        return new Iterator<EngineerDTO>() {
+            private long next = from;
+
+            @Override
+            public boolean hasNext() {
+                return next < from + count;
+            }
+
+            @Override
+            public EngineerDTO next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return generate(next++);
+            }
+        };
+    }
+
+    /**
+     * 先頭から指定件数をCSVファイルに書き込む（UTF-8、見出し行付き）
+     *
+     * @param file  出力ファイル
+     * @param count 件数
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeCsv(Path file, long count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeCsv(writer, count);
+        }
+    }
+
+    /**
+     * 先頭から指定件数をCSV形式で書き込む（見出し行付き）
+     * 扱える言語はカンマ区切りで1つの項目とし、カンマ・引用符・改行を含む項目は引用符で囲む
+     *
+     * @param out   出力先
+     * @param count 件数
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeCsv(Writer out, long count) throws IOException {
+        out.write(CSV_HEADER);
+        out.write('\n');
+        StringBuilder line = new StringBuilder(256);
+        for (long i = 0; i < count; i++) {
+            line.setLength(0);
+            appendCsv(line, generate(i));
+            out.append(line).write('\n');
+        }
+    }
+
+    /**
+     * 先頭から指定件数をスナップショットファイル形式で書き込む
+     * 書き込んだファイルは{@link EngineerSnapshotFile#read(Path)}で読み込める（最終ジャーナル番号は0）
+     *
+     * @param file  出力ファイル
+     * @param count 件数
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeSnapshot(Path file, int count) throws IOException {
+        EngineerSnapshotFile.write(file, 0L, count, iterator(0, count));
+    }
+
+    /**
+     * エンジニア情報をCSVの1行として追加
+     *
+     * @param line     追加先
+     * @param engineer エンジニア情報
+     */
+    public static void appendCsv(StringBuilder line, EngineerDTO engineer) {
+        appendField(line, engineer.getId()).append(',');
+        appendField(line, engineer.getName()).append(',');
+        appendField(line, engineer.getNameKana()).append(',');
+        appendField(line, engineer.getBirthDate() == null ? null : engineer.getBirthDate().toString()).append(',');
+        appendField(line, engineer.getJoinDate() == null ? null : engineer.getJoinDate().toString()).append(',');
+        line.append(engineer.getCareer()).append(',');
+        appendField(line, engineer.getProgrammingLanguages() == null ? null
+                : String.join(",", engineer.getProgrammingLanguages())).append(',');
+        appendField(line, engineer.getCareerHistory()).append(',');
+        appendField(line, engineer.getTrainingHistory()).append(',');
+        appendSkill(line, engineer.getTechnicalSkill()).append(',');
+        appendSkill(line, engineer.getLearningAttitude()).append(',');
+        appendSkill(line, engineer.getCommunicationSkill()).append(',');
+        appendSkill(line, engineer.getLeadership()).append(',');
+        appendField(line, engineer.getNote()).append(',');
+        appendField(line, engineer.getRegisteredDate() == null ? null : engineer.getRegisteredDate().toString());
+    }
+
+    private static StringBuilder appendField(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return line.append(value);
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    /**
+     * 評価値を追加（未評価の0.0は空欄）
+     */
+    private static StringBuilder appendSkill(StringBuilder line, double skill) {
+        return skill == 0.0 ? line : line.append(skill);
+    }
+
+    /**
+     * 採用率に応じて扱える言語を選ぶ（最低1つ）
+     */
+    private static List<String> languages(SplittableRandom random) {
+        List<String> languages = new ArrayList<>(4);
+        for (int i = 0; i < LANGUAGES.length; i++) {
+            if (random.nextDouble() < LANGUAGE_RATES[i]) {
+                languages.add(LANGUAGES[i]);
+            }
+        }
+        if (languages.isEmpty()) {
+            languages.add(LANGUAGES[(int) (4 * random.nextDouble())]);
+        }
+        return languages;
+    }
+
+    /**
+     * 経歴を作成（例：「独立系SIer3年,当社5年」）
+     */
+    private static String careerHistory(SplittableRandom random, int years, int priorYears) {
+        StringBuilder history = new StringBuilder();
+        if (priorYears > 0) {
+            history.append(COMPANIES[random.nextInt(COMPANIES.length)]).append(priorYears).append("年,");
+        }
+        return years == 0 ? history.append("新卒入社").toString() : history.append("当社").append(years).append("年").toString();
+    }
+
+    /**
+     * 研修の受講歴を作成（0〜3件）
+     */
+    private static String trainingHistory(SplittableRandom random) {
+        int count = random.nextInt(4);
+        if (count == 0) {
+            return null;
+        }
+        StringBuilder history = new StringBuilder();
+        int start = random.nextInt(TRAININGS.length);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                history.append(',');
+            }
+            history.append(TRAININGS[(start + i) % TRAININGS.length]);
+        }
+        return history.toString();
+    }
+
+    /**
+     * 平均を中心とした評価値を作成（1.0〜5.0、0.5刻み）
+     */
+    private static double skill(SplittableRandom random, double mean) {
+        // 一様乱数3つの和で近似した正規分布（標準偏差約0.7）
+        double value = mean + (random.nextDouble() + random.nextDouble() + random.nextDouble() - 1.5) * 1.2;
+        value = Math.round(value * 2.0) / 2.0;
+        return Math.max(1.0, Math.min(5.0, value));
+    }
+
+    /**
+     * 不備を加える
+     */
+    private static void applyDefect(EngineerDTO engineer, Defect defect) {
+        switch (defect) {
+            case MISSING_ID:
+                engineer.setId("");
+                break;
+            case INVALID_ID:
+                engineer.setId(engineer.getId().replace("ID", "ID-"));
+                break;
+            case MISSING_NAME:
+                engineer.setName("");
+                break;
+            case MISSING_NAME_KANA:
+                engineer.setNameKana("");
+                break;
+            case MISSING_BIRTH_DATE:
+                engineer.setBirthDate(null);
+                break;
+            case MISSING_JOIN_DATE:
+                engineer.setJoinDate(null);
+                break;
+            case NEGATIVE_CAREER:
+                engineer.setCareer(-1 - engineer.getCareer());
+                break;
+            case NO_LANGUAGE:
+                engineer.setProgrammingLanguages(new ArrayList<>());
+                break;
+            case SKILL_OUT_OF_RANGE:
+                engineer.setTechnicalSkill(5.5);
+                break;
+            default:
+                throw new IllegalStateException("未対応の不備です: " + defect);
+        }
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    /**
+     * シードと行番号から行ごとの乱数のシードを作成
+     */
+    private static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static void main(String[] args) throws IOException {
+        long count = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+        Path output = Paths.get(args.length > 1 ? args[1] : "roster.csv");
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        double invalidRate = args.length > 3 ? Double.parseDouble(args[3]) : 0.0;
+
+        RosterGenerator generator = new RosterGenerator(seed, invalidRate);
+        long start = System.nanoTime();
+        if (output.getFileName().toString().endsWith(".csv")) {
+            generator.writeCsv(output, count);
+        } else {
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("スナップショットファイル形式の件数が多すぎます: " + count);
+            }
+            generator.writeSnapshot(output, (int) count);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d件を生成しました: %s（%.1f秒, %.0f件/秒, %dバイト）%n", count, output, seconds,
+                count / seconds, Files.size(output));
+    }
+}
@@ -0,0 +1,220 @@
+package test;
+
+import model.AggregateView;
+import model.EngineerDTO;
+import model.EngineerField;
+import model.EngineerRepository;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * AggregateView.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestAggregateView
+ *
+ * テストケース:
+ * 1: 正常系 - 登録時の初期化と、追加・更新・削除の差分反映（未評価の除外、件数0のグループの削除）
+ * 2: 正常系 - 複数スレッドからのランダムな変更後の集計値を全件走査と比較
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestAggregateView {
+
+    /** 試験データで使用する言語 */
+    private static final String[] LANGUAGES = { "Java", "Python", "Kotlin", "Go", "SQL" };
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testIncrementalMaintenance();
+            testConcurrentAgainstLinearScan();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 差分反映のテスト
+     */
+    private static void testIncrementalMaintenance() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "集計ビューの差分反映テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            repository.add(engineer("ID00001", 4.0, "Java", "SQL"));
+            repository.add(engineer("ID00002", 3.0, "Java"));
+
+            AggregateView<String> byLanguage = AggregateView.byLanguage(EngineerField.TECHNICAL_SKILL);
+            AggregateView<Boolean> total = AggregateView.total(EngineerField.TECHNICAL_SKILL);
+            repository.addIndex(byLanguage);
+            repository.addIndex(total);
+            check(byLanguage.getAverage("java") == 3.5, "登録時に既存の内容で初期化されること");
+            check(byLanguage.getCount("sql") == 1, "複数の言語のグループに含まれること");
+
+            repository.add(engineer("ID00003", 5.0, "Java"));
+            check(byLanguage.getAverage("java") == 4.0, "追加が反映されること");
+
+            repository.update(engineer("ID00001", 2.0, "Go"));
+            check(byLanguage.getCount("java") == 2 && byLanguage.getAverage("java") == 4.0, "更新前のグループから除かれること");
+            check(byLanguage.getCount("sql") == 0 && Double.isNaN(byLanguage.getAverage("sql")),
+                    "件数0のグループは削除されること");
+            check(byLanguage.getAverage("go") == 2.0, "更新後のグループに加わること");
+
+            repository.add(engineer("ID00004", 0.0, "Java"));
+            check(byLanguage.getCount("java") == 2, "未評価のエンジニアは集計しないこと");
+
+            repository.delete("ID00003");
+            check(byLanguage.getSum("java") == 3.0, "削除が反映されること");
+            check(total.getCount(Boolean.TRUE) == 2 && total.getSum(Boolean.TRUE) == 5.0, "全件の集計が一致すること");
+            check(byLanguage.averages().keySet().equals(new TreeSet<>(Arrays.asList("go", "java"))),
+                    "グループの一覧が一致すること");
+
+            System.out.println("テスト成功: 追加・更新・削除が集計ビューに反映されました");
+            LogHandler.getInstance().log(Level.INFO, "集計ビューの差分反映テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("集計ビューの差分反映テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 複数スレッドからの変更後の集計値を全件走査と比較するテスト
+     */
+    private static void testConcurrentAgainstLinearScan() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            LogHandler.getInstance().log(Level.INFO, "集計ビューの並行更新テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            AggregateView<String> byLanguage = AggregateView.byLanguage(EngineerField.LEADERSHIP);
+            AggregateView<Integer> byYear = AggregateView.byJoinYear(EngineerField.CAREER);
+            repository.addIndex(byLanguage);
+            repository.addIndex(byYear);
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(37 + thread);
+                    for (int i = 0; i < 20_000; i++) {
+                        // スレッドごとに社員IDの範囲を分ける
+                        String id = String.format("ID%05d", thread * 10_000 + random.nextInt(2_000));
+                        EngineerDTO engineer = randomEngineer(random, id);
+                        if (repository.get(id) == null) {
+                            repository.add(engineer);
+                        } else if (random.nextInt(4) == 0) {
+                            repository.delete(id);
+                        } else {
+                            repository.update(engineer);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+
+            Map<String, long[]> expectedLanguage = new HashMap<>();
+            Map<Integer, long[]> expectedYear = new HashMap<>();
+            for (EngineerDTO engineer : repository.findAll()) {
+                if (engineer.getLeadership() >= 1.0) {
+                    for (String language : engineer.getProgrammingLanguages()) {
+                        long[] cell = expectedLanguage.computeIfAbsent(language.toLowerCase(Locale.ROOT),
+                                k -> new long[2]);
+                        cell[0]++;
+                        cell[1] += EngineerField.skillKey(engineer.getLeadership());
+                    }
+                }
+                if (engineer.getJoinDate() != null) {
+                    long[] cell = expectedYear.computeIfAbsent(engineer.getJoinDate().getYear(), k -> new long[2]);
+                    cell[0]++;
+                    cell[1] += engineer.getCareer();
+                }
+            }
+            check(byLanguage.groupCount() == expectedLanguage.size(), "言語のグループ数が一致すること");
+            for (Map.Entry<String, long[]> entry : expectedLanguage.entrySet()) {
+                check(byLanguage.getCount(entry.getKey()) == entry.getValue()[0], "言語の件数が一致すること");
+                check(byLanguage.getSum(entry.getKey()) == entry.getValue()[1] / 10.0, "言語の合計が一致すること");
+            }
+            check(byYear.groupCount() == expectedYear.size(), "入社年のグループ数が一致すること");
+            for (Map.Entry<Integer, long[]> entry : expectedYear.entrySet()) {
+                check(byYear.getCount(entry.getKey()) == entry.getValue()[0], "入社年の件数が一致すること");
+                check(byYear.getSum(entry.getKey()) == entry.getValue()[1], "入社年の合計が一致すること");
+            }
+
+            System.out.println("テスト成功: 80000件の並行更新後の集計値が全件走査と一致しました（"
+                    + repository.size() + "件）");
+            LogHandler.getInstance().log(Level.INFO, "集計ビューの並行更新テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("集計ビューの並行更新テストが失敗しました", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 技術力と言語を指定したエンジニアを作成
+     */
+    private static EngineerDTO engineer(String id, double technicalSkill, String... languages) {
+        EngineerDTO engineer = createEngineer(id, "集計ビュー試験");
+        engineer.setTechnicalSkill(technicalSkill);
+        engineer.setProgrammingLanguages(Arrays.asList(languages));
+        return engineer;
+    }
+
+    /**
+     * ランダムなリーダーシップ・言語・入社年月・エンジニア歴のエンジニアを作成
+     */
+    private static EngineerDTO randomEngineer(Random random, String id) {
+        EngineerDTO engineer = createEngineer(id, "集計ビュー試験");
+        List<String> languages = new ArrayList<>();
+        for (String language : LANGUAGES) {
+            if (random.nextInt(3) == 0) {
+                languages.add(language);
+            }
+        }
+        engineer.setProgrammingLanguages(languages);
+        engineer.setLeadership(random.nextInt(10) == 0 ? 0.0 : 1.0 + random.nextInt(9) * 0.5);
+        engineer.setCareer(random.nextInt(40));
+        engineer.setJoinDate(random.nextInt(10) == 0 ? null : LocalDate.of(2000 + random.nextInt(25), 4, 1));
+        return engineer;
+    }
+}
@@ -20,11 +20,11 @@ import java.util.logging.Level;
 public class TestCaseBatchRunner {
 
     // 実行するテストケース番号のリスト
-    private static final List<String> TEST_CASES = Arrays.asList(
+    static final List<String> TEST_CASES = Arrays.asList(
             "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12");
 
     // カスタムテストの設定
-    private static final String[][] CUSTOM_TESTS = {
+    static final String[][] CUSTOM_TESTS = {
             {
                     "13", "ID00001", "山田太郎", "ヤマダタロウ", "1990-01-15", "2015-04-01", "8",
                     "Java,Python,JavaScript", "大手SIer5年,ベンチャー3年", "Java研修,AWS研修",
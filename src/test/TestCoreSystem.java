@@ -47,6 +47,21 @@ public class TestCoreSystem {
         // ログハンドラの初期化
         initializeLogHandler();
 
+        try {
+            runCase(args);
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * 引数で指定されたテストケースを実行します
+     * ログハンドラの初期化とクリーンアップは呼び出し元で行います（複数のケースを並行して実行する場合に使用）
+     *
+     * @param args テストケース番号とパラメータ
+     */
+    static void runCase(String[] args) {
         try {
             if (args.length == 0) {
                 printUsage();
@@ -111,9 +126,6 @@ public class TestCoreSystem {
         } catch (Exception e) {
             System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
             e.printStackTrace();
-        } finally {
-            // ログハンドラのクリーンアップ
-            LogHandler.getInstance().cleanup();
         }
     }
 
@@ -0,0 +1,269 @@
+package test;
+
+import model.EngineerBatchResult;
+import model.EngineerDTO;
+import model.EngineerJournal;
+import model.EngineerRepository;
+import model.LanguageIndex;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+import static test.TestEngineerJournal.deleteQuietly;
+
+/**
+ * EngineerRepository.javaの一括登録（addAll・upsertAll）の機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestEngineerBatch
+ *
+ * テストケース:
+ * 1: 正常系 - 一括追加と、行ごとのエラー（形式不正・一覧内の重複・登録済み・null）
+ * 2: 正常系 - 一括追加・更新の件数と、副索引への反映
+ * 3: 正常系 - 一括レコードのジャーナルからの復元（1MBを超える一括登録と、その途中で切れたジャーナルを含む）
+ * 4: 正常系 - 1件ずつの登録との処理時間の比較
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestEngineerBatch {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testAddAllWithRowErrors();
+            testUpsertAllWithIndex();
+            testJournalReplay();
+            testThroughput();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 行ごとのエラーのテスト
+     */
+    private static void testAddAllWithRowErrors() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "一括追加のエラー報告テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            repository.add(createEngineer("ID00003", "登録済み"));
+
+            List<EngineerDTO> engineers = Arrays.asList(
+                    createEngineer("ID00001", "山田太郎"),
+                    createEngineer("IDABCDE", "形式不正"),
+                    createEngineer("ID00002", "鈴木花子"),
+                    createEngineer("00001", "一覧内の重複"),
+                    createEngineer("ID00003", "登録済みと重複"),
+                    null);
+            EngineerBatchResult result = repository.addAll(engineers);
+
+            check(result.getAddedCount() == 2 && result.getUpdatedCount() == 0, "2件が追加されること: " + result);
+            List<EngineerBatchResult.RowError> errors = result.getErrors();
+            check(errors.size() == 4, "4件がエラーとなること: " + errors);
+            check(errors.get(0).getIndex() == 1 && errors.get(0).getId().equals("IDABCDE"), "形式不正の行が報告されること");
+            check(errors.get(1).getIndex() == 3, "一覧内の重複の行が報告されること");
+            check(errors.get(2).getIndex() == 4, "登録済みの行が報告されること");
+            check(errors.get(3).getIndex() == 5 && errors.get(3).getId() == null, "nullの行が報告されること");
+            check(repository.size() == 3, "エラー以外の行が登録されること: " + repository.size());
+            check(repository.get("ID00001").getName().equals("山田太郎"), "一覧内で先の行が登録されること");
+            check(repository.get("ID00003").getName().equals("登録済み"), "登録済みの情報は変わらないこと");
+
+            // 登録後に入力を変更してもリポジトリには影響しない
+            engineers.get(0).setName("変更");
+            check(repository.get("ID00001").getName().equals("山田太郎"), "入力は複製して登録されること");
+
+            EngineerBatchResult empty = repository.addAll(Collections.<EngineerDTO>emptyList());
+            check(empty.getAddedCount() == 0 && !empty.hasErrors(), "空の一覧は何もしないこと");
+
+            System.out.println("テスト成功: エラー以外の行が登録され、エラーが行ごとに報告されました");
+            LogHandler.getInstance().log(Level.INFO, "一括追加のエラー報告テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("一括追加のエラー報告テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 一括追加・更新と副索引のテスト
+     */
+    private static void testUpsertAllWithIndex() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "一括追加・更新のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            LanguageIndex index = new LanguageIndex();
+            repository.addIndex(index);
+            repository.add(createEngineer("ID00001", "山田太郎"));
+            long version = repository.snapshot().getVersion();
+
+            EngineerDTO rust = createEngineer("ID00001", "山田太郎");
+            rust.setProgrammingLanguages(Arrays.asList("Rust"));
+            List<EngineerDTO> engineers = new ArrayList<>();
+            engineers.add(rust);
+            for (int i = 2; i <= 100; i++) {
+                engineers.add(createEngineer(String.format("ID%05d", i), "一括試験"));
+            }
+            EngineerBatchResult result = repository.upsertAll(engineers);
+
+            check(result.getAddedCount() == 99 && result.getUpdatedCount() == 1 && !result.hasErrors(),
+                    "99件の追加と1件の更新であること: " + result);
+            check(repository.snapshot().getVersion() == version + 1, "スナップショットの置き換えが1回であること");
+            check(index.count("Rust") == 1 && index.count("Java") == 99, "副索引に反映されること: Java="
+                    + index.count("Java") + ", Rust=" + index.count("Rust"));
+
+            System.out.println("テスト成功: 追加99件・更新1件が1回の置き換えで反映されました");
+            LogHandler.getInstance().log(Level.INFO, "一括追加・更新のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("一括追加・更新のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * ジャーナルからの復元のテスト
+     */
+    private static void testJournalReplay() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "一括レコードの復元テストを開始します");
+            dir = Files.createTempDirectory("batch-test");
+
+            // 1件あたり約2KBの備考で、合計が1レコードの上限を超える件数
+            StringBuilder note = new StringBuilder();
+            for (int i = 0; i < 1_000; i++) {
+                note.append("備");
+            }
+            int total = 1_500;
+            List<EngineerDTO> engineers = new ArrayList<>();
+            for (int i = 1; i <= total; i++) {
+                EngineerDTO engineer = createEngineer(String.format("ID%05d", i), "復元試験");
+                engineer.setNote(note.toString());
+                engineers.add(engineer);
+            }
+
+            long sequence;
+            long batchStart;
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                EngineerRepository repository = new EngineerRepository(journal);
+                repository.open();
+                repository.add(createEngineer("ID00001", "先に登録"));
+                batchStart = journal.getJournalSize();
+                EngineerBatchResult result = repository.upsertAll(engineers);
+                check(result.getAddedCount() == total - 1 && result.getUpdatedCount() == 1, "件数が一致すること: " + result);
+                repository.addAll(Arrays.asList(createEngineer("ID99999", "小さい一括")));
+                sequence = journal.getLastSequence();
+            }
+            check(sequence > 3, "上限を超える一括登録は複数のレコードに分割されること: " + sequence);
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                EngineerRepository repository = new EngineerRepository(journal);
+                repository.open();
+                check(repository.size() == total + 1, "復元件数が一致すること: " + repository.size());
+                check(repository.get("ID00001").getName().equals("復元試験"), "一括更新が復元されること");
+                check(repository.get(String.format("ID%05d", total)).getNote().equals(note.toString()),
+                        "最後の行が復元されること");
+                check(repository.get("ID99999") != null, "小さい一括登録が復元されること");
+            }
+
+            // 分割した最初のレコードの直後で切断し、後続のレコードが書き込まれる前の停止を再現する
+            Path journalFile = dir.resolve(EngineerJournal.JOURNAL_FILE_NAME);
+            try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                ByteBuffer length = ByteBuffer.allocate(4);
+                channel.read(length, batchStart);
+                channel.truncate(batchStart + 17 + length.flip().getInt());
+            }
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                EngineerRepository repository = new EngineerRepository(journal);
+                repository.open();
+                check(repository.size() == 1 && repository.get("ID00001").getName().equals("先に登録"),
+                        "途中で切れた一括登録はいずれの行も復元されないこと: " + repository.size());
+                check(Files.size(journalFile) == batchStart, "途中で切れた一括登録が切り捨てられること");
+            }
+
+            System.out.println("テスト成功: " + total + "件の一括登録がジャーナルから復元されました（" + sequence + "レコード）");
+            LogHandler.getInstance().log(Level.INFO, "一括レコードの復元テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("一括レコードの復元テストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 1件ずつの登録との比較
+     */
+    private static void testThroughput() {
+        Path single = null;
+        Path batch = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "一括登録の処理時間テストを開始します");
+            single = Files.createTempDirectory("batch-test");
+            batch = Files.createTempDirectory("batch-test");
+            int total = 2_000;
+
+            long start = System.nanoTime();
+            try (EngineerJournal journal = new EngineerJournal(single)) {
+                EngineerRepository repository = new EngineerRepository(journal);
+                repository.open();
+                for (int i = 1; i <= total; i++) {
+                    repository.add(createEngineer(String.format("ID%05d", i), "処理時間試験"));
+                }
+            }
+            long singleMillis = (System.nanoTime() - start) / 1_000_000;
+
+            List<EngineerDTO> engineers = new ArrayList<>();
+            for (int i = 1; i <= total; i++) {
+                engineers.add(createEngineer(String.format("ID%05d", i), "処理時間試験"));
+            }
+            start = System.nanoTime();
+            try (EngineerJournal journal = new EngineerJournal(batch)) {
+                EngineerRepository repository = new EngineerRepository(journal);
+                repository.open();
+                check(repository.addAll(engineers).getAddedCount() == total, "全件が追加されること");
+            }
+            long batchMillis = (System.nanoTime() - start) / 1_000_000;
+
+            check(batchMillis <= singleMillis, "一括登録が1件ずつの登録より遅くないこと: " + batchMillis + "ms");
+            System.out.println("テスト成功: " + total + "件を1件ずつ " + singleMillis + "ms、一括で " + batchMillis + "ms で登録しました");
+            LogHandler.getInstance().log(Level.INFO, "一括登録の処理時間テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("一括登録の処理時間テストが失敗しました", e);
+        } finally {
+            deleteQuietly(single);
+            deleteQuietly(batch);
+        }
+    }
+}
@@ -0,0 +1,665 @@
+package test;
+
+import model.EngineerBuilder;
+import model.EngineerDTO;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+
+/**
+ * EngineerBuilder.javaの性質試験（ファジング）を行うテストクラス
+ *
+ * <p>
+ * 乱数で生成したセッター呼び出しの列をビルダーに適用し、各呼び出しとbuild()の結果
+ * （戻り値の各項目、または例外の型とメッセージ）を、仕様から別に実装した基準と比較します。
+ * 不一致が見つかった場合は、呼び出しを1つずつ取り除いて不一致が再現する最小の列に縮小し、
+ * 再現に必要なシードと列の番号と共に出力します。
+ * </p>
+ *
+ * 実行方法：
+ * java test.TestEngineerBuilderFuzz [呼び出し列の数] [シード]
+ *
+ * テストケース:
+ * 1: 正常系・異常系 - 乱数の呼び出し列で、セッターとbuild()の結果が基準と一致すること
+ * 2: 異常系 - 範囲外・NaN・無限大・0.1刻みでない評価値が拒否され、設定済みの値が変わらないこと
+ * 3: 性能 - 正常に構築できる場合と、必須項目の検証で拒否される場合の1秒あたりの構築数
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestEngineerBuilderFuzz {
+
+    /** 既定の呼び出し列の数 */
+    private static final long DEFAULT_SEQUENCES = 1_000_000L;
+
+    /** 既定のシード */
+    private static final long DEFAULT_SEED = 46L;
+
+    /** 1つの列に含める乱数の呼び出しの最大数 */
+    private static final int MAX_CALLS = 24;
+
+    /** 構築数の計測時間（ナノ秒） */
+    private static final long MEASURE_NANOS = 2_000_000_000L;
+
+    /** 評価項目の境界・特殊値 */
+    private static final double[] EDGE_SKILLS = { Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            0.0, -0.0, -1.0, Double.MIN_VALUE, Math.nextDown(1.0), 1.0, 5.0, Math.nextUp(5.0), 5.5,
+            Double.MAX_VALUE, 2.25, Math.nextUp(3.0), 4.3 };
+
+    /** 必須項目の空白・不正値 */
+    private static final String[] BLANK_TEXTS = { null, "", " ", "\t", " \r\n ", "\u0000" };
+
+    /** 空白として扱われない文字を含む値（全角空白など） */
+    private static final String[] UNUSUAL_TEXTS = { "　", " 山田 ", "ﾔﾏﾀﾞ", "𠮷田", "a　b" };
+
+    /** 言語の候補 */
+    private static final String[] LANGUAGES = { "Java", "Python", "SQL", "C#", "", " " };
+
+    /**
+     * ビルダーの呼び出しの種類
+     */
+    enum Op {
+        ID("setId"), NAME("setName"), NAME_KANA("setNameKana"), BIRTH_DATE("setBirthDate"),
+        JOIN_DATE("setJoinDate"), CAREER("setCareer"), LANGUAGES("setProgrammingLanguages"),
+        CAREER_HISTORY("setCareerHistory"), TRAINING_HISTORY("setTrainingHistory"),
+        TECHNICAL_SKILL("setTechnicalSkill"), LEARNING_ATTITUDE("setLearningAttitude"),
+        COMMUNICATION_SKILL("setCommunicationSkill"), LEADERSHIP("setLeadership"), NOTE("setNote"),
+        REGISTERED_DATE("setRegisteredDate"), BUILD("build");
+
+        /** ビルダーのメソッド名 */
+        final String method;
+
+        Op(String method) {
+            this.method = method;
+        }
+
+        boolean isSkill() {
+            return this == TECHNICAL_SKILL || this == LEARNING_ATTITUDE || this == COMMUNICATION_SKILL
+                    || this == LEADERSHIP;
+        }
+    }
+
+    /**
+     * ビルダーの1回の呼び出し
+     */
+    static final class Call {
+
+        final Op op;
+        final Object value;
+
+        Call(Op op, Object value) {
+            this.op = op;
+            this.value = value;
+        }
+
+        /**
+         * ビルダーに適用する
+         *
+         * @return build()の場合は構築されたDTO、それ以外はnull
+         */
+        @SuppressWarnings("unchecked")
+        EngineerDTO applyTo(EngineerBuilder builder) {
+            switch (op) {
+                case ID:
+                    builder.setId((String) value);
+                    return null;
+                case NAME:
+                    builder.setName((String) value);
+                    return null;
+                case NAME_KANA:
+                    builder.setNameKana((String) value);
+                    return null;
+                case BIRTH_DATE:
+                    builder.setBirthDate((LocalDate) value);
+                    return null;
+                case JOIN_DATE:
+                    builder.setJoinDate((LocalDate) value);
+                    return null;
+                case CAREER:
+                    builder.setCareer((Integer) value);
+                    return null;
+                case LANGUAGES:
+                    builder.setProgrammingLanguages((List<String>) value);
+                    return null;
+                case CAREER_HISTORY:
+                    builder.setCareerHistory((String) value);
+                    return null;
+                case TRAINING_HISTORY:
+                    builder.setTrainingHistory((String) value);
+                    return null;
+                case TECHNICAL_SKILL:
+                    builder.setTechnicalSkill((Double) value);
+                    return null;
+                case LEARNING_ATTITUDE:
+                    builder.setLearningAttitude((Double) value);
+                    return null;
+                case COMMUNICATION_SKILL:
+                    builder.setCommunicationSkill((Double) value);
+                    return null;
+                case LEADERSHIP:
+                    builder.setLeadership((Double) value);
+                    return null;
+                case NOTE:
+                    builder.setNote((String) value);
+                    return null;
+                case REGISTERED_DATE:
+                    builder.setRegisteredDate((LocalDate) value);
+                    return null;
+                default:
+                    return builder.build();
+            }
+        }
+
+        @Override
+        public String toString() {
+            if (op == Op.BUILD) {
+                return "." + op.method + "()";
+            }
+            String literal;
+            if (value instanceof String) {
+                StringBuilder escaped = new StringBuilder("\"");
+                for (char c : ((String) value).toCharArray()) {
+                    escaped.append(c < ' ' || c == '　' ? String.format("\\u%04x", (int) c) : String.valueOf(c));
+                }
+                literal = escaped.append('"').toString();
+            } else {
+                literal = String.valueOf(value);
+            }
+            return "." + op.method + "(" + literal + ")";
+        }
+    }
+
+    /**
+     * 仕様に基づく基準
+     * 各項目の期待値を保持し、呼び出しごとに期待される例外を返す
+     */
+    static final class Oracle {
+
+        private final Map<Op, Object> values = new EnumMap<>(Op.class);
+
+        Oracle() {
+            values.put(Op.CAREER, 0);
+            for (Op op : Op.values()) {
+                if (op.isSkill()) {
+                    values.put(op, 0.0);
+                }
+            }
+        }
+
+        /**
+         * 呼び出しを適用し、期待される例外を返す
+         *
+         * @return 期待される例外の「型: メッセージ」（例外が発生しない場合はnull）
+         */
+        String apply(Call call) {
+            if (call.op == Op.BUILD) {
+                return buildError();
+            }
+            if (call.op.isSkill()) {
+                double value = (Double) call.value;
+                // 1.0以上5.0以下だけを受け付ける（比較がすべて偽となるNaNは範囲外）
+                if (!(value >= 1.0 && value <= 5.0)) {
+                    return IllegalArgumentException.class.getSimpleName() + ": " + skillLabel(call.op)
+                            + "は1.0から5.0の範囲で設定してください";
+                }
+                // 範囲内でも0.1刻みでない値は拒否する
+                if (value * 10 != Math.rint(value * 10)) {
+                    return IllegalArgumentException.class.getSimpleName() + ": " + skillLabel(call.op)
+                            + "は0.1刻みで設定してください";
+                }
+            }
+            values.put(call.op, call.value);
+            return null;
+        }
+
+        /**
+         * build()で期待される例外（必須項目を順に確認する）
+         */
+        private String buildError() {
+            String message = null;
+            if (isBlank(values.get(Op.ID))) {
+                message = "社員IDは必須です";
+            } else if (isBlank(values.get(Op.NAME))) {
+                message = "氏名は必須です";
+            } else if (isBlank(values.get(Op.NAME_KANA))) {
+                message = "フリガナは必須です";
+            } else if (values.get(Op.BIRTH_DATE) == null) {
+                message = "生年月日は必須です";
+            } else if (values.get(Op.JOIN_DATE) == null) {
+                message = "入社年月は必須です";
+            } else if ((Integer) values.get(Op.CAREER) < 0) {
+                message = "エンジニア歴は0以上の値が必要です";
+            } else if (values.get(Op.LANGUAGES) == null || ((List<?>) values.get(Op.LANGUAGES)).isEmpty()) {
+                message = "扱える言語は最低1つ設定する必要があります";
+            }
+            return message == null ? null : IllegalStateException.class.getSimpleName() + ": " + message;
+        }
+
+        /**
+         * 構築されたDTOが期待値と一致しない項目を返す
+         *
+         * @return 一致しない項目の説明（すべて一致する場合はnull）
+         */
+        String mismatch(EngineerDTO actual) {
+            Object[][] pairs = {
+                    { Op.ID, actual.getId() }, { Op.NAME, actual.getName() }, { Op.NAME_KANA, actual.getNameKana() },
+                    { Op.BIRTH_DATE, actual.getBirthDate() }, { Op.JOIN_DATE, actual.getJoinDate() },
+                    { Op.CAREER, actual.getCareer() }, { Op.LANGUAGES, actual.getProgrammingLanguages() },
+                    { Op.CAREER_HISTORY, actual.getCareerHistory() },
+                    { Op.TRAINING_HISTORY, actual.getTrainingHistory() },
+                    { Op.TECHNICAL_SKILL, actual.getTechnicalSkill() },
+                    { Op.LEARNING_ATTITUDE, actual.getLearningAttitude() },
+                    { Op.COMMUNICATION_SKILL, actual.getCommunicationSkill() },
+                    { Op.LEADERSHIP, actual.getLeadership() }, { Op.NOTE, actual.getNote() } };
+            for (Object[] pair : pairs) {
+                Object expected = values.get(pair[0]);
+                boolean same = expected instanceof Double
+                        ? Double.compare((Double) expected, (Double) pair[1]) == 0
+                        : Objects.equals(expected, pair[1]);
+                if (!same) {
+                    return pair[0] + "の期待値=" + expected + ", 実際の値=" + pair[1];
+                }
+            }
+            // 登録日時は未設定の場合は構築時の日付となる（nullを設定した場合はnull）
+            Object registered = values.get(Op.REGISTERED_DATE);
+            if (values.containsKey(Op.REGISTERED_DATE) ? !Objects.equals(registered, actual.getRegisteredDate())
+                    : actual.getRegisteredDate() == null) {
+                return "REGISTERED_DATEの期待値=" + registered + ", 実際の値=" + actual.getRegisteredDate();
+            }
+            return null;
+        }
+
+        /**
+         * 値がnull、またはU+0020以下の文字だけで構成されているか
+         */
+        private static boolean isBlank(Object value) {
+            if (value == null) {
+                return true;
+            }
+            for (char c : ((String) value).toCharArray()) {
+                if (c > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String skillLabel(Op op) {
+            switch (op) {
+                case TECHNICAL_SKILL:
+                    return "技術力";
+                case LEARNING_ATTITUDE:
+                    return "受講態度";
+                case COMMUNICATION_SKILL:
+                    return "コミュニケーション能力";
+                default:
+                    return "リーダーシップ";
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        long sequences = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_SEQUENCES;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testRandomSequences(sequences, seed);
+            testSkillEdges();
+            testBuildThroughput();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 乱数の呼び出し列と基準の比較テスト
+     */
+    private static void testRandomSequences(long sequences, long seed) {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ビルダーのファジングテストを開始します（シード: " + seed + "）");
+            Map<String, Long> outcomes = new TreeMap<>();
+            long calls = 0;
+            long start = System.nanoTime();
+
+            for (long index = 0; index < sequences; index++) {
+                List<Call> sequence = generate(new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L));
+                calls += sequence.size();
+                String mismatch = verify(sequence, outcomes);
+                if (mismatch != null) {
+                    List<Call> minimal = shrink(sequence);
+                    throw new IllegalStateException("検証失敗: シード" + seed + "の" + index + "番目の列で基準と一致しません: "
+                            + verify(minimal, null) + System.lineSeparator() + "  最小の再現手順: new EngineerBuilder()"
+                            + String.join("", minimal.stream().map(Call::toString).toArray(String[]::new)));
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            check(outcomes.getOrDefault("成功", 0L) > sequences / 10, "構築に成功する列が十分に含まれること: " + outcomes);
+            check(outcomes.size() >= 12, "すべての種類の例外が発生すること: " + outcomes.keySet());
+
+            System.out.println("  結果の内訳:");
+            for (Map.Entry<String, Long> entry : outcomes.entrySet()) {
+                System.out.println(String.format("    %-60s %,12d", entry.getKey(), entry.getValue()));
+            }
+            System.out.println(String.format("テスト成功: %,d列（%,d回の呼び出し）が基準と一致しました（%.1f秒, %,.0f列/秒）", sequences,
+                    calls, seconds, sequences / seconds));
+            LogHandler.getInstance().log(Level.INFO, "ビルダーのファジングテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ビルダーのファジングテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 評価項目の境界・特殊値のテスト
+     */
+    private static void testSkillEdges() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "評価項目の境界値テストを開始します");
+            int rejected = 0;
+            int invalid = 0;
+            for (double edge : EDGE_SKILLS) {
+                if (!isValidSkill(edge)) {
+                    invalid++;
+                }
+            }
+            for (Op op : Op.values()) {
+                if (!op.isSkill()) {
+                    continue;
+                }
+                for (double edge : EDGE_SKILLS) {
+                    List<Call> sequence = new ArrayList<>(validRequiredCalls());
+                    sequence.add(new Call(op, 3.0));
+                    sequence.add(new Call(op, edge));
+                    sequence.add(new Call(Op.BUILD, null));
+                    String mismatch = verify(sequence, null);
+                    check(mismatch == null, op + "に" + edge + "を設定した結果が基準と一致すること: " + mismatch);
+
+                    // 拒否された値は設定済みの値を変えない
+                    EngineerBuilder builder = new EngineerBuilder();
+                    EngineerDTO engineer = null;
+                    for (Call call : sequence) {
+                        try {
+                            engineer = call.applyTo(builder);
+                        } catch (IllegalArgumentException e) {
+                            rejected++;
+                        }
+                    }
+                    double expected = isValidSkill(edge) ? edge : 3.0;
+                    check(Double.compare(skillOf(engineer, op), expected) == 0, op + "の値が" + expected + "であること");
+                }
+            }
+            check(rejected == 4 * invalid, "範囲外・0.1刻みでない値がすべて拒否されること: " + rejected);
+
+            System.out.println("テスト成功: 範囲外・NaN・無限大・0.1刻みでない評価値がすべて拒否されました");
+            LogHandler.getInstance().log(Level.INFO, "評価項目の境界値テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("評価項目の境界値テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 構築数の計測
+     * 一覧生成器で作成した入力を使用し、正常な構築と必須項目の検証で拒否される構築を計測する
+     */
+    private static void testBuildThroughput() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ビルダーの構築数の計測を開始します");
+            RosterGenerator generator = new RosterGenerator(DEFAULT_SEED);
+            EngineerDTO[] inputs = new EngineerDTO[1_024];
+            for (int i = 0; i < inputs.length; i++) {
+                inputs[i] = generator.generate(i);
+            }
+
+            // 計測前に同じ処理で最適化を済ませる
+            measure(inputs, false, MEASURE_NANOS / 4);
+            measure(inputs, true, MEASURE_NANOS / 4);
+            double valid = measure(inputs, false, MEASURE_NANOS);
+            double invalid = measure(inputs, true, MEASURE_NANOS);
+            check(valid > 0 && invalid > 0, "計測できること");
+
+            System.out.println(String.format("テスト成功: 正常な構築 %,.0f件/秒, 検証で拒否される構築 %,.0f件/秒", valid, invalid));
+            LogHandler.getInstance().log(Level.INFO, "ビルダーの構築数の計測が正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ビルダーの構築数の計測が失敗しました", e);
+        }
+    }
+
+    /**
+     * 一定時間構築を繰り返し、1秒あたりの構築数を返す
+     *
+     * @param withoutLanguages trueの場合は言語を設定せず、build()で拒否させる
+     */
+    private static double measure(EngineerDTO[] inputs, boolean withoutLanguages, long nanos) {
+        long count = 0;
+        long checksum = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 256; i++) {
+                EngineerDTO input = inputs[(int) (count++ & (inputs.length - 1))];
+                EngineerBuilder builder = new EngineerBuilder()
+                        .setId(input.getId())
+                        .setName(input.getName())
+                        .setNameKana(input.getNameKana())
+                        .setBirthDate(input.getBirthDate())
+                        .setJoinDate(input.getJoinDate())
+                        .setCareer(input.getCareer())
+                        .setCareerHistory(input.getCareerHistory())
+                        .setTrainingHistory(input.getTrainingHistory())
+                        .setNote(input.getNote());
+                if (!withoutLanguages) {
+                    builder.setProgrammingLanguages(input.getProgrammingLanguages());
+                }
+                try {
+                    checksum += builder.build().getCareer();
+                } catch (IllegalStateException e) {
+                    checksum += e.getMessage().length();
+                }
+            }
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < nanos);
+        // 最適化で処理が省略されないよう結果を使用する
+        if (checksum == Long.MIN_VALUE) {
+            System.out.println(checksum);
+        }
+        return count / (elapsed / 1e9);
+    }
+
+    /**
+     * 呼び出し列をビルダーと基準に適用し、最初の不一致を返す
+     *
+     * @param outcomes build()の結果と例外ごとの件数（集計しない場合はnull）
+     * @return 不一致の説明（一致する場合はnull）
+     */
+    static String verify(List<Call> sequence, Map<String, Long> outcomes) {
+        EngineerBuilder builder = new EngineerBuilder();
+        Oracle oracle = new Oracle();
+        for (int i = 0; i < sequence.size(); i++) {
+            Call call = sequence.get(i);
+            String expected = oracle.apply(call);
+            String actual = null;
+            EngineerDTO built = null;
+            try {
+                built = call.applyTo(builder);
+            } catch (RuntimeException e) {
+                actual = e.getClass().getSimpleName() + ": " + e.getMessage();
+            }
+            if (!Objects.equals(expected, actual)) {
+                return (i + 1) + "番目の" + call + "で期待値=" + (expected == null ? "例外なし" : expected) + ", 実際="
+                        + (actual == null ? "例外なし" : actual);
+            }
+            if (built != null) {
+                String mismatch = oracle.mismatch(built);
+                if (mismatch != null) {
+                    return (i + 1) + "番目の" + call + "で" + mismatch;
+                }
+            }
+            if (outcomes != null && (call.op == Op.BUILD || actual != null)) {
+                outcomes.merge(actual == null ? "成功" : actual, 1L, Long::sum);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 不一致が再現する範囲で呼び出しを取り除き、最小の列を返す
+     */
+    static List<Call> shrink(List<Call> sequence) {
+        List<Call> current = new ArrayList<>(sequence);
+        boolean removed = true;
+        while (removed) {
+            removed = false;
+            for (int i = current.size() - 1; i >= 0; i--) {
+                List<Call> candidate = new ArrayList<>(current);
+                candidate.remove(i);
+                if (verify(candidate, null) != null) {
+                    current = candidate;
+                    removed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 呼び出し列を生成
+     * 半数の列は必須項目を正しい値で設定してから乱数の呼び出しを続け、構築に成功する列を一定数含める
+     */
+    static List<Call> generate(SplittableRandom random) {
+        List<Call> sequence = new ArrayList<>();
+        if (random.nextBoolean()) {
+            sequence.addAll(validRequiredCalls());
+            Collections.shuffle(sequence, new Random(random.nextLong()));
+        }
+        int length = random.nextInt(MAX_CALLS + 1);
+        Op[] ops = Op.values();
+        for (int i = 0; i < length; i++) {
+            Op op = ops[random.nextInt(ops.length)];
+            sequence.add(new Call(op, op == Op.BUILD ? null : randomValue(op, random)));
+        }
+        sequence.add(new Call(Op.BUILD, null));
+        return sequence;
+    }
+
+    /**
+     * 必須項目を正しい値で設定する呼び出し
+     */
+    private static List<Call> validRequiredCalls() {
+        return new ArrayList<>(Arrays.asList(
+                new Call(Op.ID, "ID00046"),
+                new Call(Op.NAME, "山田太郎"),
+                new Call(Op.NAME_KANA, "ヤマダタロウ"),
+                new Call(Op.BIRTH_DATE, LocalDate.of(1990, 1, 15)),
+                new Call(Op.JOIN_DATE, LocalDate.of(2020, 4, 1)),
+                new Call(Op.CAREER, 5),
+                new Call(Op.LANGUAGES, Arrays.asList("Java", "Python"))));
+    }
+
+    /**
+     * 呼び出しの種類に応じた値を生成（正しい値・境界値・不正値を混ぜる）
+     */
+    private static Object randomValue(Op op, SplittableRandom random) {
+        int roll = random.nextInt(10);
+        switch (op) {
+            case ID:
+                return roll < 2 ? pick(BLANK_TEXTS, random) : String.format("ID%05d", random.nextInt(100_000));
+            case NAME:
+            case NAME_KANA:
+                return roll < 2 ? pick(BLANK_TEXTS, random)
+                        : roll < 3 ? pick(UNUSUAL_TEXTS, random) : "ナマエ" + random.nextInt(1_000);
+            case CAREER_HISTORY:
+            case TRAINING_HISTORY:
+            case NOTE:
+                return roll < 3 ? pick(BLANK_TEXTS, random) : "備考" + random.nextInt(1_000);
+            case BIRTH_DATE:
+            case JOIN_DATE:
+            case REGISTERED_DATE:
+                return roll < 2 ? null
+                        : roll < 3 ? (random.nextBoolean() ? LocalDate.MIN : LocalDate.MAX)
+                                : LocalDate.ofEpochDay(random.nextInt(-20_000, 25_000));
+            case CAREER:
+                if (roll < 2) {
+                    int[] edges = { -1, -100, Integer.MIN_VALUE, Integer.MAX_VALUE, 0 };
+                    return edges[random.nextInt(edges.length)];
+                }
+                return random.nextInt(-3, 45);
+            case LANGUAGES:
+                if (roll < 1) {
+                    return null;
+                }
+                if (roll < 3) {
+                    return new ArrayList<String>();
+                }
+                List<String> languages = new ArrayList<>();
+                for (int i = random.nextInt(1, 4); i > 0; i--) {
+                    languages.add(pick(LANGUAGES, random));
+                }
+                return languages;
+            default:
+                // 評価項目
+                return roll < 5 ? EDGE_SKILLS[random.nextInt(EDGE_SKILLS.length)]
+                        : roll < 8 ? random.nextInt(2, 11) / 2.0 : random.nextDouble(-1.0, 7.0);
+        }
+    }
+
+    /**
+     * 評価値として受け付けられる値か（1.0以上5.0以下で0.1刻み）
+     */
+    private static boolean isValidSkill(double value) {
+        return value >= 1.0 && value <= 5.0 && BigDecimal.valueOf(value).stripTrailingZeros().scale() <= 1;
+    }
+
+    private static <T> T pick(T[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static double skillOf(EngineerDTO engineer, Op op) {
+        switch (op) {
+            case TECHNICAL_SKILL:
+                return engineer.getTechnicalSkill();
+            case LEARNING_ATTITUDE:
+                return engineer.getLearningAttitude();
+            case COMMUNICATION_SKILL:
+                return engineer.getCommunicationSkill();
+            default:
+                return engineer.getLeadership();
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package test;
+
+import model.EngineerChangeEvent;
+import model.EngineerChangeFeed;
+import model.EngineerDTO;
+import model.EngineerField;
+import model.EngineerRepository;
+import model.RangeIndex;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * EngineerChangeFeed.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestEngineerChangeFeed
+ *
+ * テストケース:
+ * 1: 正常系 - 追加・更新・削除の通知と変更前後のエンジニア情報
+ * 2: 正常系 - 処理の遅い購読者への背圧制御（欠落なし・順序どおり）
+ * 3: 正常系 - 要求しない購読者への通知の破棄と、破棄の警告ログの集約
+ * 4: 正常系 - 配信終了時の完了通知
+ * 5: 正常系 - 受信バッファの空きを待つ間、更新ロックを保持しないこと
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestEngineerChangeFeed {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testEvents();
+            testBackpressure();
+            testDropWhenNotRequested();
+            testClose();
+            testWaitOutsideLocks();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 追加・更新・削除の通知のテスト
+     */
+    private static void testEvents() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (EngineerChangeFeed feed = new EngineerChangeFeed(executor, 16, 1_000)) {
+            LogHandler.getInstance().log(Level.INFO, "変更通知のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            repository.addIndex(feed);
+            RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, 0);
+            feed.subscribe(subscriber);
+
+            repository.add(createEngineer("ID00001", "山田太郎"));
+            repository.update(createEngineer("ID00001", "山田次郎"));
+            repository.delete("ID00001");
+            subscriber.await(3);
+
+            List<EngineerChangeEvent> events = subscriber.events;
+            check(events.get(0).getType() == EngineerChangeEvent.Type.ADDED && events.get(0).getBefore() == null,
+                    "追加の通知であること");
+            check(events.get(1).getType() == EngineerChangeEvent.Type.UPDATED
+                    && events.get(1).getBefore().getName().equals("山田太郎")
+                    && events.get(1).getAfter().getName().equals("山田次郎"), "更新の通知に変更前後の情報があること");
+            check(events.get(2).getType() == EngineerChangeEvent.Type.DELETED && events.get(2).getAfter() == null
+                    && events.get(2).getId().equals("ID00001"), "削除の通知であること");
+            check(events.get(0).getSequence() < events.get(1).getSequence()
+                    && events.get(1).getSequence() < events.get(2).getSequence(), "通知番号が増加すること");
+
+            // 通知の情報を変更してもリポジトリには影響しない
+            repository.add(createEngineer("ID00002", "鈴木花子"));
+            subscriber.await(4);
+            subscriber.events.get(3).getAfter().setName("変更");
+            check(repository.get("ID00002").getName().equals("鈴木花子"), "通知は複製であること");
+
+            System.out.println("テスト成功: 追加・更新・削除が変更前後の情報とともに通知されました");
+            LogHandler.getInstance().log(Level.INFO, "変更通知のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("変更通知のテストが失敗しました", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 背圧制御のテスト
+     */
+    private static void testBackpressure() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (EngineerChangeFeed feed = new EngineerChangeFeed(executor, 4, 10_000)) {
+            LogHandler.getInstance().log(Level.INFO, "変更通知の背圧制御テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            repository.addIndex(feed);
+            // 1件ずつ要求し、1件あたり2ミリ秒かかる購読者
+            RecordingSubscriber slow = new RecordingSubscriber(1, 2);
+            feed.subscribe(slow);
+
+            int total = 100;
+            long start = System.nanoTime();
+            for (int i = 1; i <= total; i++) {
+                repository.add(createEngineer(String.format("ID%05d", i), "背圧試験"));
+            }
+            long writeMillis = (System.nanoTime() - start) / 1_000_000;
+            slow.await(total);
+
+            check(feed.getDroppedCount() == 0, "通知が破棄されないこと");
+            for (int i = 0; i < total; i++) {
+                check(slow.events.get(i).getId().equals(String.format("ID%05d", i + 1)), "反映順に通知されること");
+            }
+            check(writeMillis >= total - 8, "満杯の受信バッファで更新が待機すること: " + writeMillis + "ms");
+
+            System.out.println("テスト成功: 受信バッファ4件で" + total + "件を欠落なく配信しました（更新の待機 " + writeMillis + "ms）");
+            LogHandler.getInstance().log(Level.INFO, "変更通知の背圧制御テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("変更通知の背圧制御テストが失敗しました", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 通知の破棄のテスト
+     */
+    private static void testDropWhenNotRequested() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // 配信終了時の警告ログを検証するため、tryのリソースにせず明示的に閉じる
+        EngineerChangeFeed feed = new EngineerChangeFeed(executor, 4, 5);
+        try {
+            LogHandler.getInstance().log(Level.INFO, "変更通知の破棄テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            repository.addIndex(feed);
+            RecordingSubscriber idle = new RecordingSubscriber(0, 0);
+            feed.subscribe(idle);
+            long warnings = countDropWarnings();
+
+            for (int i = 1; i <= 20; i++) {
+                repository.add(createEngineer(String.format("ID%05d", i), "破棄試験"));
+            }
+            check(repository.size() == 20, "通知を破棄してもリポジトリは更新されること");
+            check(feed.getDroppedCount() >= 20 - 4, "受信バッファを超えた通知は破棄されること: " + feed.getDroppedCount());
+            check(countDropWarnings() == warnings + 1, "破棄の警告ログが1件にまとめられること: " + (countDropWarnings() - warnings));
+            feed.close();
+            check(countDropWarnings() == warnings + 2, "未出力の破棄件数は配信終了時に出力されること");
+
+            System.out.println("テスト成功: 要求しない購読者への通知" + feed.getDroppedCount() + "件が破棄されました");
+            LogHandler.getInstance().log(Level.INFO, "変更通知の破棄テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("変更通知の破棄テストが失敗しました", e);
+        } finally {
+            feed.close();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 配信終了のテスト
+     */
+    private static void testClose() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            LogHandler.getInstance().log(Level.INFO, "変更通知の配信終了テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            EngineerChangeFeed feed = new EngineerChangeFeed(executor, 16, 1_000);
+            repository.addIndex(feed);
+            RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, 0);
+            feed.subscribe(subscriber);
+            repository.add(createEngineer("ID00001", "終了試験"));
+            feed.close();
+
+            check(subscriber.completed.await(5, TimeUnit.SECONDS), "完了が通知されること");
+            check(subscriber.events.size() == 1, "終了前の通知は配信されること");
+            repository.add(createEngineer("ID00002", "終了試験"));
+            check(repository.size() == 2 && subscriber.events.size() == 1, "終了後も更新でき、通知はされないこと");
+
+            System.out.println("テスト成功: 配信終了時に完了が通知されました");
+            LogHandler.getInstance().log(Level.INFO, "変更通知の配信終了テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("変更通知の配信終了テストが失敗しました", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 受信バッファの空きを待つ間のロックのテスト
+     */
+    private static void testWaitOutsideLocks() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (EngineerChangeFeed feed = new EngineerChangeFeed(executor, 1, 3_000)) {
+            LogHandler.getInstance().log(Level.INFO, "変更通知の待機中のロックのテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            repository.addIndex(feed);
+            feed.subscribe(new RecordingSubscriber(0, 0));
+            // 受信バッファ（1件）を埋める
+            repository.add(createEngineer("ID00001", "待機試験"));
+
+            Thread writer = new Thread(() -> {
+                try {
+                    repository.add(createEngineer("ID00002", "待機試験"));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            writer.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (writer.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            check(writer.getState() == Thread.State.TIMED_WAITING, "2件目の更新が受信バッファの空きを待つこと");
+
+            // 全ストライプの更新ロックを取得する索引の登録が、待機の終了を待たずに完了すること
+            long start = System.nanoTime();
+            repository.addIndex(new RangeIndex(EngineerField.CAREER));
+            long lockMillis = (System.nanoTime() - start) / 1_000_000;
+            check(lockMillis < 1_000, "待機中も更新ロックを取得できること: " + lockMillis + "ms");
+            check(repository.size() == 2, "待機中の更新はリポジトリに反映済みであること");
+
+            writer.join();
+            check(feed.getDroppedCount() == 1, "待機の終了後に通知が破棄されること: " + feed.getDroppedCount());
+
+            System.out.println("テスト成功: 受信バッファの空きを待つ間も更新ロックを取得できました（" + lockMillis + "ms）");
+            LogHandler.getInstance().log(Level.INFO, "変更通知の待機中のロックのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("変更通知の待機中のロックのテストが失敗しました", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * ログファイル中の通知破棄の警告の件数を取得
+     * LogHandlerのFileHandlerは文字コードを指定せずに出力するため、既定の文字コードで読み込む
+     */
+    private static long countDropWarnings() throws IOException {
+        Path file = Paths.get(LogHandler.getInstance().getLogDirectory(),
+                LogHandler.getInstance().getCurrentLogFileName());
+        try (Stream<String> lines = Files.lines(file, Charset.defaultCharset())) {
+            return lines.filter(line -> line.contains("変更通知を破棄しました")).count();
+        }
+    }
+
+    /**
+     * 受信した通知を記録する購読者
+     */
+    private static final class RecordingSubscriber implements Flow.Subscriber<EngineerChangeEvent> {
+
+        /** 一度に要求する件数（0の場合は要求しない） */
+        private final long batch;
+
+        /** 1件あたりの処理時間（ミリ秒） */
+        private final long delayMillis;
+
+        final List<EngineerChangeEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+
+        RecordingSubscriber(long batch, long delayMillis) {
+            this.batch = batch;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(EngineerChangeEvent event) {
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(event);
+            if (batch == 1) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        /**
+         * 指定件数を受信するまで待機
+         */
+        void await(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            check(events.size() >= count, "通知を" + count + "件受信すること: " + events.size());
+        }
+    }
+}
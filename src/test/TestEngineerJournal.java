@@ -0,0 +1,626 @@
+package test;
+
+import model.EngineerBuilder;
+import model.EngineerDTO;
+import model.EngineerJournal;
+import model.EngineerSnapshotFile;
+import model.JournalCompactor;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+/**
+ * EngineerJournal.javaの機能試験を行うテストクラス
+ * 一時ディレクトリにジャーナルを作成し、追記・再生・破損時の復旧を確認します
+ *
+ * 実行方法：
+ * java test.TestEngineerJournal
+ *
+ * テストケース:
+ * 1: 正常系 - 追加・更新・削除を再生して最新状態を復元
+ * 2: 正常系 - スナップショット以降のジャーナルのみ再生
+ * 3: 正常系 - 複数スレッドからの同時追記（グループコミット）
+ * 4: 異常系 - 末尾の書きかけレコードを切り捨てて復元
+ * 5: 正常系 - 追記と並行した集約後もスナップショットとジャーナルから復元
+ * 6: 異常系 - 書き込み失敗時に書きかけを切り捨てて継続し、切り捨てにも失敗した場合は失敗状態になること
+ * 7: 正常系 - 切り詰め時の退避セグメントへの切り替えと、スナップショット作成中の追記を含むセグメントの保持
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestEngineerJournal {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testReplayAddUpdateDelete();
+            testReplayAfterSnapshot();
+            testConcurrentAppend();
+            testTornTailRecovery();
+            testCompactionDuringAppend();
+            testWriteFailure();
+            testSegmentRotation();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 追加・更新・削除を再生して最新状態を復元するテスト
+     */
+    private static void testReplayAddUpdateDelete() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ジャーナル再生のテストを開始します");
+            dir = Files.createTempDirectory("journal-test");
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                journal.open();
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00001", "山田太郎"));
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00002", "鈴木花子"));
+                journal.append(EngineerJournal.Operation.UPDATE, createEngineer("00001", "山田一郎"));
+                journal.append(EngineerJournal.Operation.DELETE, createEngineer("00002", "鈴木花子"));
+            }
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                Map<String, EngineerDTO> roster = journal.open();
+                check(roster.size() == 1, "復元件数が1件であること: " + roster.size());
+                check("山田一郎".equals(roster.get("ID00001").getName()), "更新後の氏名が復元されること");
+                check(journal.getLastSequence() == 4, "ジャーナル番号が引き継がれること: " + journal.getLastSequence());
+            }
+
+            System.out.println("テスト成功: ジャーナルの再生で最新状態が復元されました");
+            LogHandler.getInstance().log(Level.INFO, "ジャーナル再生のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ジャーナル再生のテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * スナップショット以降のジャーナルのみ再生するテスト
+     */
+    private static void testReplayAfterSnapshot() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "スナップショット起点の再生テストを開始します");
+            dir = Files.createTempDirectory("journal-test");
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                journal.open();
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00001", "山田太郎"));
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00002", "鈴木花子"));
+
+                // ジャーナル番号2までを反映したスナップショット（00002はスナップショット作成時に削除済みとする）
+                EngineerSnapshotFile.write(journal.getSnapshotFile(), 2L,
+                        List.of(createEngineer("00001", "山田太郎")));
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00003", "佐藤次郎"));
+            }
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                Map<String, EngineerDTO> roster = journal.open();
+                check(roster.size() == 2, "復元件数が2件であること: " + roster.size());
+                check(!roster.containsKey("ID00002"), "スナップショット以前のレコードは再生されないこと");
+                check(roster.containsKey("ID00003"), "スナップショット以降のレコードが再生されること");
+            }
+
+            System.out.println("テスト成功: スナップショット以降のジャーナルのみ再生されました");
+            LogHandler.getInstance().log(Level.INFO, "スナップショット起点の再生テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("スナップショット起点の再生テストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 複数スレッドからの同時追記のテスト
+     */
+    private static void testConcurrentAppend() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "同時追記のテストを開始します");
+            dir = Files.createTempDirectory("journal-test");
+            final int threads = 8;
+            final int perThread = 200;
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                journal.open();
+                List<Thread> workers = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    final int offset = t * perThread;
+                    Thread worker = new Thread(() -> {
+                        List<CompletableFuture<Long>> futures = new ArrayList<>();
+                        for (int i = 0; i < perThread; i++) {
+                            String id = String.format("%05d", offset + i);
+                            futures.add(journal.submit(EngineerJournal.Operation.ADD, createEngineer(id, "テスト")));
+                        }
+                        futures.forEach(CompletableFuture::join);
+                    });
+                    workers.add(worker);
+                    worker.start();
+                }
+                for (Thread worker : workers) {
+                    worker.join();
+                }
+            }
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                Map<String, EngineerDTO> roster = journal.open();
+                check(roster.size() == threads * perThread, "全件が復元されること: " + roster.size());
+            }
+
+            System.out.println("テスト成功: 同時追記したレコードがすべて永続化されました");
+            LogHandler.getInstance().log(Level.INFO, "同時追記のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("同時追記のテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 末尾の書きかけレコードを切り捨てて復元するテスト
+     */
+    private static void testTornTailRecovery() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "書きかけレコードの復旧テストを開始します");
+            dir = Files.createTempDirectory("journal-test");
+
+            long validSize;
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                journal.open();
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00001", "山田太郎"));
+                validSize = Files.size(journal.getJournalFile());
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00002", "鈴木花子"));
+            }
+
+            // 2件目のレコードを途中で切断し、書き込み中の停止を再現する
+            Path journalFile = dir.resolve(EngineerJournal.JOURNAL_FILE_NAME);
+            try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                channel.truncate(validSize + 10);
+            }
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                Map<String, EngineerDTO> roster = journal.open();
+                check(roster.size() == 1, "完全なレコードのみ復元されること: " + roster.size());
+                check(Files.size(journalFile) == validSize, "不完全なレコードが切り捨てられること");
+
+                // 切り捨て後の追記が正しく再生されること
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00003", "佐藤次郎"));
+            }
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                Map<String, EngineerDTO> roster = journal.open();
+                check(roster.size() == 2, "切り捨て後の追記が復元されること: " + roster.size());
+            }
+
+            System.out.println("テスト成功: 書きかけレコードを切り捨てて復元しました");
+            LogHandler.getInstance().log(Level.INFO, "書きかけレコードの復旧テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("書きかけレコードの復旧テストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 追記と並行して集約を行うテスト
+     */
+    private static void testCompactionDuringAppend() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ジャーナル集約のテストを開始します");
+            dir = Files.createTempDirectory("journal-test");
+            final int total = 2000;
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                journal.open();
+                // ジャーナル番号の採番と一覧への反映を同じロックで行い、取得内容との整合を保つ
+                Map<String, EngineerDTO> roster = new LinkedHashMap<>();
+                Object lock = new Object();
+                JournalCompactor.CheckpointSource source = () -> {
+                    synchronized (lock) {
+                        return new EngineerSnapshotFile.Contents(journal.getLastSequence(),
+                                new ArrayList<>(roster.values()));
+                    }
+                };
+
+                try (JournalCompactor compactor = new JournalCompactor(journal, source, Duration.ofMillis(5))) {
+                    compactor.start();
+                    for (int i = 0; i < total; i++) {
+                        EngineerDTO engineer = createEngineer(String.format("%05d", i), "テスト");
+                        CompletableFuture<Long> future;
+                        synchronized (lock) {
+                            future = journal.submit(EngineerJournal.Operation.ADD, engineer);
+                            roster.put(engineer.getId(), engineer);
+                        }
+                        future.join();
+                    }
+                    compactor.compactNow();
+                    check(!compactor.compactNow(), "更新がない場合は集約しないこと");
+                }
+                check(journal.getJournalSize() == 0, "集約後のジャーナルが空であること: " + journal.getJournalSize());
+                journal.append(EngineerJournal.Operation.DELETE, createEngineer("00000", "テスト"));
+            }
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                Map<String, EngineerDTO> roster = journal.open();
+                check(roster.size() == total - 1, "スナップショットと残りのジャーナルから復元されること: " + roster.size());
+                check(journal.getLastSequence() == total + 1, "ジャーナル番号が引き継がれること: " + journal.getLastSequence());
+            }
+
+            System.out.println("テスト成功: 集約後もスナップショットとジャーナルから復元されました");
+            LogHandler.getInstance().log(Level.INFO, "ジャーナル集約のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ジャーナル集約のテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 書き込み失敗時の動作のテスト
+     */
+    private static void testWriteFailure() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "書き込み失敗のテストを開始します");
+            dir = Files.createTempDirectory("journal-test");
+
+            IOException failure;
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                journal.open();
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00001", "山田太郎"));
+                FaultyChannel channel = FaultyChannel.inject(journal);
+
+                // 書きかけを切り捨てられる場合は、失敗したレコードのみ失敗して追記を続ける
+                channel.failWrite = true;
+                expectFailure(() -> journal.append(EngineerJournal.Operation.ADD, createEngineer("00002", "鈴木花子")),
+                        null);
+                channel.failWrite = false;
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00003", "佐藤次郎"));
+
+                // 切り捨てにも失敗した場合は失敗状態になり、以降の追記はすべて同じ例外で失敗する
+                channel.failWrite = true;
+                channel.failTruncate = true;
+                failure = expectFailure(
+                        () -> journal.append(EngineerJournal.Operation.ADD, createEngineer("00004", "高橋三郎")), null);
+                check(failure.getSuppressed().length == 1, "切り捨ての失敗が抑制された例外として追加されること");
+                channel.failWrite = false;
+                channel.failTruncate = false;
+
+                CompletableFuture<Long> future = journal.submit(EngineerJournal.Operation.ADD,
+                        createEngineer("00005", "田中四郎"));
+                check(future.isCompletedExceptionally(), "失敗状態ではsubmitが失敗済みのFutureを返すこと");
+                try {
+                    future.join();
+                } catch (CompletionException expected) {
+                    check(expected.getCause() == failure, "submitが元の例外で失敗すること");
+                }
+                expectFailure(() -> journal.append(EngineerJournal.Operation.UPDATE, createEngineer("00001", "山田一郎")),
+                        failure);
+                expectFailure(() -> journal.appendBatch(List.of(EngineerJournal.Operation.ADD),
+                        List.of(createEngineer("00006", "伊藤五郎"))), failure);
+                expectFailure(() -> {
+                    journal.discardThrough(1L);
+                    return 0L;
+                }, failure);
+                try {
+                    journal.open();
+                    check(false, "クローズせずに開き直せないこと");
+                } catch (IllegalStateException expected) {
+                    // 期待どおり
+                }
+            }
+
+            // 開き直すと、書きかけの部分を切り捨てて応答済みのレコードのみ復元する
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                Map<String, EngineerDTO> roster = journal.open();
+                check(roster.keySet().equals(Set.of("ID00001", "ID00003")),
+                        "応答済みのレコードのみ復元されること: " + roster.keySet());
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00007", "渡辺六郎"));
+            }
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                check(journal.open().size() == 3, "開き直した後の追記が復元されること");
+            }
+
+            System.out.println("テスト成功: 書き込み失敗後に応答済みのレコードを失わず、開き直すまで追記を停止しました");
+            LogHandler.getInstance().log(Level.INFO, "書き込み失敗のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("書き込み失敗のテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 退避セグメントへの切り替えのテスト
+     */
+    private static void testSegmentRotation() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "退避セグメントのテストを開始します");
+            dir = Files.createTempDirectory("journal-test");
+            Path retained = dir.resolve(EngineerJournal.JOURNAL_FILE_NAME + ".4");
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                journal.open();
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00001", "山田太郎"));
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00002", "鈴木花子"));
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00003", "佐藤次郎"));
+
+                // ジャーナル番号2までのスナップショットの作成中に、番号3・4が追記された状態を再現する
+                EngineerSnapshotFile.write(journal.getSnapshotFile(), 2L,
+                        List.of(createEngineer("00001", "山田太郎"), createEngineer("00002", "鈴木花子")));
+                journal.append(EngineerJournal.Operation.DELETE, createEngineer("00001", "山田太郎"));
+                journal.discardThrough(2L);
+                check(Files.size(journal.getJournalFile()) == 0, "書き込み中のファイルが新しいファイルに切り替わること");
+                check(Files.exists(retained), "未反映のレコードを含む退避セグメントが残ること");
+
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("00005", "田中四郎"));
+            }
+
+            Map<String, EngineerDTO> expected;
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                expected = journal.open();
+                check(expected.keySet().equals(Set.of("ID00002", "ID00003", "ID00005")),
+                        "スナップショット・退避セグメント・書き込み中のファイルの順に再生されること: " + expected.keySet());
+                check(journal.getLastSequence() == 5, "ジャーナル番号が引き継がれること: " + journal.getLastSequence());
+
+                EngineerSnapshotFile.write(journal.getSnapshotFile(), 5L, new ArrayList<>(expected.values()));
+                journal.discardThrough(5L);
+                check(!Files.exists(retained), "反映済みの退避セグメントが削除されること");
+                check(journal.getJournalSize() == 0, "反映済みのレコードがすべて取り除かれること: " + journal.getJournalSize());
+            }
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                check(journal.open().keySet().equals(expected.keySet()), "切り詰め後もスナップショットから復元されること");
+                check(journal.getLastSequence() == 5, "切り詰め後もジャーナル番号が引き継がれること");
+            }
+
+            System.out.println("テスト成功: 退避セグメントへ切り替え、反映済みのセグメントのみ削除しました");
+            LogHandler.getInstance().log(Level.INFO, "退避セグメントのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("退避セグメントのテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 失敗する追記
+     */
+    private interface JournalCall {
+        long call() throws IOException;
+    }
+
+    /**
+     * 追記がIOExceptionで失敗することを確認
+     *
+     * @param expected 期待する例外（nullの場合は種類のみ確認）
+     * @return 発生した例外
+     */
+    private static IOException expectFailure(JournalCall call, IOException expected) {
+        try {
+            call.call();
+        } catch (IOException e) {
+            check(expected == null || e == expected, "元の例外で失敗すること: " + e);
+            return e;
+        }
+        throw new IllegalStateException("検証失敗: 追記が失敗すること");
+    }
+
+    /**
+     * 書き込み・切り捨ての失敗を再現するチャネル
+     * 書き込みは半分だけ書き込んでから失敗し、書き込み中の障害で書きかけのレコードが残る状態を再現する
+     */
+    private static final class FaultyChannel extends FileChannel {
+
+        private final FileChannel delegate;
+        volatile boolean failWrite;
+        volatile boolean failTruncate;
+
+        private FaultyChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * ジャーナルのチャネルを差し替える
+         * 差し替えた後の追記はキューを経由するため、書き込みスレッドから参照できる
+         */
+        static FaultyChannel inject(EngineerJournal journal) throws ReflectiveOperationException {
+            Field field = EngineerJournal.class.getDeclaredField("channel");
+            field.setAccessible(true);
+            FaultyChannel channel = new FaultyChannel((FileChannel) field.get(journal));
+            field.set(journal, channel);
+            return channel;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failWrite) {
+                ByteBuffer half = src.duplicate();
+                half.limit(half.position() + half.remaining() / 2);
+                delegate.write(half);
+                throw new IOException("書き込み失敗（試験）");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            if (failTruncate) {
+                throw new IOException("切り捨て失敗（試験）");
+            }
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            if (failWrite) {
+                throw new IOException("書き込み失敗（試験）");
+            }
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+
+    /**
+     * テスト用のエンジニア情報を生成
+     */
+    static EngineerDTO createEngineer(String id, String name) {
+        return new EngineerBuilder()
+                .setId(id)
+                .setName(name)
+                .setNameKana("テスト")
+                .setBirthDate(LocalDate.of(1990, 1, 15))
+                .setJoinDate(LocalDate.of(2020, 4, 1))
+                .setCareer(5)
+                .setProgrammingLanguages(Arrays.asList("Java", "Python"))
+                .build();
+    }
+
+    /**
+     * 条件を検証し、満たさない場合は例外を投げる
+     */
+    static void check(boolean condition, String description) {
+        if (!condition) {
+            throw new IllegalStateException("検証失敗: " + description);
+        }
+    }
+
+    /**
+     * 一時ディレクトリを削除
+     */
+    static void deleteQuietly(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("一時ディレクトリの削除に失敗しました: " + e.getMessage());
+        }
+    }
+}
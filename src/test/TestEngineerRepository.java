@@ -0,0 +1,455 @@
+package test;
+
+import model.EngineerDTO;
+import model.EngineerJournal;
+import model.EngineerRepository;
+import model.EngineerSnapshot;
+import util.IntObjectHashMap;
+import util.LogHandler;
+import util.PersistentIntMap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+import static test.TestEngineerJournal.deleteQuietly;
+
+/**
+ * EngineerRepository.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestEngineerRepository
+ *
+ * テストケース:
+ * 1: 正常系 - 追加・取得・更新・削除
+ * 2: 異常系 - 重複IDの追加（ID接頭辞の有無を同一視）
+ * 3: 異常系 - 未登録IDの更新・削除、不正な形式のID（5桁の数字以外）
+ * 4: 正常系 - ジャーナルからの復元（登録時と異なる表記の社員IDでの更新・削除を含む）
+ * 5: 正常系 - 主索引（IntObjectHashMap）のランダム操作をHashMapと比較
+ * 6: 正常系 - 複数スレッドからの同時追加・更新・読み取り
+ * 7: 正常系 - 永続マップ（PersistentIntMap）のランダム操作をHashMapと比較し、旧版が変わらないこと
+ * 8: 正常系 - 更新と並行して取得したスナップショットが一貫していること
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestEngineerRepository {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testCrud();
+            testDuplicateId();
+            testUnknownAndInvalidId();
+            testRecoverFromJournal();
+            testPrimaryIndexAgainstHashMap();
+            testConcurrentAccess();
+            testPersistentMapAgainstHashMap();
+            testSnapshotIsolation();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 追加・取得・更新・削除のテスト
+     */
+    private static void testCrud() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "リポジトリの基本操作テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+
+            EngineerDTO engineer = createEngineer("ID00001", "山田太郎");
+            repository.add(engineer);
+            engineer.setName("呼び出し元で変更");
+            check("山田太郎".equals(repository.get("ID00001").getName()), "登録後の変更が索引に影響しないこと");
+            check(repository.exists("00001"), "接頭辞なしのIDでも検索できること");
+
+            repository.update(createEngineer("ID00001", "山田一郎"));
+            check("山田一郎".equals(repository.get("ID00001").getName()), "更新が反映されること");
+
+            repository.add(createEngineer("ID00002", "鈴木花子"));
+            check(repository.size() == 2, "登録件数が2件であること: " + repository.size());
+
+            EngineerDTO deleted = repository.delete("ID00002");
+            check("鈴木花子".equals(deleted.getName()), "削除したエンジニア情報が返されること");
+            check(repository.get("ID00002") == null, "削除後は取得できないこと");
+            check(repository.findAll().size() == 1, "一覧の件数が1件であること");
+
+            System.out.println("テスト成功: 追加・取得・更新・削除が正しく動作しました");
+            LogHandler.getInstance().log(Level.INFO, "リポジトリの基本操作テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("リポジトリの基本操作テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 重複IDの追加のテスト
+     */
+    private static void testDuplicateId() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "重複IDのテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            repository.add(createEngineer("ID00001", "山田太郎"));
+
+            try {
+                repository.add(createEngineer("00001", "別人"));
+                System.out.println("予期せぬ成功: 重複IDでもエラーが発生しませんでした");
+                LogHandler.getInstance().log(Level.WARNING, "重複IDのテストが予期せず成功しました");
+                return;
+            } catch (IllegalStateException e) {
+                check(repository.size() == 1, "重複IDは登録されないこと");
+                System.out.println("テスト成功: 期待通りのエラーが発生しました - " + e.getMessage());
+            }
+            LogHandler.getInstance().log(Level.INFO, "重複IDのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: 予期しないエラーが発生しました - " + e.getMessage());
+            LogHandler.getInstance().logError("重複IDのテストで予期しないエラーが発生しました", e);
+        }
+    }
+
+    /**
+     * 未登録IDと不正な形式のIDのテスト
+     */
+    private static void testUnknownAndInvalidId() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "未登録・不正IDのテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+
+            int failures = 0;
+            try {
+                repository.update(createEngineer("ID00009", "未登録"));
+            } catch (IllegalStateException e) {
+                failures++;
+            }
+            try {
+                repository.delete("ID00009");
+            } catch (IllegalStateException e) {
+                failures++;
+            }
+            try {
+                repository.add(createEngineer("IDABCDE", "不正"));
+            } catch (IllegalArgumentException e) {
+                failures++;
+            }
+            check(failures == 3, "3件とも期待通りのエラーになること: " + failures);
+            check(EngineerRepository.toKey("ID00123") == 123, "IDの数字部分がキーになること");
+            for (String invalid : new String[] { "ID123", "123", "ID000123", "ID", "", "ID0012a" }) {
+                try {
+                    EngineerRepository.toKey(invalid);
+                    throw new IllegalStateException("検証失敗: 5桁の数字でないIDが拒否されること: " + invalid);
+                } catch (IllegalArgumentException expected) {
+                    // 期待どおり
+                }
+            }
+            check(EngineerRepository.canonicalId("id00042").equals("ID00042")
+                    && EngineerRepository.canonicalId(" 00042 ").equals("ID00042"), "正規の表記に変換されること");
+
+            System.out.println("テスト成功: 未登録・不正IDで期待通りのエラーが発生しました");
+            LogHandler.getInstance().log(Level.INFO, "未登録・不正IDのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: 予期しないエラーが発生しました - " + e.getMessage());
+            LogHandler.getInstance().logError("未登録・不正IDのテストで予期しないエラーが発生しました", e);
+        }
+    }
+
+    /**
+     * ジャーナルからの復元のテスト
+     */
+    private static void testRecoverFromJournal() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "リポジトリ復元のテストを開始します");
+            dir = Files.createTempDirectory("repository-test");
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                EngineerRepository repository = new EngineerRepository(journal);
+                repository.open();
+                repository.add(createEngineer("ID00001", "山田太郎"));
+                repository.add(createEngineer("ID00002", "鈴木花子"));
+                repository.update(createEngineer("ID00001", "山田一郎"));
+                repository.delete("ID00002");
+                // 登録時と異なる表記の社員IDで更新・削除する
+                repository.add(createEngineer("ID00003", "佐藤次郎"));
+                repository.update(createEngineer("00003", "佐藤三郎"));
+                check("ID00003".equals(repository.get("00003").getId()), "正規の表記で格納されること");
+                repository.add(createEngineer("ID00004", "田中四郎"));
+                repository.update(createEngineer("id00004", "田中五郎"));
+                repository.delete("00004");
+            }
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                EngineerRepository repository = new EngineerRepository(journal);
+                repository.open();
+                check(repository.size() == 2, "復元件数が2件であること: " + repository.size());
+                check("山田一郎".equals(repository.get("ID00001").getName()), "更新後の状態が復元されること");
+                check("佐藤三郎".equals(repository.get("ID00003").getName()), "異なる表記での更新が復元されること");
+                check(!repository.exists("ID00004"), "異なる表記で削除した社員が復元されないこと");
+
+                // 正規化前に異なる表記のまま記録されたレコードも同じ社員IDとして再生する
+                journal.append(EngineerJournal.Operation.ADD, createEngineer("ID00005", "記録済み"));
+                journal.append(EngineerJournal.Operation.DELETE, createEngineer("00005", "記録済み"));
+            }
+
+            try (EngineerJournal journal = new EngineerJournal(dir)) {
+                check(!journal.open().containsKey("ID00005"), "異なる表記の削除レコードが再生されること");
+            }
+
+            System.out.println("テスト成功: ジャーナルからリポジトリが復元されました");
+            LogHandler.getInstance().log(Level.INFO, "リポジトリ復元のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("リポジトリ復元のテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 主索引のランダム操作をHashMapと比較するテスト
+     */
+    private static void testPrimaryIndexAgainstHashMap() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "主索引のランダム操作テストを開始します");
+            IntObjectHashMap<Integer> index = new IntObjectHashMap<>();
+            Map<Integer, Integer> expected = new HashMap<>();
+            Random random = new Random(42);
+
+            for (int i = 0; i < 200_000; i++) {
+                int key = random.nextInt(5_000);
+                switch (random.nextInt(3)) {
+                    case 0:
+                        check(Objects.equals(index.put(key, i), expected.put(key, i)), "putの戻り値が一致すること");
+                        break;
+                    case 1:
+                        check(Objects.equals(index.remove(key), expected.remove(key)), "removeの戻り値が一致すること");
+                        break;
+                    default:
+                        check(Objects.equals(index.get(key), expected.get(key)), "getの戻り値が一致すること");
+                }
+            }
+            check(index.size() == expected.size(), "件数が一致すること: " + index.size());
+            int[] visited = { 0 };
+            index.forEach((key, value) -> {
+                check(value.equals(expected.get(key)), "走査した値が一致すること");
+                visited[0]++;
+            });
+            check(visited[0] == expected.size(), "全件が走査されること");
+
+            System.out.println("テスト成功: 主索引のランダム操作がHashMapと一致しました");
+            LogHandler.getInstance().log(Level.INFO, "主索引のランダム操作テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("主索引のランダム操作テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 複数スレッドからの同時追加・更新・読み取りのテスト
+     */
+    private static void testConcurrentAccess() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "同時アクセスのテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            final int writers = 8;
+            final int perWriter = 500;
+            AtomicInteger readErrors = new AtomicInteger();
+            AtomicInteger duplicates = new AtomicInteger();
+
+            List<Thread> threads = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                final int writer = w;
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        // 隣り合うスレッドが同じIDを追加し、重複検出が1件だけ成功させることを確認する
+                        String id = String.format("ID%05d", (writer / 2) * perWriter + i);
+                        try {
+                            repository.add(createEngineer(id, "テスト" + writer));
+                        } catch (IllegalStateException e) {
+                            duplicates.incrementAndGet();
+                        } catch (IOException e) {
+                            readErrors.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (int r = 0; r < 4; r++) {
+                threads.add(new Thread(() -> {
+                    Random random = new Random();
+                    for (int i = 0; i < 20_000; i++) {
+                        EngineerDTO found = repository.get(String.format("ID%05d", random.nextInt(writers / 2 * perWriter)));
+                        if (found != null && found.getName() == null) {
+                            readErrors.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            int expected = writers / 2 * perWriter;
+            check(repository.size() == expected, "登録件数が一致すること: " + repository.size());
+            check(repository.findAll().size() == expected, "一覧の件数が一致すること");
+            check(duplicates.get() == expected, "重複追加がすべて検出されること: " + duplicates.get());
+            check(readErrors.get() == 0, "読み取りで不整合が発生しないこと: " + readErrors.get());
+
+            System.out.println("テスト成功: 同時アクセスで整合性が保たれました");
+            LogHandler.getInstance().log(Level.INFO, "同時アクセスのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("同時アクセスのテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 永続マップのランダム操作をHashMapと比較するテスト
+     */
+    private static void testPersistentMapAgainstHashMap() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "永続マップのランダム操作テストを開始します");
+            PersistentIntMap<Integer> map = PersistentIntMap.empty();
+            Map<Integer, Integer> expected = new HashMap<>();
+            Random random = new Random(42);
+
+            // 途中の版と、その時点の内容を保持しておく
+            PersistentIntMap<Integer> saved = null;
+            Map<Integer, Integer> savedExpected = null;
+
+            for (int i = 0; i < 200_000; i++) {
+                // 負数や大きな値も含めてキーの範囲を広く取る
+                int key = random.nextInt(5_000) * 104_729 - 250_000_000;
+                switch (random.nextInt(3)) {
+                    case 0:
+                        map = map.put(key, i);
+                        expected.put(key, i);
+                        break;
+                    case 1:
+                        map = map.remove(key);
+                        expected.remove(key);
+                        break;
+                    default:
+                        check(Objects.equals(map.get(key), expected.get(key)), "getの戻り値が一致すること");
+                }
+                check(map.size() == expected.size(), "件数が一致すること: " + map.size());
+                if (i == 100_000) {
+                    saved = map;
+                    savedExpected = new HashMap<>(expected);
+                }
+            }
+
+            int[] visited = { 0 };
+            map.forEach((key, value) -> {
+                check(value.equals(expected.get(key)), "走査した値が一致すること");
+                visited[0]++;
+            });
+            check(visited[0] == expected.size(), "全件が走査されること");
+
+            Map<Integer, Integer> oldExpected = savedExpected;
+            check(saved.size() == oldExpected.size(), "旧版の件数が変わらないこと");
+            saved.forEach((key, value) -> check(value.equals(oldExpected.get(key)), "旧版の内容が変わらないこと"));
+
+            System.out.println("テスト成功: 永続マップのランダム操作がHashMapと一致しました");
+            LogHandler.getInstance().log(Level.INFO, "永続マップのランダム操作テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("永続マップのランダム操作テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 更新と並行して取得したスナップショットの一貫性のテスト
+     * 2件を同じ名前に揃えて順に更新し、スナップショット内で1件目より2件目が新しくならないことを確認する
+     */
+    private static void testSnapshotIsolation() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "スナップショット分離のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            repository.add(createEngineer("ID00001", "0"));
+            repository.add(createEngineer("ID00002", "0"));
+
+            EngineerSnapshot before = repository.snapshot();
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger inconsistencies = new AtomicInteger();
+            AtomicInteger versionErrors = new AtomicInteger();
+
+            Thread writer = new Thread(() -> {
+                try {
+                    for (int i = 1; i <= 20_000; i++) {
+                        repository.update(createEngineer("ID00001", String.valueOf(i)));
+                        repository.update(createEngineer("ID00002", String.valueOf(i)));
+                    }
+                } catch (IOException e) {
+                    inconsistencies.incrementAndGet();
+                } finally {
+                    running.set(false);
+                }
+            });
+            Thread reader = new Thread(() -> {
+                long lastVersion = -1L;
+                while (running.get()) {
+                    EngineerSnapshot view = repository.snapshot();
+                    int first = Integer.parseInt(view.get("ID00001").getName());
+                    int second = Integer.parseInt(view.get("ID00002").getName());
+                    // 1件目は2件目と同じか1つだけ新しい
+                    if (first - second != 0 && first - second != 1) {
+                        inconsistencies.incrementAndGet();
+                    }
+                    if (view.getVersion() < lastVersion) {
+                        versionErrors.incrementAndGet();
+                    }
+                    lastVersion = view.getVersion();
+                }
+            });
+            writer.start();
+            reader.start();
+            writer.join();
+            reader.join();
+
+            check(inconsistencies.get() == 0, "スナップショット内の2件が一貫していること: " + inconsistencies.get());
+            check(versionErrors.get() == 0, "バージョン番号が単調に増加すること");
+            check("0".equals(before.get("ID00001").getName()), "取得済みのスナップショットが変わらないこと");
+            check(before.size() == 2 && before.findAll().size() == 2, "取得済みのスナップショットの件数が変わらないこと");
+            check(repository.snapshot().getVersion() == before.getVersion() + 40_000, "更新ごとにバージョンが進むこと");
+
+            System.out.println("テスト成功: スナップショットが更新と分離されました");
+            LogHandler.getInstance().log(Level.INFO, "スナップショット分離のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("スナップショット分離のテストが失敗しました", e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package test;
+
+import model.EngineerBatchResult;
+import model.EngineerBuilder;
+import model.EngineerDTO;
+import model.EngineerRepository;
+import model.EngineerSnapshotFile;
+import util.FlightEvents;
+import util.LogHandler;
+import util.MessageEnum;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+import static test.TestEngineerJournal.deleteQuietly;
+
+/**
+ * FlightEvents.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestFlightEvents
+ *
+ * テストケース:
+ * 1: 正常系 - 記録していない間はイベントを生成しないこと
+ * 2: 正常系 - 記録中は構築・ログ出力・一括登録・スナップショット保存のイベントが件数とともに記録されること
+ *    （構築のイベントにはビルダーの作成から値の設定までの時間を含めず、検証に失敗した構築も記録すること）
+ * 3: 正常系 - 記録の停止後は再びイベントを生成しないこと
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestFlightEvents {
+
+    /** 記録するイベント */
+    private static final String[] EVENT_NAMES = { "engineer.EngineerBuild", "engineer.LogWrite",
+            "engineer.ImportChunk", "engineer.SnapshotSave" };
+
+    /** 値の設定の合間に待機して構築する社員IDと待機時間 */
+    private static final String PAUSED_ID = "ID99999";
+
+    /** 必須項目の検証に失敗させる構築の社員ID */
+    private static final String INVALID_ID = "ID88888";
+    private static final Duration PAUSE = Duration.ofMillis(50);
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testDisabled();
+            testRecording();
+            testStopped();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 記録していない場合のテスト
+     */
+    private static void testDisabled() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "記録無効時のテストを開始します");
+            checkNoEvents("記録していない間");
+
+            System.out.println("テスト成功: 記録していない間はイベントを生成しませんでした");
+            LogHandler.getInstance().log(Level.INFO, "記録無効時のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("記録無効時のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 記録中のテスト
+     */
+    private static void testRecording() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "イベント記録のテストを開始します");
+            dir = Files.createTempDirectory("flight-events-test");
+            Path snapshot = dir.resolve("snapshot.bin");
+            Path output = dir.resolve("events.jfr");
+            int count = 100;
+
+            try (Recording recording = new Recording()) {
+                for (String name : EVENT_NAMES) {
+                    recording.enable(name).withThreshold(Duration.ZERO);
+                }
+                recording.start();
+                check(FlightEvents.beginBuild() != null, "記録の開始後はイベントを生成すること");
+
+                List<EngineerDTO> engineers = new ArrayList<>();
+                for (int i = 1; i <= count; i++) {
+                    engineers.add(createEngineer(String.format("ID%05d", i), "記録" + i));
+                }
+                engineers.add(createEngineer("ID00001", "重複"));
+                EngineerBatchResult result = new EngineerRepository().addAll(engineers);
+                check(result.getAddedCount() == count, "一括登録が成功すること");
+                EngineerSnapshotFile.write(snapshot, 7L, engineers.subList(0, count));
+                LogHandler.getInstance().log(MessageEnum.LOG_INFO_SYSTEM_START);
+
+                // 値の設定の合間に待機しても、構築のイベントの処理時間には含めない
+                EngineerBuilder builder = new EngineerBuilder().setId(PAUSED_ID);
+                Thread.sleep(PAUSE.toMillis());
+                builder.setName("待機").setNameKana("タイキ").setBirthDate(LocalDate.of(1990, 1, 1))
+                        .setJoinDate(LocalDate.of(2020, 4, 1)).setCareer(1)
+                        .setProgrammingLanguages(Arrays.asList("Java")).build();
+                try {
+                    new EngineerBuilder().setId(INVALID_ID).build();
+                    check(false, "氏名のない構築は失敗すること");
+                } catch (IllegalStateException expected) {
+                    // 期待どおり
+                }
+
+                recording.stop();
+                recording.dump(output);
+            }
+
+            int builds = 0;
+            RecordedEvent paused = null;
+            RecordedEvent invalid = null;
+            int messageLogs = 0;
+            RecordedEvent chunk = null;
+            RecordedEvent save = null;
+            for (RecordedEvent event : RecordingFile.readAllEvents(output)) {
+                switch (event.getEventType().getName()) {
+                    case "engineer.EngineerBuild":
+                        check(event.getString("id").startsWith("ID"), "構築イベントに社員IDがあること");
+                        if (PAUSED_ID.equals(event.getString("id"))) {
+                            paused = event;
+                        } else if (INVALID_ID.equals(event.getString("id"))) {
+                            invalid = event;
+                        } else {
+                            check(event.getBoolean("valid"), "検証に成功した構築イベントであること");
+                            builds++;
+                        }
+                        break;
+                    case "engineer.LogWrite":
+                        if ("LOG_INFO_SYSTEM_START".equals(event.getString("message"))) {
+                            check("INFO".equals(event.getString("level")), "ログ出力イベントにレベルがあること");
+                            messageLogs++;
+                        }
+                        break;
+                    case "engineer.ImportChunk":
+                        chunk = event;
+                        break;
+                    case "engineer.SnapshotSave":
+                        save = event;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            check(builds == count + 1, "構築イベントが件数分記録されること: " + builds);
+            check(paused != null && paused.getDuration().compareTo(PAUSE) < 0,
+                    "構築イベントに値の設定までの時間を含めないこと: " + (paused == null ? null : paused.getDuration()));
+            check(invalid != null && !invalid.getBoolean("valid"), "検証に失敗した構築イベントが記録されること: " + invalid);
+            check(messageLogs == 1, "MessageEnumのログ出力が記録されること: " + messageLogs);
+            check(chunk != null && chunk.getInt("rows") == count + 1 && chunk.getInt("added") == count
+                    && chunk.getInt("updated") == 0 && chunk.getInt("rejected") == 1 && !chunk.getBoolean("upsert"),
+                    "一括登録イベントの件数が一致すること: " + chunk);
+            check(save != null && save.getInt("records") == count && save.getLong("bytes") == Files.size(snapshot)
+                    && save.getLong("lastSequence") == 7L, "スナップショット保存イベントの件数とサイズが一致すること: " + save);
+            check(!chunk.getDuration().isNegative() && !save.getDuration().isZero(), "処理時間が記録されること");
+
+            System.out.println(String.format("テスト成功: 構築%d件、一括登録%d件、スナップショット%dバイトのイベントを記録しました", builds,
+                    chunk.getInt("rows"), save.getLong("bytes")));
+            LogHandler.getInstance().log(Level.INFO, "イベント記録のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("イベント記録のテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 記録を停止した後のテスト
+     */
+    private static void testStopped() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "記録停止後のテストを開始します");
+            checkNoEvents("記録の停止後");
+
+            System.out.println("テスト成功: 記録の停止後はイベントを生成しませんでした");
+            LogHandler.getInstance().log(Level.INFO, "記録停止後のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("記録停止後のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * いずれのイベントも生成されないことを検証
+     */
+    private static void checkNoEvents(String when) {
+        check(FlightEvents.beginBuild() == null, when + "は構築イベントを生成しないこと");
+        check(FlightEvents.beginLogWrite() == null, when + "はログ出力イベントを生成しないこと");
+        check(FlightEvents.beginImportChunk() == null, when + "は一括登録イベントを生成しないこと");
+        check(FlightEvents.beginSnapshotSave() == null, when + "はスナップショット保存イベントを生成しないこと");
+    }
+}
@@ -0,0 +1,160 @@
+package test;
+
+import model.EngineerDTO;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+
+/**
+ * ObjectSizer.javaとHeapFootprintAnalyzer.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java --add-opens java.base/java.lang=ALL-UNNAMED --add-opens java.base/java.util=ALL-UNNAMED \
+ * --add-opens java.base/java.util.concurrent.locks=ALL-UNNAMED --add-opens java.base/java.nio=ALL-UNNAMED \
+ * test.TestHeapFootprint
+ *
+ * テストケース:
+ * 1: 正常系 - 既定の64ビットJVM（圧縮参照）での基本的なオブジェクトの大きさ
+ * 2: 正常系 - 共有されたオブジェクトと循環参照を1回だけ数えること
+ * 3: 正常系 - 項目ごとの内訳の合計が一覧全体の大きさと一致し、詰め込み形式が小さいこと
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestHeapFootprint {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testShallowSizes();
+            testSharingAndCycles();
+            testAnalyzer();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 基本的なオブジェクトの大きさのテスト
+     */
+    private static void testShallowSizes() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "オブジェクトの大きさのテストを開始します");
+            if (ObjectSizer.REFERENCE_BYTES != 4 || ObjectSizer.OBJECT_HEADER_BYTES != 12
+                    || ObjectSizer.OBJECT_ALIGNMENT != 8) {
+                System.out.println("テスト成功: 圧縮参照を使用しないJVMのため、既知の大きさとの比較を省略しました");
+                return;
+            }
+            check(ObjectSizer.shallowSizeOf(new Object()) == 16, "Objectが16バイトであること");
+            check(ObjectSizer.shallowSizeOf(Integer.valueOf(100_000)) == 16, "Integerが16バイトであること");
+            check(ObjectSizer.shallowSizeOf(new int[0]) == 16, "空のint配列が16バイトであること");
+            check(ObjectSizer.shallowSizeOf(new long[10]) == 96, "long[10]が96バイトであること");
+            check(ObjectSizer.shallowSizeOf(new Object[3]) == 32, "Object[3]が32バイトであること");
+            // Stringは本体24バイト + byte[3]（16 + 3 → 24バイト）
+            check(ObjectSizer.deepSizeOf(new String(new char[] { 'a', 'b', 'c' })) == 48, "\"abc\"が48バイトであること");
+
+            System.out.println("テスト成功: 基本的なオブジェクトの大きさが既知の値と一致しました");
+            LogHandler.getInstance().log(Level.INFO, "オブジェクトの大きさのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("オブジェクトの大きさのテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 共有と循環参照のテスト
+     */
+    private static void testSharingAndCycles() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "共有・循環参照のテストを開始します");
+            long[] payload = new long[1_000];
+            long payloadBytes = ObjectSizer.shallowSizeOf(payload);
+            Object[] pair = { payload, payload };
+            check(ObjectSizer.deepSizeOf(pair) == ObjectSizer.shallowSizeOf(pair) + payloadBytes,
+                    "同じ配列を2回参照しても1回だけ数えること");
+
+            Object[] cycle = new Object[2];
+            Object[] other = { cycle };
+            cycle[0] = other;
+            cycle[1] = cycle;
+            check(ObjectSizer.deepSizeOf(cycle) == ObjectSizer.shallowSizeOf(cycle) + ObjectSizer.shallowSizeOf(other),
+                    "循環参照が終了し、各オブジェクトを1回だけ数えること");
+
+            ObjectSizer sizer = new ObjectSizer();
+            long first = sizer.add(payload);
+            long second = sizer.add(Arrays.asList(payload));
+            check(first == payloadBytes, "最初の追加で配列を数えること");
+            check(second == ObjectSizer.deepSizeOf(Arrays.asList(new Object[] { null })),
+                    "2回目の追加では数えた配列を除いた増分を返すこと: " + second);
+            check(sizer.getTotalBytes() == first + second && sizer.getObjectCount() == 3, "合計と件数が一致すること");
+            check(sizer.add(null) == 0 && sizer.add(String.class) == 0, "nullとクラスは数えないこと");
+
+            System.out.println("テスト成功: 共有されたオブジェクトと循環参照を1回だけ数えました");
+            LogHandler.getInstance().log(Level.INFO, "共有・循環参照のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("共有・循環参照のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 分析結果のテスト
+     */
+    private static void testAnalyzer() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ヒープ使用量の分析テストを開始します");
+            int count = 5_000;
+            EngineerDTO[] engineers = HeapFootprintAnalyzer.generate(count, 48);
+
+            double perEngineer = 0;
+            List<String> names = new ArrayList<>();
+            for (HeapFootprintAnalyzer.FieldFootprint field : HeapFootprintAnalyzer.fieldFootprints(engineers)) {
+                check(field.sharedBytes <= field.isolatedBytes, field.name + "の共有を考慮した値が単独の値以下であること");
+                perEngineer += field.sharedBytes;
+                names.add(field.name);
+            }
+            long total = ObjectSizer.deepSizeOf(engineers) - ObjectSizer.shallowSizeOf(engineers);
+            check(Math.round(perEngineer * count) == total,
+                    "内訳の合計が一覧全体と一致すること: " + Math.round(perEngineer * count) + " / " + total);
+            check(names.get(0).equals("EngineerDTO本体") && names.contains("programmingLanguages"), "項目名が出力されること");
+
+            List<HeapFootprintAnalyzer.Representation> representations = HeapFootprintAnalyzer.representations(engineers);
+            long plain = representations.get(0).totalBytes();
+            check(representations.size() == 4, "4つの形式を比較すること");
+            check(representations.get(1).totalBytes() < plain, "詰め込み形式がEngineerDTOより小さいこと");
+            check(representations.get(3).offHeapBytes > 0 && representations.get(3).heapBytes < plain / 10,
+                    "ヒープ外の形式はヒープをほとんど使用しないこと");
+
+            System.out.println(String.format("テスト成功: EngineerDTO 1件あたり%.1fバイト、詰め込み形式は%.2f倍でした",
+                    plain / (double) count, representations.get(1).totalBytes() / (double) plain));
+            LogHandler.getInstance().log(Level.INFO, "ヒープ使用量の分析テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ヒープ使用量の分析テストが失敗しました", e);
+        }
+    }
+}
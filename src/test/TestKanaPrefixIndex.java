@@ -0,0 +1,191 @@
+package test;
+
+import model.EngineerDTO;
+import model.EngineerRepository;
+import model.KanaPrefixIndex;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * KanaPrefixIndex.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestKanaPrefixIndex
+ *
+ * テストケース:
+ * 1: 正常系 - 半角・全角カタカナ、ひらがな、空白の違いを同一視した前方一致検索
+ * 2: 正常系 - 件数上限と並び順（スナップショットにない社員IDの除外分の補充を含む）、更新・削除の反映
+ * 3: 正常系 - 50万件の索引での検索時間
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestKanaPrefixIndex {
+
+    /** 大規模試験の件数 */
+    private static final int LARGE_ROSTER = 500_000;
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testNormalization();
+            testLimitAndUpdate();
+            testLargeRoster();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 表記の違いを同一視する前方一致検索のテスト
+     */
+    private static void testNormalization() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "フリガナ正規化のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            KanaPrefixIndex index = new KanaPrefixIndex();
+            repository.addIndex(index);
+            repository.add(engineer("ID00001", "山田 太郎", "ヤマダ タロウ"));
+            repository.add(engineer("ID00002", "山本花子", "ﾔﾏﾓﾄﾊﾅｺ"));
+
+            check(index.findByPrefix(repository.snapshot(), "ﾔﾏﾀﾞ", 10).size() == 1, "半角カタカナで検索できること");
+            check(index.findByPrefix(repository.snapshot(), "やまもと", 10).size() == 1, "ひらがなで検索できること");
+            check(index.findByPrefix(repository.snapshot(), "ヤマ", 10).size() == 2, "共通の先頭で2件一致すること");
+            check(index.findByPrefix(repository.snapshot(), "山田太", 10).size() == 1, "氏名の空白を無視して検索できること");
+            check(index.findByPrefix(repository.snapshot(), "ヤマダハ", 10).isEmpty(), "一致しない場合は0件であること");
+            check("ヤマダ".equals(KanaPrefixIndex.normalize("ﾔﾏﾀﾞ")), "半角の濁点が結合されること");
+
+            System.out.println("テスト成功: 表記の違いを同一視して前方一致検索できました");
+            LogHandler.getInstance().log(Level.INFO, "フリガナ正規化のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("フリガナ正規化のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 件数上限と更新・削除のテスト
+     */
+    private static void testLimitAndUpdate() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "前方一致の件数上限テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            KanaPrefixIndex index = new KanaPrefixIndex();
+            repository.addIndex(index);
+            repository.add(engineer("ID00003", "佐藤三郎", "サトウサブロウ"));
+            repository.add(engineer("ID00001", "佐藤一郎", "サトウイチロウ"));
+            repository.add(engineer("ID00002", "佐藤次郎", "サトウジロウ"));
+
+            List<EngineerDTO> top = index.findByPrefix(repository.snapshot(), "サトウ", 2);
+            check(top.size() == 2, "上限件数で打ち切られること");
+            check("ID00001".equals(top.get(0).getId()) && "ID00003".equals(top.get(1).getId()),
+                    "フリガナの昇順で返されること");
+
+            // スナップショットにない社員IDが先頭に並ぶ索引でも、除外した分を補って上限件数まで返すこと
+            KanaPrefixIndex stale = new KanaPrefixIndex();
+            for (int i = 100; i < 120; i++) {
+                stale.onChange(i, null, engineer(String.format("ID%05d", i), "佐藤", "サトウアキラ"));
+            }
+            for (EngineerDTO engineer : repository.findAll()) {
+                stale.onChange(EngineerRepository.toKey(engineer.getId()), null, engineer);
+            }
+            List<EngineerDTO> refilled = stale.findByPrefix(repository.snapshot(), "サトウ", 2);
+            check(refilled.size() == 2 && "ID00001".equals(refilled.get(0).getId()),
+                    "除外した分を補って上限件数まで返すこと: " + refilled.size());
+            check(stale.findByPrefix(repository.snapshot(), "サトウ", 10).size() == 3, "索引を最後まで読むこと");
+
+            repository.update(engineer("ID00001", "鈴木一郎", "スズキイチロウ"));
+            check(index.findByPrefix(repository.snapshot(), "サトウ", 10).size() == 2, "更新前のフリガナで一致しないこと");
+            check(index.findByPrefix(repository.snapshot(), "スズキ", 10).size() == 1, "更新後のフリガナで一致すること");
+            repository.delete("ID00002");
+            check(index.findByPrefix(repository.snapshot(), "サトウ", 10).size() == 1, "削除後は一致しないこと");
+            check(index.size() == 4, "2件分の文字列が残ること: " + index.size());
+
+            System.out.println("テスト成功: 件数上限と更新・削除が正しく反映されました");
+            LogHandler.getInstance().log(Level.INFO, "前方一致の件数上限テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("前方一致の件数上限テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 50万件の索引での検索時間のテスト
+     * リポジトリの更新ログを避けるため、索引に直接登録する
+     */
+    private static void testLargeRoster() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "大規模索引の検索時間テストを開始します");
+            KanaPrefixIndex index = new KanaPrefixIndex();
+            Random random = new Random(3);
+            String[] syllables = { "ア", "イ", "カ", "サ", "タ", "ナ", "ハ", "マ", "ヤ", "ラ", "ワ", "ン", "ガ", "ダ", "バ" };
+            String[] prefixes = new String[1_000];
+            for (int i = 0; i < LARGE_ROSTER; i++) {
+                StringBuilder kana = new StringBuilder();
+                for (int j = 0; j < 6; j++) {
+                    kana.append(syllables[random.nextInt(syllables.length)]);
+                }
+                index.onChange(i, null, engineer(String.format("ID%06d", i), "試験" + i, kana.toString()));
+                if (i < prefixes.length) {
+                    prefixes[i] = kana.substring(0, 2);
+                }
+            }
+            check(index.size() == LARGE_ROSTER * 2, "全件が登録されること: " + index.size());
+
+            // JITのウォームアップ
+            for (int round = 0; round < 20; round++) {
+                for (String prefix : prefixes) {
+                    index.prefixKeys(prefix, 10);
+                }
+            }
+            long start = System.nanoTime();
+            int matched = 0;
+            for (String prefix : prefixes) {
+                matched += index.prefixKeys(prefix, 10).length;
+            }
+            long averageMicros = (System.nanoTime() - start) / prefixes.length / 1_000;
+            check(matched == prefixes.length * 10, "すべての検索で上限件数が返されること");
+            check(averageMicros < 1_000, "1回の検索が1ミリ秒未満であること: " + averageMicros + "μs");
+
+            System.out.println("テスト成功: 50万件の索引で上位10件の検索が平均" + averageMicros + "μsで完了しました");
+            LogHandler.getInstance().log(Level.INFO, "大規模索引の検索時間テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("大規模索引の検索時間テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 氏名とフリガナを指定したエンジニアを作成
+     */
+    private static EngineerDTO engineer(String id, String name, String nameKana) {
+        EngineerDTO engineer = createEngineer(id, name);
+        engineer.setNameKana(nameKana);
+        return engineer;
+    }
+}
@@ -0,0 +1,235 @@
+package test;
+
+import model.EngineerDTO;
+import model.EngineerRepository;
+import model.LanguageIndex;
+import util.IntBitmap;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * LanguageIndex.javaとIntBitmap.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestLanguageIndex
+ *
+ * テストケース:
+ * 1: 正常系 - ビットマップのランダム操作と集合演算をTreeSetと比較（疎・密の両方）
+ * 2: 正常系 - 複数言語のAND・OR検索（大文字・小文字の同一視）
+ * 3: 正常系 - 更新・削除に合わせた索引の差分更新
+ * 4: 正常系 - 登録済みのエンジニアを索引登録時に反映
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestLanguageIndex {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testBitmapAgainstTreeSet();
+            testAndOrQuery();
+            testIncrementalUpdate();
+            testBackfillOnRegister();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * ビットマップのランダム操作をTreeSetと比較するテスト
+     */
+    private static void testBitmapAgainstTreeSet() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ビットマップのランダム操作テストを開始します");
+            Random random = new Random(7);
+
+            // 範囲を変えて、配列コンテナとビットマップコンテナの両方を通過させる
+            for (int bound : new int[] { 3_000, 20_000, 300_000 }) {
+                IntBitmap left = new IntBitmap();
+                IntBitmap right = new IntBitmap();
+                TreeSet<Integer> leftExpected = new TreeSet<>();
+                TreeSet<Integer> rightExpected = new TreeSet<>();
+
+                for (int i = 0; i < 100_000; i++) {
+                    int value = random.nextInt(bound);
+                    boolean toLeft = random.nextBoolean();
+                    IntBitmap target = toLeft ? left : right;
+                    TreeSet<Integer> expected = toLeft ? leftExpected : rightExpected;
+                    if (random.nextInt(4) == 0) {
+                        check(target.remove(value) == expected.remove(value), "removeの戻り値が一致すること");
+                    } else {
+                        check(target.add(value) == expected.add(value), "addの戻り値が一致すること");
+                    }
+                }
+
+                checkSame(left, leftExpected, "追加・削除後");
+                TreeSet<Integer> and = new TreeSet<>(leftExpected);
+                and.retainAll(rightExpected);
+                checkSame(left.and(right), and, "積集合");
+                TreeSet<Integer> or = new TreeSet<>(leftExpected);
+                or.addAll(rightExpected);
+                checkSame(left.or(right), or, "和集合");
+                TreeSet<Integer> andNot = new TreeSet<>(leftExpected);
+                andNot.removeAll(rightExpected);
+                checkSame(left.andNot(right), andNot, "差集合");
+                checkSame(left, leftExpected, "集合演算後も元のビットマップが変わらないこと");
+            }
+
+            IntBitmap dense = new IntBitmap();
+            for (int i = 0; i < 65_536; i++) {
+                dense.add(i);
+            }
+            check(dense.sizeInBytes() < 10_000, "密な集合がビットマップで保持されること: " + dense.sizeInBytes());
+
+            System.out.println("テスト成功: ビットマップのランダム操作がTreeSetと一致しました");
+            LogHandler.getInstance().log(Level.INFO, "ビットマップのランダム操作テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ビットマップのランダム操作テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 複数言語のAND・OR検索のテスト
+     */
+    private static void testAndOrQuery() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "言語検索のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            LanguageIndex index = new LanguageIndex();
+            repository.addIndex(index);
+
+            repository.add(engineer("ID00001", "Kotlin", "SQL"));
+            repository.add(engineer("ID00002", "kotlin"));
+            repository.add(engineer("ID00003", " SQL ", "Java"));
+            repository.add(engineer("ID00004", "Java"));
+
+            check(ids(index.findWithAll(repository.snapshot(), Arrays.asList("Kotlin", "SQL")))
+                    .equals(Arrays.asList("ID00001")), "KotlinかつSQLは1件であること");
+            check(ids(index.findWithAny(repository.snapshot(), Arrays.asList("KOTLIN", "sql")))
+                    .equals(Arrays.asList("ID00001", "ID00002", "ID00003")), "KotlinまたはSQLは3件であること");
+            check(index.findWithAll(repository.snapshot(), Arrays.asList("Kotlin", "Go")).isEmpty(),
+                    "未登録の言語を含むAND検索は0件であること");
+            check(index.count("java") == 2, "Javaの件数が2件であること");
+
+            System.out.println("テスト成功: 複数言語のAND・OR検索が正しく動作しました");
+            LogHandler.getInstance().log(Level.INFO, "言語検索のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("言語検索のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 更新・削除に合わせた差分更新のテスト
+     */
+    private static void testIncrementalUpdate() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "言語索引の差分更新テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            LanguageIndex index = new LanguageIndex();
+            repository.addIndex(index);
+
+            repository.add(engineer("ID00001", "Kotlin", "SQL"));
+            repository.update(engineer("ID00001", "SQL", "Go"));
+            check(index.count("Kotlin") == 0, "更新で外した言語が索引から消えること");
+            check(!index.languages().contains("kotlin"), "件数0の言語は索引から除かれること");
+            check(index.matchAll(Arrays.asList("go", "sql")).contains(1), "更新で加えた言語が索引に入ること");
+
+            repository.delete("ID00001");
+            check(index.languages().isEmpty(), "削除後は索引が空になること");
+
+            System.out.println("テスト成功: 更新・削除に合わせて索引が更新されました");
+            LogHandler.getInstance().log(Level.INFO, "言語索引の差分更新テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("言語索引の差分更新テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 索引登録時に既存のエンジニアを反映するテスト
+     */
+    private static void testBackfillOnRegister() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "言語索引の初期反映テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            for (int i = 0; i < 10_000; i++) {
+                repository.add(engineer(String.format("ID%05d", i), i % 3 == 0 ? "Kotlin" : "Java", "SQL"));
+            }
+
+            LanguageIndex index = new LanguageIndex();
+            repository.addIndex(index);
+            check(index.count("Kotlin") == 3_334, "登録済みのKotlinが反映されること: " + index.count("Kotlin"));
+            check(index.findWithAll(repository.snapshot(), Arrays.asList("Kotlin", "SQL")).size() == 3_334,
+                    "AND検索の件数が一致すること");
+
+            System.out.println("テスト成功: 登録済みのエンジニアが索引に反映されました");
+            LogHandler.getInstance().log(Level.INFO, "言語索引の初期反映テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("言語索引の初期反映テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 指定した言語を扱うエンジニアを作成
+     */
+    private static EngineerDTO engineer(String id, String... languages) {
+        EngineerDTO engineer = createEngineer(id, "言語試験");
+        engineer.setProgrammingLanguages(Arrays.asList(languages));
+        return engineer;
+    }
+
+    /**
+     * 社員IDの一覧を取得
+     */
+    private static List<String> ids(List<EngineerDTO> engineers) {
+        List<String> ids = new ArrayList<>();
+        for (EngineerDTO engineer : engineers) {
+            ids.add(engineer.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * ビットマップとTreeSetの内容が一致することを確認
+     */
+    private static void checkSame(IntBitmap actual, TreeSet<Integer> expected, String description) {
+        check(actual.cardinality() == expected.size(), description + ": 件数が一致すること");
+        int[] values = actual.toArray();
+        int i = 0;
+        for (int value : expected) {
+            check(values[i++] == value, description + ": 値が昇順で一致すること");
+        }
+    }
+}
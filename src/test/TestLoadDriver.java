@@ -0,0 +1,179 @@
+package test;
+
+import model.EngineerRepository;
+import util.LatencyHistogram;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.deleteQuietly;
+
+/**
+ * LoadDriver.javaとLatencyHistogram.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestLoadDriver
+ *
+ * テストケース:
+ * 1: 正常系 - パーセンタイル値が並べ替えた値と相対誤差1/64以内で一致すること
+ * 2: 正常系 - 複数スレッドからの同時記録で件数が欠落しないこと、加算と消去
+ * 3: 正常系 - 操作数を指定した負荷試験の件数と、JSON形式の結果
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestLoadDriver {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testPercentiles();
+            testConcurrentRecording();
+            testDriverRun();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * パーセンタイル値の精度のテスト
+     */
+    private static void testPercentiles() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ヒストグラムの精度テストを開始します");
+            Random random = new Random(45);
+            LatencyHistogram histogram = new LatencyHistogram();
+            int total = 200_000;
+            long[] values = new long[total];
+            for (int i = 0; i < total; i++) {
+                // 対数正規分布に近い処理時間（数百ナノ秒〜数秒）
+                values[i] = (long) Math.exp(8 + 2.5 * random.nextGaussian());
+                histogram.record(values[i]);
+            }
+            Arrays.sort(values);
+
+            for (double percentile : new double[] { 0.0, 50.0, 90.0, 99.0, 99.9, 99.99, 100.0 }) {
+                long exact = values[Math.max(0, (int) Math.ceil(percentile / 100.0 * total) - 1)];
+                long reported = histogram.getValueAtPercentile(percentile);
+                check(reported >= exact && reported <= exact + exact / 64 + 1,
+                        "p" + percentile + "が誤差の範囲内であること: 正確な値=" + exact + ", 報告値=" + reported);
+            }
+            check(histogram.getMin() == values[0] && histogram.getMax() == values[total - 1], "最小値と最大値が一致すること");
+            check(histogram.getCount() == total, "件数が一致すること");
+
+            LatencyHistogram empty = new LatencyHistogram();
+            check(empty.getValueAtPercentile(99.0) == 0 && empty.getMin() == 0 && empty.getMean() == 0.0,
+                    "記録がない場合は0であること");
+            histogram.record(Long.MAX_VALUE);
+            check(histogram.getValueAtPercentile(100.0) == Long.MAX_VALUE, "最大の値を記録できること");
+
+            System.out.println("テスト成功: パーセンタイル値が相対誤差1/64以内で一致しました");
+            LogHandler.getInstance().log(Level.INFO, "ヒストグラムの精度テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ヒストグラムの精度テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 同時記録のテスト
+     */
+    private static void testConcurrentRecording() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ヒストグラムの同時記録テストを開始します");
+            LatencyHistogram histogram = new LatencyHistogram();
+            int threads = 8;
+            int perThread = 100_000;
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                Thread worker = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        histogram.record(offset * 1_000 + i % 1_000);
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            check(histogram.getCount() == (long) threads * perThread, "件数が欠落しないこと: " + histogram.getCount());
+            check(histogram.getMax() == (threads - 1) * 1_000 + 999, "最大値が一致すること: " + histogram.getMax());
+
+            LatencyHistogram merged = new LatencyHistogram();
+            merged.record(1);
+            merged.add(histogram);
+            check(merged.getCount() == histogram.getCount() + 1 && merged.getMin() == 0, "加算できること");
+            merged.reset();
+            check(merged.getCount() == 0 && merged.getMax() == 0, "消去できること");
+
+            System.out.println("テスト成功: " + threads + "スレッドからの同時記録で件数が一致しました");
+            LogHandler.getInstance().log(Level.INFO, "ヒストグラムの同時記録テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ヒストグラムの同時記録テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 負荷試験ドライバのテスト
+     */
+    private static void testDriverRun() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "負荷試験ドライバのテストを開始します");
+            dir = Files.createTempDirectory("load-test");
+            EngineerRepository repository = new EngineerRepository();
+            LoadDriver.Result result = LoadDriver.run(repository, new RosterGenerator(45, 0.1), 4,
+                    60_000_000_000L, 5_000);
+
+            check(result.registered + result.rejected == 5_000, "指定した操作数で終了すること");
+            check(repository.size() == result.registered, "登録件数が一致すること: " + repository.size());
+            check(result.rejected > 300 && result.rejected < 700, "不正データが拒否されること: " + result.rejected);
+            check(result.operation.getCount() == 5_000 && result.register.getCount() == result.registered,
+                    "段階ごとの件数が一致すること");
+
+            Path file = dir.resolve("result.json");
+            LoadDriver.writeJson(file, result, 5_000, 0.1, false);
+            String json = new String(Files.readAllBytes(file), "UTF-8");
+            check(json.contains("\"registered\": " + result.registered) && json.contains("\"p999\""),
+                    "結果がJSON形式で書き込まれること");
+
+            System.out.println(String.format("テスト成功: 4人で5,000件を%.0f ops/sで処理しました（p99 %.1fµs）",
+                    result.throughput(), result.operation.getValueAtPercentile(99.0) / 1_000.0));
+            LogHandler.getInstance().log(Level.INFO, "負荷試験ドライバのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("負荷試験ドライバのテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package test;
+
+import model.EngineerBatchResult;
+import model.EngineerBuilder;
+import model.EngineerDTO;
+import model.EngineerRepository;
+import model.EngineerSnapshotFile;
+import util.LogHandler;
+import util.OperationMetrics;
+import util.OperationMetrics.Operation;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+import static test.TestEngineerJournal.deleteQuietly;
+
+/**
+ * OperationMetrics.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestOperationMetrics
+ *
+ * テストケース:
+ * 1: 正常系 - 計測が無効な間は開始時刻が0で、何も記録しないこと
+ * 2: 正常系 - 複数スレッドからの同時記録と、JMXでの参照・有効化の切り替え
+ * 3: 正常系 - 構築・検証・一括登録・スナップショット出力・ログ出力の各処理が記録されること
+ *    （構築にはビルダーの作成から値の設定までの時間を含めず、検証に失敗した構築も記録すること）
+ * 4: 正常系 - 集計ログの出力と区間の切り替え
+ * 5: 正常系 - 複数スレッドからの記録と並行して区間を切り替えても、記録が欠落しないこと
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestOperationMetrics {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testDisabled();
+            testConcurrentRecordingAndJmx();
+            testInstrumentedOperations();
+            testLogSummary();
+            testSummaryDuringRecording();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            OperationMetrics.getInstance().setEnabled(false);
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 計測が無効な場合のテスト
+     */
+    private static void testDisabled() {
+        OperationMetrics metrics = OperationMetrics.getInstance();
+        try {
+            LogHandler.getInstance().log(Level.INFO, "計測無効時のテストを開始します");
+            metrics.setEnabled(false);
+            metrics.reset();
+
+            check(OperationMetrics.start() == 0L, "無効な間は開始時刻が0であること");
+            createEngineer("ID00001", "無効時");
+            LogHandler.getInstance().log(Level.INFO, "計測無効時のログ出力");
+            for (Operation operation : Operation.values()) {
+                check(metrics.getHistogram(operation).getCount() == 0, operation + "が記録されないこと");
+            }
+            check(metrics.getSummary().isEmpty(), "集計が空であること");
+
+            System.out.println("テスト成功: 計測が無効な間は何も記録しませんでした");
+            LogHandler.getInstance().log(Level.INFO, "計測無効時のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("計測無効時のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 同時記録とJMXのテスト
+     */
+    private static void testConcurrentRecordingAndJmx() {
+        OperationMetrics metrics = OperationMetrics.getInstance();
+        try {
+            LogHandler.getInstance().log(Level.INFO, "同時記録・JMXのテストを開始します");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OperationMetrics.OBJECT_NAME);
+            check(server.isRegistered(name), "LogHandlerの初期化時にJMXに登録されること");
+
+            server.setAttribute(name, new Attribute("Enabled", Boolean.TRUE));
+            check(metrics.isEnabled() && OperationMetrics.start() != 0L, "JMXから計測を有効にできること");
+            metrics.reset();
+
+            int threads = 4;
+            int perThread = 50_000;
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        long start = OperationMetrics.start();
+                        OperationMetrics.stop(Operation.EXPORT_ROW, start);
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            check(metrics.getHistogram(Operation.EXPORT_ROW).getCount() == (long) threads * perThread,
+                    "同時記録で件数が欠落しないこと: " + metrics.getHistogram(Operation.EXPORT_ROW).getCount());
+
+            CompositeData[] operations = (CompositeData[]) server.getAttribute(name, "Operations");
+            check(operations.length == Operation.values().length, "JMXで全処理の集計を参照できること");
+            CompositeData export = operations[Operation.EXPORT_ROW.ordinal()];
+            check("EXPORT_ROW".equals(export.get("operation"))
+                    && ((Long) export.get("count")) == (long) threads * perThread, "JMXの件数が一致すること");
+            check((Double) export.get("p99Micros") <= (Double) export.get("maxMicros"), "p99が最大値以下であること");
+            check(((String) server.getAttribute(name, "Summary")).startsWith("出力1行"), "集計の文字列を参照できること");
+
+            try {
+                metrics.setSummaryIntervalSeconds(0);
+                throw new IllegalStateException("検証失敗: 0秒の出力間隔が拒否されること");
+            } catch (IllegalArgumentException expected) {
+                // 期待どおり
+            }
+
+            server.invoke(name, "reset", null, null);
+            check(metrics.getHistogram(Operation.EXPORT_ROW).getCount() == 0, "JMXから消去できること");
+
+            System.out.println("テスト成功: " + threads + "スレッドの同時記録とJMXでの参照・切り替えを確認しました");
+            LogHandler.getInstance().log(Level.INFO, "同時記録・JMXのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("同時記録・JMXのテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 計測対象の処理のテスト
+     */
+    private static void testInstrumentedOperations() {
+        OperationMetrics metrics = OperationMetrics.getInstance();
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "計測対象の処理のテストを開始します");
+            metrics.setEnabled(true);
+            metrics.reset();
+
+            int count = 200;
+            List<EngineerDTO> engineers = new ArrayList<>();
+            for (int i = 1; i <= count; i++) {
+                engineers.add(createEngineer(String.format("ID%05d", i), "計測" + i));
+            }
+            check(metrics.getHistogram(Operation.BUILD).getCount() == count, "構築が件数分記録されること");
+            check(metrics.getHistogram(Operation.VALIDATE).getCount() == count, "検証が件数分記録されること");
+
+            // 値の設定の合間に待機しても、構築の処理時間には含めない
+            long pause = 50_000_000L;
+            EngineerBuilder builder = new EngineerBuilder().setId("ID99999");
+            Thread.sleep(pause / 1_000_000L);
+            builder.setName("待機").setNameKana("タイキ").setBirthDate(LocalDate.of(1990, 1, 1))
+                    .setJoinDate(LocalDate.of(2020, 4, 1)).setCareer(1).setProgrammingLanguages(Arrays.asList("Java"));
+            metrics.getHistogram(Operation.BUILD).reset();
+            builder.build();
+            check(metrics.getHistogram(Operation.BUILD).getMax() < pause,
+                    "構築に値の設定までの時間を含めないこと: " + metrics.getHistogram(Operation.BUILD).getMax() + "ns");
+
+            // 検証に失敗した構築も記録する
+            long validations = metrics.getHistogram(Operation.VALIDATE).getCount();
+            try {
+                new EngineerBuilder().setId("ID88888").build();
+                check(false, "氏名のない構築は失敗すること");
+            } catch (IllegalStateException expected) {
+                // 期待どおり
+            }
+            check(metrics.getHistogram(Operation.BUILD).getCount() == 2, "検証に失敗した構築が記録されること");
+            check(metrics.getHistogram(Operation.VALIDATE).getCount() == validations + 1, "失敗した検証が記録されること");
+
+            EngineerRepository repository = new EngineerRepository();
+            EngineerBatchResult result = repository.addAll(engineers);
+            check(result.getAddedCount() == count, "一括登録が成功すること");
+            check(metrics.getHistogram(Operation.IMPORT_ROW).getCount() == count, "一括登録の各行が記録されること");
+
+            dir = Files.createTempDirectory("metrics-test");
+            EngineerSnapshotFile.write(dir.resolve("snapshot.bin"), 1L, engineers);
+            check(metrics.getHistogram(Operation.EXPORT_ROW).getCount() == count, "スナップショットの各件が記録されること");
+
+            long logs = metrics.getHistogram(Operation.LOG_WRITE).getCount();
+            LogHandler.getInstance().log(Level.INFO, "計測対象のログ出力");
+            check(metrics.getHistogram(Operation.LOG_WRITE).getCount() == logs + 1, "ログ出力が記録されること");
+
+            System.out.println("テスト成功: " + metrics.getSummary());
+            LogHandler.getInstance().log(Level.INFO, "計測対象の処理のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("計測対象の処理のテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 集計ログのテスト
+     */
+    private static void testLogSummary() {
+        OperationMetrics metrics = OperationMetrics.getInstance();
+        try {
+            LogHandler.getInstance().log(Level.INFO, "集計ログのテストを開始します");
+            metrics.setEnabled(true);
+            metrics.reset();
+
+            createEngineer("ID00001", "集計");
+            String summary = metrics.logSummary();
+            check(summary != null && summary.contains("構築 1件"), "直近の区間の集計が出力されること: " + summary);
+            long total = metrics.getHistogram(Operation.BUILD).getCount();
+
+            String next = metrics.logSummary();
+            check(next == null || !next.contains("構築"), "出力後は新しい区間になること: " + next);
+            check(metrics.getHistogram(Operation.BUILD).getCount() == total, "集計ログの出力で累計は消去されないこと");
+
+            System.out.println("テスト成功: 集計ログを出力し、区間を切り替えました");
+            LogHandler.getInstance().log(Level.INFO, "集計ログのテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("集計ログのテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 記録と並行した区間の切り替えのテスト
+     */
+    private static void testSummaryDuringRecording() {
+        OperationMetrics metrics = OperationMetrics.getInstance();
+        try {
+            LogHandler.getInstance().log(Level.INFO, "記録中の区間の切り替えテストを開始します");
+            metrics.setEnabled(true);
+            metrics.reset();
+            final int threads = 4;
+            final int perThread = 20_000;
+
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        OperationMetrics.stop(Operation.IMPORT_ROW, OperationMetrics.start());
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            long summarized = 0;
+            int summaries = 0;
+            while (workers.stream().anyMatch(Thread::isAlive)) {
+                summarized += importRows(metrics.logSummary());
+                summaries++;
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            summarized += importRows(metrics.logSummary());
+
+            check(summarized == (long) threads * perThread,
+                    "区間の集計の合計が記録件数と一致すること: " + summarized + "/" + threads * perThread);
+            check(metrics.getHistogram(Operation.IMPORT_ROW).getCount() == (long) threads * perThread, "累計が記録件数と一致すること");
+
+            System.out.println("テスト成功: " + summaries + "回の区間の切り替えで" + summarized + "件の記録が欠落しませんでした");
+            LogHandler.getInstance().log(Level.INFO, "記録中の区間の切り替えテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("記録中の区間の切り替えテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 集計ログから取込1行の件数を取得
+     */
+    private static long importRows(String summary) {
+        if (summary == null) {
+            return 0;
+        }
+        Matcher matcher = Pattern.compile(Operation.IMPORT_ROW.getLabel() + " (\\d+)件").matcher(summary);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+}
@@ -0,0 +1,402 @@
+package test;
+
+import model.Criterion;
+import model.EngineerBatchResult;
+import model.EngineerDTO;
+import model.EngineerField;
+import model.EngineerQuery;
+import model.EngineerRepository;
+import model.KanaPrefixIndex;
+import model.LanguageIndex;
+import model.QueryEngine;
+import model.RangeIndex;
+import model.TextIndex;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * QueryEngine.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestQueryEngine
+ *
+ * テストケース:
+ * 1: 正常系 - 候補件数の見積もりによる索引と列走査の選択
+ * 2: 正常系 - ランダムなAND/OR/NOTの組み合わせの検索結果を全件走査と比較
+ * 3: 正常系 - 並び順・読み飛ばし・最大件数の適用
+ * 4: 正常系 - 更新・削除後の列走査（空き行の再利用を含む）
+ * 5: 正常系 - 副索引への通知の途中で検索しても、反映済みの行を取りこぼさないこと
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestQueryEngine {
+
+    /** 試験データで使用する言語 */
+    private static final String[] LANGUAGES = { "Java", "Python", "Kotlin", "Go", "SQL", "COBOL", "Rust" };
+
+    /** 試験データで使用するフリガナ */
+    private static final String[] KANA = { "アオキ", "アサダ", "イトウ", "ウエノ", "カトウ", "キムラ" };
+
+    /** 試験データで使用する経歴 */
+    private static final String[] HISTORIES = { "金融系開発", "物流系開発", "組込み開発", "Web開発", "基盤構築" };
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testPlanSelection();
+            testAgainstLinearScan();
+            testOrderAndPaging();
+            testUpdateAndDelete();
+            testIndexLag();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 検索計画の選択のテスト
+     */
+    private static void testPlanSelection() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "検索計画の選択テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            QueryEngine engine = new QueryEngine(repository);
+            for (int i = 0; i < 1_000; i++) {
+                EngineerDTO engineer = createEngineer(String.format("ID%05d", i), "計画試験");
+                // Javaは全員、Rustは1%のみ
+                engineer.setProgrammingLanguages(i % 100 == 0 ? Arrays.asList("Java", "Rust") : Arrays.asList("Java"));
+                engineer.setTechnicalSkill(1.0 + (i % 5));
+                repository.add(engineer);
+            }
+
+            EngineerQuery rare = new EngineerQuery().setCriterion(Criterion.languagesAll("Rust"));
+            check(engine.explain(rare).startsWith("SCAN"), "索引の登録前は列走査を使用すること");
+            check(engine.execute(rare).size() == 10, "列走査で検索できること");
+
+            engine.addIndex(new LanguageIndex());
+            engine.addIndex(new RangeIndex(EngineerField.TECHNICAL_SKILL));
+            check(engine.explain(rare).startsWith("INDEX"), "件数の少ない条件は索引を使用すること");
+            check(engine.execute(rare).size() == 10, "索引で検索できること");
+
+            EngineerQuery common = new EngineerQuery().setCriterion(Criterion.languagesAll("Java"));
+            check(engine.explain(common).startsWith("SCAN"), "件数の多い条件は列走査を使用すること");
+            check(engine.execute(common).size() == 1_000, "列走査ですべて取得できること");
+
+            // 技術力1.0は200件、Rustは10件（すべて技術力1.0） → Rustの索引を使用する
+            EngineerQuery both = new EngineerQuery().setCriterion(Criterion.and(
+                    Criterion.atMost(EngineerField.TECHNICAL_SKILL, EngineerField.skillKey(1.0)),
+                    Criterion.languagesAll("Rust")));
+            String plan = engine.explain(both);
+            check(plan.startsWith("INDEX") && plan.contains("rust"), "ANDでは最も件数の少ない索引を使用すること: " + plan);
+            check(engine.execute(both).size() == 10, "ANDの検索結果が正しいこと");
+
+            EngineerQuery custom = new EngineerQuery().setCriterion(Criterion.matching("偶数",
+                    engineer -> Integer.parseInt(engineer.getId().substring(2)) % 2 == 0));
+            check(engine.explain(custom).startsWith("SCAN"), "索引のない条件は列走査を使用すること");
+            check(engine.execute(custom).size() == 500, "任意の条件で検索できること");
+
+            System.out.println("テスト成功: 見積もりに基づいて索引と列走査が選択されました");
+            LogHandler.getInstance().log(Level.INFO, "検索計画の選択テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("検索計画の選択テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * ランダムな条件の検索結果を全件走査と比較するテスト
+     */
+    private static void testAgainstLinearScan() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "クエリエンジンの全件走査比較テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            QueryEngine engine = new QueryEngine(repository);
+            engine.addIndex(new LanguageIndex());
+            engine.addIndex(new RangeIndex(EngineerField.TECHNICAL_SKILL));
+            engine.addIndex(new RangeIndex(EngineerField.CAREER));
+            engine.addIndex(new RangeIndex(EngineerField.JOIN_DATE));
+            engine.addIndex(new TextIndex());
+            engine.addIndex(new KanaPrefixIndex());
+
+            Random random = new Random(35);
+            for (int i = 0; i < 3_000; i++) {
+                repository.add(randomEngineer(random, i));
+            }
+
+            int indexPlans = 0;
+            int totalMatches = 0;
+            for (int q = 0; q < 500; q++) {
+                Criterion criterion = randomCriterion(random, 3);
+                EngineerQuery query = new EngineerQuery().setCriterion(criterion);
+                List<String> expected = new ArrayList<>();
+                for (EngineerDTO engineer : repository.findAll()) {
+                    if (criterion.test(engineer)) {
+                        expected.add(engineer.getId());
+                    }
+                }
+                expected.sort(null);
+                List<String> actual = new ArrayList<>();
+                for (EngineerDTO engineer : engine.execute(query)) {
+                    actual.add(engineer.getId());
+                }
+                check(actual.equals(expected), "全件走査と一致すること: " + criterion);
+                if (engine.explain(query).startsWith("INDEX")) {
+                    indexPlans++;
+                }
+                totalMatches += actual.size();
+            }
+            check(indexPlans > 0 && indexPlans < 500, "索引と列走査の両方が選択されること: 索引" + indexPlans + "件");
+
+            System.out.println("テスト成功: 500件の検索が全件走査と一致しました（索引" + indexPlans + "件、一致合計"
+                    + totalMatches + "件）");
+            LogHandler.getInstance().log(Level.INFO, "クエリエンジンの全件走査比較テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("クエリエンジンの全件走査比較テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 並び順・読み飛ばし・最大件数のテスト
+     */
+    private static void testOrderAndPaging() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "並び順と件数指定のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            QueryEngine engine = new QueryEngine(repository);
+            for (int i = 0; i < 50; i++) {
+                EngineerDTO engineer = createEngineer(String.format("ID%05d", i), "並び順試験");
+                engineer.setCareer(i % 10);
+                repository.add(engineer);
+            }
+
+            List<EngineerDTO> byId = engine.execute(new EngineerQuery().setOffset(10).setLimit(5));
+            check(byId.size() == 5 && byId.get(0).getId().equals("ID00010"), "既定では社員IDの昇順であること");
+
+            List<EngineerDTO> byCareer = engine.execute(new EngineerQuery()
+                    .setCriterion(Criterion.atLeast(EngineerField.CAREER, 5))
+                    .setOrder(EngineerField.CAREER, true)
+                    .setLimit(7));
+            check(byCareer.size() == 7, "最大件数が適用されること");
+            check(byCareer.get(0).getCareer() == 9 && byCareer.get(6).getCareer() == 8, "降順に並ぶこと");
+            check(byCareer.get(0).getId().equals("ID00009"), "同じ値では社員IDの昇順であること");
+
+            List<EngineerDTO> beyond = engine.execute(new EngineerQuery().setOffset(100));
+            check(beyond.isEmpty(), "件数を超える読み飛ばしは0件であること");
+
+            List<EngineerDTO> byName = engine.execute(new EngineerQuery()
+                    .setOrder(Comparator.comparing(EngineerDTO::getId).reversed())
+                    .setLimit(1));
+            check(byName.get(0).getId().equals("ID00049"), "任意の比較関数で並べられること");
+
+            try {
+                new EngineerQuery().setOffset(-1);
+                check(false, "負の読み飛ばし件数は例外となること");
+            } catch (IllegalArgumentException expected) {
+                // 期待どおり
+            }
+
+            System.out.println("テスト成功: 並び順と件数指定が正しく適用されました");
+            LogHandler.getInstance().log(Level.INFO, "並び順と件数指定のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("並び順と件数指定のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 更新・削除後の列走査のテスト
+     */
+    private static void testUpdateAndDelete() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "列指向ストアの差分更新テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            QueryEngine engine = new QueryEngine(repository);
+            for (int i = 0; i < 100; i++) {
+                repository.add(createEngineer(String.format("ID%05d", i), "差分試験"));
+            }
+            for (int i = 0; i < 100; i += 2) {
+                repository.delete(String.format("ID%05d", i));
+            }
+            EngineerDTO updated = createEngineer("ID00001", "差分試験");
+            updated.setProgrammingLanguages(Arrays.asList("Go"));
+            repository.update(updated);
+            // 空き行を再利用する
+            EngineerDTO added = createEngineer("ID00500", "差分試験");
+            added.setProgrammingLanguages(Arrays.asList("Go", "Java"));
+            repository.add(added);
+
+            check(engine.getColumnStore().size() == 51, "列指向ストアの行数が一致すること");
+            check(engine.execute(new EngineerQuery()).size() == 51, "削除した行は検索されないこと");
+            List<EngineerDTO> go = engine.execute(new EngineerQuery().setCriterion(Criterion.languagesAll("go")));
+            check(go.size() == 2 && go.get(0).getId().equals("ID00001") && go.get(1).getId().equals("ID00500"),
+                    "更新・追加した言語で検索できること");
+            List<EngineerDTO> notJava = engine.execute(new EngineerQuery()
+                    .setCriterion(Criterion.not(Criterion.languagesAny("Java"))));
+            check(notJava.size() == 1 && notJava.get(0).getId().equals("ID00001"), "NOTが削除済みの行を含まないこと");
+
+            System.out.println("テスト成功: 更新・削除が列指向ストアに反映されました");
+            LogHandler.getInstance().log(Level.INFO, "列指向ストアの差分更新テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("列指向ストアの差分更新テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 副索引への通知の途中での検索のテスト
+     */
+    private static void testIndexLag() {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            LogHandler.getInstance().log(Level.INFO, "副索引の通知途中の検索テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            QueryEngine engine = new QueryEngine(repository).addIndex(new LanguageIndex());
+            for (int i = 0; i < 100; i++) {
+                repository.add(createEngineer(String.format("ID%05d", i), "通知試験"));
+            }
+            // 言語索引の後に通知される索引で、一括登録の1件目の通知を止める
+            repository.addIndex((key, before, after) -> {
+                if (after != null && "ID00500".equals(after.getId())) {
+                    entered.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            List<EngineerDTO> pair = new ArrayList<>();
+            for (int i = 500; i <= 501; i++) {
+                EngineerDTO engineer = createEngineer(String.format("ID%05d", i), "通知試験");
+                engineer.setProgrammingLanguages(Arrays.asList("Go"));
+                pair.add(engineer);
+            }
+            AtomicReference<EngineerBatchResult> result = new AtomicReference<>();
+            Thread writer = new Thread(() -> {
+                try {
+                    result.set(repository.addAll(pair));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            writer.start();
+            check(entered.await(10, TimeUnit.SECONDS), "一括登録の通知が始まること");
+
+            // スナップショットには2件とも反映済みで、言語索引にはID00500だけが通知されている
+            EngineerQuery go = new EngineerQuery().setCriterion(Criterion.languagesAll("Go"));
+            check(engine.explain(go).startsWith("INDEX"), "言語索引を使用する計画であること: " + engine.explain(go));
+            check(repository.snapshot().size() == 102, "スナップショットに2件とも反映済みであること");
+            List<EngineerDTO> during = engine.execute(go);
+            check(during.size() == 2 && during.get(1).getId().equals("ID00501"),
+                    "通知途中でも反映済みの2件を取得できること: " + during.size());
+
+            release.countDown();
+            writer.join();
+            check(result.get() != null && result.get().getAddedCount() == 2, "一括登録が完了すること");
+            check(engine.execute(go).size() == 2, "通知完了後も2件を取得できること");
+
+            System.out.println("テスト成功: 副索引への通知の途中でも反映済みの行を取りこぼしませんでした");
+            LogHandler.getInstance().log(Level.INFO, "副索引の通知途中の検索テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("副索引の通知途中の検索テストが失敗しました", e);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * ランダムな条件を作成
+     */
+    private static Criterion randomCriterion(Random random, int depth) {
+        int kind = random.nextInt(depth > 0 ? 11 : 8);
+        switch (kind) {
+            case 0:
+                return Criterion.languagesAll(pick(random, LANGUAGES), pick(random, LANGUAGES));
+            case 1:
+                return Criterion.languagesAny(pick(random, LANGUAGES), pick(random, LANGUAGES));
+            case 2: {
+                int low = 10 + random.nextInt(41);
+                return Criterion.between(EngineerField.TECHNICAL_SKILL, low, low + random.nextInt(10));
+            }
+            case 3:
+                return Criterion.atLeast(EngineerField.CAREER, random.nextInt(30));
+            case 4:
+                return Criterion.atMost(EngineerField.JOIN_DATE,
+                        EngineerField.dateKey(LocalDate.of(2000 + random.nextInt(25), 1, 1)));
+            case 5:
+                return Criterion.textContains(pick(random, HISTORIES).substring(0, 2));
+            case 6:
+                return Criterion.kanaPrefix(pick(random, KANA).substring(0, 1 + random.nextInt(2)));
+            case 7:
+                return Criterion.atMost(EngineerField.LEADERSHIP, 10 + random.nextInt(41));
+            case 8:
+                return Criterion.and(randomCriterion(random, depth - 1), randomCriterion(random, depth - 1));
+            case 9:
+                return Criterion.or(randomCriterion(random, depth - 1), randomCriterion(random, depth - 1));
+            default:
+                return Criterion.not(randomCriterion(random, depth - 1));
+        }
+    }
+
+    /**
+     * ランダムな項目のエンジニアを作成
+     */
+    private static EngineerDTO randomEngineer(Random random, int i) {
+        EngineerDTO engineer = createEngineer(String.format("ID%05d", i), "比較試験");
+        engineer.setNameKana(pick(random, KANA) + pick(random, KANA));
+        List<String> languages = new ArrayList<>();
+        for (String language : LANGUAGES) {
+            if (random.nextInt(4) == 0) {
+                languages.add(language);
+            }
+        }
+        engineer.setProgrammingLanguages(languages);
+        engineer.setTechnicalSkill(1.0 + random.nextInt(9) * 0.5);
+        engineer.setLeadership(1.0 + random.nextInt(9) * 0.5);
+        engineer.setCareer(random.nextInt(30));
+        engineer.setJoinDate(random.nextInt(10) == 0 ? null : LocalDate.of(2000 + random.nextInt(25), 4, 1));
+        engineer.setCareerHistory(pick(random, HISTORIES) + "、" + pick(random, HISTORIES));
+        return engineer;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
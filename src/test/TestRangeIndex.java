@@ -0,0 +1,266 @@
+package test;
+
+import model.Criterion;
+import model.EngineerDTO;
+import model.EngineerField;
+import model.EngineerQuery;
+import model.EngineerRepository;
+import model.QueryEngine;
+import model.RangeIndex;
+import util.IntBitmap;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * RangeIndex.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestRangeIndex
+ *
+ * テストケース:
+ * 1: 正常系 - 技術力と入社年月の複合範囲検索を全件走査の結果と比較
+ * 2: 正常系 - 更新・削除に合わせた索引の移動、未設定の日付の除外
+ * 3: 正常系 - 複数スレッドからの同時更新後も索引と一覧が一致すること
+ * 4: 正常系 - 未評価（0.0）の評価項目が上限のみの範囲検索に含まれないこと
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestRangeIndex {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testCombinedRangeQuery();
+            testIncrementalUpdate();
+            testConcurrentUpdate();
+            testUnevaluatedSkill();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 複合範囲検索のテスト
+     */
+    private static void testCombinedRangeQuery() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "複合範囲検索のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            RangeIndex skill = new RangeIndex(EngineerField.TECHNICAL_SKILL);
+            RangeIndex joined = new RangeIndex(EngineerField.JOIN_DATE);
+            repository.addIndex(skill);
+
+            Random random = new Random(11);
+            for (int i = 0; i < 5_000; i++) {
+                repository.add(randomEngineer(String.format("ID%05d", i), random));
+            }
+            // 登録後に追加した索引にも既存分が反映されること
+            repository.addIndex(joined);
+
+            int minSkill = EngineerField.skillKey(4.0);
+            int before2020 = EngineerField.dateKey(LocalDate.of(2020, 1, 1)) - 1;
+            IntBitmap keys = skill.atLeast(minSkill).and(joined.atMost(before2020));
+            List<EngineerDTO> found = repository.snapshot().resolve(keys,
+                    e -> skill.matches(e, minSkill, Integer.MAX_VALUE) && joined.matches(e, Integer.MIN_VALUE + 1, before2020));
+
+            List<String> expected = new ArrayList<>();
+            for (EngineerDTO engineer : repository.findAll()) {
+                if (engineer.getTechnicalSkill() >= 4.0 && engineer.getJoinDate().isBefore(LocalDate.of(2020, 1, 1))) {
+                    expected.add(engineer.getId());
+                }
+            }
+            expected.sort(null);
+            List<String> actual = new ArrayList<>();
+            for (EngineerDTO engineer : found) {
+                actual.add(engineer.getId());
+            }
+            check(!expected.isEmpty(), "検索対象が存在すること");
+            check(actual.equals(expected), "全件走査と同じ結果であること: " + actual.size() + "/" + expected.size());
+            check(skill.histogram().size() <= 41, "技術力のキーが41種類以下であること");
+
+            System.out.println("テスト成功: 複合範囲検索が全件走査と一致しました（" + actual.size() + "件）");
+            LogHandler.getInstance().log(Level.INFO, "複合範囲検索のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("複合範囲検索のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 更新・削除に合わせた索引の移動のテスト
+     */
+    private static void testIncrementalUpdate() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "範囲索引の差分更新テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            RangeIndex career = new RangeIndex(EngineerField.CAREER);
+            RangeIndex birth = new RangeIndex(EngineerField.BIRTH_DATE);
+            repository.addIndex(career);
+            repository.addIndex(birth);
+
+            EngineerDTO engineer = createEngineer("ID00001", "範囲試験");
+            engineer.setCareer(3);
+            repository.add(engineer);
+            check(career.between(3, 3).contains(1), "追加した値で索引に入ること");
+
+            engineer.setCareer(10);
+            engineer.setBirthDate(null);
+            repository.update(engineer);
+            check(career.between(3, 3).isEmpty(), "更新前の値から外れること");
+            check(career.atLeast(10).contains(1), "更新後の値で索引に入ること");
+            check(birth.histogram().isEmpty(), "未設定の日付は索引に入らないこと");
+            check(birth.findBetween(repository.snapshot(), Integer.MIN_VALUE + 1, Integer.MAX_VALUE).isEmpty(),
+                    "未設定の日付は範囲検索に一致しないこと");
+
+            repository.delete("ID00001");
+            check(career.histogram().isEmpty(), "削除後は索引が空になること");
+
+            System.out.println("テスト成功: 更新・削除に合わせて範囲索引が更新されました");
+            LogHandler.getInstance().log(Level.INFO, "範囲索引の差分更新テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("範囲索引の差分更新テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 複数スレッドからの同時更新のテスト
+     */
+    private static void testConcurrentUpdate() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "範囲索引の同時更新テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            RangeIndex skill = new RangeIndex(EngineerField.LEADERSHIP);
+            repository.addIndex(skill);
+            final int roster = 2_000;
+            for (int i = 0; i < roster; i++) {
+                repository.add(randomEngineer(String.format("ID%05d", i), new Random(i)));
+            }
+
+            AtomicInteger errors = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int seed = t;
+                threads.add(new Thread(() -> {
+                    Random random = new Random(seed);
+                    try {
+                        for (int i = 0; i < 5_000; i++) {
+                            repository.update(randomEngineer(String.format("ID%05d", random.nextInt(roster)), random));
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            NavigableMap<Integer, Integer> expected = new TreeMap<>();
+            for (EngineerDTO engineer : repository.findAll()) {
+                expected.merge(EngineerField.skillKey(engineer.getLeadership()), 1, Integer::sum);
+            }
+            check(errors.get() == 0, "更新でエラーが発生しないこと");
+            check(skill.histogram().equals(expected), "索引の件数分布が一覧と一致すること");
+
+            System.out.println("テスト成功: 同時更新後も範囲索引が一覧と一致しました");
+            LogHandler.getInstance().log(Level.INFO, "範囲索引の同時更新テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("範囲索引の同時更新テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 未評価の評価項目のテスト
+     */
+    private static void testUnevaluatedSkill() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "未評価の評価項目のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            RangeIndex skill = new RangeIndex(EngineerField.TECHNICAL_SKILL);
+            repository.addIndex(skill);
+
+            // ID00001は技術力を設定しない（未評価の0.0）
+            repository.add(createEngineer("ID00001", "未評価"));
+            for (int i = 2; i <= 5; i++) {
+                EngineerDTO engineer = createEngineer(String.format("ID%05d", i), "評価済み" + i);
+                engineer.setTechnicalSkill(i);
+                repository.add(engineer);
+            }
+
+            int atMost3 = EngineerField.skillKey(3.0);
+            check(skill.atMost(atMost3).cardinality() == 2 && !skill.atMost(atMost3).contains(1),
+                    "索引の上限検索に未評価が含まれないこと: " + skill.atMost(atMost3).cardinality());
+            check(!skill.histogram().containsKey(0) && skill.count(Integer.MIN_VALUE + 1, Integer.MAX_VALUE) == 4,
+                    "未評価は索引に登録されないこと: " + skill.histogram());
+            check(!EngineerField.TECHNICAL_SKILL.inRange(repository.get("ID00001"), Integer.MIN_VALUE + 1, atMost3),
+                    "未評価は範囲外と判定されること");
+
+            // 列走査（索引なし）と範囲索引のどちらで評価しても同じ結果になること
+            EngineerQuery query = new EngineerQuery()
+                    .setCriterion(Criterion.atMost(EngineerField.TECHNICAL_SKILL, atMost3));
+            for (QueryEngine engine : new QueryEngine[] { new QueryEngine(repository),
+                    new QueryEngine(repository).addIndex(new RangeIndex(EngineerField.TECHNICAL_SKILL)) }) {
+                List<String> ids = new ArrayList<>();
+                for (EngineerDTO engineer : engine.execute(query)) {
+                    ids.add(engineer.getId());
+                }
+                ids.sort(null);
+                check(ids.equals(List.of("ID00002", "ID00003")), "上限のみの検索に未評価が含まれないこと: " + ids
+                        + " " + engine.explain(query));
+            }
+
+            System.out.println("テスト成功: 未評価の技術力は上限のみの範囲検索に含まれませんでした");
+            LogHandler.getInstance().log(Level.INFO, "未評価の評価項目のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("未評価の評価項目のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 評価値と入社年月をランダムに設定したエンジニアを作成
+     */
+    private static EngineerDTO randomEngineer(String id, Random random) {
+        EngineerDTO engineer = createEngineer(id, "範囲試験");
+        engineer.setTechnicalSkill((10 + random.nextInt(41)) / 10.0);
+        engineer.setLeadership((10 + random.nextInt(41)) / 10.0);
+        engineer.setJoinDate(LocalDate.of(2010, 4, 1).plusDays(random.nextInt(5_000)));
+        return engineer;
+    }
+}
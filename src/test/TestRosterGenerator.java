@@ -0,0 +1,253 @@
+package test;
+
+import model.EngineerBuilder;
+import model.EngineerDTO;
+import model.EngineerRepository;
+import model.EngineerSnapshotFile;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.deleteQuietly;
+
+/**
+ * RosterGenerator.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestRosterGenerator
+ *
+ * テストケース:
+ * 1: 正常系 - 同じシードで同じ一覧、異なるシードで異なる一覧が生成されること
+ * 2: 正常系 - 不備のない行がすべて登録でき、不備のある行が指定比率で拒否されること
+ * 3: 正常系 - CSVの見出し・行数・引用符の付与
+ * 4: 正常系 - スナップショットファイル形式の読み戻しと生成速度
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestRosterGenerator {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testDeterminism();
+            testValidityAgainstOracle();
+            testCsv();
+            testSnapshot();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 再現性のテスト
+     */
+    private static void testDeterminism() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "生成の再現性テストを開始します");
+            RosterGenerator first = new RosterGenerator(42, 0.05);
+            RosterGenerator second = new RosterGenerator(42, 0.05);
+            RosterGenerator other = new RosterGenerator(43, 0.05);
+
+            int differences = 0;
+            for (int i = 0; i < 1_000; i++) {
+                check(first.generate(i).equals(second.generate(i)), "同じシードの" + i + "行目が一致すること");
+                if (!first.generate(i).equals(other.generate(i))) {
+                    differences++;
+                }
+            }
+            check(differences > 990, "異なるシードでは内容が異なること: " + differences);
+            // 逆順に生成しても同じ内容
+            check(first.generate(999).equals(second.generate(999)) && first.generate(0).equals(second.generate(0)),
+                    "生成順によらないこと");
+
+            StringWriter a = new StringWriter();
+            StringWriter b = new StringWriter();
+            first.writeCsv(a, 500);
+            second.writeCsv(b, 500);
+            check(a.toString().equals(b.toString()), "CSVの出力が一致すること");
+
+            System.out.println("テスト成功: 同じシードから同じ一覧が生成されました");
+            LogHandler.getInstance().log(Level.INFO, "生成の再現性テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("生成の再現性テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 登録可否を判定する基準との比較テスト
+     */
+    private static void testValidityAgainstOracle() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "生成データの妥当性テストを開始します");
+            int total = 20_000;
+            RosterGenerator valid = new RosterGenerator(7);
+            RosterGenerator mixed = new RosterGenerator(7, 0.1);
+            Set<String> names = new HashSet<>();
+            Map<RosterGenerator.Defect, Integer> defects = new EnumMap<>(RosterGenerator.Defect.class);
+            int rejected = 0;
+
+            for (int i = 0; i < total; i++) {
+                EngineerDTO engineer = valid.generate(i);
+                check(isAccepted(engineer), "不備のない" + i + "行目が登録できること: " + engineer);
+                check(engineer.getCareer() <= RosterGenerator.REFERENCE_DATE.getYear()
+                        - engineer.getBirthDate().getYear() - 21, "エンジニア歴が年齢と矛盾しないこと: " + engineer);
+                names.add(engineer.getName());
+
+                RosterGenerator.Defect defect = mixed.defectOf(i);
+                EngineerDTO candidate = mixed.generate(i);
+                if (defect == null) {
+                    check(candidate.equals(engineer), "不備のない行は比率によらず同じ内容であること");
+                } else {
+                    check(!isAccepted(candidate), defect + "の" + i + "行目が拒否されること");
+                    defects.merge(defect, 1, Integer::sum);
+                    rejected++;
+                }
+            }
+            double rate = rejected / (double) total;
+            check(rate > 0.09 && rate < 0.11, "不備のある行の比率が指定どおりであること: " + rate);
+            check(defects.size() == RosterGenerator.Defect.values().length, "すべての種類の不備が生成されること: " + defects);
+            check(names.size() > 500, "氏名の組み合わせが十分に多いこと: " + names.size());
+
+            System.out.println(String.format("テスト成功: %d件中%d件（%.1f%%）の不備のある行が拒否されました", total, rejected,
+                    rate * 100));
+            LogHandler.getInstance().log(Level.INFO, "生成データの妥当性テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("生成データの妥当性テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * CSV出力のテスト
+     */
+    private static void testCsv() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "CSV出力のテストを開始します");
+            dir = Files.createTempDirectory("roster-test");
+            Path file = dir.resolve("roster.csv");
+            RosterGenerator generator = new RosterGenerator(1);
+            generator.writeCsv(file, 1_000);
+
+            List<String> lines = Files.readAllLines(file);
+            check(lines.size() == 1_001, "見出し行と1,000行であること: " + lines.size());
+            check(lines.get(0).equals(RosterGenerator.CSV_HEADER), "見出し行が出力されること");
+            check(lines.get(1).startsWith("ID00001,"), "1行目の社員IDがID00001であること: " + lines.get(1));
+
+            for (int i = 0; i < 1_000; i++) {
+                EngineerDTO engineer = generator.generate(i);
+                String line = lines.get(i + 1);
+                if (engineer.getProgrammingLanguages().size() > 1) {
+                    check(line.contains("\"" + String.join(",", engineer.getProgrammingLanguages()) + "\""),
+                            "複数の言語は引用符で囲まれること: " + line);
+                }
+            }
+
+            System.out.println("テスト成功: CSVが見出し行付きで出力されました");
+            LogHandler.getInstance().log(Level.INFO, "CSV出力のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("CSV出力のテストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * スナップショットファイル形式の出力のテスト
+     */
+    private static void testSnapshot() {
+        Path dir = null;
+        try {
+            LogHandler.getInstance().log(Level.INFO, "スナップショット形式の出力テストを開始します");
+            dir = Files.createTempDirectory("roster-test");
+            Path file = dir.resolve("roster.bin");
+            int total = 100_000;
+            RosterGenerator generator = new RosterGenerator(2026);
+
+            long start = System.nanoTime();
+            generator.writeSnapshot(file, total);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            EngineerSnapshotFile.Contents contents = EngineerSnapshotFile.read(file);
+            check(contents.getEngineers().size() == total, "件数が一致すること");
+            for (int i = 0; i < total; i += 997) {
+                check(contents.getEngineers().get(i).equals(generator.generate(i)), i + "行目が一致すること");
+            }
+
+            System.out.println(String.format("テスト成功: %d件を%.0f件/秒で生成し、読み戻しました（%dバイト）", total,
+                    total / seconds, Files.size(file)));
+            LogHandler.getInstance().log(Level.INFO, "スナップショット形式の出力テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("スナップショット形式の出力テストが失敗しました", e);
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 画面からの登録と同じ検証を通るか判定する基準
+     * ビルダーの設定時・構築時の検証と、リポジトリの社員IDの検証を行う
+     */
+    private static boolean isAccepted(EngineerDTO engineer) {
+        try {
+            EngineerBuilder builder = new EngineerBuilder()
+                    .setId(engineer.getId())
+                    .setName(engineer.getName())
+                    .setNameKana(engineer.getNameKana())
+                    .setBirthDate(engineer.getBirthDate())
+                    .setJoinDate(engineer.getJoinDate())
+                    .setCareer(engineer.getCareer())
+                    .setProgrammingLanguages(engineer.getProgrammingLanguages());
+            // 0.0は未評価
+            if (engineer.getTechnicalSkill() != 0.0) {
+                builder.setTechnicalSkill(engineer.getTechnicalSkill());
+            }
+            if (engineer.getLearningAttitude() != 0.0) {
+                builder.setLearningAttitude(engineer.getLearningAttitude());
+            }
+            if (engineer.getCommunicationSkill() != 0.0) {
+                builder.setCommunicationSkill(engineer.getCommunicationSkill());
+            }
+            if (engineer.getLeadership() != 0.0) {
+                builder.setLeadership(engineer.getLeadership());
+            }
+            builder.build();
+            EngineerRepository.toKey(engineer.getId());
+            return true;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return false;
+        }
+    }
+}
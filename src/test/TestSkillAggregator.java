@@ -0,0 +1,293 @@
+package test;
+
+import model.EngineerDTO;
+import model.EngineerField;
+import model.EngineerRepository;
+import model.QueryEngine;
+import model.SkillAggregator;
+import model.SkillStatistics;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * SkillAggregator.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestSkillAggregator
+ *
+ * テストケース:
+ * 1: 正常系 - 全件の件数・合計・最小・最大・平均・分布（未設定の評価は除外）
+ * 2: 正常系 - 言語・入社年・エンジニア歴の区間ごとの集計を全件走査と比較（並列集計）
+ * 3: 異常系 - 不正な区間幅・評価項目以外の指定
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestSkillAggregator {
+
+    /** 試験データで使用する言語 */
+    private static final String[] LANGUAGES = { "Java", "Python", "Kotlin", "Go", "SQL" };
+
+    /** 評価項目 */
+    private static final EngineerField[] SKILLS = { EngineerField.TECHNICAL_SKILL, EngineerField.LEARNING_ATTITUDE,
+            EngineerField.COMMUNICATION_SKILL, EngineerField.LEADERSHIP };
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testSummary();
+            testGroupedAgainstLinearScan();
+            testInvalidArguments();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 全件集計のテスト
+     */
+    private static void testSummary() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "全件集計のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            QueryEngine engine = new QueryEngine(repository);
+            SkillAggregator aggregator = new SkillAggregator(engine.getColumnStore());
+
+            SkillStatistics empty = aggregator.summarize();
+            check(empty.getEngineerCount() == 0, "0件の場合はエンジニア数が0であること");
+            check(Double.isNaN(empty.getAverage(EngineerField.TECHNICAL_SKILL)), "0件の平均はNaNであること");
+
+            double[] technical = { 3.0, 4.5, 5.0, 2.5 };
+            for (int i = 0; i < technical.length; i++) {
+                EngineerDTO engineer = createEngineer(String.format("ID%05d", i + 1), "集計試験");
+                engineer.setTechnicalSkill(technical[i]);
+                // リーダーシップは1件のみ評価済み
+                engineer.setLeadership(i == 0 ? 4.0 : 0.0);
+                repository.add(engineer);
+            }
+
+            SkillStatistics all = aggregator.summarize();
+            check(all.getEngineerCount() == 4, "エンジニア数が一致すること");
+            check(all.getCount(EngineerField.TECHNICAL_SKILL) == 4, "技術力の件数が一致すること");
+            check(all.getSum(EngineerField.TECHNICAL_SKILL) == 15.0, "技術力の合計が一致すること");
+            check(all.getAverage(EngineerField.TECHNICAL_SKILL) == 3.75, "技術力の平均が一致すること");
+            check(all.getMin(EngineerField.TECHNICAL_SKILL) == 2.5, "技術力の最小値が一致すること");
+            check(all.getMax(EngineerField.TECHNICAL_SKILL) == 5.0, "技術力の最大値が一致すること");
+            check(all.getFrequency(EngineerField.TECHNICAL_SKILL, 4.5) == 1, "分布の件数が一致すること");
+            check(all.getHistogram(EngineerField.TECHNICAL_SKILL).length == SkillStatistics.HISTOGRAM_BUCKETS,
+                    "分布の区間数が一致すること");
+            check(all.getCount(EngineerField.LEADERSHIP) == 1, "未設定の評価は件数に含まないこと");
+            check(all.getAverage(EngineerField.LEADERSHIP) == 4.0, "未設定の評価は平均に含まないこと");
+            check(Double.isNaN(all.getAverage(EngineerField.COMMUNICATION_SKILL)), "全員未設定の平均はNaNであること");
+
+            repository.delete("ID00003");
+            check(aggregator.summarize().getMax(EngineerField.TECHNICAL_SKILL) == 4.5, "削除が反映されること");
+
+            System.out.println("テスト成功: 全件集計の結果が正しいことを確認しました（" + all + "）");
+            LogHandler.getInstance().log(Level.INFO, "全件集計のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("全件集計のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * グループごとの集計を全件走査と比較するテスト
+     */
+    private static void testGroupedAgainstLinearScan() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            LogHandler.getInstance().log(Level.INFO, "グループ集計の全件走査比較テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            QueryEngine engine = new QueryEngine(repository);
+            SkillAggregator aggregator = new SkillAggregator(engine.getColumnStore(), pool);
+
+            Random random = new Random(36);
+            int total = 60_000;
+            for (int i = 0; i < total; i++) {
+                repository.add(randomEngineer(random, i));
+            }
+            // 空き行を含む状態で集計する
+            for (int i = 0; i < total; i += 7) {
+                repository.delete(String.format("ID%05d", i));
+            }
+            List<EngineerDTO> engineers = repository.findAll();
+
+            long start = System.nanoTime();
+            Map<String, SkillStatistics> byLanguage = aggregator.byLanguage();
+            Map<Integer, SkillStatistics> byYear = aggregator.byJoinYear();
+            Map<Integer, SkillStatistics> byBand = aggregator.byCareerBand();
+            long elapsed = System.nanoTime() - start;
+
+            check(byLanguage.size() == LANGUAGES.length, "言語のグループ数が一致すること");
+            for (String language : LANGUAGES) {
+                String name = language.toLowerCase(Locale.ROOT);
+                verify(byLanguage.get(name), engineers, e -> e.getProgrammingLanguages().contains(language),
+                        "言語 " + language);
+            }
+            for (Map.Entry<Integer, SkillStatistics> entry : byYear.entrySet()) {
+                int year = entry.getKey();
+                verify(entry.getValue(), engineers,
+                        e -> e.getJoinDate() != null && e.getJoinDate().getYear() == year, "入社年 " + year);
+            }
+            long withJoinDate = engineers.stream().filter(e -> e.getJoinDate() != null).count();
+            check(byYear.values().stream().mapToLong(SkillStatistics::getEngineerCount).sum() == withJoinDate,
+                    "入社年月が未設定のエンジニアは含まないこと");
+            for (Map.Entry<Integer, SkillStatistics> entry : byBand.entrySet()) {
+                int band = entry.getKey();
+                verify(entry.getValue(), engineers, e -> e.getCareer() / 5 * 5 == band, "エンジニア歴 " + band);
+            }
+            check(aggregator.byCareerBand(10).size() == 4, "区間幅を指定できること");
+
+            System.out.println(String.format("テスト成功: %d件のグループ集計が全件走査と一致しました（3種類の集計 %.1fms）",
+                    engineers.size(), elapsed / 1_000_000.0));
+            LogHandler.getInstance().log(Level.INFO, "グループ集計の全件走査比較テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("グループ集計の全件走査比較テストが失敗しました", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 不正な引数のテスト
+     */
+    private static void testInvalidArguments() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "集計の引数検証テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            SkillAggregator aggregator = new SkillAggregator(new QueryEngine(repository).getColumnStore());
+
+            try {
+                aggregator.byCareerBand(0);
+                check(false, "区間幅0は例外となること");
+            } catch (IllegalArgumentException expected) {
+                // 期待どおり
+            }
+            try {
+                aggregator.summarize().getAverage(EngineerField.CAREER);
+                check(false, "評価項目以外は例外となること");
+            } catch (IllegalArgumentException expected) {
+                // 期待どおり
+            }
+
+            System.out.println("テスト成功: 不正な引数が拒否されました");
+            LogHandler.getInstance().log(Level.INFO, "集計の引数検証テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("集計の引数検証テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 集計結果を全件走査の結果と比較
+     */
+    private static void verify(SkillStatistics actual, List<EngineerDTO> engineers,
+            Predicate<EngineerDTO> group, String label) {
+        List<EngineerDTO> members = new ArrayList<>();
+        for (EngineerDTO engineer : engineers) {
+            if (group.test(engineer)) {
+                members.add(engineer);
+            }
+        }
+        check(actual != null && actual.getEngineerCount() == members.size(), label + " のエンジニア数が一致すること");
+        for (EngineerField skill : SKILLS) {
+            ToDoubleFunction<EngineerDTO> value = valueOf(skill);
+            long count = 0;
+            long sum = 0;
+            long[] histogram = new long[SkillStatistics.HISTOGRAM_BUCKETS];
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (EngineerDTO engineer : members) {
+                double v = value.applyAsDouble(engineer);
+                if (v < 1.0) {
+                    continue;
+                }
+                count++;
+                sum += EngineerField.skillKey(v);
+                histogram[EngineerField.skillKey(v) - 10]++;
+                min = count == 1 ? v : Math.min(min, v);
+                max = count == 1 ? v : Math.max(max, v);
+            }
+            check(actual.getCount(skill) == count, label + " " + skill + " の件数が一致すること");
+            check(actual.getSum(skill) == sum / 10.0, label + " " + skill + " の合計が一致すること");
+            check(Double.compare(actual.getMin(skill), min) == 0, label + " " + skill + " の最小値が一致すること");
+            check(Double.compare(actual.getMax(skill), max) == 0, label + " " + skill + " の最大値が一致すること");
+            check(Arrays.equals(actual.getHistogram(skill), histogram), label + " " + skill + " の分布が一致すること");
+        }
+    }
+
+    private static ToDoubleFunction<EngineerDTO> valueOf(EngineerField skill) {
+        switch (skill) {
+            case TECHNICAL_SKILL:
+                return EngineerDTO::getTechnicalSkill;
+            case LEARNING_ATTITUDE:
+                return EngineerDTO::getLearningAttitude;
+            case COMMUNICATION_SKILL:
+                return EngineerDTO::getCommunicationSkill;
+            default:
+                return EngineerDTO::getLeadership;
+        }
+    }
+
+    /**
+     * ランダムな評価・言語・入社年月・エンジニア歴のエンジニアを作成
+     */
+    private static EngineerDTO randomEngineer(Random random, int i) {
+        EngineerDTO engineer = createEngineer(String.format("ID%05d", i), "集計試験");
+        List<String> languages = new ArrayList<>();
+        for (String language : LANGUAGES) {
+            if (random.nextInt(3) == 0) {
+                languages.add(language);
+            }
+        }
+        engineer.setProgrammingLanguages(languages);
+        // 1割は未評価（0.0）
+        engineer.setTechnicalSkill(randomSkill(random));
+        engineer.setLearningAttitude(randomSkill(random));
+        engineer.setCommunicationSkill(randomSkill(random));
+        engineer.setLeadership(randomSkill(random));
+        engineer.setCareer(random.nextInt(40));
+        engineer.setJoinDate(random.nextInt(10) == 0 ? null
+                : LocalDate.of(2000 + random.nextInt(25), 1 + random.nextInt(12), 1));
+        return engineer;
+    }
+
+    private static double randomSkill(Random random) {
+        return random.nextInt(10) == 0 ? 0.0 : 1.0 + random.nextInt(41) / 10.0;
+    }
+}
@@ -0,0 +1,271 @@
+package test;
+
+import model.EngineerDTO;
+import model.EngineerRepository;
+import model.KanaPrefixIndex;
+import model.SortedIndex;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * SortedIndex.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestSortedIndex
+ *
+ * テストケース:
+ * 1: 正常系 - 社員ID・氏名・入社年月の昇順・降順のページ送りを全件の並べ替えと比較
+ * 2: 正常系 - ページ位置の文字列変換と、ページ送り中の追加・削除
+ * 3: 正常系 - 深いページの取得時間がページの件数に比例すること
+ * 4: 異常系 - 不正なページ件数・ページ位置
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestSortedIndex {
+
+    /** 試験データで使用するフリガナ */
+    private static final String[] KANA = { "アオキ", "いとう", "ｶﾄｳ", "サトウ", "タナカ", "ヤマダ" };
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testPagingAgainstSort();
+            testCursorStability();
+            testDeepPage();
+            testInvalidArguments();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * ページ送りの結果を全件の並べ替えと比較するテスト
+     */
+    private static void testPagingAgainstSort() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ページ送りの全件比較テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            Random random = new Random(38);
+            for (int i = 0; i < 1_000; i++) {
+                repository.add(randomEngineer(random, i));
+            }
+
+            Comparator<EngineerDTO> byId = Comparator.comparing(EngineerDTO::getId);
+            Comparator<EngineerDTO> byName = Comparator
+                    .comparing((EngineerDTO e) -> KanaPrefixIndex.normalize(e.getNameKana())).thenComparing(byId);
+            Comparator<EngineerDTO> byJoinDate = Comparator.comparing(EngineerDTO::getJoinDate,
+                    Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder())).thenComparing(byId);
+
+            verifyPaging(repository, SortedIndex.Order.ID, byId, 7);
+            verifyPaging(repository, SortedIndex.Order.NAME, byName, 25);
+            verifyPaging(repository, SortedIndex.Order.JOIN_DATE, byJoinDate, 33);
+
+            System.out.println("テスト成功: すべての並び順のページ送りが全件の並べ替えと一致しました");
+            LogHandler.getInstance().log(Level.INFO, "ページ送りの全件比較テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ページ送りの全件比較テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * ページ送り中の変更のテスト
+     */
+    private static void testCursorStability() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ページ位置の安定性テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            SortedIndex index = new SortedIndex(SortedIndex.Order.ID);
+            repository.addIndex(index);
+            for (int i = 10; i < 100; i += 10) {
+                repository.add(createEngineer(String.format("ID%05d", i), "位置試験"));
+            }
+
+            SortedIndex.Page first = index.page(repository.snapshot(), null, 3, false);
+            check(ids(first).equals(Arrays.asList("ID00010", "ID00020", "ID00030")), "先頭のページが取得できること");
+            String token = first.getNext().toToken();
+
+            // 前のページより前への追加と、次のページの先頭の削除
+            repository.add(createEngineer("ID00005", "位置試験"));
+            repository.delete("ID00040");
+
+            SortedIndex.Page second = index.page(repository.snapshot(), SortedIndex.Cursor.fromToken(token), 3, false);
+            check(ids(second).equals(Arrays.asList("ID00050", "ID00060", "ID00070")), "前のページの続きから取得できること");
+
+            SortedIndex.Page previous = index.page(repository.snapshot(), SortedIndex.Cursor.fromToken(token), 3, true);
+            check(ids(previous).equals(Arrays.asList("ID00020", "ID00010", "ID00005")), "降順で前のページを取得できること");
+            check(previous.getNext() == null, "最後のページの次の位置はnullであること");
+
+            System.out.println("テスト成功: ページ送り中の追加・削除で重複や欠落が発生しませんでした");
+            LogHandler.getInstance().log(Level.INFO, "ページ位置の安定性テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ページ位置の安定性テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 深いページの取得時間のテスト
+     */
+    private static void testDeepPage() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "深いページの取得テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            SortedIndex index = new SortedIndex(SortedIndex.Order.JOIN_DATE);
+            repository.addIndex(index);
+            Random random = new Random(380);
+            int total = 99_000;
+            for (int i = 0; i < total; i++) {
+                repository.add(randomEngineer(random, i));
+            }
+
+            // 全件を送って末尾付近のページ位置を取得
+            SortedIndex.Page page = index.page(repository.snapshot(), null, 1_000, false);
+            SortedIndex.Cursor deep = null;
+            int pages = 1;
+            while (page.getNext() != null) {
+                deep = page.getNext();
+                page = index.page(repository.snapshot(), deep, 1_000, false);
+                pages++;
+            }
+            check(pages == total / 1_000, "ページ数が一致すること: " + pages);
+
+            int rounds = 2_000;
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                index.page(repository.snapshot(), null, 20, false);
+            }
+            long firstNanos = (System.nanoTime() - start) / rounds;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                index.page(repository.snapshot(), deep, 20, false);
+            }
+            long deepNanos = (System.nanoTime() - start) / rounds;
+
+            System.out.println(String.format("テスト成功: %d件の先頭ページ %.1fµs、末尾付近のページ %.1fµs", total,
+                    firstNanos / 1_000.0, deepNanos / 1_000.0));
+            LogHandler.getInstance().log(Level.INFO, "深いページの取得テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("深いページの取得テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 不正な引数のテスト
+     */
+    private static void testInvalidArguments() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "ページ送りの引数検証テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            SortedIndex byId = new SortedIndex(SortedIndex.Order.ID);
+            SortedIndex byName = new SortedIndex(SortedIndex.Order.NAME);
+            repository.addIndex(byId);
+            repository.addIndex(byName);
+            repository.add(createEngineer("ID00001", "引数試験"));
+            repository.add(createEngineer("ID00002", "引数試験"));
+
+            expectIllegalArgument(() -> byId.page(repository.snapshot(), null, 0, false), "ページ件数0");
+            SortedIndex.Cursor nameCursor = byName.page(repository.snapshot(), null, 1, false).getNext();
+            expectIllegalArgument(() -> byId.page(repository.snapshot(), nameCursor, 1, false), "並び順が異なる位置");
+            expectIllegalArgument(() -> SortedIndex.Cursor.fromToken("ID:abc"), "不正な位置の文字列");
+            check(SortedIndex.Cursor.fromToken(nameCursor.toToken()).equals(nameCursor), "位置の文字列を復元できること");
+
+            System.out.println("テスト成功: 不正な引数が拒否されました");
+            LogHandler.getInstance().log(Level.INFO, "ページ送りの引数検証テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("ページ送りの引数検証テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 昇順・降順のページ送りの結果を並べ替えの結果と比較
+     */
+    private static void verifyPaging(EngineerRepository repository, SortedIndex.Order order,
+            Comparator<EngineerDTO> comparator, int pageSize) {
+        SortedIndex index = new SortedIndex(order);
+        repository.addIndex(index);
+        List<EngineerDTO> expected = new ArrayList<>(repository.findAll());
+        expected.sort(comparator);
+
+        for (boolean descending : new boolean[] { false, true }) {
+            List<String> actual = new ArrayList<>();
+            SortedIndex.Cursor cursor = null;
+            do {
+                SortedIndex.Page page = index.page(repository.snapshot(), cursor, pageSize, descending);
+                check(page.getEngineers().size() <= pageSize, "ページの件数を超えないこと");
+                actual.addAll(ids(page));
+                cursor = page.getNext();
+            } while (cursor != null);
+
+            List<String> expectedIds = new ArrayList<>();
+            for (EngineerDTO engineer : expected) {
+                expectedIds.add(engineer.getId());
+            }
+            if (descending) {
+                Collections.reverse(expectedIds);
+            }
+            check(actual.equals(expectedIds), order + (descending ? " 降順" : " 昇順") + " の順序が一致すること");
+        }
+    }
+
+    private static List<String> ids(SortedIndex.Page page) {
+        List<String> ids = new ArrayList<>();
+        for (EngineerDTO engineer : page.getEngineers()) {
+            ids.add(engineer.getId());
+        }
+        return ids;
+    }
+
+    private static void expectIllegalArgument(Runnable action, String description) {
+        try {
+            action.run();
+        } catch (IllegalArgumentException expected) {
+            return;
+        }
+        check(false, description + "は例外となること");
+    }
+
+    /**
+     * ランダムなフリガナ・入社年月のエンジニアを作成
+     */
+    private static EngineerDTO randomEngineer(Random random, int i) {
+        EngineerDTO engineer = createEngineer(String.format("ID%05d", i), "並び順試験");
+        engineer.setNameKana(KANA[random.nextInt(KANA.length)] + KANA[random.nextInt(KANA.length)]);
+        engineer.setJoinDate(random.nextInt(20) == 0 ? null
+                : LocalDate.of(2000 + random.nextInt(25), 1 + random.nextInt(12), 1));
+        return engineer;
+    }
+}
@@ -0,0 +1,209 @@
+package test;
+
+import model.EngineerDTO;
+import model.EngineerRepository;
+import model.TextIndex;
+import util.LogHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+
+import static test.TestEngineerJournal.check;
+import static test.TestEngineerJournal.createEngineer;
+
+/**
+ * TextIndex.javaの機能試験を行うテストクラス
+ *
+ * 実行方法：
+ * java test.TestTextIndex
+ *
+ * テストケース:
+ * 1: 正常系 - 部分一致検索、全角・半角と大文字・小文字の同一視、1文字の検索
+ * 2: 正常系 - バイグラムはすべて含むが連続しない候補をフレーズ照合で除外
+ * 3: 正常系 - 更新・削除の反映
+ * 4: 正常系 - ランダムな文字列での検索結果を全件走査と比較
+ *
+ * @author Nakano
+ * @version 2.0.0
+ */
+public class TestTextIndex {
+
+    public static void main(String[] args) {
+        // ログハンドラの初期化
+        initializeLogHandler();
+
+        try {
+            testSubstringSearch();
+            testPhraseVerification();
+            testIncrementalUpdate();
+            testAgainstLinearScan();
+        } catch (Exception e) {
+            System.out.println("テスト実行中にエラーが発生しました: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // ログハンドラのクリーンアップ
+            LogHandler.getInstance().cleanup();
+        }
+    }
+
+    /**
+     * ログハンドラを初期化します
+     */
+    private static void initializeLogHandler() {
+        try {
+            LogHandler.getInstance().initialize("test_logs");
+            System.out.println("ログハンドラを初期化しました。");
+        } catch (IOException e) {
+            System.err.println("ログハンドラの初期化に失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 部分一致検索のテスト
+     */
+    private static void testSubstringSearch() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "全文検索のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            TextIndex index = new TextIndex();
+            repository.addIndex(index);
+            repository.add(engineer("ID00001", "メガバンクシステム開発10年", "AWS認定研修", null));
+            repository.add(engineer("ID00002", "Webサービス開発", null, "ＡＷＳ構築の経験あり"));
+            repository.add(engineer("ID00003", "組込み開発", "新人研修", "特になし"));
+
+            check(index.find(repository.snapshot(), "メガバンク").size() == 1, "経歴から検索できること");
+            check(index.find(repository.snapshot(), "aws").size() == 2, "全角・大文字の違いを同一視すること");
+            check(index.find(repository.snapshot(), "研修").size() == 2, "研修の受講歴から検索できること");
+            check(index.find(repository.snapshot(), "開").size() == 3, "1文字で検索できること");
+            check(index.find(repository.snapshot(), "Java").isEmpty(), "含まない文字列は0件であること");
+
+            System.out.println("テスト成功: 部分一致検索が正しく動作しました");
+            LogHandler.getInstance().log(Level.INFO, "全文検索のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("全文検索のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * フレーズ照合のテスト
+     */
+    private static void testPhraseVerification() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "フレーズ照合のテストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            TextIndex index = new TextIndex();
+            repository.addIndex(index);
+            // 「メガ」「ガバ」「バン」「ンク」をすべて含むが「メガバンク」は含まない
+            repository.add(engineer("ID00001", "メガネ店のガバナンス", "バンクーバー研修", null));
+
+            check(index.candidates("メガバンク").contains(1), "バイグラムの積集合では候補になること");
+            check(index.find(repository.snapshot(), "メガバンク").isEmpty(), "フレーズ照合で除外されること");
+            check(index.find(repository.snapshot(), "ガバナンス").size() == 1, "連続する文字列は一致すること");
+
+            System.out.println("テスト成功: フレーズ照合で誤った候補が除外されました");
+            LogHandler.getInstance().log(Level.INFO, "フレーズ照合のテストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("フレーズ照合のテストが失敗しました", e);
+        }
+    }
+
+    /**
+     * 更新・削除の反映のテスト
+     */
+    private static void testIncrementalUpdate() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "全文索引の差分更新テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            TextIndex index = new TextIndex();
+            repository.addIndex(index);
+            repository.add(engineer("ID00001", "金融系開発", null, null));
+
+            repository.update(engineer("ID00001", "物流系開発", null, null));
+            check(index.candidates("金融").isEmpty(), "更新前の文字列が索引から消えること");
+            check(index.find(repository.snapshot(), "物流").size() == 1, "更新後の文字列で検索できること");
+            check(index.find(repository.snapshot(), "系開発").size() == 1, "変更のない部分も検索できること");
+
+            repository.delete("ID00001");
+            check(index.candidates("開発").isEmpty(), "削除後は候補にならないこと");
+
+            System.out.println("テスト成功: 更新・削除が全文索引に反映されました");
+            LogHandler.getInstance().log(Level.INFO, "全文索引の差分更新テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("全文索引の差分更新テストが失敗しました", e);
+        }
+    }
+
+    /**
+     * ランダムな文字列での検索結果を全件走査と比較するテスト
+     */
+    private static void testAgainstLinearScan() {
+        try {
+            LogHandler.getInstance().log(Level.INFO, "全文検索の全件走査比較テストを開始します");
+            EngineerRepository repository = new EngineerRepository();
+            TextIndex index = new TextIndex();
+            repository.addIndex(index);
+
+            // 文字の種類を絞り、偶然の一致と部分的な一致が多く発生するようにする
+            String alphabet = "アイウエオカキ";
+            Random random = new Random(5);
+            for (int i = 0; i < 2_000; i++) {
+                repository.add(engineer(String.format("ID%05d", i), randomText(random, alphabet, 30),
+                        randomText(random, alphabet, 10), randomText(random, alphabet, 50)));
+            }
+
+            int totalMatches = 0;
+            for (int q = 0; q < 300; q++) {
+                String phrase = randomText(random, alphabet, 1 + random.nextInt(6));
+                List<String> expected = new ArrayList<>();
+                for (EngineerDTO engineer : repository.findAll()) {
+                    if (contains(engineer.getCareerHistory(), phrase) || contains(engineer.getTrainingHistory(), phrase)
+                            || contains(engineer.getNote(), phrase)) {
+                        expected.add(engineer.getId());
+                    }
+                }
+                expected.sort(null);
+                List<String> actual = new ArrayList<>();
+                for (EngineerDTO engineer : index.find(repository.snapshot(), phrase)) {
+                    actual.add(engineer.getId());
+                }
+                check(actual.equals(expected), "全件走査と一致すること: " + phrase);
+                totalMatches += actual.size();
+            }
+
+            System.out.println("テスト成功: 300件の検索が全件走査と一致しました（一致合計" + totalMatches + "件）");
+            LogHandler.getInstance().log(Level.INFO, "全文検索の全件走査比較テストが正常に完了しました");
+        } catch (Exception e) {
+            System.out.println("テスト失敗: " + e.getMessage());
+            LogHandler.getInstance().logError("全文検索の全件走査比較テストが失敗しました", e);
+        }
+    }
+
+    private static boolean contains(String text, String phrase) {
+        return text != null && text.contains(phrase);
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 経歴・研修の受講歴・備考を指定したエンジニアを作成
+     */
+    private static EngineerDTO engineer(String id, String careerHistory, String trainingHistory, String note) {
+        EngineerDTO engineer = createEngineer(id, "全文試験");
+        engineer.setCareerHistory(careerHistory);
+        engineer.setTrainingHistory(trainingHistory);
+        engineer.setNote(note);
+        return engineer;
+    }
+}
@@ -0,0 +1,319 @@
+package util;
+
+import java.util.logging.Level;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+/**
+ * 主要な処理をJDK Flight Recorder（JFR）のイベントとして記録するクラス
+ *
+ * <p>
+ * GCやロックのイベントと同じ記録に、エンジニア情報の構築・ログ出力・一括登録・スナップショット保存の
+ * 処理時間と件数を残します。各イベントは既定で無効（{@code @Enabled(false)}）のため、JFRの
+ * 標準設定で記録しても出力されません。有効にするには、同梱の{@code jfr/engineer.jfc}を設定に加えます。
+ * </p>
+ *
+ * <pre>
+ * java -XX:StartFlightRecording:settings=default,settings=jfr/engineer.jfc,filename=app.jfr ...
+ * </pre>
+ *
+ * <p>
+ * 記録の開始・停止時に各イベントが有効かを判定してvolatileのフラグに保持するため、
+ * 無効な間の呼び出しはフラグの読み取り1回だけで、イベントのオブジェクトも生成しません。
+ * 記録の実行中に設定だけを変更した場合は、次に記録を開始・停止するまで反映されません。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class FlightEvents {
+
+    /** イベントの分類 */
+    private static final String CATEGORY = "Engineer Management";
+
+    /**
+     * エンジニア情報の構築（EngineerBuilderのbuild()）
+     */
+    @Name("engineer.EngineerBuild")
+    @Label("Engineer Build")
+    @Category(CATEGORY)
+    @Description("EngineerBuilderのbuild()で必須項目を検証し、構築したエンジニア情報を返すまで（検証に失敗した場合を含む）")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class EngineerBuild extends Event {
+
+        @Label("社員ID")
+        String id;
+
+        @Label("検証成功")
+        boolean valid;
+    }
+
+    /**
+     * LogHandlerでの1件のログ出力
+     */
+    @Name("engineer.LogWrite")
+    @Label("Log Write")
+    @Category(CATEGORY)
+    @Description("LogHandlerがログファイルに1件を書き込むまで（排他待ちを除く）")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class LogWrite extends Event {
+
+        @Label("ログレベル")
+        String level;
+
+        @Label("メッセージ")
+        @Description("MessageEnumの定数名（文字列で出力した場合はなし）")
+        String message;
+    }
+
+    /**
+     * 一括登録（addAll・upsertAll）の1回分
+     */
+    @Name("engineer.ImportChunk")
+    @Label("Import Chunk")
+    @Category(CATEGORY)
+    @Description("EngineerRepositoryの一括登録1回分（検証・ジャーナル書き込み・反映）")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ImportChunk extends Event {
+
+        @Label("更新を含む")
+        boolean upsert;
+
+        @Label("入力件数")
+        int rows;
+
+        @Label("追加件数")
+        int added;
+
+        @Label("更新件数")
+        int updated;
+
+        @Label("エラー件数")
+        int rejected;
+    }
+
+    /**
+     * スナップショットファイルの保存
+     */
+    @Name("engineer.SnapshotSave")
+    @Label("Snapshot Save")
+    @Category(CATEGORY)
+    @Description("スナップショットファイルの書き込み・同期・置き換えまで")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class SnapshotSave extends Event {
+
+        @Label("ファイル")
+        String path;
+
+        @Label("件数")
+        int records;
+
+        @Label("サイズ")
+        @DataAmount
+        long bytes;
+
+        @Label("最終ジャーナル番号")
+        long lastSequence;
+    }
+
+    /** 各イベントが有効か（記録の開始・停止時に更新する） */
+    private static volatile boolean buildEnabled;
+    private static volatile boolean logWriteEnabled;
+    private static volatile boolean importChunkEnabled;
+    private static volatile boolean snapshotSaveEnabled;
+
+    static {
+        try {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    refresh();
+                }
+
+                @Override
+                public void recordingStateChanged(Recording recording) {
+                    refresh();
+                }
+            });
+        } catch (RuntimeException e) {
+            // JFRを使用できない環境では、すべてのイベントを無効のままとする
+            System.err.println("Flight Recorderのイベントを登録できません: " + e.getMessage());
+        }
+    }
+
+    private FlightEvents() {
+    }
+
+    /**
+     * 各イベントが有効かを判定し直す
+     */
+    static synchronized void refresh() {
+        buildEnabled = EventType.getEventType(EngineerBuild.class).isEnabled();
+        logWriteEnabled = EventType.getEventType(LogWrite.class).isEnabled();
+        importChunkEnabled = EventType.getEventType(ImportChunk.class).isEnabled();
+        snapshotSaveEnabled = EventType.getEventType(SnapshotSave.class).isEnabled();
+    }
+
+    /**
+     * 構築のイベントを開始
+     *
+     * @return 開始したイベント（無効な場合はnull）
+     */
+    public static Event beginBuild() {
+        if (!buildEnabled) {
+            return null;
+        }
+        EngineerBuild event = new EngineerBuild();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 構築のイベントを記録
+     *
+     * @param event {@link #beginBuild()}で開始したイベント（nullの場合は何もしない）
+     * @param id    社員ID（未設定の場合はnull）
+     * @param valid 必須項目の検証に成功した場合true
+     */
+    public static void commitBuild(Event event, String id, boolean valid) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            EngineerBuild build = (EngineerBuild) event;
+            build.id = id;
+            build.valid = valid;
+            event.commit();
+        }
+    }
+
+    /**
+     * ログ出力のイベントを開始
+     *
+     * @return 開始したイベント（無効な場合はnull）
+     */
+    public static Event beginLogWrite() {
+        if (!logWriteEnabled) {
+            return null;
+        }
+        LogWrite event = new LogWrite();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * ログ出力のイベントを記録
+     *
+     * @param event   {@link #beginLogWrite()}で開始したイベント（nullの場合は何もしない）
+     * @param level   ログレベル
+     * @param message 出力したメッセージの列挙定数（文字列で出力した場合はnull）
+     */
+    public static void commitLogWrite(Event event, Level level, MessageEnum message) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            LogWrite logWrite = (LogWrite) event;
+            logWrite.level = level.getName();
+            logWrite.message = message == null ? null : message.name();
+            event.commit();
+        }
+    }
+
+    /**
+     * 一括登録のイベントを開始
+     *
+     * @return 開始したイベント（無効な場合はnull）
+     */
+    public static Event beginImportChunk() {
+        if (!importChunkEnabled) {
+            return null;
+        }
+        ImportChunk event = new ImportChunk();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 一括登録のイベントを記録
+     *
+     * @param event    {@link #beginImportChunk()}で開始したイベント（nullの場合は何もしない）
+     * @param upsert   登録済みの社員IDを更新した場合true
+     * @param rows     入力件数
+     * @param added    追加件数
+     * @param updated  更新件数
+     * @param rejected エラー件数
+     */
+    public static void commitImportChunk(Event event, boolean upsert, int rows, int added, int updated,
+            int rejected) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            ImportChunk chunk = (ImportChunk) event;
+            chunk.upsert = upsert;
+            chunk.rows = rows;
+            chunk.added = added;
+            chunk.updated = updated;
+            chunk.rejected = rejected;
+            event.commit();
+        }
+    }
+
+    /**
+     * スナップショット保存のイベントを開始
+     *
+     * @return 開始したイベント（無効な場合はnull）
+     */
+    public static Event beginSnapshotSave() {
+        if (!snapshotSaveEnabled) {
+            return null;
+        }
+        SnapshotSave event = new SnapshotSave();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * スナップショット保存のイベントを記録
+     *
+     * @param event        {@link #beginSnapshotSave()}で開始したイベント（nullの場合は何もしない）
+     * @param path         スナップショットファイルのパス
+     * @param records      件数
+     * @param bytes        ファイルのサイズ
+     * @param lastSequence 最終ジャーナル番号
+     */
+    public static void commitSnapshotSave(Event event, String path, int records, long bytes, long lastSequence) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            SnapshotSave save = (SnapshotSave) event;
+            save.path = path;
+            save.records = records;
+            save.bytes = bytes;
+            save.lastSequence = lastSequence;
+            event.commit();
+        }
+    }
+}
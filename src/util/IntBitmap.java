@@ -0,0 +1,686 @@
+package util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 非負のint値の集合を圧縮して保持するビットマップ
+ * Roaringビットマップと同様に、値の上位16ビットごとにコンテナへ分割して管理
+ *
+ * <p>
+ * 各コンテナは、要素数が{@value #ARRAY_LIMIT}件以下の場合はソート済みのchar配列、
+ * それを超える場合は65536ビットのビットマップで保持します。疎な集合でも密な集合でも
+ * メモリ使用量を抑えつつ、{@link #and(IntBitmap)}・{@link #or(IntBitmap)}・
+ * {@link #andNot(IntBitmap)}をコンテナ単位で高速に計算できます。
+ * </p>
+ *
+ * <p>
+ * このクラスはスレッドセーフではありません。複数スレッドから使用する場合は
+ * 呼び出し側で同期してください。集合演算は引数と自身を変更せず、新しいビットマップを返します。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class IntBitmap {
+
+    /** 配列コンテナの最大要素数（超えるとビットマップコンテナに変換） */
+    static final int ARRAY_LIMIT = 4096;
+
+    /** ビットマップコンテナのlong配列長（65536ビット） */
+    private static final int BITMAP_WORDS = 1024;
+
+    /** コンテナの上位16ビット（昇順） */
+    private char[] highs;
+
+    /** コンテナ（highsと同じ順序） */
+    private Container[] containers;
+
+    /** コンテナ数 */
+    private int count;
+
+    /**
+     * 空のビットマップを生成
+     */
+    public IntBitmap() {
+        this.highs = new char[4];
+        this.containers = new Container[4];
+    }
+
+    /**
+     * 指定した値を含むビットマップを生成
+     *
+     * @param values 値
+     * @return ビットマップ
+     * @throws IllegalArgumentException 負の値を含む場合
+     */
+    public static IntBitmap of(int... values) {
+        IntBitmap bitmap = new IntBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * 値を追加
+     *
+     * @param value 値（0以上）
+     * @return 追加された場合true（すでに含まれていた場合false）
+     * @throws IllegalArgumentException 負の値の場合
+     */
+    public boolean add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("負の値は格納できません: " + value);
+        }
+        char high = (char) (value >>> 16);
+        int index = find(high);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, high, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((char) value);
+        return containers[index].cardinality() != before;
+    }
+
+    /**
+     * 値を削除
+     *
+     * @param value 値
+     * @return 削除された場合true
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = find((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        Container after = container.remove((char) value);
+        if (after.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = after;
+        }
+        return after.cardinality() != before;
+    }
+
+    /**
+     * 値が含まれるか判定
+     *
+     * @param value 値
+     * @return 含まれる場合true
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = find((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * 要素数を取得
+     *
+     * @return 要素数
+     */
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    /**
+     * 空か判定
+     *
+     * @return 要素がない場合true
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 積集合を取得
+     *
+     * @param other 他方のビットマップ
+     * @return 両方に含まれる値の集合
+     */
+    public IntBitmap and(IntBitmap other) {
+        IntBitmap result = new IntBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < count && j < other.count) {
+            if (highs[i] < other.highs[j]) {
+                i++;
+            } else if (highs[i] > other.highs[j]) {
+                j++;
+            } else {
+                Container c = containers[i].and(other.containers[j]);
+                if (c.cardinality() > 0) {
+                    result.appendContainer(highs[i], c);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 和集合を取得
+     *
+     * @param other 他方のビットマップ
+     * @return いずれかに含まれる値の集合
+     */
+    public IntBitmap or(IntBitmap other) {
+        IntBitmap result = new IntBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < count || j < other.count) {
+            if (j >= other.count || (i < count && highs[i] < other.highs[j])) {
+                result.appendContainer(highs[i], containers[i].copy());
+                i++;
+            } else if (i >= count || highs[i] > other.highs[j]) {
+                result.appendContainer(other.highs[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(highs[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 差集合を取得
+     *
+     * @param other 除外するビットマップ
+     * @return 自身に含まれ、otherに含まれない値の集合
+     */
+    public IntBitmap andNot(IntBitmap other) {
+        IntBitmap result = new IntBitmap();
+        int j = 0;
+        for (int i = 0; i < count; i++) {
+            while (j < other.count && other.highs[j] < highs[i]) {
+                j++;
+            }
+            Container c = j < other.count && other.highs[j] == highs[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy();
+            if (c.cardinality() > 0) {
+                result.appendContainer(highs[i], c);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 他方のビットマップの値をすべて自身に追加
+     * 多数のビットマップの和集合を求める場合に、途中結果の生成を避けるために使用する
+     *
+     * @param other 追加するビットマップ
+     */
+    public void addAll(IntBitmap other) {
+        for (int j = 0; j < other.count; j++) {
+            int index = find(other.highs[j]);
+            if (index < 0) {
+                insertContainer(-index - 1, other.highs[j], other.containers[j].copy());
+            } else {
+                containers[index] = containers[index].or(other.containers[j]);
+            }
+        }
+    }
+
+    /**
+     * 複製を取得
+     *
+     * @return 同じ値を持つ新しいビットマップ
+     */
+    public IntBitmap copy() {
+        IntBitmap result = new IntBitmap();
+        for (int i = 0; i < count; i++) {
+            result.appendContainer(highs[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * すべての値に昇順で処理を適用
+     *
+     * @param action 値を受け取る処理
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < count; i++) {
+            containers[i].forEach(highs[i] << 16, action);
+        }
+    }
+
+    /**
+     * すべての値を昇順の配列で取得
+     *
+     * @return 値の配列
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] position = { 0 };
+        forEach(value -> values[position[0]++] = value);
+        return values;
+    }
+
+    /**
+     * 概算のメモリ使用量を取得
+     *
+     * @return バイト数（概算）
+     */
+    public long sizeInBytes() {
+        long bytes = 16L + highs.length * 2L + containers.length * 4L;
+        for (int i = 0; i < count; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntBitmap)) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((IntBitmap) obj).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * 上位16ビットに対応するコンテナの位置を二分探索
+     *
+     * @return 位置（存在しない場合は -(挿入位置) - 1）
+     */
+    private int find(char high) {
+        int low = 0;
+        int top = count - 1;
+        while (low <= top) {
+            int mid = (low + top) >>> 1;
+            if (highs[mid] < high) {
+                low = mid + 1;
+            } else if (highs[mid] > high) {
+                top = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void insertContainer(int index, char high, Container container) {
+        ensureCapacity();
+        System.arraycopy(highs, index, highs, index + 1, count - index);
+        System.arraycopy(containers, index, containers, index + 1, count - index);
+        highs[index] = high;
+        containers[index] = container;
+        count++;
+    }
+
+    private void appendContainer(char high, Container container) {
+        ensureCapacity();
+        highs[count] = high;
+        containers[count] = container;
+        count++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(highs, index + 1, highs, index, count - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, count - index - 1);
+        containers[--count] = null;
+    }
+
+    private void ensureCapacity() {
+        if (count == highs.length) {
+            highs = Arrays.copyOf(highs, count * 2);
+            containers = Arrays.copyOf(containers, count * 2);
+        }
+    }
+
+    /**
+     * 下位16ビットの集合を保持するコンテナ
+     * 変更操作は種類を変換する場合があるため、戻り値のコンテナを使用する
+     */
+    private abstract static class Container {
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container copy();
+
+        abstract void forEach(int base, IntConsumer action);
+
+        abstract long sizeInBytes();
+    }
+
+    /**
+     * ソート済みのchar配列で保持するコンテナ（疎な集合向け）
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_LIMIT) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[size];
+            int n = 0;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer o = (ArrayContainer) other;
+                int i = 0;
+                int j = 0;
+                while (i < size && j < o.size) {
+                    if (values[i] < o.values[j]) {
+                        i++;
+                    } else if (values[i] > o.values[j]) {
+                        j++;
+                    } else {
+                        result[n++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        result[n++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                return other.or(this);
+            }
+            ArrayContainer o = (ArrayContainer) other;
+            char[] result = new char[size + o.size];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < o.size) {
+                if (j >= o.size || (i < size && values[i] < o.values[j])) {
+                    result[n++] = values[i++];
+                } else if (i >= size || values[i] > o.values[j]) {
+                    result[n++] = o.values[j++];
+                } else {
+                    result[n++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayContainer merged = new ArrayContainer(result, n);
+            return n > ARRAY_LIMIT ? merged.toBitmap() : merged;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[size];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (!other.contains(values[i])) {
+                    result[n++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 1)), size);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 24L + values.length * 2L;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 65536ビットのビットマップで保持するコンテナ（密な集合向け）
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int size;
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+        BitmapContainer(long[] words, int size) {
+            this.words = words;
+            this.size = size;
+        }
+
+        @Override
+        Container add(char value) {
+            long bit = 1L << value;
+            int index = value >>> 6;
+            if ((words[index] & bit) == 0) {
+                words[index] |= bit;
+                size++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long bit = 1L << value;
+            int index = value >>> 6;
+            if ((words[index] & bit) != 0) {
+                words[index] &= ~bit;
+                size--;
+                if (size <= ARRAY_LIMIT) {
+                    return toArrayContainer();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] o = ((BitmapContainer) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            int n = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & o[i];
+                n += Long.bitCount(result[i]);
+            }
+            return normalize(result, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            int n = size;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer o = (ArrayContainer) other;
+                for (int i = 0; i < o.size; i++) {
+                    char value = o.values[i];
+                    long bit = 1L << value;
+                    if ((result[value >>> 6] & bit) == 0) {
+                        result[value >>> 6] |= bit;
+                        n++;
+                    }
+                }
+            } else {
+                long[] o = ((BitmapContainer) other).words;
+                n = 0;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] |= o[i];
+                    n += Long.bitCount(result[i]);
+                }
+            }
+            return new BitmapContainer(result, n);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            int n = size;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer o = (ArrayContainer) other;
+                for (int i = 0; i < o.size; i++) {
+                    char value = o.values[i];
+                    long bit = 1L << value;
+                    if ((result[value >>> 6] & bit) != 0) {
+                        result[value >>> 6] &= ~bit;
+                        n--;
+                    }
+                }
+            } else {
+                long[] o = ((BitmapContainer) other).words;
+                n = 0;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] &= ~o[i];
+                    n += Long.bitCount(result[i]);
+                }
+            }
+            return normalize(result, n);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), size);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 24L + BITMAP_WORDS * 8L;
+        }
+
+        private static Container normalize(long[] words, int size) {
+            BitmapContainer bitmap = new BitmapContainer(words, size);
+            return size <= ARRAY_LIMIT ? bitmap.toArrayContainer() : bitmap;
+        }
+
+        ArrayContainer toArrayContainer() {
+            char[] values = new char[Math.max(size, 1)];
+            int[] n = { 0 };
+            forEach(0, value -> values[n[0]++] = (char) value);
+            return new ArrayContainer(values, size);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package util;
+
+/**
+ * int型のキーと値を受け取る処理
+ * {@link IntObjectHashMap}や{@link PersistentIntMap}の走査で使用
+ *
+ * @param <V> 値の型
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+@FunctionalInterface
+public interface IntObjectConsumer<V> {
+    /**
+     * 処理を実行
+     *
+     * @param key   キー
+     * @param value 値
+     */
+    void accept(int key, V value);
+}
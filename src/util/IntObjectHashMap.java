@@ -0,0 +1,270 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * int型のキーをボクシングせずに保持するハッシュマップ
+ * オープンアドレス法（線形探索）で実装し、キーと値を配列で管理
+ *
+ * <p>
+ * {@link java.util.HashMap}と比べて、エントリごとのオブジェクトやIntegerの生成がなく、
+ * 大量のキーを保持してもメモリ使用量とGC負荷を抑えられます。
+ * 値にnullは格納できません（空きスロットの判定に使用するため）。
+ * </p>
+ *
+ * <p>
+ * このクラスはスレッドセーフではありません。複数スレッドから使用する場合は
+ * 呼び出し側で同期してください。ただし{@link #get(int)}と{@link #containsKey(int)}は、
+ * 書き込みと競合しても例外や無限ループを起こさないため、楽観的読み取りの
+ * 検証と組み合わせて使用できます。
+ * </p>
+ *
+ * @param <V> 値の型
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public class IntObjectHashMap<V> {
+
+    /** 既定の初期容量 */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** 最大負荷率 */
+    private static final float LOAD_FACTOR = 0.6f;
+
+    /** キー配列 */
+    private int[] keys;
+
+    /** 値配列（nullは空きスロット） */
+    private Object[] values;
+
+    /** エントリ数 */
+    private int size;
+
+    /** 拡張を行うエントリ数 */
+    private int resizeThreshold;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public IntObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 想定件数を指定するコンストラクタ
+     *
+     * @param expectedSize 想定されるエントリ数
+     */
+    public IntObjectHashMap(int expectedSize) {
+        int capacity = tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR));
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * キーに対応する値を取得
+     *
+     * @param key キー
+     * @return 値（存在しない場合はnull）
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int[] k = keys;
+        Object[] v = values;
+        if (k.length != v.length) {
+            // 拡張中の配列を読み取った場合（楽観的読み取り時のみ発生）
+            return null;
+        }
+        int mask = k.length - 1;
+        int index = hash(key) & mask;
+        for (int probes = 0; probes < k.length; probes++) {
+            Object value = v[index];
+            if (value == null) {
+                return null;
+            }
+            if (k[index] == key) {
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * キーが存在するか判定
+     *
+     * @param key キー
+     * @return 存在する場合true
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * 値を格納
+     *
+     * @param key   キー
+     * @param value 値（null不可）
+     * @return 以前の値（存在しない場合はnull）
+     * @throws IllegalArgumentException 値がnullの場合
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("値にnullは格納できません");
+        }
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // 値より先にキーを書き込み、楽観的読み取りが未設定のキーを参照しないようにする
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * キーに対応するエントリを削除
+     * 後続のエントリを前に詰めるため、削除済みマーカーは残らない
+     *
+     * @param key キー
+     * @return 削除された値（存在しない場合はnull）
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V removed = (V) values[index];
+                shiftBack(index);
+                size--;
+                return removed;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * エントリ数を取得
+     *
+     * @return エントリ数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 空か判定
+     *
+     * @return エントリがない場合true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * すべてのエントリを削除
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * すべてのエントリに処理を適用
+     *
+     * @param action キーと値を受け取る処理
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super V> action) {
+        int[] k = keys;
+        Object[] v = values;
+        for (int i = 0; i < v.length; i++) {
+            if (v[i] != null) {
+                action.accept(k[i], (V) v[i]);
+            }
+        }
+    }
+
+    /**
+     * 削除したスロット以降の探索列を前に詰める
+     */
+    private void shiftBack(int hole) {
+        int mask = keys.length - 1;
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            Object value = values[index];
+            if (value == null) {
+                break;
+            }
+            int home = hash(keys[index]) & mask;
+            // homeがholeからindexまでの循環区間外にあれば、holeへ移動できる
+            boolean movable = hole <= index
+                    ? (home <= hole || home > index)
+                    : (home <= hole && home > index);
+            if (movable) {
+                keys[hole] = keys[index];
+                values[hole] = value;
+                hole = index;
+            }
+        }
+        values[hole] = null;
+    }
+
+    /**
+     * テーブルを拡張して再配置
+     */
+    private void resize(int newCapacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] newKeys = new int[newCapacity];
+        Object[] newValues = new Object[newCapacity];
+        int mask = newCapacity - 1;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = hash(oldKeys[i]) & mask;
+                while (newValues[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                newKeys[index] = oldKeys[i];
+                newValues[index] = oldValues[i];
+            }
+        }
+
+        keys = newKeys;
+        values = newValues;
+        resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+    }
+
+    /**
+     * 連番のキーが偏らないように攪拌したハッシュ値
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 指定値以上の最小の2の累乗
+     */
+    private static int tableSizeFor(int capacity) {
+        int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(capacity, 2) - 1);
+        return n + 1;
+    }
+}
@@ -0,0 +1,242 @@
+package util;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 処理時間などの非負の値の分布を記録するヒストグラム
+ *
+ * <p>
+ * HdrHistogramと同じ対数・線形の区間を使用し、0から{@link Long#MAX_VALUE}までの値を
+ * 相対誤差1/64（約1.6%）以内で記録します。区間は固定の配列で、記録は区間の件数の
+ * アトミックな加算だけで行うため、ロックを取得せずに複数のスレッドから同時に記録できます。
+ * パーセンタイルは区間の上限値で返すため、実際の値より小さく報告されることはありません。
+ * </p>
+ *
+ * <pre>
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * long start = System.nanoTime();
+ * // 処理
+ * histogram.recordSince(start);
+ * long p99 = histogram.getValueAtPercentile(99.0);
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class LatencyHistogram {
+
+    /** 区間内を線形に分割するビット数（1つの桁を128区間に分割） */
+    private static final int SUB_BUCKET_BITS = 7;
+
+    /** 線形に記録する値の上限（この値未満は1刻み） */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** 桁ごとの区間の数 */
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+
+    /** 区間の総数（{@link Long#MAX_VALUE}まで） */
+    private static final int BUCKET_COUNT = indexOf(Long.MAX_VALUE) + 1;
+
+    /** 区間ごとの件数 */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /** 記録件数 */
+    private final LongAdder count = new LongAdder();
+
+    /** 合計値 */
+    private final LongAdder sum = new LongAdder();
+
+    /** 最小値 */
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+    /** 最大値 */
+    private final AtomicLong max = new AtomicLong(0);
+
+    /**
+     * 値を記録
+     *
+     * @param value 値（負の値は0として記録）
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(indexOf(v));
+        count.increment();
+        sum.add(v);
+        if (v < min.get()) {
+            min.accumulateAndGet(v, Math::min);
+        }
+        if (v > max.get()) {
+            max.accumulateAndGet(v, Math::max);
+        }
+    }
+
+    /**
+     * 開始時刻からの経過時間（ナノ秒）を記録
+     *
+     * @param startNanos {@link System#nanoTime()}で取得した開始時刻
+     * @return 経過時間（ナノ秒）
+     */
+    public long recordSince(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        record(elapsed);
+        return elapsed;
+    }
+
+    /**
+     * 別のヒストグラムの記録を加算
+     * 加算中に相手へ記録された値は、含まれない場合がある
+     *
+     * @param other 加算するヒストグラム
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+            }
+        }
+        count.add(other.count.sum());
+        sum.add(other.sum.sum());
+        if (other.getCount() > 0) {
+            min.accumulateAndGet(other.min.get(), Math::min);
+            max.accumulateAndGet(other.max.get(), Math::max);
+        }
+    }
+
+    /**
+     * 記録件数を取得
+     *
+     * @return 件数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 最小値を取得
+     *
+     * @return 最小値（記録がない場合は0）
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * 最大値を取得
+     *
+     * @return 最大値（記録がない場合は0）
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 平均値を取得
+     *
+     * @return 平均値（記録がない場合は0）
+     */
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0.0 : sum.sum() / (double) n;
+    }
+
+    /**
+     * パーセンタイル値を取得
+     * 指定した割合の記録がその値以下となる区間の上限値（最大値を超えない）を返す
+     *
+     * @param percentile パーセンタイル（0.0〜100.0）
+     * @return 値（記録がない場合は0）
+     * @throws IllegalArgumentException パーセンタイルが範囲外の場合
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("パーセンタイルは0.0から100.0の範囲で指定してください: " + percentile);
+        }
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * HdrHistogramと同じ形式でパーセンタイルの分布を出力
+     * 値は単位の換算値で割って出力する（例：ナノ秒をマイクロ秒で出力する場合は1000.0）
+     *
+     * @param out       出力先
+     * @param unitScale 単位の換算値
+     */
+    public void outputPercentileDistribution(PrintStream out, double unitScale) {
+        out.printf("%12s %14s %10s %14s%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)");
+        out.println();
+        long total = getCount();
+        double[] percentiles = { 0.0, 10.0, 20.0, 30.0, 40.0, 50.0, 55.0, 60.0, 65.0, 70.0, 75.0, 77.5, 80.0, 82.5,
+                85.0, 87.5, 90.0, 91.25, 92.5, 93.75, 95.0, 96.25, 97.5, 98.4375, 99.0, 99.21875, 99.5, 99.609375,
+                99.8046875, 99.9, 99.90234375, 99.95, 99.99, 100.0 };
+        for (double percentile : percentiles) {
+            long value = getValueAtPercentile(percentile);
+            long below = (long) Math.ceil(percentile / 100.0 * total);
+            out.printf("%12.3f %14.12f %10d %14s%n", value / unitScale, percentile / 100.0, below,
+                    percentile < 100.0 ? String.format("%.2f", 1.0 / (1.0 - percentile / 100.0)) : "");
+        }
+        out.printf("#[Mean    = %12.3f, Min            = %12.3f]%n", getMean() / unitScale, getMin() / unitScale);
+        out.printf("#[Max     = %12.3f, Total count    = %12d]%n", getMax() / unitScale, total);
+    }
+
+    /**
+     * 全記録を消去
+     * 消去中に記録された値は、消去されない場合がある
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    /**
+     * 値が属する区間の番号を取得
+     * SUB_BUCKET_COUNT未満は値そのもの、以上は桁（シフト量）ごとにSUB_BUCKET_HALF区間ずつ割り当てる
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+
+    /**
+     * 区間の上限値を取得
+     */
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_HALF) / SUB_BUCKET_HALF;
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF;
+        long next = (subBucket + 1) << shift;
+        // 最上位の区間は桁あふれするため上限値とする
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
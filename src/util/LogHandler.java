@@ -9,6 +9,8 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.logging.*;
 
+import jdk.jfr.Event;
+
 /**
  * エンジニア情報管理システムのログ管理を行うシングルトンクラス
  *
@@ -146,6 +148,13 @@ public class LogHandler {
             // 初期化完了のログを出力
             log(MessageEnum.LOG_INFO_SYSTEM_START);
 
+            // 処理時間の計測をJMXに登録（失敗してもログ出力は継続する）
+            try {
+                OperationMetrics.getInstance().register();
+            } catch (IllegalStateException e) {
+                System.err.println(e.getMessage());
+            }
+
         } catch (IOException e) {
             System.err.println("ログシステムの初期化に失敗しました: " + e.getMessage());
             throw new IOException("ログシステムの初期化に失敗しました", e);
@@ -249,7 +258,11 @@ public class LogHandler {
 
             // NullPointerException対策
             if (logger != null && level != null) {
+                long start = OperationMetrics.start();
+                Event event = FlightEvents.beginLogWrite();
                 logger.log(level, formattedMessage);
+                FlightEvents.commitLogWrite(event, level, messageEnum);
+                OperationMetrics.stop(OperationMetrics.Operation.LOG_WRITE, start);
             } else {
                 handleLoggerError("ロガーまたはログレベルがnullです", formattedMessage, level);
             }
@@ -307,7 +320,11 @@ public class LogHandler {
         if (message == null) {
             throw new IllegalArgumentException("ログメッセージがnullです");
         }
+        long start = OperationMetrics.start();
+        Event event = FlightEvents.beginLogWrite();
         logger.log(level, message);
+        FlightEvents.commitLogWrite(event, level, null);
+        OperationMetrics.stop(OperationMetrics.Operation.LOG_WRITE, start);
     }
 
     /**
@@ -326,7 +343,11 @@ public class LogHandler {
         }
 
         String formattedMessage = messageEnum.format(args);
+        long start = OperationMetrics.start();
+        Event event = FlightEvents.beginLogWrite();
         logger.log(Level.SEVERE, formattedMessage, throwable);
+        FlightEvents.commitLogWrite(event, Level.SEVERE, messageEnum);
+        OperationMetrics.stop(OperationMetrics.Operation.LOG_WRITE, start);
     }
 
     /**
@@ -343,7 +364,11 @@ public class LogHandler {
         if (message == null || throwable == null) {
             throw new IllegalArgumentException("メッセージと例外情報は必須です");
         }
+        long start = OperationMetrics.start();
+        Event event = FlightEvents.beginLogWrite();
         logger.log(Level.SEVERE, message, throwable);
+        FlightEvents.commitLogWrite(event, Level.SEVERE, null);
+        OperationMetrics.stop(OperationMetrics.Operation.LOG_WRITE, start);
     }
 
     /**
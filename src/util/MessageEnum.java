@@ -80,6 +80,15 @@ public enum MessageEnum {
      */
     LOG_INFO_ENGINEER_DELETED("[PROCESS]エンジニア情報を削除しました: ID=%s"),
 
+    /**
+     * エンジニア情報の一括登録時のログメッセージ
+     * パラメータ:
+     * %d - 追加した件数
+     * %d - 更新した件数
+     * %d - エラーとなった件数
+     */
+    LOG_INFO_ENGINEERS_BATCH_APPLIED("[PROCESS]エンジニア情報を一括登録しました: 追加=%d件, 更新=%d件, エラー=%d件"),
+
     /**
      * CSVエクスポート時のログメッセージ
      * パラメータ: %s - ファイルパス
@@ -94,6 +103,30 @@ public enum MessageEnum {
      */
     LOG_INFO_SCREEN_TRANSITION("[PROCESS]画面遷移: %s -> %s"),
 
+    /**
+     * ジャーナル再生完了時のログメッセージ
+     * パラメータ:
+     * %d - 適用したジャーナルレコード数
+     * %d - 復元後のデータ件数
+     */
+    LOG_INFO_JOURNAL_REPLAYED("[PROCESS]ジャーナルを再生しました: 適用=%d件, 復元後=%d件"),
+
+    /**
+     * スナップショット保存時のログメッセージ
+     * パラメータ:
+     * %d - 保存されたデータ件数
+     * %d - 反映済みの最終ジャーナル番号
+     */
+    LOG_INFO_SNAPSHOT_SAVED("[PROCESS]スナップショットを保存しました: %d件, ジャーナル番号=%d"),
+
+    /**
+     * 処理時間の集計のログメッセージ
+     * パラメータ:
+     * %d - 集計した区間（秒）
+     * %s - 処理ごとの件数と処理時間
+     */
+    LOG_INFO_OPERATION_METRICS("[PROCESS]処理時間の集計（直近%d秒）: %s"),
+
     // ----- ログメッセージ（警告）-----
     /**
      * ファイルが見つからない場合の警告ログメッセージ
@@ -131,6 +164,20 @@ public enum MessageEnum {
      */
     LOG_WARN_DATA_CONVERSION_ERROR("[PROCESS]データ変換エラーが発生しました: %s"),
 
+    /**
+     * ジャーナル末尾の不完全なレコードを破棄した場合の警告ログメッセージ
+     * パラメータ: %s - 破棄理由の詳細
+     */
+    LOG_WARN_JOURNAL_TRUNCATED("[PROCESS]ジャーナル末尾の不完全なレコードを破棄しました: %s"),
+
+    /**
+     * 購読者の受信バッファが空かずに変更通知を破棄した場合の警告ログメッセージ（一定間隔でまとめて出力）
+     * パラメータ:
+     * %d - 前回の出力以降に破棄した件数
+     * %d - 破棄した件数の累計
+     */
+    LOG_WARN_CHANGE_EVENT_DROPPED("[PROCESS]変更通知を破棄しました: %d件（累計%d件）"),
+
     // ----- ログメッセージ（エラー）-----
     /**
      * システムエラー発生時のエラーログメッセージ
@@ -156,6 +203,12 @@ public enum MessageEnum {
      */
     LOG_ERROR_DATA_SAVE("[PROCESS]データ保存エラーが発生しました: %s"),
 
+    /**
+     * ジャーナルの書き込みに失敗し、書きかけの部分を切り捨てられなかったため追記を停止した場合のエラーログメッセージ
+     * パラメータ: %s - ジャーナルファイルと例外の詳細
+     */
+    LOG_ERROR_JOURNAL_FAILED("[PROCESS]ジャーナルの書き込みに失敗したため追記を停止しました（開き直すまで書き込めません）: %s"),
+
     /**
      * I/O例外発生時のエラーログメッセージ
      * パラメータ: %s - 例外の詳細
@@ -0,0 +1,477 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 主要な処理の処理時間を処理ごとのヒストグラムに記録するシングルトンクラス
+ *
+ * <p>
+ * 構築・検証・取込・出力・ログ出力の各処理で{@link #start()}と{@link #stop(Operation, long)}を
+ * 呼び出し、処理時間を{@link LatencyHistogram}に記録します。記録はロックを取得しないため、
+ * 複数のスレッドから同時に呼び出せます。計測が無効な間は{@link #start()}がvolatileの
+ * 読み取り1回だけで0を返し、{@link #stop(Operation, long)}は何も記録しません。
+ * </p>
+ *
+ * <p>
+ * 計測はシステムプロパティ{@value #ENABLED_PROPERTY}（true）で起動時から有効にするか、
+ * JMX（{@value #OBJECT_NAME}）で実行中に有効にします。有効な間は、
+ * システムプロパティ{@value #SUMMARY_PROPERTY}で指定した秒数（既定は60秒）ごとに、直近の区間の
+ * 集計を1行のログとしてLogHandlerに出力します。JMXへの登録はLogHandlerの初期化時に行います。
+ * </p>
+ *
+ * <p>
+ * 直近の区間は2組のヒストグラムを交互に使用し、集計ログの出力時に記録先を切り替えます。
+ * 切り替えの前に記録を始めたスレッドが記録を終えるまで待ってから集計するため、
+ * 切り替えと同時に記録された処理時間も、どちらかの区間に必ず含まれます。
+ * </p>
+ *
+ * <pre>
+ * long start = OperationMetrics.start();
+ * // 処理
+ * OperationMetrics.stop(OperationMetrics.Operation.EXPORT_ROW, start);
+ * </pre>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    /** JMXのオブジェクト名 */
+    public static final String OBJECT_NAME = "util:type=OperationMetrics";
+
+    /** 起動時から計測を有効にするシステムプロパティ */
+    public static final String ENABLED_PROPERTY = "engineer.metrics.enabled";
+
+    /** 集計ログの出力間隔（秒）を指定するシステムプロパティ */
+    public static final String SUMMARY_PROPERTY = "engineer.metrics.summarySeconds";
+
+    /** 既定の集計ログの出力間隔（秒） */
+    private static final long DEFAULT_SUMMARY_SECONDS = 60;
+
+    /** ナノ秒からマイクロ秒への換算値 */
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    /**
+     * 計測する処理
+     */
+    public enum Operation {
+        /** EngineerBuilderのbuild()（必須項目の検証を含み、検証に失敗した場合も記録） */
+        BUILD("構築"),
+        /** build()での必須項目の検証 */
+        VALIDATE("検証"),
+        /** 一括登録の1行の検証・複製 */
+        IMPORT_ROW("取込1行"),
+        /** スナップショットへの1件の書き込み */
+        EXPORT_ROW("出力1行"),
+        /** LogHandlerでの1件のログ出力 */
+        LOG_WRITE("ログ出力");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        /**
+         * 表示名を取得
+         *
+         * @return 表示名
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * 1つの処理の集計（JMXでは複合データとして公開される）
+     */
+    public static final class OperationSummary {
+
+        private final String operation;
+        private final long count;
+        private final double meanMicros;
+        private final double p50Micros;
+        private final double p90Micros;
+        private final double p99Micros;
+        private final double p999Micros;
+        private final double maxMicros;
+
+        OperationSummary(Operation operation, LatencyHistogram histogram) {
+            this.operation = operation.name();
+            this.count = histogram.getCount();
+            this.meanMicros = histogram.getMean() / NANOS_PER_MICRO;
+            this.p50Micros = histogram.getValueAtPercentile(50.0) / NANOS_PER_MICRO;
+            this.p90Micros = histogram.getValueAtPercentile(90.0) / NANOS_PER_MICRO;
+            this.p99Micros = histogram.getValueAtPercentile(99.0) / NANOS_PER_MICRO;
+            this.p999Micros = histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO;
+            this.maxMicros = histogram.getMax() / NANOS_PER_MICRO;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMicros() {
+            return meanMicros;
+        }
+
+        public double getP50Micros() {
+            return p50Micros;
+        }
+
+        public double getP90Micros() {
+            return p90Micros;
+        }
+
+        public double getP99Micros() {
+            return p99Micros;
+        }
+
+        public double getP999Micros() {
+            return p999Micros;
+        }
+
+        public double getMaxMicros() {
+            return maxMicros;
+        }
+    }
+
+    /** シングルトンインスタンス */
+    private static final OperationMetrics INSTANCE = new OperationMetrics();
+
+    /** 計測が有効か */
+    private static volatile boolean enabled;
+
+    /** 処理ごとの累計 */
+    private final LatencyHistogram[] totals = new LatencyHistogram[Operation.values().length];
+
+    /** 処理ごとの集計ログの区間（2組を交互に使用する） */
+    private final LatencyHistogram[][] intervals = new LatencyHistogram[2][Operation.values().length];
+
+    /** 記録中の区間（0または1、切り替えはintervalLockを取得して行う） */
+    private volatile int activeInterval;
+
+    /** 区間の記録と切り替えの同期 */
+    private final IntervalPhaser phaser = new IntervalPhaser();
+
+    /** 区間の切り替えを直列化するためのロック */
+    private final Object intervalLock = new Object();
+
+    /** 集計ログの出力間隔（秒） */
+    private long summarySeconds = Long.getLong(SUMMARY_PROPERTY, DEFAULT_SUMMARY_SECONDS);
+
+    /** 集計ログの出力スレッド（未使用の場合はnull） */
+    private ScheduledExecutorService scheduler;
+
+    /** 集計ログの出力予定（出力していない場合はnull） */
+    private ScheduledFuture<?> summaryTask;
+
+    /** 直前に集計ログを出力した時刻 */
+    private volatile long lastSummaryNanos = System.nanoTime();
+
+    /**
+     * 区間の記録と切り替えを同期するフェーザー（HdrHistogramのWriterReaderPhaserと同じ方式）
+     *
+     * <p>
+     * 記録側は開始時に開始数を1つ進め、終了時に開始時の符号に応じた終了数を1つ進めます（ロックなし）。
+     * 切り替え側は開始数の符号を反転させて切り替え前の開始数を取得し、切り替え前の区間の
+     * 終了数がその値に追いつくまで待機します。
+     * </p>
+     */
+    private static final class IntervalPhaser {
+
+        /** 記録の開始数（負の値の間は奇数の区間） */
+        private final AtomicLong startEpoch = new AtomicLong();
+
+        /** 偶数の区間で開始した記録の終了数 */
+        private final AtomicLong evenEndEpoch = new AtomicLong();
+
+        /** 奇数の区間で開始した記録の終了数 */
+        private final AtomicLong oddEndEpoch = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * 記録を開始
+         *
+         * @return {@link #exit(long)}に渡す値
+         */
+        long enter() {
+            return startEpoch.getAndIncrement();
+        }
+
+        /**
+         * 記録を終了
+         *
+         * @param epoch {@link #enter()}の戻り値
+         */
+        void exit(long epoch) {
+            (epoch < 0 ? oddEndEpoch : evenEndEpoch).getAndIncrement();
+        }
+
+        /**
+         * 区間を切り替え、切り替え前に開始した記録がすべて終了するまで待機
+         * 呼び出し側で直列化すること
+         */
+        void flip() {
+            boolean nextIsEven = startEpoch.get() < 0;
+            long initial = nextIsEven ? 0L : Long.MIN_VALUE;
+            (nextIsEven ? evenEndEpoch : oddEndEpoch).set(initial);
+            long started = startEpoch.getAndSet(initial);
+            AtomicLong previousEnd = nextIsEven ? oddEndEpoch : evenEndEpoch;
+            while (previousEnd.get() != started) {
+                Thread.yield();
+            }
+        }
+    }
+
+    private OperationMetrics() {
+        for (Operation operation : Operation.values()) {
+            totals[operation.ordinal()] = new LatencyHistogram();
+            intervals[0][operation.ordinal()] = new LatencyHistogram();
+            intervals[1][operation.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * シングルトンインスタンスを取得
+     *
+     * @return OperationMetricsの唯一のインスタンス
+     */
+    public static OperationMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 処理の開始時刻を取得
+     *
+     * @return 開始時刻（計測が無効な場合は0）
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 開始時刻からの処理時間を記録
+     *
+     * @param operation 処理
+     * @param start     {@link #start()}で取得した開始時刻（0の場合は記録しない）
+     */
+    public static void stop(Operation operation, long start) {
+        if (start != 0L) {
+            INSTANCE.record(operation, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 処理時間を記録
+     *
+     * @param operation 処理
+     * @param nanos     処理時間（ナノ秒）
+     */
+    void record(Operation operation, long nanos) {
+        totals[operation.ordinal()].record(nanos);
+        long epoch = phaser.enter();
+        try {
+            intervals[activeInterval][operation.ordinal()].record(nanos);
+        } finally {
+            phaser.exit(epoch);
+        }
+    }
+
+    /**
+     * JMXに登録し、システムプロパティで計測が有効な場合は計測を開始する
+     * 登録済みの場合は登録を省略する
+     *
+     * @throws IllegalStateException JMXへの登録に失敗した場合
+     */
+    public synchronized void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (InstanceAlreadyExistsException e) {
+            // 他のスレッドが登録済み
+        } catch (JMException e) {
+            throw new IllegalStateException("処理時間の計測をJMXに登録できません: " + e.getMessage(), e);
+        }
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            setEnabled(true);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public synchronized void setEnabled(boolean enable) {
+        enabled = enable;
+        if (enable) {
+            scheduleSummary();
+        } else if (summaryTask != null) {
+            summaryTask.cancel(false);
+            summaryTask = null;
+        }
+    }
+
+    @Override
+    public synchronized long getSummaryIntervalSeconds() {
+        return summarySeconds;
+    }
+
+    @Override
+    public synchronized void setSummaryIntervalSeconds(long seconds) {
+        if (seconds < 1) {
+            throw new IllegalArgumentException("集計ログの出力間隔は1秒以上で指定してください: " + seconds);
+        }
+        summarySeconds = seconds;
+        if (summaryTask != null) {
+            scheduleSummary();
+        }
+    }
+
+    @Override
+    public OperationSummary[] getOperations() {
+        OperationSummary[] summaries = new OperationSummary[totals.length];
+        for (Operation operation : Operation.values()) {
+            summaries[operation.ordinal()] = new OperationSummary(operation, totals[operation.ordinal()]);
+        }
+        return summaries;
+    }
+
+    @Override
+    public String getSummary() {
+        return format(totals);
+    }
+
+    @Override
+    public void reset() {
+        for (Operation operation : Operation.values()) {
+            totals[operation.ordinal()].reset();
+        }
+        synchronized (intervalLock) {
+            for (LatencyHistogram histogram : flipInterval()) {
+                histogram.reset();
+            }
+            lastSummaryNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 処理の累計を取得
+     *
+     * @param operation 処理
+     * @return 累計のヒストグラム（変更しないこと）
+     */
+    public LatencyHistogram getHistogram(Operation operation) {
+        return totals[operation.ordinal()];
+    }
+
+    /**
+     * 直近の区間の集計をログに出力し、区間を新しく始める
+     * 区間内に記録がない場合、またはLogHandlerが初期化されていない場合は出力しない
+     *
+     * @return 出力した集計（出力しなかった場合はnull）
+     */
+    public String logSummary() {
+        String summary;
+        long seconds;
+        synchronized (intervalLock) {
+            LatencyHistogram[] interval = flipInterval();
+            long now = System.nanoTime();
+            seconds = Math.round((now - lastSummaryNanos) / 1e9);
+            lastSummaryNanos = now;
+
+            summary = format(interval);
+            // 次の切り替えで記録先に戻すため、集計後に空にする
+            for (LatencyHistogram histogram : interval) {
+                histogram.reset();
+            }
+        }
+        if (summary.isEmpty() || !LogHandler.getInstance().isInitialized()) {
+            return null;
+        }
+        LogHandler.getInstance().log(MessageEnum.LOG_INFO_OPERATION_METRICS, seconds, summary);
+        return summary;
+    }
+
+    /**
+     * 記録先の区間を切り替え、切り替え前の区間への記録がすべて終了するまで待機
+     * intervalLockを取得して呼び出すこと
+     *
+     * @return 切り替え前の区間（次の切り替えまで記録されない）
+     */
+    private LatencyHistogram[] flipInterval() {
+        int previous = activeInterval;
+        activeInterval = 1 - previous;
+        phaser.flip();
+        return intervals[previous];
+    }
+
+    /**
+     * 記録のある処理の件数とパーセンタイルを1行にまとめる
+     */
+    private static String format(LatencyHistogram[] histograms) {
+        List<String> parts = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = histograms[operation.ordinal()];
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            parts.add(String.format("%s %d件 p50=%.1fµs p99=%.1fµs p99.9=%.1fµs 最大=%.1fµs", operation.getLabel(),
+                    histogram.getCount(), histogram.getValueAtPercentile(50.0) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(99.0) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO, histogram.getMax() / NANOS_PER_MICRO));
+        }
+        return String.join(", ", parts);
+    }
+
+    /**
+     * 集計ログの出力を（再）予定する
+     */
+    private void scheduleSummary() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "operation-metrics-summary");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        if (summaryTask != null) {
+            summaryTask.cancel(false);
+        }
+        lastSummaryNanos = System.nanoTime();
+        summaryTask = scheduler.scheduleAtFixedRate(this::logSummaryQuietly, summarySeconds, summarySeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * 出力スレッドから集計ログを出力する（例外で以降の出力が止まらないようにする）
+     */
+    private void logSummaryQuietly() {
+        try {
+            logSummary();
+        } catch (RuntimeException e) {
+            System.err.println("処理時間の集計ログの出力に失敗しました: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package util;
+
+/**
+ * 処理時間の計測（{@link OperationMetrics}）をJMXで公開するためのインターフェース
+ *
+ * <p>
+ * JConsoleなどから{@value OperationMetrics#OBJECT_NAME}を参照すると、
+ * 処理ごとの件数と処理時間のパーセンタイル（マイクロ秒）を確認でき、計測の有効・無効と
+ * 集計ログの出力間隔を実行中に切り替えられます。
+ * </p>
+ *
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public interface OperationMetricsMXBean {
+
+    /**
+     * 計測が有効か
+     *
+     * @return 有効な場合true
+     */
+    boolean isEnabled();
+
+    /**
+     * 計測の有効・無効を切り替える
+     * 有効な間は、一定間隔で集計ログを出力する
+     *
+     * @param enabled 有効にする場合true
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * 集計ログの出力間隔（秒）を取得
+     *
+     * @return 出力間隔（秒）
+     */
+    long getSummaryIntervalSeconds();
+
+    /**
+     * 集計ログの出力間隔（秒）を設定
+     *
+     * @param seconds 出力間隔（秒）
+     * @throws IllegalArgumentException 1未満の場合
+     */
+    void setSummaryIntervalSeconds(long seconds);
+
+    /**
+     * 処理ごとの累計の集計を取得
+     *
+     * @return 処理の順の集計
+     */
+    OperationMetrics.OperationSummary[] getOperations();
+
+    /**
+     * 処理ごとの累計を1行で表した文字列を取得
+     *
+     * @return 集計の文字列
+     */
+    String getSummary();
+
+    /**
+     * 累計と集計ログの区間の記録を消去
+     */
+    void reset();
+}
@@ -0,0 +1,300 @@
+package util;
+
+/**
+ * int型のキーを持つ不変（永続）マップ
+ * ハッシュ配列マップトライ（HAMT）で実装し、更新時は変更経路のノードのみを複製
+ *
+ * <p>
+ * {@link #put(int, Object)}と{@link #remove(int)}は元のマップを変更せず、
+ * 変更を反映した新しいマップを返します。変更されなかった部分木は新旧のマップで
+ * 共有されるため、1回の更新で複製されるノードは高々7個（32分岐×7段）です。
+ * 古いマップはそのまま参照し続けられるため、任意の時点の内容を
+ * ロックなしで保持・走査できます。
+ * </p>
+ *
+ * <p>
+ * キーは全単射な攪拌関数で32ビットのハッシュに変換するため、異なるキーが
+ * 同じハッシュになることはなく、衝突ノードは必要ありません。
+ * 値にnullは格納できません。
+ * </p>
+ *
+ * @param <V> 値の型
+ * @author Nakano
+ * @version 2.0.0
+ * @since 2026-10-19
+ */
+public final class PersistentIntMap<V> {
+
+    /** 1段あたりのビット数 */
+    private static final int BITS = 5;
+
+    /** 1段あたりのインデックスマスク */
+    private static final int MASK = (1 << BITS) - 1;
+
+    /** 空のマップ */
+    private static final PersistentIntMap<?> EMPTY = new PersistentIntMap<>(null, 0);
+
+    /** ルートノード（空の場合はnull） */
+    private final Node root;
+
+    /** エントリ数 */
+    private final int size;
+
+    /**
+     * キーと値の組（葉）
+     */
+    private static final class Leaf {
+        private final int key;
+        private final int hash;
+        private final Object value;
+
+        Leaf(int key, int hash, Object value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 内部ノード
+     * bitmapの立っているビットに対応する子（LeafまたはNode）を詰めて保持する
+     */
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] children;
+
+        Node(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+    }
+
+    private PersistentIntMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * 空のマップを取得
+     *
+     * @param <V> 値の型
+     * @return 空のマップ
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentIntMap<V> empty() {
+        return (PersistentIntMap<V>) EMPTY;
+    }
+
+    /**
+     * キーに対応する値を取得
+     *
+     * @param key キー
+     * @return 値（存在しない場合はnull）
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int hash = hash(key);
+        Node node = root;
+        int shift = 0;
+        while (node != null) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object child = node.children[Integer.bitCount(node.bitmap & (bit - 1))];
+            if (child instanceof Leaf) {
+                Leaf leaf = (Leaf) child;
+                return leaf.key == key ? (V) leaf.value : null;
+            }
+            node = (Node) child;
+            shift += BITS;
+        }
+        return null;
+    }
+
+    /**
+     * キーが存在するか判定
+     *
+     * @param key キー
+     * @return 存在する場合true
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * 値を格納した新しいマップを取得
+     *
+     * @param key   キー
+     * @param value 値（null不可）
+     * @return 値を格納したマップ
+     * @throws IllegalArgumentException 値がnullの場合
+     */
+    public PersistentIntMap<V> put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("値にnullは格納できません");
+        }
+        boolean[] added = new boolean[1];
+        Node newRoot = put(root, new Leaf(key, hash(key), value), 0, added);
+        return new PersistentIntMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * エントリを削除した新しいマップを取得
+     *
+     * @param key キー
+     * @return エントリを削除したマップ（キーが存在しない場合は自身）
+     */
+    public PersistentIntMap<V> remove(int key) {
+        if (root == null || !containsKey(key)) {
+            return this;
+        }
+        Object newRoot = remove(root, key, hash(key), 0);
+        if (newRoot instanceof Leaf) {
+            // ルートは常にNodeとして保持する
+            Leaf leaf = (Leaf) newRoot;
+            newRoot = new Node(1 << (leaf.hash & MASK), new Object[] { leaf });
+        }
+        return new PersistentIntMap<>((Node) newRoot, size - 1);
+    }
+
+    /**
+     * エントリ数を取得
+     *
+     * @return エントリ数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 空か判定
+     *
+     * @return エントリがない場合true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * すべてのエントリに処理を適用
+     * 走査順はキーの攪拌後のハッシュ順
+     *
+     * @param action キーと値を受け取る処理
+     */
+    public void forEach(IntObjectConsumer<? super V> action) {
+        if (root != null) {
+            forEach(root, action);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void forEach(Node node, IntObjectConsumer<? super V> action) {
+        for (Object child : node.children) {
+            if (child instanceof Leaf) {
+                Leaf leaf = (Leaf) child;
+                action.accept(leaf.key, (V) leaf.value);
+            } else {
+                forEach((Node) child, action);
+            }
+        }
+    }
+
+    /**
+     * 葉を挿入した新しいノードを返す
+     */
+    private static Node put(Node node, Leaf leaf, int shift, boolean[] added) {
+        int bit = 1 << ((leaf.hash >>> shift) & MASK);
+        if (node == null) {
+            added[0] = true;
+            return new Node(bit, new Object[] { leaf });
+        }
+
+        int index = Integer.bitCount(node.bitmap & (bit - 1));
+        if ((node.bitmap & bit) == 0) {
+            added[0] = true;
+            Object[] children = new Object[node.children.length + 1];
+            System.arraycopy(node.children, 0, children, 0, index);
+            children[index] = leaf;
+            System.arraycopy(node.children, index, children, index + 1, node.children.length - index);
+            return new Node(node.bitmap | bit, children);
+        }
+
+        Object child = node.children[index];
+        Object replacement;
+        if (child instanceof Leaf) {
+            Leaf existing = (Leaf) child;
+            if (existing.key == leaf.key) {
+                replacement = leaf;
+            } else {
+                added[0] = true;
+                replacement = merge(existing, leaf, shift + BITS);
+            }
+        } else {
+            replacement = put((Node) child, leaf, shift + BITS, added);
+        }
+
+        Object[] children = node.children.clone();
+        children[index] = replacement;
+        return new Node(node.bitmap, children);
+    }
+
+    /**
+     * 同じ位置に配置される2つの葉を保持するノードを作成
+     */
+    private static Node merge(Leaf first, Leaf second, int shift) {
+        int firstIndex = (first.hash >>> shift) & MASK;
+        int secondIndex = (second.hash >>> shift) & MASK;
+        if (firstIndex == secondIndex) {
+            return new Node(1 << firstIndex, new Object[] { merge(first, second, shift + BITS) });
+        }
+        Object[] children = firstIndex < secondIndex
+                ? new Object[] { first, second }
+                : new Object[] { second, first };
+        return new Node((1 << firstIndex) | (1 << secondIndex), children);
+    }
+
+    /**
+     * キーを削除した部分木を返す
+     * 子が葉1つだけになったノードは、その葉に置き換えて親に返す
+     *
+     * @return 新しい部分木（Node、Leaf、または空の場合null）
+     */
+    private static Object remove(Node node, int key, int hash, int shift) {
+        int bit = 1 << ((hash >>> shift) & MASK);
+        int index = Integer.bitCount(node.bitmap & (bit - 1));
+        Object child = node.children[index];
+
+        Object replacement = child instanceof Leaf ? null : remove((Node) child, key, hash, shift + BITS);
+        if (replacement == null) {
+            if (node.children.length == 1) {
+                return null;
+            }
+            if (node.children.length == 2) {
+                Object remaining = node.children[1 - index];
+                if (remaining instanceof Leaf) {
+                    return remaining;
+                }
+            }
+            Object[] children = new Object[node.children.length - 1];
+            System.arraycopy(node.children, 0, children, 0, index);
+            System.arraycopy(node.children, index + 1, children, index, children.length - index);
+            return new Node(node.bitmap & ~bit, children);
+        }
+
+        if (replacement instanceof Leaf && node.children.length == 1) {
+            return replacement;
+        }
+        Object[] children = node.children.clone();
+        children[index] = replacement;
+        return new Node(node.bitmap, children);
+    }
+
+    /**
+     * キーを32ビットのハッシュに変換（全単射）
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}